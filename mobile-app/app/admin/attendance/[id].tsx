@@ -110,15 +110,18 @@ export default function AttendanceEventDetailScreen() {
     const applyUpdate = useCallback((update: AttendanceUpdate) => {
         setAttendance((prev) => {
             if (!prev || prev.eventId !== update.eventId) return prev;
-            const attendees = prev.attendees.map((attendee) =>
-                attendee.userId === update.userId
+            const changes = update.changes ?? [update];
+            const changesByUser = new Map(changes.map((change) => [change.userId, change]));
+            const attendees = prev.attendees.map((attendee) => {
+                const change = changesByUser.get(attendee.userId);
+                return change
                     ? {
                         ...attendee,
-                        checkedIn: update.checkedIn,
-                        checkedInAt: update.checkedInAt,
+                        checkedIn: change.checkedIn,
+                        checkedInAt: change.checkedInAt,
                     }
-                    : attendee,
-            );
+                    : attendee;
+            });
             return {
                 ...prev,
                 attendees,
@@ -64,7 +64,7 @@ export function useNotifications() {
             webSocketService.connect(user.token);
 
             // Subscribe to personal notifications
-            const unsubscribe = webSocketService.subscribe(`/topic/notifications/${user.id}`, (message: any) => {
+            const unsubscribe = webSocketService.subscribe('/user/queue/notifications', (message: any) => {
                 if (!mounted) return;
                 console.log('Received notification via WS', message);
 
@@ -84,6 +84,14 @@ export function useNotifications() {
                     return nextState;
                 });
             });
+
+            // Compact events that change many notifications at once (e.g. read-all from another device)
+            const unsubscribeEvents = webSocketService.subscribe('/user/queue/notification-events', (event: any) => {
+                if (!mounted || event?.type !== 'READ_ALL') return;
+
+                setNotifications(prev => prev.map(n => n.isRead ? n : { ...n, isRead: true, readAt: event.readAt }));
+                setUnreadCount(event.unreadCount ?? 0);
+            });
         }
 
         return () => {
@@ -32,6 +32,12 @@ export type AttendanceEventAttendeesResponse = {
     attendees: AttendanceAttendee[];
 };
 
+export type AttendanceCheckInChange = {
+    userId: number;
+    checkedIn: boolean;
+    checkedInAt: string | null;
+};
+
 export type AttendanceUpdate = {
     eventId: number;
     userId: number;
@@ -40,6 +46,27 @@ export type AttendanceUpdate = {
     registeredCount: number;
     checkedInCount: number;
     occupancyPercent: number | null;
+    // Present on coalesced WebSocket updates: every attendee change since the last message.
+    changes?: AttendanceCheckInChange[] | null;
+};
+
+export type AttendanceBulkCheckInItem = {
+    userId: number;
+    checkedInAt?: string | null;
+};
+
+export type AttendanceBulkCheckInResult = {
+    userId: number;
+    status: 'CHECKED_IN' | 'ALREADY_CHECKED_IN' | 'NOT_REGISTERED' | 'NOT_ALLOWED';
+    checkedInAt: string | null;
+};
+
+export type AttendanceBulkCheckInResponse = {
+    eventId: number;
+    registeredCount: number;
+    checkedInCount: number;
+    occupancyPercent: number | null;
+    results: AttendanceBulkCheckInResult[];
 };
 
 export type AttendanceReport = {
@@ -49,6 +76,9 @@ export type AttendanceReport = {
     totalAttended: number;
     totalRegistered: number;
     attendanceRate: number;
+    totalWaitlisted: number;
+    totalCancelled: number;
+    statsRefreshedAt: string;
 };
 
 async function handleResponse<T>(res: Response, context: string): Promise<T> {
@@ -125,6 +155,23 @@ export async function undoCheckInAttendee(
     return handleResponse<AttendanceUpdate>(res, 'attendance undo check-in');
 }
 
+export async function bulkCheckInAttendees(
+    eventId: number,
+    items: AttendanceBulkCheckInItem[],
+    token: string,
+): Promise<AttendanceBulkCheckInResponse> {
+    const url = `${API_BASE}/employee/attendance/events/${eventId}/check-ins`;
+    const res = await fetch(url, {
+        method: 'POST',
+        headers: {
+            Authorization: `Bearer ${token}`,
+            'Content-Type': 'application/json',
+        },
+        body: JSON.stringify({ items }),
+    });
+    return handleResponse<AttendanceBulkCheckInResponse>(res, 'attendance bulk check-in');
+}
+
 export async function getAttendanceReports(
     startDate: string,
     endDate: string,
@@ -3,15 +3,19 @@ plugins {
 	id("org.springframework.boot") version "3.5.7"
 	id("io.spring.dependency-management") version "1.1.7"
 	jacoco
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.mana"
 version = "0.0.1-SNAPSHOT"
 description = "OpenHand Backend"
 
+// Build with -PjavaVersion=21 to allow virtual threads (spring.threads.virtual.enabled)
+val javaVersion = providers.gradleProperty("javaVersion").map(String::toInt).getOrElse(17)
+
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(javaVersion)
 	}
 }
 
@@ -24,7 +28,13 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-websocket")
+	// TCP client for the STOMP broker relay (openhand.app.websocket.broker=relay)
+	implementation("io.projectreactor.netty:reactor-netty")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	// Pure-Java WebP decoder for javax.imageio, so WebP uploads get resized variants
+	implementation("com.twelvemonkeys.imageio:imageio-webp:3.12.0")
 	implementation("com.sendgrid:sendgrid-java:4.10.3")
 	implementation("io.jsonwebtoken:jjwt-api:0.11.5")
 	runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
@@ -35,7 +45,26 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
 	testImplementation("com.h2database:h2")
+	testImplementation("org.apache.activemq:artemis-server")
+	testImplementation("org.apache.activemq:artemis-stomp-protocol")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+	// In-memory database for HttpLoadBenchmark, which boots the whole application
+	jmhRuntimeOnly("com.h2database:h2")
+}
+
+// Microbenchmarks live in src/jmh; run with ./gradlew jmh
+jmh {
+	warmupIterations.set(2)
+	iterations.set(5)
+	fork.set(1)
+}
+
+// -PtracePinnedThreads logs a stack trace whenever a virtual thread blocks while pinned to its carrier
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+	if (providers.gradleProperty("tracePinnedThreads").isPresent) {
+		jvmArgs("-Djdk.tracePinnedThreads=short")
+	}
 }
 
 tasks.test {
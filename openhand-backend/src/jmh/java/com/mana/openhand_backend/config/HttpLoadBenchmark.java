@@ -0,0 +1,186 @@
+package com.mana.openhand_backend.config;
+
+import com.mana.openhand_backend.OpenhandBackendApplication;
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
+import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application on a random port and sends waves of {@code connections}
+ * simultaneous HTTP requests to {@code GET /api/events/upcoming}, which runs
+ * through the security filter chain, JPA queries and JSON serialization, once on
+ * Tomcat's platform thread pool and once with {@code spring.threads.virtual.enabled}.
+ * The score is the time to serve one whole wave. After every iteration the
+ * per-request latency percentiles, the peak heap in use and the peak number of
+ * platform threads are printed.
+ * <p>
+ * Virtual threads need the Java 21 toolchain ({@code ./gradlew jmh -PjavaVersion=21});
+ * on Java 17 Spring Boot ignores the property and both runs use platform threads.
+ * The in-memory H2 database answers without network latency, so for numbers that
+ * reflect production set {@code -Dbenchmark.datasource.url}, {@code .username}
+ * and {@code .password} to a disposable PostgreSQL database; its schema is
+ * recreated and dropped. The client and server sockets share this JVM, so
+ * raise {@code ulimit -n} above twice the connection count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class HttpLoadBenchmark {
+
+    private static final int SEEDED_EVENTS = 20;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"2000"})
+    public int connections;
+
+    private ConfigurableApplicationContext application;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private HttpRequest request;
+    private final List<long[]> waveLatencies = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("server.tomcat.accept-count", connections);
+        properties.put("spring.threads.virtual.enabled", virtualThreads);
+        properties.put("spring.datasource.url",
+                System.getProperty("benchmark.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1"));
+        properties.put("spring.datasource.username", System.getProperty("benchmark.datasource.username", "sa"));
+        properties.put("spring.datasource.password", System.getProperty("benchmark.datasource.password", ""));
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("openhand.app.jwtSecret",
+                "loadTestSecretKeyOnlyForBenchmarksThisShouldBeLongEnoughToSatisfyAnyLengthChecks");
+        properties.put("openhand.app.cors.allowedOrigins", "http://localhost");
+        properties.put("spring.sendgrid.api-key", "SG.LOAD_TEST_KEY");
+        properties.put("openhand.app.sendGridFromEmail", "loadtest@example.com");
+        properties.put("openhand.app.sendGridFromName", "LoadTest");
+        properties.put("openhand.app.scheduling.enabled", false);
+        properties.put("logging.level.root", "WARN");
+
+        application = new SpringApplicationBuilder(OpenhandBackendApplication.class)
+                .properties(properties)
+                .run();
+        seedEvents(application.getBean(EventRepository.class));
+
+        int port = application.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        clientExecutor = Executors.newFixedThreadPool(8);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(clientExecutor)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events/upcoming"))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        waveLatencies.clear();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+    }
+
+    @Benchmark
+    public int serveConcurrentConnections() {
+        long[] latencies = new long[connections];
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            int index = i;
+            long sentAt = System.nanoTime();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                        latencies[index] = System.nanoTime() - sentAt;
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        waveLatencies.add(latencies);
+        return latencies.length;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printStatistics() {
+        long[] all = waveLatencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        if (all.length == 0) {
+            return;
+        }
+        // Sum of each heap pool's peak: an upper bound of the combined peak.
+        long peakHeapBytes = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        System.out.printf("  latency ms p50=%.1f p99=%.1f max=%.1f, peak heap=%d MB, peak platform threads=%d%n",
+                percentileMillis(all, 0.50), percentileMillis(all, 0.99), all[all.length - 1] / 1_000_000.0,
+                peakHeapBytes / (1024 * 1024), ManagementFactory.getThreadMXBean().getPeakThreadCount());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        application.close();
+        clientExecutor.shutdownNow();
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static void seedEvents(EventRepository eventRepository) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < SEEDED_EVENTS; i++) {
+            eventRepository.save(new Event(
+                    "Load test event " + i,
+                    "Seeded for HttpLoadBenchmark",
+                    start.plusDays(i),
+                    start.plusDays(i).plusHours(2),
+                    "Community centre",
+                    "123 Main St",
+                    EventStatus.OPEN,
+                    100,
+                    0,
+                    "Workshop"));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.mana.openhand_backend.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends a notification to one user out of 10,000 connected sessions through
+ * the same broker components the application uses, once addressed to a
+ * per-user topic ({@code /topic/notifications/{id}}) and once as a user
+ * destination ({@code /user/queue/notifications}). Sessions are registered
+ * in-process (CONNECT and SUBSCRIBE on the inbound channel) rather than over
+ * sockets, so the numbers isolate routing cost. {@code cacheLimit} is the
+ * broker's destination cache size (openhand.app.websocket.subscriptionCacheLimit);
+ * at Spring's default of 1024 most lookups over 10k distinct destinations
+ * miss and scan every session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserDestinationRoutingBenchmark {
+
+    private static final Map<String, Object> PAYLOAD = Map.of("id", 1, "textContent", "Reminder");
+
+    @Param({"topic", "user"})
+    public String routing;
+
+    @Param({"10000"})
+    public int sessions;
+
+    @Param({"1024", "16384"})
+    public int cacheLimit;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private SimpleBrokerMessageHandler broker;
+    private UserDestinationMessageHandler userDestinationHandler;
+    private SimpMessagingTemplate template;
+    private int nextUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        clientOutbound.subscribe(message -> delivered.incrementAndGet());
+
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel,
+                List.of("/topic", "/queue"));
+        broker.setCacheLimit(cacheLimit);
+        broker.start();
+
+        DefaultSimpUserRegistry userRegistry = new DefaultSimpUserRegistry();
+        userDestinationHandler = new UserDestinationMessageHandler(clientInbound, brokerChannel,
+                new DefaultUserDestinationResolver(userRegistry));
+        userDestinationHandler.start();
+
+        for (int i = 0; i < sessions; i++) {
+            String userId = String.valueOf(i);
+            String sessionId = "session-" + i;
+            Principal user = () -> userId;
+
+            clientInbound.send(message(SimpMessageType.CONNECT, sessionId, user, null));
+            userRegistry.onApplicationEvent(new SessionConnectedEvent(this,
+                    message(SimpMessageType.CONNECT_ACK, sessionId, user, null), user));
+            String destination = "topic".equals(routing)
+                    ? "/topic/notifications/" + userId
+                    : "/user/queue/notifications";
+            clientInbound.send(message(SimpMessageType.SUBSCRIBE, sessionId, user, destination));
+        }
+
+        template = new SimpMessagingTemplate(brokerChannel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        userDestinationHandler.stop();
+        broker.stop();
+    }
+
+    @Benchmark
+    public long sendToOneUser() {
+        String userId = String.valueOf(nextUser);
+        nextUser = (nextUser + 7919) % sessions;
+        if ("topic".equals(routing)) {
+            template.convertAndSend("/topic/notifications/" + userId, PAYLOAD);
+        } else {
+            template.convertAndSendToUser(userId, "/queue/notifications", PAYLOAD);
+        }
+        return delivered.get();
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String sessionId, Principal user,
+            String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setUser(user);
+        if (destination != null) {
+            accessor.setDestination(destination);
+            accessor.setSubscriptionId("sub-0");
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,109 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps live registered/checked-in totals per event in memory so check-in and
+ * undo do not need two COUNT queries each. Counters are seeded from the
+ * database on first use and re-seeded once they are older than the refresh
+ * interval, which also picks up registrations made outside the attendance flow.
+ */
+@Service
+public class AttendanceCounterService {
+
+    private final RegistrationRepository registrationRepository;
+    private final long refreshIntervalMs;
+    private final ConcurrentMap<Long, EventCounter> counters = new ConcurrentHashMap<>();
+
+    public AttendanceCounterService(
+            RegistrationRepository registrationRepository,
+            @Value("${openhand.app.attendance.counterRefreshMs:60000}") long refreshIntervalMs) {
+        this.registrationRepository = registrationRepository;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    /**
+     * Returns the counter for an event, seeding it from the database when it is
+     * missing or stale. Call this before mutating a registration so the seed does
+     * not already include the pending change.
+     */
+    public EventCounter counterFor(Long eventId) {
+        long now = System.currentTimeMillis();
+        EventCounter existing = counters.get(eventId);
+        if (existing != null && now - existing.seededAt < refreshIntervalMs) {
+            return existing;
+        }
+
+        // Seed under the map's per-key lock so concurrent first check-ins share
+        // one counter instead of each installing their own and losing increments.
+        return counters.compute(eventId, (id, current) -> {
+            if (current != null && now - current.seededAt < refreshIntervalMs) {
+                return current;
+            }
+            int registered = Math.toIntExact(
+                    registrationRepository.countByEventIdAndStatusNot(id, RegistrationStatus.CANCELLED));
+            int checkedIn = Math.toIntExact(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(id));
+            return new EventCounter(registered, checkedIn, now);
+        });
+    }
+
+    /**
+     * Applies a checked-in delta to the counter. When called inside a transaction
+     * the delta is reverted if that transaction rolls back.
+     */
+    public AttendanceCounts adjustCheckedIn(EventCounter counter, int delta) {
+        if (delta == 0) {
+            return counter.snapshot();
+        }
+
+        AttendanceCounts counts = counter.addCheckedIn(delta);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        counter.addCheckedIn(-delta);
+                    }
+                }
+            });
+        }
+        return counts;
+    }
+
+    public void evict(Long eventId) {
+        counters.remove(eventId);
+    }
+
+    public record AttendanceCounts(int registeredCount, int checkedInCount) {
+    }
+
+    public static final class EventCounter {
+        private final AtomicInteger registeredCount;
+        private final AtomicInteger checkedInCount;
+        private final long seededAt;
+
+        EventCounter(int registeredCount, int checkedInCount, long seededAt) {
+            this.registeredCount = new AtomicInteger(registeredCount);
+            this.checkedInCount = new AtomicInteger(checkedInCount);
+            this.seededAt = seededAt;
+        }
+
+        public AttendanceCounts snapshot() {
+            return new AttendanceCounts(registeredCount.get(), checkedInCount.get());
+        }
+
+        AttendanceCounts addCheckedIn(int delta) {
+            int checkedIn = checkedInCount.updateAndGet(current -> Math.max(0, current + delta));
+            return new AttendanceCounts(registeredCount.get(), checkedIn);
+        }
+    }
+}
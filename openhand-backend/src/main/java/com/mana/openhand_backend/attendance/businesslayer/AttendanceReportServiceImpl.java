@@ -1,11 +1,10 @@
 package com.mana.openhand_backend.attendance.businesslayer;
 
+import com.mana.openhand_backend.attendance.dataaccesslayer.RegistrationStats;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceReportResponseModel;
 import com.mana.openhand_backend.events.dataaccesslayer.Event;
 import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
 import com.mana.openhand_backend.events.utils.EventNotFoundException;
-import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
-import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -14,17 +13,16 @@ import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class AttendanceReportServiceImpl implements AttendanceReportService {
 
     private final EventRepository eventRepository;
-    private final RegistrationRepository registrationRepository;
+    private final RegistrationStatsService registrationStatsService;
 
-    public AttendanceReportServiceImpl(EventRepository eventRepository, RegistrationRepository registrationRepository) {
+    public AttendanceReportServiceImpl(EventRepository eventRepository, RegistrationStatsService registrationStatsService) {
         this.eventRepository = eventRepository;
-        this.registrationRepository = registrationRepository;
+        this.registrationStatsService = registrationStatsService;
     }
 
     @Override
@@ -39,24 +37,10 @@ public class AttendanceReportServiceImpl implements AttendanceReportService {
 
         List<Long> eventIds = events.stream().map(Event::getId).toList();
 
-        Map<Long, Integer> attendedCountByEvent = registrationRepository
-                .countAttendanceGroupedByEventIds(eventIds, RegistrationStatus.CANCELLED)
-                .stream()
-                .collect(Collectors.toMap(
-                        RegistrationRepository.EventCountProjection::getEventId,
-                        value -> Math.toIntExact(value.getTotal())
-                ));
-
-        Map<Long, Integer> registeredCountByEvent = registrationRepository
-                .countRegistrationsGroupedByEventIds(eventIds, RegistrationStatus.CANCELLED)
-                .stream()
-                .collect(Collectors.toMap(
-                        RegistrationRepository.EventCountProjection::getEventId,
-                        value -> Math.toIntExact(value.getTotal())
-                ));
+        Map<Long, RegistrationStats> statsByEvent = registrationStatsService.getStats(eventIds);
 
         return events.stream()
-                .map(event -> buildResponse(event, attendedCountByEvent, registeredCountByEvent))
+                .map(event -> buildResponse(event, statsByEvent.get(event.getId())))
                 .toList();
     }
 
@@ -77,12 +61,9 @@ public class AttendanceReportServiceImpl implements AttendanceReportService {
         return List.of(event);
     }
 
-    private AttendanceReportResponseModel buildResponse(
-            Event event,
-            Map<Long, Integer> attendedCountByEvent,
-            Map<Long, Integer> registeredCountByEvent) {
-        int totalAttended = attendedCountByEvent.getOrDefault(event.getId(), 0);
-        int totalRegistered = registeredCountByEvent.getOrDefault(event.getId(), 0);
+    private AttendanceReportResponseModel buildResponse(Event event, RegistrationStats stats) {
+        int totalAttended = stats.getAttendedCount();
+        int totalRegistered = stats.getRegisteredCount();
         double attendanceRate = totalRegistered == 0 ? 0.0 : (double) totalAttended / totalRegistered;
 
         return new AttendanceReportResponseModel(
@@ -91,7 +72,10 @@ public class AttendanceReportServiceImpl implements AttendanceReportService {
                 event.getStartDateTime(),
                 totalAttended,
                 totalRegistered,
-                attendanceRate
+                attendanceRate,
+                stats.getWaitlistedCount(),
+                stats.getCancelledCount(),
+                stats.getRefreshedAt()
         );
     }
 }
@@ -1,17 +1,27 @@
 package com.mana.openhand_backend.attendance.businesslayer;
 
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInItemRequestModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventAttendeesResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventSummaryResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceUpdateResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.CheckInTokenResponseModel;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AttendanceService {
-    List<AttendanceEventSummaryResponseModel> getAttendanceEvents();
+    List<AttendanceEventSummaryResponseModel> getAttendanceEvents(LocalDate from, LocalDate to, int page, int size);
 
     AttendanceEventAttendeesResponseModel getEventAttendees(Long eventId);
 
     AttendanceUpdateResponseModel checkInAttendee(Long eventId, Long userId);
 
     AttendanceUpdateResponseModel undoCheckInAttendee(Long eventId, Long userId);
+
+    AttendanceBulkCheckInResponseModel bulkCheckIn(Long eventId, List<AttendanceBulkCheckInItemRequestModel> items);
+
+    AttendanceUpdateResponseModel checkInByToken(Long eventId, String token);
+
+    CheckInTokenResponseModel issueCheckInToken(Long userId, Long eventId);
 }
@@ -1,55 +1,111 @@
 package com.mana.openhand_backend.attendance.businesslayer;
 
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceAttendeeResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInItemRequestModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInResultResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInStatus;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceCheckInChangeResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventAttendeesResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventSummaryResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceUpdateResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.CheckInTokenResponseModel;
 import com.mana.openhand_backend.attendance.utils.AttendanceCheckInNotAllowedException;
 import com.mana.openhand_backend.attendance.utils.AttendanceRegistrationNotFoundException;
+import com.mana.openhand_backend.attendance.utils.InvalidCheckInTokenException;
 import com.mana.openhand_backend.events.businesslayer.EventCompletionService;
 import com.mana.openhand_backend.events.dataaccesslayer.Event;
 import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
 import com.mana.openhand_backend.events.utils.EventNotFoundException;
 import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationCheckInBatchRepository;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class AttendanceServiceImpl implements AttendanceService {
 
-    private static final Logger logger = LoggerFactory.getLogger(AttendanceServiceImpl.class);
+    static final int DEFAULT_LOOKBACK_DAYS = 30;
+    static final int DEFAULT_LOOKAHEAD_DAYS = 365;
+    static final int MAX_PAGE_SIZE = 500;
 
     private final EventRepository eventRepository;
     private final EventCompletionService eventCompletionService;
     private final RegistrationRepository registrationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RegistrationCheckInBatchRepository registrationCheckInBatchRepository;
+    private final AttendanceCounterService attendanceCounterService;
+    private final AttendanceUpdatePublisher attendanceUpdatePublisher;
+    private final CheckInTokenService checkInTokenService;
+    private final CheckInTokenIndex checkInTokenIndex;
+    private final RegistrationStatsService registrationStatsService;
 
     public AttendanceServiceImpl(EventRepository eventRepository,
                                  EventCompletionService eventCompletionService,
                                  RegistrationRepository registrationRepository,
-                                 SimpMessagingTemplate messagingTemplate) {
+                                 RegistrationCheckInBatchRepository registrationCheckInBatchRepository,
+                                 AttendanceCounterService attendanceCounterService,
+                                 AttendanceUpdatePublisher attendanceUpdatePublisher,
+                                 CheckInTokenService checkInTokenService,
+                                 CheckInTokenIndex checkInTokenIndex,
+                                 RegistrationStatsService registrationStatsService) {
         this.eventRepository = eventRepository;
         this.eventCompletionService = eventCompletionService;
         this.registrationRepository = registrationRepository;
-        this.messagingTemplate = messagingTemplate;
+        this.registrationCheckInBatchRepository = registrationCheckInBatchRepository;
+        this.attendanceCounterService = attendanceCounterService;
+        this.attendanceUpdatePublisher = attendanceUpdatePublisher;
+        this.checkInTokenService = checkInTokenService;
+        this.checkInTokenIndex = checkInTokenIndex;
+        this.registrationStatsService = registrationStatsService;
     }
 
     @Override
-    public List<AttendanceEventSummaryResponseModel> getAttendanceEvents() {
+    public List<AttendanceEventSummaryResponseModel> getAttendanceEvents(LocalDate from, LocalDate to, int page, int size) {
         eventCompletionService.refreshCompletedEvents(LocalDateTime.now());
-        List<Event> events = eventRepository.findAll(Sort.by(Sort.Direction.ASC, "startDateTime"));
+
+        LocalDate today = LocalDate.now();
+        LocalDateTime windowStart = (from != null ? from : today.minusDays(DEFAULT_LOOKBACK_DAYS)).atStartOfDay();
+        LocalDateTime windowEnd = (to != null ? to : today.plusDays(DEFAULT_LOOKAHEAD_DAYS)).atTime(LocalTime.MAX);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<Event> events = eventRepository.findInWindow(
+                windowStart,
+                windowEnd,
+                PageRequest.of(Math.max(page, 0), pageSize, Sort.by(Sort.Direction.ASC, "startDateTime"))
+        );
+        if (events.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> eventIds = events.stream().map(Event::getId).toList();
+        Map<Long, RegistrationRepository.EventAttendanceCountProjection> countsByEvent = registrationRepository
+                .countAttendanceSummaryGroupedByEventIds(eventIds, RegistrationStatus.CANCELLED)
+                .stream()
+                .collect(Collectors.toMap(
+                        RegistrationRepository.EventAttendanceCountProjection::getEventId,
+                        counts -> counts
+                ));
+
         return events.stream()
-                .map(this::toSummaryResponse)
+                .map(event -> toSummaryResponse(event, countsByEvent.get(event.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -57,6 +113,8 @@ public class AttendanceServiceImpl implements AttendanceService {
     public AttendanceEventAttendeesResponseModel getEventAttendees(Long eventId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventNotFoundException(eventId));
+        // Staff open this screen at the door, so warm the token index while the window is open.
+        checkInTokenIndex.ensureLoaded(event, LocalDateTime.now());
 
         List<Registration> registrations = registrationRepository.findByEventIdAndStatusNot(
                 eventId,
@@ -91,13 +149,19 @@ public class AttendanceServiceImpl implements AttendanceService {
             throw new AttendanceCheckInNotAllowedException(eventId, userId);
         }
 
-        if (registration.getCheckedInAt() == null) {
-            registration.setCheckedInAt(LocalDateTime.now());
-        }
+        AttendanceCounterService.EventCounter counter = attendanceCounterService.counterFor(eventId);
+        // Conditional, so concurrent scans of the same attendee change the row and the count once.
+        LocalDateTime now = LocalDateTime.now();
+        int updated = registrationRepository.markCheckedIn(registration.getId(), now, RegistrationStatus.CANCELLED);
+        LocalDateTime checkedInAt = updated > 0 ? now : currentCheckedInAt(registration.getId());
 
-        Registration saved = registrationRepository.save(registration);
-        AttendanceUpdateResponseModel update = buildUpdateResponse(saved, eventId, userId);
-        publishUpdate(update);
+        AttendanceCounterService.AttendanceCounts counts = attendanceCounterService.adjustCheckedIn(counter, updated);
+        if (updated != 0) {
+            registrationStatsService.markDirty(eventId);
+        }
+        AttendanceUpdateResponseModel update =
+                buildUpdateResponse(registration.getEvent(), eventId, userId, checkedInAt, counts);
+        attendanceUpdatePublisher.publish(update);
         return update;
     }
 
@@ -107,22 +171,203 @@ public class AttendanceServiceImpl implements AttendanceService {
         Registration registration = registrationRepository.findByUserIdAndEventId(userId, eventId)
                 .orElseThrow(() -> new AttendanceRegistrationNotFoundException(eventId, userId));
 
-        if (registration.getCheckedInAt() != null) {
-            registration.setCheckedInAt(null);
-        }
+        AttendanceCounterService.EventCounter counter = attendanceCounterService.counterFor(eventId);
+        int updated = registrationRepository.clearCheckedIn(registration.getId());
+        LocalDateTime checkedInAt = updated > 0 ? null : currentCheckedInAt(registration.getId());
 
-        Registration saved = registrationRepository.save(registration);
-        AttendanceUpdateResponseModel update = buildUpdateResponse(saved, eventId, userId);
-        publishUpdate(update);
+        AttendanceCounterService.AttendanceCounts counts = attendanceCounterService.adjustCheckedIn(counter, -updated);
+        if (updated != 0) {
+            registrationStatsService.markDirty(eventId);
+        }
+        AttendanceUpdateResponseModel update =
+                buildUpdateResponse(registration.getEvent(), eventId, userId, checkedInAt, counts);
+        attendanceUpdatePublisher.publish(update);
         return update;
     }
 
-    private AttendanceEventSummaryResponseModel toSummaryResponse(Event event) {
-        long registeredCount = registrationRepository.countByEventIdAndStatusNot(
-                event.getId(),
+    @Override
+    @Transactional
+    public AttendanceBulkCheckInResponseModel bulkCheckIn(Long eventId, List<AttendanceBulkCheckInItemRequestModel> items) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+
+        // Replayed offline scans may contain the same attendee twice; keep the earliest scan.
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, LocalDateTime> requestedByUser = new LinkedHashMap<>();
+        for (AttendanceBulkCheckInItemRequestModel item : items) {
+            LocalDateTime scannedAt = item.getCheckedInAt() == null || item.getCheckedInAt().isAfter(now)
+                    ? now
+                    : item.getCheckedInAt();
+            requestedByUser.merge(item.getUserId(), scannedAt, (first, second) -> first.isBefore(second) ? first : second);
+        }
+
+        Map<Long, Registration> registrationsByUser = registrationRepository
+                .findByEventIdAndUserIdIn(eventId, requestedByUser.keySet())
+                .stream()
+                .collect(Collectors.toMap(registration -> registration.getUser().getId(), Function.identity()));
+
+        AttendanceCounterService.EventCounter counter = attendanceCounterService.counterFor(eventId);
+        Map<Long, LocalDateTime> toCheckIn = new LinkedHashMap<>();
+        registrationsByUser.forEach((userId, registration) -> {
+            if (registration.getStatus() != RegistrationStatus.CANCELLED && registration.getCheckedInAt() == null) {
+                toCheckIn.put(registration.getId(), requestedByUser.get(userId));
+            }
+        });
+
+        // Conditional updates in one JDBC batch: overlapping replays from several
+        // devices change each registration once, and only this call's changes count.
+        Set<Long> checkedIn = new HashSet<>(registrationCheckInBatchRepository.markCheckedIn(toCheckIn));
+        List<Long> unchanged = toCheckIn.keySet().stream()
+                .filter(registrationId -> !checkedIn.contains(registrationId))
+                .toList();
+        Map<Long, RegistrationRepository.CheckInStateProjection> currentStates = unchanged.isEmpty()
+                ? Map.of()
+                : registrationRepository.findCheckInStates(unchanged).stream()
+                        .collect(Collectors.toMap(RegistrationRepository.CheckInStateProjection::getRegistrationId,
+                                Function.identity()));
+
+        List<AttendanceBulkCheckInResultResponseModel> results = new ArrayList<>();
+        List<AttendanceCheckInChangeResponseModel> changes = new ArrayList<>();
+        requestedByUser.forEach((userId, scannedAt) -> {
+            Registration registration = registrationsByUser.get(userId);
+            if (registration == null) {
+                results.add(new AttendanceBulkCheckInResultResponseModel(
+                        userId, AttendanceBulkCheckInStatus.NOT_REGISTERED, null));
+                return;
+            }
+            if (checkedIn.contains(registration.getId())) {
+                results.add(new AttendanceBulkCheckInResultResponseModel(
+                        userId, AttendanceBulkCheckInStatus.CHECKED_IN, scannedAt.toString()));
+                changes.add(new AttendanceCheckInChangeResponseModel(userId, true, scannedAt.toString()));
+                return;
+            }
+
+            RegistrationRepository.CheckInStateProjection current = currentStates.get(registration.getId());
+            RegistrationStatus status = current != null ? current.getStatus() : registration.getStatus();
+            LocalDateTime checkedInAt = current != null ? current.getCheckedInAt() : registration.getCheckedInAt();
+            if (status == RegistrationStatus.CANCELLED) {
+                results.add(new AttendanceBulkCheckInResultResponseModel(
+                        userId, AttendanceBulkCheckInStatus.NOT_ALLOWED, null));
+                return;
+            }
+            results.add(new AttendanceBulkCheckInResultResponseModel(
+                    userId, AttendanceBulkCheckInStatus.ALREADY_CHECKED_IN,
+                    checkedInAt != null ? checkedInAt.toString() : null));
+        });
+
+        AttendanceCounterService.AttendanceCounts counts =
+                attendanceCounterService.adjustCheckedIn(counter, checkedIn.size());
+        if (!checkedIn.isEmpty()) {
+            registrationStatsService.markDirty(eventId);
+        }
+        Double occupancyPercent = calculateOccupancy(event.getMaxCapacity(), counts.checkedInCount());
+
+        if (!changes.isEmpty()) {
+            AttendanceCheckInChangeResponseModel last = changes.get(changes.size() - 1);
+            AttendanceUpdateResponseModel update = new AttendanceUpdateResponseModel(
+                    eventId,
+                    last.getUserId(),
+                    true,
+                    last.getCheckedInAt(),
+                    counts.registeredCount(),
+                    counts.checkedInCount(),
+                    occupancyPercent
+            );
+            update.setChanges(changes);
+            attendanceUpdatePublisher.publish(update);
+        }
+
+        return new AttendanceBulkCheckInResponseModel(
+                eventId,
+                counts.registeredCount(),
+                counts.checkedInCount(),
+                occupancyPercent,
+                results
+        );
+    }
+
+    @Override
+    @Transactional
+    public AttendanceUpdateResponseModel checkInByToken(Long eventId, String token) {
+        CheckInTokenService.CheckInTokenClaims claims = checkInTokenService.verify(token)
+                .filter(verified -> eventId.equals(verified.eventId()))
+                .orElseThrow(() -> new InvalidCheckInTokenException(eventId));
+
+        Optional<CheckInTokenIndex.IndexedRegistration> indexed = checkInTokenIndex.lookup(eventId, token);
+        if (indexed.isEmpty()) {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new EventNotFoundException(eventId));
+            if (checkInTokenIndex.ensureLoaded(event, LocalDateTime.now())) {
+                indexed = checkInTokenIndex.lookup(eventId, token);
+            }
+        }
+
+        if (indexed.isEmpty()) {
+            // Outside the check-in window or registered after the index was built.
+            Registration registration = registrationRepository.findById(claims.registrationId())
+                    .filter(candidate -> candidate.getUser() != null)
+                    .filter(candidate -> eventId.equals(candidate.getEvent().getId()))
+                    .orElseThrow(() -> new InvalidCheckInTokenException(eventId));
+            AttendanceUpdateResponseModel update = checkInAttendee(eventId, registration.getUser().getId());
+            checkInTokenIndex.put(eventId, token,
+                    new CheckInTokenIndex.IndexedRegistration(registration.getId(), update.getUserId()));
+            return update;
+        }
+
+        CheckInTokenIndex.IndexedRegistration entry = indexed.get();
+        AttendanceCounterService.EventCounter counter = attendanceCounterService.counterFor(eventId);
+        LocalDateTime checkedInAt = LocalDateTime.now();
+        int updated = registrationRepository.markCheckedIn(
+                entry.registrationId(),
+                checkedInAt,
                 RegistrationStatus.CANCELLED
         );
-        long checkedInCount = registrationRepository.countByEventIdAndCheckedInAtIsNotNull(event.getId());
+        if (updated == 0) {
+            // Already checked in, or cancelled since the index was built.
+            return checkInAttendee(eventId, entry.userId());
+        }
+
+        AttendanceCounterService.AttendanceCounts counts = attendanceCounterService.adjustCheckedIn(counter, updated);
+        registrationStatsService.markDirty(eventId);
+        Integer maxCapacity = checkInTokenIndex.maxCapacity(eventId).orElse(null);
+        AttendanceUpdateResponseModel update = new AttendanceUpdateResponseModel(
+                eventId,
+                entry.userId(),
+                true,
+                checkedInAt.toString(),
+                counts.registeredCount(),
+                counts.checkedInCount(),
+                calculateOccupancy(maxCapacity, counts.checkedInCount())
+        );
+        attendanceUpdatePublisher.publish(update);
+        return update;
+    }
+
+    @Override
+    public CheckInTokenResponseModel issueCheckInToken(Long userId, Long eventId) {
+        Registration registration = registrationRepository.findByUserIdAndEventId(userId, eventId)
+                .orElseThrow(() -> new AttendanceRegistrationNotFoundException(eventId, userId));
+
+        if (registration.getStatus() == RegistrationStatus.CANCELLED) {
+            throw new AttendanceCheckInNotAllowedException(eventId, userId);
+        }
+
+        return new CheckInTokenResponseModel(
+                eventId,
+                registration.getId(),
+                checkInTokenService.issueToken(registration.getId(), eventId)
+        );
+    }
+
+    private AttendanceEventSummaryResponseModel toSummaryResponse(
+            Event event,
+            RegistrationRepository.EventAttendanceCountProjection counts) {
+        long registeredCount = counts != null && counts.getRegisteredCount() != null
+                ? counts.getRegisteredCount()
+                : 0L;
+        long checkedInCount = counts != null && counts.getCheckedInCount() != null
+                ? counts.getCheckedInCount()
+                : 0L;
         Double occupancyPercent = calculateOccupancy(event.getMaxCapacity(), checkedInCount);
 
         String start = event.getStartDateTime() != null
@@ -165,23 +410,29 @@ public class AttendanceServiceImpl implements AttendanceService {
         );
     }
 
-    private AttendanceUpdateResponseModel buildUpdateResponse(Registration registration, Long eventId, Long userId) {
-        Event event = registration.getEvent();
-        long registeredCount = registrationRepository.countByEventIdAndStatusNot(eventId, RegistrationStatus.CANCELLED);
-        long checkedInCount = registrationRepository.countByEventIdAndCheckedInAtIsNotNull(eventId);
-        Double occupancyPercent = calculateOccupancy(event.getMaxCapacity(), checkedInCount);
+    /** Check-in time as committed, when a conditional update left the row unchanged. */
+    private LocalDateTime currentCheckedInAt(Long registrationId) {
+        return registrationRepository.findCheckInStates(List.of(registrationId)).stream()
+                .findFirst()
+                .map(RegistrationRepository.CheckInStateProjection::getCheckedInAt)
+                .orElse(null);
+    }
 
-        String checkedInAt = registration.getCheckedInAt() != null
-                ? registration.getCheckedInAt().toString()
-                : null;
+    private AttendanceUpdateResponseModel buildUpdateResponse(
+            Event event,
+            Long eventId,
+            Long userId,
+            LocalDateTime checkedInAt,
+            AttendanceCounterService.AttendanceCounts counts) {
+        Double occupancyPercent = calculateOccupancy(event.getMaxCapacity(), counts.checkedInCount());
 
         return new AttendanceUpdateResponseModel(
                 eventId,
                 userId,
-                registration.getCheckedInAt() != null,
-                checkedInAt,
-                (int) registeredCount,
-                (int) checkedInCount,
+                checkedInAt != null,
+                checkedInAt != null ? checkedInAt.toString() : null,
+                counts.registeredCount(),
+                counts.checkedInCount(),
                 occupancyPercent
         );
     }
@@ -195,13 +446,4 @@ public class AttendanceServiceImpl implements AttendanceService {
         }
         return (checkedInCount * 100.0) / maxCapacity;
     }
-
-    private void publishUpdate(AttendanceUpdateResponseModel update) {
-        try {
-            messagingTemplate.convertAndSend("/topic/attendance/events", update);
-            messagingTemplate.convertAndSend("/topic/attendance/events/" + update.getEventId(), update);
-        } catch (Exception ex) {
-            logger.error("Failed to publish attendance update: {}", ex.getMessage());
-        }
-    }
 }
@@ -0,0 +1,152 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceCheckInChangeResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceUpdateResponseModel;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes attendance updates over STOMP, coalescing bursts so each event
+ * topic receives at most one message per interval. The coalesced message
+ * carries the latest totals plus every attendee change collected in the
+ * window, so detail screens can still update individual rows.
+ */
+@Component
+public class AttendanceUpdatePublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceUpdatePublisher.class);
+
+    static final String EVENTS_TOPIC = "/topic/attendance/events";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long intervalMs;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<Long, PendingUpdate> pending = new ConcurrentHashMap<>();
+
+    public AttendanceUpdatePublisher(
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${openhand.app.attendance.publishIntervalMs:250}") long intervalMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.intervalMs = intervalMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "attendance-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the update for publication. Inside a transaction nothing is sent
+     * until it commits, so clients never see totals that are rolled back.
+     */
+    public void publish(AttendanceUpdateResponseModel update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(update);
+                }
+            });
+        } else {
+            enqueue(update);
+        }
+    }
+
+    private void enqueue(AttendanceUpdateResponseModel update) {
+        if (intervalMs <= 0) {
+            send(update);
+            return;
+        }
+
+        Long eventId = update.getEventId();
+        boolean[] firstInWindow = {false};
+        pending.compute(eventId, (id, existing) -> {
+            PendingUpdate target = existing;
+            if (target == null) {
+                target = new PendingUpdate();
+                firstInWindow[0] = true;
+            }
+            target.merge(update);
+            return target;
+        });
+
+        if (firstInWindow[0]) {
+            scheduler.schedule(() -> flush(eventId), intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void flush(Long eventId) {
+        PendingUpdate update = pending.remove(eventId);
+        if (update != null) {
+            send(update.toMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        pending.keySet().forEach(this::flush);
+    }
+
+    private void send(AttendanceUpdateResponseModel update) {
+        try {
+            messagingTemplate.convertAndSend(EVENTS_TOPIC, update);
+            messagingTemplate.convertAndSend(EVENTS_TOPIC + "/" + update.getEventId(), update);
+        } catch (Exception ex) {
+            logger.error("Failed to publish attendance update: {}", ex.getMessage());
+        }
+    }
+
+    private static final class PendingUpdate {
+        private final Map<Long, AttendanceCheckInChangeResponseModel> changes = new LinkedHashMap<>();
+        private AttendanceUpdateResponseModel latest;
+
+        void merge(AttendanceUpdateResponseModel update) {
+            latest = update;
+            if (update.getChanges() != null) {
+                update.getChanges().forEach(this::putChange);
+            } else if (update.getUserId() != null) {
+                putChange(new AttendanceCheckInChangeResponseModel(
+                        update.getUserId(),
+                        update.isCheckedIn(),
+                        update.getCheckedInAt()
+                ));
+            }
+        }
+
+        private void putChange(AttendanceCheckInChangeResponseModel change) {
+            // Keep insertion order reflecting the most recent change per attendee.
+            changes.remove(change.getUserId());
+            changes.put(change.getUserId(), change);
+        }
+
+        AttendanceUpdateResponseModel toMessage() {
+            AttendanceUpdateResponseModel message = new AttendanceUpdateResponseModel(
+                    latest.getEventId(),
+                    latest.getUserId(),
+                    latest.isCheckedIn(),
+                    latest.getCheckedInAt(),
+                    latest.getRegisteredCount(),
+                    latest.getCheckedInCount(),
+                    latest.getOccupancyPercent()
+            );
+            message.setChanges(new ArrayList<>(changes.values()));
+            return message;
+        }
+    }
+}
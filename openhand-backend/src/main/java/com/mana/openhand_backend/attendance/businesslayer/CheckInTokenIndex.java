@@ -0,0 +1,110 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory map from check-in token to registration for events whose check-in
+ * window is open, so the door scan path is a memory lookup plus one update.
+ * An event's index is built on first use inside its window and dropped once the
+ * window closes.
+ */
+@Component
+public class CheckInTokenIndex {
+
+    // Used to close the window for events without an end time.
+    private static final long DEFAULT_EVENT_DURATION_HOURS = 12;
+
+    private final RegistrationRepository registrationRepository;
+    private final CheckInTokenService checkInTokenService;
+    private final long opensBeforeMinutes;
+    private final ConcurrentMap<Long, EventIndex> indexes = new ConcurrentHashMap<>();
+
+    public CheckInTokenIndex(
+            RegistrationRepository registrationRepository,
+            CheckInTokenService checkInTokenService,
+            @Value("${openhand.app.attendance.checkInWindowOpensBeforeMinutes:120}") long opensBeforeMinutes) {
+        this.registrationRepository = registrationRepository;
+        this.checkInTokenService = checkInTokenService;
+        this.opensBeforeMinutes = opensBeforeMinutes;
+    }
+
+    public boolean isWindowOpen(Event event, LocalDateTime now) {
+        if (event.getStartDateTime() == null) {
+            return false;
+        }
+        LocalDateTime opensAt = event.getStartDateTime().minusMinutes(opensBeforeMinutes);
+        LocalDateTime closesAt = event.getEndDateTime() != null
+                ? event.getEndDateTime()
+                : event.getStartDateTime().plusHours(DEFAULT_EVENT_DURATION_HOURS);
+        return !now.isBefore(opensAt) && !now.isAfter(closesAt);
+    }
+
+    /**
+     * Loads the index for an event if its check-in window is open. Returns
+     * {@code false} (and drops any stale index) when the window is closed.
+     */
+    public boolean ensureLoaded(Event event, LocalDateTime now) {
+        if (!isWindowOpen(event, now)) {
+            indexes.remove(event.getId());
+            return false;
+        }
+        indexes.computeIfAbsent(event.getId(), eventId -> load(event));
+        return true;
+    }
+
+    public Optional<IndexedRegistration> lookup(Long eventId, String token) {
+        EventIndex index = indexes.get(eventId);
+        if (index == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(index.entries().get(token));
+    }
+
+    public Optional<Integer> maxCapacity(Long eventId) {
+        EventIndex index = indexes.get(eventId);
+        return index != null ? Optional.ofNullable(index.maxCapacity()) : Optional.empty();
+    }
+
+    public void put(Long eventId, String token, IndexedRegistration registration) {
+        EventIndex index = indexes.get(eventId);
+        if (index != null) {
+            index.entries().put(token, registration);
+        }
+    }
+
+    public void remove(Long eventId, String token) {
+        EventIndex index = indexes.get(eventId);
+        if (index != null) {
+            index.entries().remove(token);
+        }
+    }
+
+    public void evict(Long eventId) {
+        indexes.remove(eventId);
+    }
+
+    private EventIndex load(Event event) {
+        Map<String, IndexedRegistration> entries = new ConcurrentHashMap<>();
+        registrationRepository.findCheckInIndexEntries(event.getId(), RegistrationStatus.CANCELLED)
+                .forEach(entry -> entries.put(
+                        checkInTokenService.issueToken(entry.getRegistrationId(), event.getId()),
+                        new IndexedRegistration(entry.getRegistrationId(), entry.getUserId())));
+        return new EventIndex(event.getMaxCapacity(), entries);
+    }
+
+    public record IndexedRegistration(Long registrationId, Long userId) {
+    }
+
+    private record EventIndex(Integer maxCapacity, Map<String, IndexedRegistration> entries) {
+    }
+}
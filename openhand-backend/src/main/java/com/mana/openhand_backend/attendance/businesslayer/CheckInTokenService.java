@@ -0,0 +1,98 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues and verifies compact per-registration check-in tokens for QR codes.
+ * A token is a base64url string holding a version byte, the registration and
+ * event ids and a truncated HMAC-SHA256 over them, so it can be verified
+ * without touching the database.
+ */
+@Service
+public class CheckInTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int PAYLOAD_LENGTH = 1 + Long.BYTES + Long.BYTES;
+    private static final int SIGNATURE_LENGTH = 12;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec signingKey;
+    private final ThreadLocal<Mac> macs;
+
+    public CheckInTokenService(
+            @Value("${openhand.app.checkInTokenSecret:${openhand.app.jwtSecret}}") String secret) {
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String issueToken(Long registrationId, Long eventId) {
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+                .put(VERSION)
+                .putLong(registrationId)
+                .putLong(eventId)
+                .array();
+        byte[] token = ByteBuffer.allocate(PAYLOAD_LENGTH + SIGNATURE_LENGTH)
+                .put(payload)
+                .put(sign(payload))
+                .array();
+        return ENCODER.encodeToString(token);
+    }
+
+    public Optional<CheckInTokenClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        byte[] decoded;
+        try {
+            decoded = DECODER.decode(token.trim());
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        if (decoded.length != PAYLOAD_LENGTH + SIGNATURE_LENGTH || decoded[0] != VERSION) {
+            return Optional.empty();
+        }
+
+        byte[] payload = Arrays.copyOfRange(decoded, 0, PAYLOAD_LENGTH);
+        byte[] signature = Arrays.copyOfRange(decoded, PAYLOAD_LENGTH, decoded.length);
+        if (!MessageDigest.isEqual(signature, sign(payload))) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload, 1, Long.BYTES * 2);
+        return Optional.of(new CheckInTokenClaims(buffer.getLong(), buffer.getLong()));
+    }
+
+    private byte[] sign(byte[] payload) {
+        Mac mac = macs.get();
+        byte[] full = mac.doFinal(payload);
+        return Arrays.copyOf(full, SIGNATURE_LENGTH);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to initialise check-in token signer", ex);
+        }
+    }
+
+    public record CheckInTokenClaims(Long registrationId, Long eventId) {
+    }
+}
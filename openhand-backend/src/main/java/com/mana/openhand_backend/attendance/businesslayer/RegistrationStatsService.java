@@ -0,0 +1,167 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.attendance.dataaccesslayer.RegistrationStats;
+import com.mana.openhand_backend.attendance.dataaccesslayer.RegistrationStatsRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves per-event registration totals from the {@code registration_stats}
+ * table. Rows are recomputed with a single grouped query only when they are
+ * missing, marked dirty by a registration or check-in change, or older than
+ * the maximum age, so repeated report requests do not rescan registrations.
+ * Recomputed rows are written in their own transaction; when a concurrent
+ * report refreshes the same rows first, the freshly counted values are served
+ * without being saved instead of failing the read.
+ */
+@Service
+public class RegistrationStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationStatsService.class);
+
+    private final RegistrationStatsRepository registrationStatsRepository;
+    private final RegistrationRepository registrationRepository;
+    private final TransactionTemplate writeTransaction;
+    private final long maxAgeMs;
+    // Event id -> number of changes marked; a refresh clears the entry only if it is unchanged.
+    private final Map<Long, Long> dirtyEventIds = new ConcurrentHashMap<>();
+
+    public RegistrationStatsService(
+            RegistrationStatsRepository registrationStatsRepository,
+            RegistrationRepository registrationRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${openhand.app.attendance.statsMaxAgeMs:300000}") long maxAgeMs) {
+        this.registrationStatsRepository = registrationStatsRepository;
+        this.registrationRepository = registrationRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * Returns stats for the given events, refreshing stale rows first. Every
+     * requested event id is present in the result.
+     */
+    public Map<Long, RegistrationStats> getStats(List<Long> eventIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, RegistrationStats> statsByEvent = registrationStatsRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(RegistrationStats::getEventId, Function.identity()));
+
+        List<Long> staleIds = new ArrayList<>();
+        Map<Long, Long> dirtyMarks = new HashMap<>();
+        for (Long eventId : eventIds) {
+            RegistrationStats stats = statsByEvent.get(eventId);
+            // Read the mark before counting so a change committed meanwhile leaves the event dirty.
+            Long mark = dirtyEventIds.get(eventId);
+            if (mark != null) {
+                dirtyMarks.put(eventId, mark);
+            }
+            if (stats == null || mark != null || isExpired(stats, now)) {
+                staleIds.add(eventId);
+            }
+        }
+
+        if (!staleIds.isEmpty()) {
+            statsByEvent.putAll(refresh(staleIds, dirtyMarks, now));
+        }
+        return statsByEvent;
+    }
+
+    /**
+     * Flags an event's stats for recomputation on the next read. Inside a
+     * transaction the flag is set after commit so a concurrent report cannot
+     * clear it while still reading the old rows.
+     */
+    public void markDirty(Long eventId) {
+        if (eventId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyEventIds.merge(eventId, 1L, Long::sum);
+                }
+            });
+        } else {
+            dirtyEventIds.merge(eventId, 1L, Long::sum);
+        }
+    }
+
+    private boolean isExpired(RegistrationStats stats, LocalDateTime now) {
+        return stats.getRefreshedAt() == null
+                || stats.getRefreshedAt().plusNanos(maxAgeMs * 1_000_000L).isBefore(now);
+    }
+
+    private Map<Long, RegistrationStats> refresh(List<Long> staleIds, Map<Long, Long> dirtyMarks,
+            LocalDateTime now) {
+        Map<Long, RegistrationRepository.RegistrationStatsProjection> countsByEvent = registrationRepository
+                .countRegistrationStatsGroupedByEventIds(
+                        staleIds, RegistrationStatus.CANCELLED, RegistrationStatus.WAITLISTED)
+                .stream()
+                .collect(Collectors.toMap(
+                        RegistrationRepository.RegistrationStatsProjection::getEventId,
+                        Function.identity()));
+
+        Map<Long, RegistrationStats> refreshed;
+        try {
+            refreshed = writeTransaction.execute(status -> {
+                Map<Long, RegistrationStats> rows = registrationStatsRepository.findAllById(staleIds).stream()
+                        .collect(Collectors.toMap(RegistrationStats::getEventId, Function.identity()));
+                for (Long eventId : staleIds) {
+                    apply(rows.computeIfAbsent(eventId, RegistrationStats::new), countsByEvent.get(eventId), now);
+                }
+                registrationStatsRepository.saveAllAndFlush(rows.values());
+                return rows;
+            });
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException ex) {
+            // Another report inserted or updated these rows first; its values are as
+            // fresh as ours, so serve the counts without saving and keep the dirty marks.
+            logger.debug("Concurrent registration stats refresh for events {}: {}", staleIds, ex.getMessage());
+            Map<Long, RegistrationStats> unsaved = new HashMap<>();
+            for (Long eventId : staleIds) {
+                RegistrationStats stats = new RegistrationStats(eventId);
+                apply(stats, countsByEvent.get(eventId), now);
+                unsaved.put(eventId, stats);
+            }
+            return unsaved;
+        }
+
+        // Only a committed refresh clears a mark, and only if no change was marked since it was read.
+        dirtyMarks.forEach(dirtyEventIds::remove);
+        return refreshed;
+    }
+
+    private void apply(RegistrationStats stats, RegistrationRepository.RegistrationStatsProjection counts,
+            LocalDateTime now) {
+        stats.setRegisteredCount(counts != null ? toInt(counts.getRegisteredCount()) : 0);
+        stats.setAttendedCount(counts != null ? toInt(counts.getAttendedCount()) : 0);
+        stats.setWaitlistedCount(counts != null ? toInt(counts.getWaitlistedCount()) : 0);
+        stats.setCancelledCount(counts != null ? toInt(counts.getCancelledCount()) : 0);
+        stats.setRefreshedAt(now);
+    }
+
+    private int toInt(Long value) {
+        return value == null ? 0 : Math.toIntExact(value);
+    }
+}
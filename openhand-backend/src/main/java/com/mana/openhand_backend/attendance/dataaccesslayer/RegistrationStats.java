@@ -0,0 +1,92 @@
+package com.mana.openhand_backend.attendance.dataaccesslayer;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Precomputed per-event registration totals read by the attendance report and
+ * its CSV export. Rows are refreshed by {@code RegistrationStatsService} when
+ * they are missing, marked dirty or older than the configured maximum age.
+ */
+@Entity
+@Table(name = "registration_stats")
+public class RegistrationStats {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "registered_count", nullable = false)
+    private int registeredCount;
+
+    @Column(name = "attended_count", nullable = false)
+    private int attendedCount;
+
+    @Column(name = "waitlisted_count", nullable = false)
+    private int waitlistedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private int cancelledCount;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    // Lets Spring Data persist new rows directly instead of merging by id.
+    @Version
+    private Long version;
+
+    public RegistrationStats() {
+    }
+
+    public RegistrationStats(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public int getRegisteredCount() {
+        return registeredCount;
+    }
+
+    public void setRegisteredCount(int registeredCount) {
+        this.registeredCount = registeredCount;
+    }
+
+    public int getAttendedCount() {
+        return attendedCount;
+    }
+
+    public void setAttendedCount(int attendedCount) {
+        this.attendedCount = attendedCount;
+    }
+
+    public int getWaitlistedCount() {
+        return waitlistedCount;
+    }
+
+    public void setWaitlistedCount(int waitlistedCount) {
+        this.waitlistedCount = waitlistedCount;
+    }
+
+    public int getCancelledCount() {
+        return cancelledCount;
+    }
+
+    public void setCancelledCount(int cancelledCount) {
+        this.cancelledCount = cancelledCount;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public void setRefreshedAt(LocalDateTime refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,8 @@
+package com.mana.openhand_backend.attendance.dataaccesslayer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RegistrationStatsRepository extends JpaRepository<RegistrationStats, Long> {
+}
@@ -0,0 +1,38 @@
+package com.mana.openhand_backend.attendance.domainclientlayer;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public class AttendanceBulkCheckInItemRequestModel {
+
+    @NotNull(message = "userId is required")
+    private Long userId;
+
+    // When the scan happened on the device; defaults to the server time when omitted.
+    private LocalDateTime checkedInAt;
+
+    public AttendanceBulkCheckInItemRequestModel() {
+    }
+
+    public AttendanceBulkCheckInItemRequestModel(Long userId, LocalDateTime checkedInAt) {
+        this.userId = userId;
+        this.checkedInAt = checkedInAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getCheckedInAt() {
+        return checkedInAt;
+    }
+
+    public void setCheckedInAt(LocalDateTime checkedInAt) {
+        this.checkedInAt = checkedInAt;
+    }
+}
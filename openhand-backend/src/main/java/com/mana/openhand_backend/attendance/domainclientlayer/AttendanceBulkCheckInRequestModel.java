@@ -0,0 +1,32 @@
+package com.mana.openhand_backend.attendance.domainclientlayer;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AttendanceBulkCheckInRequestModel {
+
+    public static final int MAX_ITEMS = 500;
+
+    @NotEmpty(message = "At least one check-in must be provided")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " check-ins can be sent at once")
+    private List<@Valid AttendanceBulkCheckInItemRequestModel> items = new ArrayList<>();
+
+    public AttendanceBulkCheckInRequestModel() {
+    }
+
+    public AttendanceBulkCheckInRequestModel(List<AttendanceBulkCheckInItemRequestModel> items) {
+        this.items = items != null ? items : new ArrayList<>();
+    }
+
+    public List<AttendanceBulkCheckInItemRequestModel> getItems() {
+        return items;
+    }
+
+    public void setItems(List<AttendanceBulkCheckInItemRequestModel> items) {
+        this.items = items != null ? items : new ArrayList<>();
+    }
+}
@@ -0,0 +1,67 @@
+package com.mana.openhand_backend.attendance.domainclientlayer;
+
+import java.util.List;
+
+public class AttendanceBulkCheckInResponseModel {
+    private Long eventId;
+    private Integer registeredCount;
+    private Integer checkedInCount;
+    private Double occupancyPercent;
+    private List<AttendanceBulkCheckInResultResponseModel> results;
+
+    public AttendanceBulkCheckInResponseModel() {
+    }
+
+    public AttendanceBulkCheckInResponseModel(
+            Long eventId,
+            Integer registeredCount,
+            Integer checkedInCount,
+            Double occupancyPercent,
+            List<AttendanceBulkCheckInResultResponseModel> results) {
+        this.eventId = eventId;
+        this.registeredCount = registeredCount;
+        this.checkedInCount = checkedInCount;
+        this.occupancyPercent = occupancyPercent;
+        this.results = results;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getRegisteredCount() {
+        return registeredCount;
+    }
+
+    public void setRegisteredCount(Integer registeredCount) {
+        this.registeredCount = registeredCount;
+    }
+
+    public Integer getCheckedInCount() {
+        return checkedInCount;
+    }
+
+    public void setCheckedInCount(Integer checkedInCount) {
+        this.checkedInCount = checkedInCount;
+    }
+
+    public Double getOccupancyPercent() {
+        return occupancyPercent;
+    }
+
+    public void setOccupancyPercent(Double occupancyPercent) {
+        this.occupancyPercent = occupancyPercent;
+    }
+
+    public List<AttendanceBulkCheckInResultResponseModel> getResults() {
+        return results;
+    }
+
+    public void setResults(List<AttendanceBulkCheckInResultResponseModel> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,40 @@
+package com.mana.openhand_backend.attendance.domainclientlayer;
+
+public class AttendanceBulkCheckInResultResponseModel {
+    private Long userId;
+    private AttendanceBulkCheckInStatus status;
+    private String checkedInAt;
+
+    public AttendanceBulkCheckInResultResponseModel() {
+    }
+
+    public AttendanceBulkCheckInResultResponseModel(Long userId, AttendanceBulkCheckInStatus status, String checkedInAt) {
+        this.userId = userId;
+        this.status = status;
+        this.checkedInAt = checkedInAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public AttendanceBulkCheckInStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AttendanceBulkCheckInStatus status) {
+        this.status = status;
+    }
+
+    public String getCheckedInAt() {
+        return checkedInAt;
+    }
+
+    public void setCheckedInAt(String checkedInAt) {
+        this.checkedInAt = checkedInAt;
+    }
+}
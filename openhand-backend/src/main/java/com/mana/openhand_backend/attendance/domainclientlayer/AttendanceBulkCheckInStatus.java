@@ -0,0 +1,8 @@
+package com.mana.openhand_backend.attendance.domainclientlayer;
+
+public enum AttendanceBulkCheckInStatus {
+    CHECKED_IN,
+    ALREADY_CHECKED_IN,
+    NOT_REGISTERED,
+    NOT_ALLOWED
+}
@@ -0,0 +1,40 @@
+package com.mana.openhand_backend.attendance.domainclientlayer;
+
+public class AttendanceCheckInChangeResponseModel {
+    private Long userId;
+    private boolean checkedIn;
+    private String checkedInAt;
+
+    public AttendanceCheckInChangeResponseModel() {
+    }
+
+    public AttendanceCheckInChangeResponseModel(Long userId, boolean checkedIn, String checkedInAt) {
+        this.userId = userId;
+        this.checkedIn = checkedIn;
+        this.checkedInAt = checkedInAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public boolean isCheckedIn() {
+        return checkedIn;
+    }
+
+    public void setCheckedIn(boolean checkedIn) {
+        this.checkedIn = checkedIn;
+    }
+
+    public String getCheckedInAt() {
+        return checkedInAt;
+    }
+
+    public void setCheckedInAt(String checkedInAt) {
+        this.checkedInAt = checkedInAt;
+    }
+}
@@ -10,6 +10,10 @@ public class AttendanceReportResponseModel {
     private Integer totalAttended;
     private Integer totalRegistered;
     private Double attendanceRate;
+    private Integer totalWaitlisted;
+    private Integer totalCancelled;
+    // When the underlying registration stats were last recomputed.
+    private LocalDateTime statsRefreshedAt;
 
     public AttendanceReportResponseModel(
             Long eventId,
@@ -17,13 +21,19 @@ public class AttendanceReportResponseModel {
             LocalDateTime eventDate,
             Integer totalAttended,
             Integer totalRegistered,
-            Double attendanceRate) {
+            Double attendanceRate,
+            Integer totalWaitlisted,
+            Integer totalCancelled,
+            LocalDateTime statsRefreshedAt) {
         this.eventId = eventId;
         this.eventTitle = eventTitle;
         this.eventDate = eventDate;
         this.totalAttended = totalAttended;
         this.totalRegistered = totalRegistered;
         this.attendanceRate = attendanceRate;
+        this.totalWaitlisted = totalWaitlisted;
+        this.totalCancelled = totalCancelled;
+        this.statsRefreshedAt = statsRefreshedAt;
     }
 
     public Long getEventId() {
@@ -49,4 +59,16 @@ public class AttendanceReportResponseModel {
     public Double getAttendanceRate() {
         return attendanceRate;
     }
+
+    public Integer getTotalWaitlisted() {
+        return totalWaitlisted;
+    }
+
+    public Integer getTotalCancelled() {
+        return totalCancelled;
+    }
+
+    public LocalDateTime getStatsRefreshedAt() {
+        return statsRefreshedAt;
+    }
 }
@@ -1,5 +1,7 @@
 package com.mana.openhand_backend.attendance.domainclientlayer;
 
+import java.util.List;
+
 public class AttendanceUpdateResponseModel {
     private Long eventId;
     private Long userId;
@@ -8,6 +10,8 @@ public class AttendanceUpdateResponseModel {
     private Integer registeredCount;
     private Integer checkedInCount;
     private Double occupancyPercent;
+    // Populated on coalesced WebSocket updates with every attendee change in the window.
+    private List<AttendanceCheckInChangeResponseModel> changes;
 
     public AttendanceUpdateResponseModel() {
     }
@@ -84,4 +88,12 @@ public class AttendanceUpdateResponseModel {
     public void setOccupancyPercent(Double occupancyPercent) {
         this.occupancyPercent = occupancyPercent;
     }
+
+    public List<AttendanceCheckInChangeResponseModel> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<AttendanceCheckInChangeResponseModel> changes) {
+        this.changes = changes;
+    }
 }
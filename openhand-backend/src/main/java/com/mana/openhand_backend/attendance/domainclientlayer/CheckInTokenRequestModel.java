@@ -0,0 +1,24 @@
+package com.mana.openhand_backend.attendance.domainclientlayer;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class CheckInTokenRequestModel {
+
+    @NotBlank(message = "token is required")
+    private String token;
+
+    public CheckInTokenRequestModel() {
+    }
+
+    public CheckInTokenRequestModel(String token) {
+        this.token = token;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+}
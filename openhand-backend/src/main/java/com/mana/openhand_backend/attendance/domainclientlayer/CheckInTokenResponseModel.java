@@ -0,0 +1,40 @@
+package com.mana.openhand_backend.attendance.domainclientlayer;
+
+public class CheckInTokenResponseModel {
+    private Long eventId;
+    private Long registrationId;
+    private String token;
+
+    public CheckInTokenResponseModel() {
+    }
+
+    public CheckInTokenResponseModel(Long eventId, Long registrationId, String token) {
+        this.eventId = eventId;
+        this.registrationId = registrationId;
+        this.token = token;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getRegistrationId() {
+        return registrationId;
+    }
+
+    public void setRegistrationId(Long registrationId) {
+        this.registrationId = registrationId;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+}
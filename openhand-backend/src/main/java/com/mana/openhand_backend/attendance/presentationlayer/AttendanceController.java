@@ -1,12 +1,20 @@
 package com.mana.openhand_backend.attendance.presentationlayer;
 
 import com.mana.openhand_backend.attendance.businesslayer.AttendanceService;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInRequestModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventAttendeesResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventSummaryResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceUpdateResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.CheckInTokenRequestModel;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -22,8 +30,15 @@ public class AttendanceController {
     }
 
     @GetMapping("/events")
-    public List<AttendanceEventSummaryResponseModel> getAttendanceEvents() {
-        return attendanceService.getAttendanceEvents();
+    public List<AttendanceEventSummaryResponseModel> getAttendanceEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before or equal to to");
+        }
+        return attendanceService.getAttendanceEvents(from, to, page, size);
     }
 
     @GetMapping("/events/{eventId}/attendees")
@@ -40,4 +55,18 @@ public class AttendanceController {
     public AttendanceUpdateResponseModel undoCheckInAttendee(@PathVariable Long eventId, @PathVariable Long userId) {
         return attendanceService.undoCheckInAttendee(eventId, userId);
     }
+
+    @PostMapping("/events/{eventId}/check-ins")
+    public AttendanceBulkCheckInResponseModel bulkCheckIn(
+            @PathVariable Long eventId,
+            @Valid @RequestBody AttendanceBulkCheckInRequestModel request) {
+        return attendanceService.bulkCheckIn(eventId, request.getItems());
+    }
+
+    @PostMapping("/events/{eventId}/check-in/token")
+    public AttendanceUpdateResponseModel checkInByToken(
+            @PathVariable Long eventId,
+            @Valid @RequestBody CheckInTokenRequestModel request) {
+        return attendanceService.checkInByToken(eventId, request.getToken());
+    }
 }
@@ -0,0 +1,27 @@
+package com.mana.openhand_backend.attendance.presentationlayer;
+
+import com.mana.openhand_backend.attendance.businesslayer.AttendanceService;
+import com.mana.openhand_backend.attendance.domainclientlayer.CheckInTokenResponseModel;
+import com.mana.openhand_backend.security.CurrentUserId;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/registrations/event/{eventId}/check-in-token")
+public class CheckInTokenController {
+
+    private final AttendanceService attendanceService;
+
+    public CheckInTokenController(AttendanceService attendanceService) {
+        this.attendanceService = attendanceService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_MEMBER') or hasRole('ROLE_EMPLOYEE')")
+    public CheckInTokenResponseModel getCheckInToken(@PathVariable Long eventId, @CurrentUserId Long userId) {
+        return attendanceService.issueCheckInToken(userId, eventId);
+    }
+}
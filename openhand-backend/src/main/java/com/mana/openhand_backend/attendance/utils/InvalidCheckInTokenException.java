@@ -0,0 +1,12 @@
+package com.mana.openhand_backend.attendance.utils;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCheckInTokenException extends RuntimeException {
+
+    public InvalidCheckInTokenException(Long eventId) {
+        super("Invalid check-in token for event " + eventId);
+    }
+}
@@ -1,10 +1,19 @@
 package com.mana.openhand_backend.common.presentationlayer.payload;
 
+import java.util.Map;
+
 public class ImageUrlResponse {
     private String url;
+    // Resized renditions keyed by variant name (thumbnail, list, detail).
+    private Map<String, String> variants;
 
     public ImageUrlResponse(String url) {
+        this(url, Map.of());
+    }
+
+    public ImageUrlResponse(String url, Map<String, String> variants) {
         this.url = url;
+        this.variants = variants;
     }
 
     public String getUrl() {
@@ -14,4 +23,12 @@ public class ImageUrlResponse {
     public void setUrl(String url) {
         this.url = url;
     }
+
+    public Map<String, String> getVariants() {
+        return variants;
+    }
+
+    public void setVariants(Map<String, String> variants) {
+        this.variants = variants;
+    }
 }
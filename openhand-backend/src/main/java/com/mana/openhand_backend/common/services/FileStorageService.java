@@ -10,8 +10,10 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -22,6 +24,12 @@ public class FileStorageService {
             "image/png",
             "image/webp");
 
+    private final ImageVariantGenerator variantGenerator;
+
+    public FileStorageService(ImageVariantGenerator variantGenerator) {
+        this.variantGenerator = variantGenerator;
+    }
+
     public void validateImageFile(MultipartFile file, long maxSizeBytes) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("No file provided.");
@@ -104,10 +112,40 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * Stores an uploaded image as-is and writes its resized variants next to it.
+     * Nothing is left on disk when the image cannot be decoded.
+     */
+    public String storeImage(MultipartFile file, Path uploadDir, String filenameBase) {
+        String filename = storeFile(file, uploadDir, filenameBase);
+        Path stored = uploadDir.toAbsolutePath().normalize().resolve(filename);
+        try {
+            variantGenerator.generate(stored);
+            return filename;
+        } catch (IOException ex) {
+            logger.error("Failed to write image variants for {}: {}", filename, ex.getMessage());
+            deleteImage(stored);
+            throw new IllegalStateException("Unable to store file. Please try again.");
+        } catch (RuntimeException ex) {
+            deleteImage(stored);
+            throw ex;
+        }
+    }
+
     public void deleteFile(Path filePath) {
         cleanupFile(filePath);
     }
 
+    /** Deletes a stored image together with its variants. */
+    public void deleteImage(Path filePath) {
+        cleanupFile(filePath);
+        if (filePath != null) {
+            for (ImageVariant variant : ImageVariant.values()) {
+                cleanupFile(ImageVariantGenerator.variantPath(filePath, variant));
+            }
+        }
+    }
+
     public void cleanupFile(Path path) {
         try {
             if (path != null && Files.exists(path)) {
@@ -129,4 +167,25 @@ public class FileStorageService {
         String path = relativePath.startsWith("/") ? relativePath : "/" + relativePath;
         return prefix + path;
     }
+
+    /**
+     * Public URLs of the variants of a stored image, keyed by variant name.
+     * Images stored before variants existed fall back to the original URL.
+     */
+    public Map<String, String> toPublicVariantUrls(String baseUrl, String relativePath, Path storedFile) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        String originalUrl = toPublicUrl(baseUrl, relativePath);
+        if (originalUrl == null || storedFile == null) {
+            return urls;
+        }
+        String directory = relativePath.substring(0, relativePath.lastIndexOf('/') + 1);
+        String filename = storedFile.getFileName().toString();
+        for (ImageVariant variant : ImageVariant.values()) {
+            boolean exists = Files.exists(ImageVariantGenerator.variantPath(storedFile, variant));
+            urls.put(variant.getKey(), exists
+                    ? toPublicUrl(baseUrl, directory + ImageVariantGenerator.variantFilename(filename, variant))
+                    : originalUrl);
+        }
+        return urls;
+    }
 }
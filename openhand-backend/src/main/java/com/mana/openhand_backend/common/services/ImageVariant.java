@@ -0,0 +1,28 @@
+package com.mana.openhand_backend.common.services;
+
+/**
+ * Fixed-width renditions generated for every uploaded image, widest first so
+ * each one can be scaled down from the previous.
+ */
+public enum ImageVariant {
+    DETAIL("detail", 1080),
+    LIST("list", 480),
+    THUMBNAIL("thumbnail", 160);
+
+    private final String key;
+    private final int width;
+
+    ImageVariant(String key, int width) {
+        this.key = key;
+        this.width = width;
+    }
+
+    /** Name used in response payloads and as the file name suffix. */
+    public String getKey() {
+        return key;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+}
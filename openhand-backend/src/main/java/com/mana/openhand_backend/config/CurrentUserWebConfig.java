@@ -0,0 +1,26 @@
+package com.mana.openhand_backend.config;
+
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.security.CurrentUserIdArgumentResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class CurrentUserWebConfig implements WebMvcConfigurer {
+
+    // Looked up lazily so web slice tests without a UserRepository bean still start.
+    private final ObjectProvider<UserRepository> userRepository;
+
+    public CurrentUserWebConfig(ObjectProvider<UserRepository> userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserIdArgumentResolver(userRepository));
+    }
+}
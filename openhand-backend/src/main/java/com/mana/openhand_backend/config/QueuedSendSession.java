@@ -0,0 +1,234 @@
+package com.mana.openhand_backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A session whose sends are queued and written by a {@link SessionSendQueues}
+ * worker. {@link #sendMessage} never blocks on the network: it coalesces or
+ * queues the frame and returns, or throws {@link SessionLimitExceededException}
+ * when the session has to be closed.
+ */
+class QueuedSendSession extends WebSocketSessionDecorator {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueuedSendSession.class);
+
+    private final SessionSendQueues queues;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    // Coalesce key -> the queued frame it would replace.
+    private final Map<String, Pending> coalescable = new HashMap<>();
+    private boolean draining;
+    private long sendStartedAt;
+
+    QueuedSendSession(WebSocketSession delegate, SessionSendQueues queues) {
+        super(delegate);
+        this.queues = queues;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        String key = coalesceKey(message);
+        boolean startDrain = false;
+        lock.lock();
+        try {
+            if (draining && sendStartedAt != 0
+                    && System.nanoTime() - sendStartedAt > TimeUnit.MILLISECONDS.toNanos(queues.sendTimeLimitMs())) {
+                throw terminate("send time limit exceeded");
+            }
+
+            Pending existing = key != null ? coalescable.get(key) : null;
+            if (existing != null) {
+                existing.message = message;
+                queues.coalesced();
+                return;
+            }
+
+            if (queue.size() >= queues.capacity() && !dropOldestCoalescable()) {
+                throw terminate("send queue full");
+            }
+            Pending pending = new Pending(key, message);
+            queue.addLast(pending);
+            if (key != null) {
+                coalescable.put(key, pending);
+            }
+            queues.queued(1);
+
+            if (!draining) {
+                draining = true;
+                startDrain = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (startDrain) {
+            queues.scheduleDrain(this);
+        }
+    }
+
+    /** Writes queued frames until the queue is empty; runs on a queue worker. */
+    void drain() {
+        while (true) {
+            Pending next;
+            lock.lock();
+            try {
+                next = queue.pollFirst();
+                if (next == null || !isOpen()) {
+                    draining = false;
+                    return;
+                }
+                if (next.key != null) {
+                    coalescable.remove(next.key);
+                }
+                queues.queued(-1);
+                sendStartedAt = System.nanoTime();
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                getDelegate().sendMessage(next.message);
+            } catch (Exception ex) {
+                logger.debug("Failed to send to WebSocket session {}: {}", getId(), ex.getMessage());
+                discard();
+                closeQuietly();
+                lock.lock();
+                try {
+                    draining = false;
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            } finally {
+                lock.lock();
+                try {
+                    sendStartedAt = 0;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /** Drops everything still queued; called when the session closes. */
+    void discard() {
+        lock.lock();
+        try {
+            queues.queued(-queue.size());
+            queue.clear();
+            coalescable.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean dropOldestCoalescable() {
+        Iterator<Pending> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Pending pending = iterator.next();
+            if (pending.key != null) {
+                iterator.remove();
+                coalescable.remove(pending.key);
+                queues.queued(-1);
+                queues.dropped();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Closes a session whose send failed or timed out, so the client reconnects. */
+    private void closeQuietly() {
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception ex) {
+            logger.debug("Failed to close WebSocket session {}: {}", getId(), ex.getMessage());
+        }
+    }
+
+    private SessionLimitExceededException terminate(String reason) {
+        queues.terminated(getId(), reason);
+        return new SessionLimitExceededException(
+                "WebSocket session " + getId() + ": " + reason, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    /**
+     * Subscription and destination of a STOMP MESSAGE frame sent to a
+     * coalesced destination, or {@code null} for any other frame.
+     */
+    private String coalesceKey(WebSocketMessage<?> message) {
+        String headers = stompHeaders(message);
+        if (headers == null || !headers.startsWith("MESSAGE\n")) {
+            return null;
+        }
+        String destination = null;
+        String subscription = null;
+        for (String line : headers.split("\n")) {
+            if (destination == null && line.startsWith("destination:")) {
+                destination = line.substring("destination:".length());
+            } else if (subscription == null && line.startsWith("subscription:")) {
+                subscription = line.substring("subscription:".length());
+            }
+        }
+        if (destination == null || !queues.isCoalesced(destination)) {
+            return null;
+        }
+        return subscription + '|' + destination;
+    }
+
+    private static String stompHeaders(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            String payload = text.getPayload();
+            int end = payload.indexOf("\n\n");
+            return end < 0 ? null : payload.substring(0, end);
+        }
+        if (message instanceof BinaryMessage binary) {
+            ByteBuffer payload = binary.getPayload().duplicate();
+            int start = payload.position();
+            for (int i = start; i < payload.limit() - 1; i++) {
+                if (payload.get(i) == '\n' && payload.get(i + 1) == '\n') {
+                    byte[] headers = new byte[i - start];
+                    payload.get(headers);
+                    return new String(headers, StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class Pending {
+        private final String key;
+        private WebSocketMessage<?> message;
+
+        Pending(String key, WebSocketMessage<?> message) {
+            this.key = key;
+            this.message = message;
+        }
+    }
+}
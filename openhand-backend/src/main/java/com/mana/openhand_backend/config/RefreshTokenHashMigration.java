@@ -0,0 +1,81 @@
+package com.mana.openhand_backend.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Moves refresh tokens stored in plain text to the hashed {@code token_hash}
+ * column, then drops the old {@code token} column so raw tokens no longer sit
+ * in the database. Existing sessions stay valid.
+ * <p>
+ * Unlike the other migrations this one runs during startup, after Hibernate has
+ * added {@code token_hash} but before the server accepts requests, because new
+ * refresh tokens cannot be inserted while the legacy {@code NOT NULL} column
+ * exists. It runs in one transaction and fails startup on error rather than
+ * leaving logins broken.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class RefreshTokenHashMigration {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenHashMigration.class);
+    private final DataSource dataSource;
+
+    public RefreshTokenHashMigration(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (product == null || !product.toLowerCase().contains("postgresql")) {
+                return;
+            }
+            if (!hasPlainTokenColumn(connection)) {
+                return;
+            }
+
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement alter = connection.createStatement()) {
+                // Another instance may be migrating too; the lock makes it wait, then the re-check skips.
+                alter.execute("LOCK TABLE refreshtoken IN ACCESS EXCLUSIVE MODE");
+                if (hasPlainTokenColumn(connection)) {
+                    // Same digest as RefreshTokenService: lowercase hex SHA-256 of the UTF-8 token.
+                    alter.execute("UPDATE refreshtoken SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex') "
+                            + "WHERE token_hash IS NULL AND token IS NOT NULL");
+                    alter.execute("DELETE FROM refreshtoken WHERE token_hash IS NULL");
+                    alter.execute("ALTER TABLE refreshtoken DROP COLUMN token");
+                    alter.execute("ALTER TABLE refreshtoken ALTER COLUMN token_hash SET NOT NULL");
+                }
+                connection.commit();
+                log.info("Migration applied: refreshtoken.token replaced by hashed token_hash.");
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Refresh token hash migration failed; refresh tokens cannot be stored.", ex);
+        }
+    }
+
+    private boolean hasPlainTokenColumn(Connection connection) throws SQLException {
+        try (var statement = connection.prepareStatement(
+                "SELECT 1 FROM information_schema.columns WHERE table_schema = current_schema() "
+                        + "AND table_name = 'refreshtoken' AND column_name = 'token'")) {
+            ResultSet resultSet = statement.executeQuery();
+            return resultSet.next();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.mana.openhand_backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance jobs. Tests turn this off so
+ * background jobs do not touch the database while a test is running.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "openhand.app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,186 @@
+package com.mana.openhand_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.websocket.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gives every WebSocket session its own bounded send queue, drained by a small
+ * shared pool, so a slow client backs up its own queue and never the broker's
+ * outbound channel. Each blocking write is bounded by the send time limit, so
+ * a client that stops reading holds a worker for at most that long before its
+ * session fails and is closed. Messages on destinations whose latest message
+ * supersedes the earlier ones (unread counts) are coalesced per subscription
+ * and are the first to be dropped when a queue is full. Attendance updates
+ * carry per-attendee changes and are never coalesced or dropped. A session
+ * whose queue is full of messages that cannot be dropped, or whose current
+ * send exceeds the send time limit, is closed so the client reconnects and
+ * resynchronises.
+ */
+@Component
+public class SessionSendQueues implements WebSocketHandlerDecoratorFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionSendQueues.class);
+    // Tomcat's write timeout for blocking sends on a jakarta.websocket session, in milliseconds.
+    static final String BLOCKING_SEND_TIMEOUT_PROPERTY = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final int capacity;
+    private final long sendTimeLimitMs;
+    private final List<String> coalescePatterns;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Executor executor;
+    private final ThreadPoolExecutor ownedExecutor;
+    private final Map<String, QueuedSendSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+    private final Counter terminatedCounter;
+
+    @Autowired
+    public SessionSendQueues(MeterRegistry meterRegistry,
+            @Value("${openhand.app.websocket.sendQueue.capacity:256}") int capacity,
+            @Value("${openhand.app.websocket.sendQueue.workers:8}") int workers,
+            @Value("${openhand.app.websocket.sendTimeLimitMs:10000}") long sendTimeLimitMs,
+            @Value("${openhand.app.websocket.sendQueue.coalesceDestinations:/user/queue/notification-events}")
+            List<String> coalescePatterns) {
+        this(meterRegistry, capacity, sendTimeLimitMs, coalescePatterns, newExecutor(workers));
+    }
+
+    SessionSendQueues(MeterRegistry meterRegistry, int capacity, long sendTimeLimitMs,
+            List<String> coalescePatterns, Executor executor) {
+        this.capacity = Math.max(1, capacity);
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.coalescePatterns = List.copyOf(coalescePatterns);
+        this.executor = executor;
+        this.ownedExecutor = executor instanceof ThreadPoolExecutor pool ? pool : null;
+
+        this.coalescedCounter = Counter.builder("websocket.send.queue.dropped")
+                .tag("reason", "coalesced")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("websocket.send.queue.dropped")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        this.terminatedCounter = Counter.builder("websocket.send.queue.terminated")
+                .register(meterRegistry);
+        Gauge.builder("websocket.send.queue.depth", depth, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("websocket.send.queue.sessions", sessions, Map::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                boundBlockingSends(session);
+                QueuedSendSession queued = new QueuedSendSession(session, SessionSendQueues.this);
+                sessions.put(session.getId(), queued);
+                super.afterConnectionEstablished(queued);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                QueuedSendSession queued = sessions.remove(session.getId());
+                if (queued != null) {
+                    queued.discard();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /** Messages queued across all sessions. */
+    public int queueDepth() {
+        return depth.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long sendTimeLimitMs() {
+        return sendTimeLimitMs;
+    }
+
+    boolean isCoalesced(String destination) {
+        for (String pattern : coalescePatterns) {
+            if (pathMatcher.match(pattern, destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void scheduleDrain(QueuedSendSession session) {
+        executor.execute(session::drain);
+    }
+
+    void queued(int count) {
+        depth.addAndGet(count);
+    }
+
+    void coalesced() {
+        coalescedCounter.increment();
+    }
+
+    void dropped() {
+        droppedCounter.increment();
+    }
+
+    void terminated(String sessionId, String reason) {
+        terminatedCounter.increment();
+        logger.warn("Closing WebSocket session {}: {}", sessionId, reason);
+    }
+
+    /**
+     * Makes a blocking write to a client that stops reading fail after the send
+     * time limit instead of holding a queue worker until the TCP timeout.
+     */
+    private void boundBlockingSends(WebSocketSession session) {
+        if (sendTimeLimitMs > 0 && session.getNativeSession() instanceof Session nativeSession) {
+            nativeSession.getUserProperties().put(BLOCKING_SEND_TIMEOUT_PROPERTY, sendTimeLimitMs);
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(int workers) {
+        AtomicInteger threadCount = new AtomicInteger();
+        // At most one drain task per session is ever queued, so the queue is bounded by the session count.
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "websocket-send-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
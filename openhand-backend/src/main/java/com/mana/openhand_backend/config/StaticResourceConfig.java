@@ -2,11 +2,13 @@ package com.mana.openhand_backend.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 @Configuration
 public class StaticResourceConfig implements WebMvcConfigurer {
@@ -17,16 +19,24 @@ public class StaticResourceConfig implements WebMvcConfigurer {
     @Value("${openhand.app.eventImagesDir:uploads/event-images}")
     private String eventImagesDir;
 
+    @Value("${openhand.app.uploads.cacheMaxAgeDays:365}")
+    private long cacheMaxAgeDays;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // Every upload and variant gets a new random file name, so clients may cache them indefinitely.
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(cacheMaxAgeDays)).cachePublic().immutable();
+
         Path uploadPath = Paths.get(profilePicturesDir).toAbsolutePath().normalize();
         String location = "file:" + uploadPath.toString() + "/";
         registry.addResourceHandler("/uploads/profile-pictures/**")
-                .addResourceLocations(location);
+                .addResourceLocations(location)
+                .setCacheControl(cacheControl);
 
         Path eventUploadPath = Paths.get(eventImagesDir).toAbsolutePath().normalize();
         String eventLocation = "file:" + eventUploadPath.toString() + "/";
         registry.addResourceHandler("/uploads/event-images/**")
-                .addResourceLocations(eventLocation);
+                .addResourceLocations(eventLocation)
+                .setCacheControl(cacheControl);
     }
 }
@@ -1,19 +1,136 @@
 package com.mana.openhand_backend.config;
 
+import com.mana.openhand_backend.security.jwt.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+/**
+ * STOMP over WebSocket. By default messages are routed by the in-memory simple
+ * broker, which only reaches clients connected to this instance. With
+ * {@code openhand.app.websocket.broker=relay} subscriptions and sends are
+ * relayed to an external STOMP broker (RabbitMQ, ActiveMQ) so a message
+ * published on any instance reaches clients connected to every instance.
+ * Connections authenticate with a JWT on CONNECT; per-user messages go to
+ * {@code /user/queue/...} destinations, resolved from the user registry.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    static final String RELAY_BROKER = "relay";
+
+    @Value("${openhand.app.websocket.broker:simple}")
+    private String broker;
+
+    @Value("${openhand.app.websocket.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${openhand.app.websocket.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${openhand.app.websocket.relay.clientLogin:guest}")
+    private String clientLogin;
+
+    @Value("${openhand.app.websocket.relay.clientPasscode:guest}")
+    private String clientPasscode;
+
+    @Value("${openhand.app.websocket.relay.systemLogin:guest}")
+    private String systemLogin;
+
+    @Value("${openhand.app.websocket.relay.systemPasscode:guest}")
+    private String systemPasscode;
+
+    @Value("${openhand.app.websocket.relay.virtualHost:}")
+    private String virtualHost;
+
+    // Heartbeats let both sides notice a dead mobile connection instead of holding it open.
+    @Value("${openhand.app.websocket.heartbeatSendMs:10000}")
+    private long heartbeatSendMs;
+
+    @Value("${openhand.app.websocket.heartbeatReceiveMs:10000}")
+    private long heartbeatReceiveMs;
+
+    @Value("${openhand.app.websocket.inbound.corePoolSize:4}")
+    private int inboundCorePoolSize;
+
+    @Value("${openhand.app.websocket.inbound.maxPoolSize:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${openhand.app.websocket.inbound.queueCapacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${openhand.app.websocket.outbound.corePoolSize:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${openhand.app.websocket.outbound.maxPoolSize:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${openhand.app.websocket.outbound.queueCapacity:5000}")
+    private int outboundQueueCapacity;
+
+    @Value("${openhand.app.websocket.sendTimeLimitMs:10000}")
+    private int sendTimeLimitMs;
+
+    // Destinations whose matching subscriptions the simple broker keeps cached.
+    @Value("${openhand.app.websocket.subscriptionCacheLimit:16384}")
+    private int subscriptionCacheLimit;
+
+    @Value("${openhand.app.websocket.sendBufferSizeLimit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${openhand.app.websocket.messageSizeLimit:65536}")
+    private int messageSizeLimit;
+
+    @Autowired
+    private SessionSendQueues sessionSendQueues;
+
+    @Autowired
+    private StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // Lazy because the scheduler bean is itself created by the broker configuration.
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        if (RELAY_BROKER.equalsIgnoreCase(broker)) {
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(clientLogin)
+                    .setClientPasscode(clientPasscode)
+                    .setSystemLogin(systemLogin)
+                    .setSystemPasscode(systemPasscode)
+                    .setSystemHeartbeatSendInterval(heartbeatSendMs)
+                    .setSystemHeartbeatReceiveInterval(heartbeatReceiveMs)
+                    // Lets each instance deliver to users whose sessions are on another instance.
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (!virtualHost.isBlank()) {
+                relay.setVirtualHost(virtualHost);
+            }
+        } else {
+            config.enableSimpleBroker("/topic", "/queue")
+                    .setHeartbeatValue(new long[] { heartbeatSendMs, heartbeatReceiveMs })
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+            config.setCacheLimit(subscriptionCacheLimit);
+        }
         config.setApplicationDestinationPrefixes("/app");
+        config.setUserDestinationPrefix("/user");
     }
 
     @Override
@@ -21,4 +138,35 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*"); // Allow all origins for development
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    /**
+     * Outbound frames go through a bounded queue per session (see
+     * {@link SessionSendQueues}), so one slow phone cannot hold outbound
+     * threads or memory; the send time and buffer limits still close a
+     * session that stops reading.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(sessionSendQueues);
+    }
 }
@@ -3,15 +3,11 @@ package com.mana.openhand_backend.donations.presentationlayer;
 import com.mana.openhand_backend.donations.businesslayer.DonationService;
 import com.mana.openhand_backend.donations.domainclientlayer.DonationSummaryResponseModel;
 import com.mana.openhand_backend.donations.domainclientlayer.ManualDonationRequestModel;
-import com.mana.openhand_backend.identity.dataaccesslayer.User;
-import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.security.CurrentUserId;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,7 +16,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.server.ResponseStatusException;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -29,11 +24,9 @@ import org.springframework.web.server.ResponseStatusException;
 public class DonationManagementController {
 
     private final DonationService donationService;
-    private final UserRepository userRepository;
 
-    public DonationManagementController(DonationService donationService, UserRepository userRepository) {
+    public DonationManagementController(DonationService donationService) {
         this.donationService = donationService;
-        this.userRepository = userRepository;
     }
 
     @GetMapping
@@ -76,42 +69,10 @@ public class DonationManagementController {
     public DonationSummaryResponseModel createManualDonation(
             @Valid @RequestBody ManualDonationRequestModel request,
             @RequestParam(value = "donorId", required = false) Long donorId,
-            Authentication authentication) {
+            @CurrentUserId Long employeeId) {
         if (request.getDonorUserId() == null && donorId != null) {
             request.setDonorUserId(donorId);
         }
-
-        // For @WebMvcTest compatibility, try authentication parameter first, then SecurityContextHolder
-        if (authentication == null) {
-            authentication = SecurityContextHolder.getContext().getAuthentication();
-        }
-        if (authentication == null || authentication.getPrincipal() == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
-        }
-        Long employeeId = extractUserIdFromAuth(authentication);
         return donationService.createManualDonation(employeeId, request);
     }
-
-    private Long extractUserIdFromAuth(Authentication authentication) {
-        Object principal = authentication.getPrincipal();
-
-        if (principal instanceof User) {
-            return ((User) principal).getId();
-        }
-
-        if (principal instanceof UserDetails) {
-            UserDetails userDetails = (UserDetails) principal;
-            User user = userRepository.findByEmail(userDetails.getUsername())
-                    .orElseThrow(() -> new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "User not found with email: " + userDetails.getUsername()
-                    ));
-            return user.getId();
-        }
-
-        throw new ResponseStatusException(
-                HttpStatus.UNAUTHORIZED,
-                "Unsupported authentication principal"
-        );
-    }
 }
@@ -6,6 +6,8 @@ import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
 import com.mana.openhand_backend.events.presentationlayer.payload.CreateEventRequest;
 import com.mana.openhand_backend.notifications.businesslayer.NotificationService;
 import com.mana.openhand_backend.notifications.businesslayer.SendGridEmailService;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.domainclientlayer.EmailRecipient;
 import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
@@ -177,37 +179,12 @@ public class EventAdminServiceImpl implements EventAdminService {
 
     private void notifyScheduleChange(Event event) {
         try {
-            List<Registration> registrations = registrationRepository.findByEventId(event.getId());
-            registrations.stream()
+            List<Registration> registrations = registrationRepository.findByEventId(event.getId()).stream()
                     .filter(reg -> reg.getStatus() != RegistrationStatus.CANCELLED)
                     .filter(reg -> reg.getUser() != null)
-                    .forEach(reg -> {
-                        String language = reg.getUser().getPreferredLanguage() != null
-                                ? reg.getUser().getPreferredLanguage()
-                                : "en";
-                        try {
-                            sendGridEmailService.sendCancellationOrUpdate(
-                                    reg.getUser().getEmail(),
-                                    reg.getUser().getName(),
-                                    event.getTitle(),
-                                    "Event schedule updated to " + event.getStartDateTime(),
-                                    language);
-                        } catch (Exception ex) {
-                            logger.error("Failed to send schedule update email for registration {}: {}",
-                                    reg.getId(), ex.getMessage());
-                        }
-
-                        // App Notification
-                        try {
-                            notificationService.createNotification(
-                                    reg.getUser().getId(),
-                                    event.getId(),
-                                    "EVENT_UPDATE",
-                                    language);
-                        } catch (Exception e) {
-                            logger.error("Failed notification for reg {}: {}", reg.getId(), e.getMessage());
-                        }
-                    });
+                    .toList();
+            sendUpdateEmails(event, registrations, "Event schedule updated to " + event.getStartDateTime());
+            createAppNotifications(event, registrations, NotificationType.EVENT_UPDATE);
         } catch (Exception ex) {
             logger.error("Failed to process schedule change notifications for event {}: {}", event.getId(),
                     ex.getMessage());
@@ -216,41 +193,63 @@ public class EventAdminServiceImpl implements EventAdminService {
 
     private void notifyCancellation(Event event, List<Registration> recipients) {
         try {
-            recipients.forEach(reg -> {
-                if (reg.getUser() == null) {
-                    return;
-                }
-                String language = reg.getUser().getPreferredLanguage() != null
-                        ? reg.getUser().getPreferredLanguage()
-                        : "en";
-                // Email
-                try {
-                    sendGridEmailService.sendCancellationOrUpdate(
-                            reg.getUser().getEmail(),
-                            reg.getUser().getName(),
-                            event.getTitle(),
-                            "Event Cancelled",
-                            language);
-                } catch (Exception e) {
-                    logger.error("Failed email for reg {}: {}", reg.getId(), e.getMessage());
-                }
-
-                // App Notification
-                try {
-                    notificationService.createNotification(
-                            reg.getUser().getId(),
-                            event.getId(),
-                            "CANCELLATION", // NotificationType name
-                            language);
-                } catch (Exception e) {
-                    logger.error("Failed notification for reg {}: {}", reg.getId(), e.getMessage());
-                }
-            });
+            List<Registration> registrations = recipients.stream()
+                    .filter(reg -> reg.getUser() != null)
+                    .toList();
+            sendUpdateEmails(event, registrations, "Event Cancelled");
+            createAppNotifications(event, registrations, NotificationType.CANCELLATION);
         } catch (Exception ex) {
             logger.error("Failed to notify cancellation for event {}", event.getId(), ex);
         }
     }
 
+    /**
+     * Hands every recipient to the email pipeline in one call; delivery happens
+     * in the background so the admin's request does not wait on SendGrid.
+     */
+    private void sendUpdateEmails(Event event, List<Registration> registrations, String details) {
+        if (registrations.isEmpty()) {
+            return;
+        }
+        List<EmailRecipient> recipients = registrations.stream()
+                .map(reg -> new EmailRecipient(reg.getUser().getEmail(), reg.getUser().getName(),
+                        preferredLanguage(reg)))
+                .toList();
+        try {
+            sendGridEmailService.sendCancellationOrUpdateBulk(recipients, event, details)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null || !result.success()) {
+                            logger.error("Failed update emails for event {}: {}", event.getId(),
+                                    ex != null ? ex.getMessage() : result.errorMessage());
+                        }
+                    });
+        } catch (Exception e) {
+            logger.error("Failed update emails for event {}: {}", event.getId(), e.getMessage());
+        }
+    }
+
+    private void createAppNotifications(Event event, List<Registration> registrations, NotificationType type) {
+        if (registrations.isEmpty()) {
+            return;
+        }
+        // Notify each user once even if they hold more than one registration.
+        List<Long> userIds = registrations.stream()
+                .map(reg -> reg.getUser().getId())
+                .distinct()
+                .toList();
+        try {
+            notificationService.createNotificationsBulk(event.getId(), type, userIds);
+        } catch (Exception e) {
+            logger.error("Failed {} notifications for event {}: {}", type, event.getId(), e.getMessage());
+        }
+    }
+
+    private String preferredLanguage(Registration registration) {
+        return registration.getUser().getPreferredLanguage() != null
+                ? registration.getUser().getPreferredLanguage()
+                : "en";
+    }
+
     private EventStatus determineStatus(Integer maxCapacity, Integer currentRegistrations) {
         int current = currentRegistrations != null ? currentRegistrations : 0;
         if (maxCapacity == null) {
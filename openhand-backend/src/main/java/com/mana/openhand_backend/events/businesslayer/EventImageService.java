@@ -55,8 +55,7 @@ public class EventImageService {
     public ImageUrlResponse getEventImage(Long eventId, String baseUrl) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new NoSuchElementException("Event not found with id: " + eventId));
-        String resolvedUrl = fileStorageService.toPublicUrl(baseUrl, event.getImageUrl());
-        return new ImageUrlResponse(resolvedUrl);
+        return toResponse(event.getImageUrl(), baseUrl);
     }
 
     public ImageUrlResponse storeEventImage(Long eventId, MultipartFile file, String baseUrl) {
@@ -68,7 +67,7 @@ public class EventImageService {
         String previousUrl = event.getImageUrl();
         String filenameBase = "event-" + eventId;
 
-        String filename = fileStorageService.storeFile(file, uploadDir, filenameBase);
+        String filename = fileStorageService.storeImage(file, uploadDir, filenameBase);
         try {
             String relativeUrl = PUBLIC_URL_PREFIX + filename;
 
@@ -79,18 +78,26 @@ public class EventImageService {
                 deletePreviousFile(previousUrl);
             }
 
-            return new ImageUrlResponse(fileStorageService.toPublicUrl(baseUrl, relativeUrl));
+            return toResponse(relativeUrl, baseUrl);
         } catch (RuntimeException ex) {
             logger.error("Failed to store image for event {}: {}", eventId, ex.getMessage());
             // Cleanup orphaned file
-            fileStorageService.deleteFile(uploadDir.resolve(filename).normalize());
+            fileStorageService.deleteImage(uploadDir.resolve(filename).normalize());
             throw ex;
         }
     }
 
+    private ImageUrlResponse toResponse(String relativeUrl, String baseUrl) {
+        Path storedFile = relativeUrl != null && relativeUrl.startsWith(PUBLIC_URL_PREFIX)
+                ? uploadDir.resolve(relativeUrl.replace(PUBLIC_URL_PREFIX, "")).normalize()
+                : null;
+        return new ImageUrlResponse(fileStorageService.toPublicUrl(baseUrl, relativeUrl),
+                fileStorageService.toPublicVariantUrls(baseUrl, relativeUrl, storedFile));
+    }
+
     private void deletePreviousFile(String previousUrl) {
         String filename = previousUrl.replace(PUBLIC_URL_PREFIX, "");
         Path previousPath = uploadDir.resolve(filename).normalize();
-        fileStorageService.deleteFile(previousPath);
+        fileStorageService.deleteImage(previousPath);
     }
 }
@@ -1,6 +1,9 @@
 package com.mana.openhand_backend.events.dataaccesslayer;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,4 +27,21 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             LocalDateTime dateTime,
             EventStatus status
     );
+
+    /**
+     * Returns events that start before the end of the window and either start or
+     * end inside it, so multi-day events already underway are still included.
+     * Returns a plain list so no extra count query is issued for the page.
+     */
+    @Query("""
+            SELECT e FROM Event e
+            WHERE e.startDateTime <= :windowEnd
+              AND (e.startDateTime >= :windowStart
+                   OR (e.endDateTime IS NOT NULL AND e.endDateTime >= :windowStart))
+            """)
+    List<Event> findInWindow(
+            @Param("windowStart") LocalDateTime windowStart,
+            @Param("windowEnd") LocalDateTime windowEnd,
+            Pageable pageable
+    );
 }
@@ -6,17 +6,14 @@ import com.mana.openhand_backend.events.domainclientlayer.EventAttendeesResponse
 import com.mana.openhand_backend.events.domainclientlayer.EventResponseModel;
 import com.mana.openhand_backend.events.domainclientlayer.RegistrationSummaryResponseModel;
 import com.mana.openhand_backend.events.utils.EventResponseMapper;
-import com.mana.openhand_backend.identity.dataaccesslayer.User;
-import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.registrations.businesslayer.RegistrationService;
 import com.mana.openhand_backend.registrations.domainclientlayer.GroupRegistrationRequestModel;
 import com.mana.openhand_backend.registrations.domainclientlayer.GroupRegistrationResponseModel;
 import com.mana.openhand_backend.events.domainclientlayer.EventAnalyticsResponseModel;
 import com.mana.openhand_backend.events.businesslayer.EventAnalyticsService;
+import com.mana.openhand_backend.security.CurrentUserId;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -29,16 +26,13 @@ public class EventController {
 
     private final EventService eventService;
     private final RegistrationService registrationService;
-    private final UserRepository userRepository;
     private final EventAnalyticsService eventAnalyticsService;
 
     public EventController(EventService eventService,
             RegistrationService registrationService,
-            UserRepository userRepository,
             EventAnalyticsService eventAnalyticsService) {
         this.eventService = eventService;
         this.registrationService = registrationService;
-        this.userRepository = userRepository;
         this.eventAnalyticsService = eventAnalyticsService;
     }
 
@@ -79,19 +73,11 @@ public class EventController {
     public GroupRegistrationResponseModel registerWithFamily(
             @PathVariable Long id,
             @RequestBody GroupRegistrationRequestModel request,
-            Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        Long userId = extractUserIdFromEmail(userDetails.getUsername());
+            @CurrentUserId Long userId) {
         validateFamilyMembers(request.getFamilyMembers());
         return registrationService.registerForEventWithFamily(userId, id, request.getFamilyMembers());
     }
 
-    private Long extractUserIdFromEmail(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
-        return user.getId();
-    }
-
     private void validateFamilyMembers(
             List<com.mana.openhand_backend.registrations.domainclientlayer.FamilyMemberRequestModel> familyMembers) {
         if (familyMembers == null) {
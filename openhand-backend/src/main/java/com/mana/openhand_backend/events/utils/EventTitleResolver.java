@@ -17,6 +17,7 @@ import java.util.regex.Pattern;
 public class EventTitleResolver {
 
     private static final Map<String, Map<String, String>> TITLE_TRANSLATIONS = new HashMap<>();
+    private static final Pattern WORD_START = Pattern.compile("\\b([a-z])");
 
     static {
         // Initialize English translations
@@ -63,7 +64,8 @@ public class EventTitleResolver {
         Map<String, String> langTitles = TITLE_TRANSLATIONS.getOrDefault(language, TITLE_TRANSLATIONS.get("en"));
 
         // Return the translated title, or humanize the key as fallback
-        return langTitles.getOrDefault(titleKey, humanizeKey(titleKey));
+        String translated = langTitles.get(titleKey);
+        return translated != null ? translated : humanizeKey(titleKey);
     }
 
     /**
@@ -90,8 +92,7 @@ public class EventTitleResolver {
         }
         // Replace underscores with spaces and capitalize each word
         String spaced = key.replace('_', ' ');
-        Pattern pattern = Pattern.compile("\\b([a-z])");
-        Matcher matcher = pattern.matcher(spaced);
+        Matcher matcher = WORD_START.matcher(spaced);
         return matcher.replaceAll(m -> m.group(1).toUpperCase());
     }
 }
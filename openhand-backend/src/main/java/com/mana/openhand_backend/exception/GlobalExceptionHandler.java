@@ -2,7 +2,9 @@ package com.mana.openhand_backend.exception;
 
 import com.mana.openhand_backend.identity.presentationlayer.payload.MessageResponse;
 import com.mana.openhand_backend.security.services.InvalidRefreshTokenException;
+import com.mana.openhand_backend.security.services.PasswordHashingBusyException;
 import com.mana.openhand_backend.security.services.TokenExpiredException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -49,7 +51,10 @@ public class GlobalExceptionHandler {
                                 .body(new MessageResponse("Error: " + ex.getMessage()));
         }
 
-        @ExceptionHandler(com.mana.openhand_backend.notifications.utils.InvalidNotificationPreferenceException.class)
+        @ExceptionHandler({
+                        com.mana.openhand_backend.notifications.utils.InvalidNotificationPreferenceException.class,
+                        com.mana.openhand_backend.notifications.utils.InvalidNotificationCursorException.class
+        })
         public ResponseEntity<MessageResponse> handleBadRequestException(RuntimeException ex) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                                 .body(new MessageResponse("Error: " + ex.getMessage()));
@@ -61,12 +66,34 @@ public class GlobalExceptionHandler {
                                 .body(new MessageResponse("Error: " + ex.getMessage()));
         }
 
+        @ExceptionHandler(PasswordHashingBusyException.class)
+        public ResponseEntity<MessageResponse> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                                .body(new MessageResponse("Error: " + ex.getMessage()));
+        }
+
+        // No body: the stream endpoint only produces text/event-stream.
+        @ExceptionHandler(com.mana.openhand_backend.notifications.utils.NotificationStreamLimitException.class)
+        public ResponseEntity<Void> handleNotificationStreamLimit(
+                        com.mana.openhand_backend.notifications.utils.NotificationStreamLimitException ex) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                                .build();
+        }
+
         @ExceptionHandler(com.mana.openhand_backend.attendance.utils.AttendanceCheckInNotAllowedException.class)
         public ResponseEntity<MessageResponse> handleAttendanceCheckInNotAllowed(RuntimeException ex) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                                 .body(new MessageResponse("Error: " + ex.getMessage()));
         }
 
+        @ExceptionHandler(com.mana.openhand_backend.attendance.utils.InvalidCheckInTokenException.class)
+        public ResponseEntity<MessageResponse> handleInvalidCheckInToken(RuntimeException ex) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                                .body(new MessageResponse("Error: " + ex.getMessage()));
+        }
+
         @ExceptionHandler(com.mana.openhand_backend.attendance.utils.AttendanceRegistrationNotFoundException.class)
         public ResponseEntity<MessageResponse> handleAttendanceRegistrationNotFound(RuntimeException ex) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
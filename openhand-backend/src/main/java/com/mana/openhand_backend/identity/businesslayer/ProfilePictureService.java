@@ -18,6 +18,8 @@ import java.nio.file.Paths;
 public class ProfilePictureService {
     private static final Logger logger = LoggerFactory.getLogger(ProfilePictureService.class);
 
+    private static final String PUBLIC_URL_PREFIX = "/uploads/profile-pictures/";
+
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final Path uploadDir;
@@ -36,8 +38,7 @@ public class ProfilePictureService {
     public ImageUrlResponse getProfilePicture(Long userId, String baseUrl) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
-        String resolvedUrl = fileStorageService.toPublicUrl(baseUrl, user.getProfilePictureUrl());
-        return new ImageUrlResponse(resolvedUrl);
+        return toResponse(user.getProfilePictureUrl(), baseUrl);
     }
 
     public ImageUrlResponse storeProfilePicture(Long userId, MultipartFile file, String baseUrl) {
@@ -49,22 +50,22 @@ public class ProfilePictureService {
         String previousUrl = user.getProfilePictureUrl();
         String filenameBase = "user-" + userId;
 
-        String filename = fileStorageService.storeFile(file, uploadDir, filenameBase);
+        String filename = fileStorageService.storeImage(file, uploadDir, filenameBase);
         try {
-            String relativeUrl = "/uploads/profile-pictures/" + filename;
+            String relativeUrl = PUBLIC_URL_PREFIX + filename;
 
             user.setProfilePictureUrl(relativeUrl);
             userRepository.save(user);
 
-            if (previousUrl != null && previousUrl.startsWith("/uploads/profile-pictures/")) {
+            if (previousUrl != null && previousUrl.startsWith(PUBLIC_URL_PREFIX)) {
                 deletePreviousFile(previousUrl);
             }
 
-            return new ImageUrlResponse(fileStorageService.toPublicUrl(baseUrl, relativeUrl));
+            return toResponse(relativeUrl, baseUrl);
         } catch (RuntimeException ex) {
             logger.error("Failed to store profile picture for user {}: {}", userId, ex.getMessage());
             // Cleanup orphaned file
-            fileStorageService.deleteFile(uploadDir.resolve(filename).normalize());
+            fileStorageService.deleteImage(uploadDir.resolve(filename).normalize());
             throw ex;
         }
     }
@@ -73,9 +74,17 @@ public class ProfilePictureService {
         return fileStorageService.toPublicUrl(baseUrl, relativePath);
     }
 
+    private ImageUrlResponse toResponse(String relativeUrl, String baseUrl) {
+        Path storedFile = relativeUrl != null && relativeUrl.startsWith(PUBLIC_URL_PREFIX)
+                ? uploadDir.resolve(relativeUrl.replace(PUBLIC_URL_PREFIX, "")).normalize()
+                : null;
+        return new ImageUrlResponse(fileStorageService.toPublicUrl(baseUrl, relativeUrl),
+                fileStorageService.toPublicVariantUrls(baseUrl, relativeUrl, storedFile));
+    }
+
     private void deletePreviousFile(String previousUrl) {
-        String filename = previousUrl.replace("/uploads/profile-pictures/", "");
+        String filename = previousUrl.replace(PUBLIC_URL_PREFIX, "");
         Path previousPath = uploadDir.resolve(filename).normalize();
-        fileStorageService.deleteFile(previousPath);
+        fileStorageService.deleteImage(previousPath);
     }
 }
@@ -8,6 +8,7 @@ import com.mana.openhand_backend.identity.presentationlayer.payload.UpdateUserPr
 import com.mana.openhand_backend.identity.utils.InvalidRoleException;
 import com.mana.openhand_backend.identity.utils.RoleUtils;
 import com.mana.openhand_backend.identity.utils.UserNotFoundException;
+import com.mana.openhand_backend.security.services.AccountRevocationService;
 import com.mana.openhand_backend.security.services.RefreshTokenService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,15 +30,18 @@ public class UserAdminServiceImpl implements UserAdminService {
     private final HttpServletRequest request;
     private final RefreshTokenService refreshTokenService;
     private final com.mana.openhand_backend.registrations.businesslayer.RegistrationService registrationService;
+    private final AccountRevocationService accountRevocationService;
 
     public UserAdminServiceImpl(UserRepository userRepository, AuditLogService auditLogService,
             HttpServletRequest request, RefreshTokenService refreshTokenService,
-            com.mana.openhand_backend.registrations.businesslayer.RegistrationService registrationService) {
+            com.mana.openhand_backend.registrations.businesslayer.RegistrationService registrationService,
+            AccountRevocationService accountRevocationService) {
         this.userRepository = userRepository;
         this.auditLogService = auditLogService;
         this.request = request;
         this.refreshTokenService = refreshTokenService;
         this.registrationService = registrationService;
+        this.accountRevocationService = accountRevocationService;
     }
 
     @Override
@@ -61,6 +65,7 @@ public class UserAdminServiceImpl implements UserAdminService {
         String newRolesStr = String.join(",", normalizedRoles);
 
         user.setRoles(normalizedRoles);
+        accountRevocationService.invalidateIssuedTokens(user);
         User updatedUser = userRepository.save(user);
 
         // Audit Log
@@ -97,6 +102,9 @@ public class UserAdminServiceImpl implements UserAdminService {
                     .ifPresent(existing -> {
                         throw new IllegalArgumentException("Email is already in use");
                     });
+            if (!trimmedEmail.equals(user.getEmail())) {
+                accountRevocationService.invalidateIssuedTokens(user);
+            }
             user.setEmail(trimmedEmail);
         }
 
@@ -145,6 +153,7 @@ public class UserAdminServiceImpl implements UserAdminService {
 
         if (user.getMemberStatus() == status) {
             if (status == MemberStatus.INACTIVE) {
+                accountRevocationService.revoke(userId);
                 refreshTokenService.deleteByUserId(userId);
                 registrationService.cancelRegistrationsForUser(userId,
                         "Registration cancelled due to account deactivation.");
@@ -156,9 +165,12 @@ public class UserAdminServiceImpl implements UserAdminService {
         user.setStatusChangedAt(LocalDateTime.now());
 
         if (status == MemberStatus.INACTIVE) {
+            accountRevocationService.revoke(userId);
             refreshTokenService.deleteByUserId(userId);
             registrationService.cancelRegistrationsForUser(userId,
                     "Registration cancelled due to account deactivation.");
+        } else {
+            accountRevocationService.restore(userId);
         }
 
         return userRepository.save(user);
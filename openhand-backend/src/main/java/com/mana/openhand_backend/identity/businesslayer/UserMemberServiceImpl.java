@@ -9,6 +9,7 @@ import com.mana.openhand_backend.identity.dataaccesslayer.MemberStatus;
 import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.identity.utils.UserNotFoundException;
+import com.mana.openhand_backend.security.services.AccountRevocationService;
 import com.mana.openhand_backend.security.services.RefreshTokenService;
 
 @Service
@@ -17,13 +18,16 @@ public class UserMemberServiceImpl implements UserMemberService {
     private final UserRepository userRepository;
     private final RefreshTokenService refreshTokenService;
     private final com.mana.openhand_backend.registrations.businesslayer.RegistrationService registrationService;
+    private final AccountRevocationService accountRevocationService;
 
     public UserMemberServiceImpl(UserRepository userRepository,
             RefreshTokenService refreshTokenService,
-            com.mana.openhand_backend.registrations.businesslayer.RegistrationService registrationService) {
+            com.mana.openhand_backend.registrations.businesslayer.RegistrationService registrationService,
+            AccountRevocationService accountRevocationService) {
         this.userRepository = userRepository;
         this.refreshTokenService = refreshTokenService;
         this.registrationService = registrationService;
+        this.accountRevocationService = accountRevocationService;
     }
 
     @Override
@@ -75,6 +79,7 @@ public class UserMemberServiceImpl implements UserMemberService {
         User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
 
         if (user.getMemberStatus() == MemberStatus.INACTIVE) {
+            accountRevocationService.revoke(userId);
             refreshTokenService.deleteByUserId(userId);
             registrationService.cancelRegistrationsForUser(userId,
                     "Registration cancelled due to account deactivation.");
@@ -85,6 +90,7 @@ public class UserMemberServiceImpl implements UserMemberService {
         user.setStatusChangedAt(LocalDateTime.now());
 
         // Revoke all refresh tokens to ensure any active sessions are closed.
+        accountRevocationService.revoke(userId);
         refreshTokenService.deleteByUserId(userId);
         registrationService.cancelRegistrationsForUser(userId,
                 "Registration cancelled due to account deactivation.");
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity(name = "refreshtoken")
+@Table(name = "refreshtoken", indexes = {
+        @Index(name = "ux_refreshtoken_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refreshtoken_expiry_date", columnList = "expiryDate")
+})
 public class RefreshToken {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -13,7 +17,12 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", referencedColumnName = "id")
     private User user;
 
-    @Column(nullable = false, unique = true)
+    // SHA-256 of the token handed to the client; the raw value is never stored.
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    // Raw token, only known right after it was issued or presented by the client.
+    @Transient
     private String token;
 
     @Column(nullable = false)
@@ -41,6 +50,14 @@ public class RefreshToken {
         this.user = user;
     }
 
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
     public String getToken() {
         return token;
     }
@@ -2,13 +2,38 @@ package com.mana.openhand_backend.identity.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
+
+    @Query("SELECT t FROM refreshtoken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Replaces the token hash in place. Matching on the current hash makes the
+     * update a compare-and-set: when two requests rotate the same token, only
+     * one of them updates a row.
+     */
+    @Modifying
+    @Query("""
+            UPDATE refreshtoken t
+               SET t.tokenHash = :newHash, t.expiryDate = :expiryDate
+             WHERE t.id = :id AND t.tokenHash = :currentHash
+            """)
+    int rotate(@Param("id") Long id,
+               @Param("currentHash") String currentHash,
+               @Param("newHash") String newHash,
+               @Param("expiryDate") Instant expiryDate);
+
+    @Modifying
+    @Query("DELETE FROM refreshtoken t WHERE t.expiryDate < :now")
+    int deleteExpired(@Param("now") Instant now);
 
     @Modifying
     int deleteByUser(User user);
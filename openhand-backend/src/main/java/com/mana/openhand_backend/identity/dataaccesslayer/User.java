@@ -1,6 +1,7 @@
 package com.mana.openhand_backend.identity.dataaccesslayer;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -43,6 +44,10 @@ public class User {
 
     private LocalDateTime statusChangedAt;
 
+    // Access tokens issued before this instant are rejected, e.g. after a role or email change.
+    @Column(name = "tokens_valid_after")
+    private Instant tokensValidAfter;
+
     public User() {
     }
 
@@ -183,4 +188,12 @@ public class User {
     public void setBiometricsEnabled(boolean biometricsEnabled) {
         this.biometricsEnabled = biometricsEnabled;
     }
+
+    public Instant getTokensValidAfter() {
+        return tokensValidAfter;
+    }
+
+    public void setTokensValidAfter(Instant tokensValidAfter) {
+        this.tokensValidAfter = tokensValidAfter;
+    }
 }
@@ -1,12 +1,23 @@
 package com.mana.openhand_backend.identity.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    interface TokensValidAfterProjection {
+        Long getId();
+
+        Instant getTokensValidAfter();
+    }
+
     Optional<User> findByEmail(String email);
 
     Boolean existsByEmail(String email);
@@ -16,4 +27,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByPhoneNumber(String phoneNumber);
 
     java.util.List<User> findByRolesContaining(String role);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT u.id FROM User u JOIN u.roles r WHERE r = :role")
+    List<Long> findIdsByRole(@Param("role") String role);
+
+    @Query("SELECT u.id FROM User u WHERE u.memberStatus = :inactiveStatus OR u.accountNonLocked = false")
+    List<Long> findRevokedUserIds(@Param("inactiveStatus") MemberStatus inactiveStatus);
+
+    @Query("SELECT u.id AS id, u.tokensValidAfter AS tokensValidAfter FROM User u "
+            + "WHERE u.tokensValidAfter > :cutoff")
+    List<TokensValidAfterProjection> findTokensValidAfter(@Param("cutoff") Instant cutoff);
+}
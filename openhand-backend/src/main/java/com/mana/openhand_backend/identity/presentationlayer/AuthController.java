@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.mana.openhand_backend.security.jwt.JwtUtils;
 import com.mana.openhand_backend.security.services.InvalidRefreshTokenException;
+import com.mana.openhand_backend.security.services.PasswordHashingBusyException;
 import com.mana.openhand_backend.security.services.RefreshTokenService;
 import com.mana.openhand_backend.security.services.UserDetailsImpl;
 import com.mana.openhand_backend.security.services.UserDetailsServiceImpl;
@@ -101,6 +102,9 @@ public class AuthController {
                                                                                                        // correct-ish
                                                                                                        // length
                     encoder.matches(loginRequest.getPassword(), dummyHash);
+                } catch (PasswordHashingBusyException busy) {
+                    // Shed load the same way as for known users
+                    throw busy;
                 } catch (Exception ignored) {
                     // Ignore the result, always return the same error
                 }
@@ -174,17 +178,19 @@ public class AuthController {
     public ResponseEntity<?> refreshtoken(@Valid @RequestBody TokenRefreshRequest request,
             HttpServletRequest httpRequest) {
         String requestRefreshToken = request.getRefreshToken();
-
-        return refreshTokenService.findByToken(requestRefreshToken)
-                .map(refreshTokenService::verifyExpiration)
-                .map(token -> {
-                    refreshTokenService.verifyUserAgent(token, httpRequest.getHeader("User-Agent"));
-                    return token;
-                })
-                .map(token -> {
-                    // Rotate Token
-                    RefreshToken newToken = refreshTokenService.rotateRefreshToken(token);
-
+        String userAgent = httpRequest.getHeader("User-Agent");
+
+        // Parallel refreshes with a just-rotated token get the same rotated token back.
+        return refreshTokenService.findRecentlyRotated(requestRefreshToken, userAgent)
+                .or(() -> refreshTokenService.findByToken(requestRefreshToken)
+                        .map(refreshTokenService::verifyExpiration)
+                        .map(token -> {
+                            refreshTokenService.verifyUserAgent(token, userAgent);
+                            return token;
+                        })
+                        // Rotate Token
+                        .map(refreshTokenService::rotateRefreshToken))
+                .map(newToken -> {
                     // Generate new JWT
                     // We need to rebuild the Authentication object or just generate token from user
                     // details
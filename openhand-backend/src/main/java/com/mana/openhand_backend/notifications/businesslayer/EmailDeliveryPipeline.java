@@ -0,0 +1,193 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sends SendGrid API requests with a shared request rate limit and retries.
+ * Throttled (429) and server error (5xx) responses, as well as I/O failures,
+ * are retried with exponential backoff and full jitter, honouring
+ * {@code Retry-After} when SendGrid sends one. No wait exceeds the maximum
+ * backoff: a longer {@code Retry-After} ends the retries, since {@link #send}
+ * may run on a request thread. Asynchronous sends run on a bounded worker
+ * pool; when its queue is full the caller sends the request itself, so bulk
+ * mail slows the sender down instead of being dropped.
+ */
+@Component
+public class EmailDeliveryPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailDeliveryPipeline.class);
+
+    private final SendGrid sendGrid;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long permitIntervalNanos;
+    private final ThreadPoolExecutor executor;
+
+    // Reservations for the next request slot; a lock so waiting never pins a virtual thread.
+    private final ReentrantLock rateLock = new ReentrantLock();
+    private long nextPermitAt = System.nanoTime();
+
+    public EmailDeliveryPipeline(SendGrid sendGrid,
+            @Value("${openhand.app.email.workers:4}") int workers,
+            @Value("${openhand.app.email.queueCapacity:500}") int queueCapacity,
+            @Value("${openhand.app.email.requestsPerSecond:10}") double requestsPerSecond,
+            @Value("${openhand.app.email.maxAttempts:4}") int maxAttempts,
+            @Value("${openhand.app.email.initialBackoffMs:500}") long initialBackoffMs,
+            @Value("${openhand.app.email.maxBackoffMs:10000}") long maxBackoffMs) {
+        this.sendGrid = sendGrid;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.permitIntervalNanos = requestsPerSecond > 0 ? (long) (1_000_000_000L / requestsPerSecond) : 0L;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "email-delivery-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Sends the request on the calling thread, retrying as needed. Returns the
+     * last response received, or throws the last I/O failure.
+     */
+    public Response send(Request request) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            acquirePermit();
+            Response response = null;
+            IOException failure = null;
+            try {
+                response = sendGrid.api(request);
+            } catch (IOException ex) {
+                failure = ex;
+            }
+
+            boolean retryable = failure != null || isRetryable(response.getStatusCode());
+            if (!retryable || attempt >= maxAttempts) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+            long retryAfterMs = retryAfterMs(response);
+            if (retryAfterMs > maxBackoffMs) {
+                logger.warn("SendGrid request to {} was throttled (attempt {}/{}); Retry-After of {} ms exceeds "
+                        + "the {} ms backoff limit, giving up", request.getEndpoint(), attempt, maxAttempts,
+                        retryAfterMs, maxBackoffMs);
+                return response;
+            }
+            long delayMs = backoffMs(attempt, retryAfterMs);
+            logger.warn("SendGrid request to {} failed (attempt {}/{}: {}); retrying in {} ms",
+                    request.getEndpoint(), attempt, maxAttempts,
+                    failure != null ? failure.getMessage() : "status " + response.getStatusCode(),
+                    delayMs);
+            if (!sleep(delayMs)) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+        }
+    }
+
+    /** Queues the request on the delivery pool. */
+    public CompletableFuture<Response> sendAsync(Request request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return send(request);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Email delivery pool did not drain in time; {} requests dropped",
+                    executor.shutdownNow().size());
+        }
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    private long backoffMs(int attempt, long retryAfterMs) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        long delay = ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0L;
+        return Math.min(maxBackoffMs, Math.max(delay, retryAfterMs));
+    }
+
+    private static long retryAfterMs(Response response) {
+        if (response == null || response.getHeaders() == null) {
+            return 0L;
+        }
+        for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+            if ("Retry-After".equalsIgnoreCase(header.getKey())) {
+                try {
+                    return TimeUnit.SECONDS.toMillis(Long.parseLong(header.getValue().trim()));
+                } catch (NumberFormatException ignored) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private void acquirePermit() {
+        if (permitIntervalNanos == 0) {
+            return;
+        }
+        long waitNanos;
+        rateLock.lock();
+        try {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextPermitAt);
+            nextPermitAt = slot + permitIntervalNanos;
+            waitNanos = slot - now;
+        } finally {
+            rateLock.unlock();
+        }
+        if (waitNanos > 0) {
+            sleep(TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
+import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
+import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.dataaccesslayer.ReminderDeliveryRepository;
+import com.mana.openhand_backend.notifications.domainclientlayer.EmailRecipient;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sends event reminders at configured lead times before each event starts
+ * (24 and 2 hours by default). Each run looks at events starting within the
+ * longest lead time and pages through their confirmed registrations. Each
+ * page claims the most recent due reminder per user in
+ * {@link ReminderDeliveryRepository}, in the same transaction that creates the
+ * notifications, and only claimed users are reminded: the unique key keeps
+ * restarts, overlapping runs and other instances from sending twice, and a
+ * failed page releases its claims. Notifications are created in bulk and
+ * emails are handed to the rate-limited delivery pipeline after the commit.
+ */
+@Service
+public class EventReminderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventReminderService.class);
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final ReminderDeliveryRepository reminderDeliveryRepository;
+    private final NotificationService notificationService;
+    private final SendGridEmailService emailService;
+    private final TransactionTemplate claimTransaction;
+    // Ascending, so the first due lead time is the most recent one.
+    private final List<Duration> leadTimes;
+    private final int pageSize;
+
+    public EventReminderService(EventRepository eventRepository,
+            RegistrationRepository registrationRepository,
+            ReminderDeliveryRepository reminderDeliveryRepository,
+            NotificationService notificationService,
+            SendGridEmailService emailService,
+            PlatformTransactionManager transactionManager,
+            @Value("${openhand.app.reminders.leadTimesMinutes:1440,120}") long[] leadTimesMinutes,
+            @Value("${openhand.app.reminders.pageSize:500}") int pageSize) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.reminderDeliveryRepository = reminderDeliveryRepository;
+        this.notificationService = notificationService;
+        this.emailService = emailService;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.leadTimes = Arrays.stream(leadTimesMinutes)
+                .filter(minutes -> minutes > 0)
+                .sorted()
+                .mapToObj(Duration::ofMinutes)
+                .toList();
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * Sends every reminder that is due and returns how many were created.
+     */
+    @Scheduled(fixedDelayString = "${openhand.app.reminders.intervalMs:300000}",
+            initialDelayString = "${openhand.app.reminders.intervalMs:300000}")
+    public int sendDueReminders() {
+        if (leadTimes.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Duration longest = leadTimes.get(leadTimes.size() - 1);
+        // Claims older than the longest lead time belong to events that have started.
+        reminderDeliveryRepository.deleteDueBefore(now.minus(longest));
+
+        int sent = 0;
+        for (Event event : eventRepository.findByStartDateTimeBetweenOrderByStartDateTimeAsc(now, now.plus(longest))) {
+            if (event.getStatus() == EventStatus.CANCELLED || event.getStatus() == EventStatus.COMPLETED) {
+                continue;
+            }
+            try {
+                sent += remind(event, dueSince(event.getStartDateTime(), now));
+            } catch (Exception ex) {
+                logger.error("Failed to send reminders for event {}", event.getId(), ex);
+            }
+        }
+        if (sent > 0) {
+            logger.info("Sent {} event reminders", sent);
+        }
+        return sent;
+    }
+
+    /** When the most recent reminder for an event starting at {@code start} became due. */
+    private LocalDateTime dueSince(LocalDateTime start, LocalDateTime now) {
+        for (Duration lead : leadTimes) {
+            LocalDateTime due = start.minus(lead);
+            if (!due.isAfter(now)) {
+                return due;
+            }
+        }
+        return start.minus(leadTimes.get(leadTimes.size() - 1));
+    }
+
+    private int remind(Event event, LocalDateTime dueAt) {
+        int created = 0;
+        long afterUserId = 0L;
+        while (true) {
+            List<Long> userIds = registrationRepository.findUserIdsByEventIdAndStatus(
+                    event.getId(), RegistrationStatus.CONFIRMED, afterUserId, PageRequest.of(0, pageSize));
+            if (userIds.isEmpty()) {
+                return created;
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+
+            List<Notification> notifications = claimTransaction.execute(status -> {
+                List<Long> claimed = reminderDeliveryRepository.claim(event.getId(), dueAt, userIds);
+                return claimed.isEmpty() ? List.<Notification>of()
+                        : notificationService.createNotificationsBulk(event.getId(), NotificationType.REMINDER, claimed);
+            });
+            if (notifications != null && !notifications.isEmpty()) {
+                sendEmails(event, notifications);
+                created += notifications.size();
+            }
+
+            if (userIds.size() < pageSize) {
+                return created;
+            }
+        }
+    }
+
+    private void sendEmails(Event event, List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<EmailRecipient> recipients = notifications.stream()
+                .map(notification -> new EmailRecipient(notification.getUser().getEmail(),
+                        notification.getUser().getName(), notification.getLanguage()))
+                .toList();
+        emailService.sendReminderBulk(recipients, event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null || !result.success()) {
+                        logger.error("Failed reminder emails for event {}: {}", event.getId(),
+                                ex != null ? ex.getMessage() : result.errorMessage());
+                    }
+                });
+    }
+}
@@ -4,6 +4,9 @@ import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
 import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPreferenceResponseModel;
 import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPreferenceUpdateRequestModel;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface NotificationPreferenceService {
 
     NotificationPreferenceResponseModel getPreferencesForUser(Long userId);
@@ -11,4 +14,11 @@ public interface NotificationPreferenceService {
     NotificationPreferenceResponseModel updatePreferences(Long userId, NotificationPreferenceUpdateRequestModel request);
 
     boolean isNotificationEnabled(Long userId, NotificationType notificationType);
+
+    /**
+     * Returns the users among {@code userIds} who receive this notification
+     * type, reading all their preferences in one query. Users without a stored
+     * preference get the defaults; nothing is written.
+     */
+    Set<Long> filterEnabled(Collection<Long> userIds, NotificationType notificationType);
 }
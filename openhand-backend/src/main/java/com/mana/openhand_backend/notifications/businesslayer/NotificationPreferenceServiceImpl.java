@@ -1,5 +1,7 @@
 package com.mana.openhand_backend.notifications.businesslayer;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.identity.utils.UserNotFoundException;
@@ -13,21 +15,44 @@ import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPre
 import com.mana.openhand_backend.notifications.utils.InvalidNotificationPreferenceException;
 import com.mana.openhand_backend.notifications.utils.NotificationPreferencePolicy;
 import com.mana.openhand_backend.notifications.utils.NotificationPreferenceResponseMapper;
+import com.mana.openhand_backend.notifications.utils.NotificationPreferenceSnapshot;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves notification preferences. Checks on the notification path read
+ * through a small per-user cache of {@link NotificationPreferenceSnapshot}s and
+ * never write: users without a stored row simply get the defaults, and the row
+ * is only created when the user views or changes their preferences.
+ */
 @Service
 public class NotificationPreferenceServiceImpl implements NotificationPreferenceService {
 
     private final NotificationPreferenceRepository preferenceRepository;
     private final UserRepository userRepository;
+    private final Cache<Long, NotificationPreferenceSnapshot> snapshots;
 
     public NotificationPreferenceServiceImpl(NotificationPreferenceRepository preferenceRepository,
-                                             UserRepository userRepository) {
+                                             UserRepository userRepository,
+                                             @Value("${openhand.app.notifications.preferenceCacheMaxSize:10000}") long cacheMaxSize,
+                                             @Value("${openhand.app.notifications.preferenceCacheTtlMs:300000}") long cacheTtlMs) {
         this.preferenceRepository = preferenceRepository;
         this.userRepository = userRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                .build();
     }
 
     @Override
@@ -48,19 +73,70 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
 
         enforceCriticalCategories(preference);
         NotificationPreference saved = preferenceRepository.save(preference);
+        invalidate(userId);
         return NotificationPreferenceResponseMapper.toResponseModel(userId, saved);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public boolean isNotificationEnabled(Long userId, NotificationType notificationType) {
         NotificationPreferenceCategory category = NotificationPreferencePolicy.toCategory(notificationType);
         if (NotificationPreferencePolicy.isCritical(category)) {
             return true;
         }
 
-        NotificationPreference preference = getOrCreatePreferences(userId);
-        return NotificationPreferencePolicy.isEnabled(preference, category);
+        return snapshots.get(userId, this::loadSnapshot).isEnabled(category);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> filterEnabled(Collection<Long> userIds, NotificationType notificationType) {
+        Set<Long> enabled = new HashSet<>(userIds);
+        NotificationPreferenceCategory category = NotificationPreferencePolicy.toCategory(notificationType);
+        if (enabled.isEmpty() || NotificationPreferencePolicy.isCritical(category)) {
+            return enabled;
+        }
+
+        snapshots.getAll(enabled, this::loadSnapshots).forEach((userId, snapshot) -> {
+            if (!snapshot.isEnabled(category)) {
+                enabled.remove(userId);
+            }
+        });
+        return enabled;
+    }
+
+    private NotificationPreferenceSnapshot loadSnapshot(Long userId) {
+        return preferenceRepository.findByUserId(userId)
+                .map(NotificationPreferenceSnapshot::of)
+                .orElse(NotificationPreferenceSnapshot.DEFAULTS);
+    }
+
+    private Map<Long, NotificationPreferenceSnapshot> loadSnapshots(Set<? extends Long> userIds) {
+        Map<Long, NotificationPreferenceSnapshot> loaded = new HashMap<>();
+        for (Long userId : userIds) {
+            loaded.put(userId, NotificationPreferenceSnapshot.DEFAULTS);
+        }
+        for (NotificationPreference preference : preferenceRepository.findByUserIdIn(Set.copyOf(userIds))) {
+            loaded.put(preference.getUser().getId(), NotificationPreferenceSnapshot.of(preference));
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the cached snapshot now and again once the transaction completes,
+     * so a read racing the update, or one made before a rollback, cannot leave
+     * a stale entry behind.
+     */
+    private void invalidate(Long userId) {
+        snapshots.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    snapshots.invalidate(userId);
+                }
+            });
+        }
     }
 
     private NotificationPreference getOrCreatePreferences(Long userId) {
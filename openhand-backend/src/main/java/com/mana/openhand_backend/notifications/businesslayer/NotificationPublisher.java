@@ -0,0 +1,131 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationEventResponseModel;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationResponseModel;
+import com.mana.openhand_backend.notifications.utils.NotificationResponseMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * Delivers committed notification changes to connected clients, over STOMP
+ * user destinations and over the Server-Sent Events streams, so both
+ * transports see the same events in the same order. Older app builds still
+ * listen on the legacy {@code /topic/notifications/{userId}} topic, so while a
+ * session of the user subscribes to it, new notifications are sent there too,
+ * and a read-all reaches it as the notifications it marked read, the only
+ * payload those builds understand.
+ */
+@Component
+public class NotificationPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPublisher.class);
+    // User destinations: clients subscribe to /user/queue/... and each message
+    // is routed to the sessions of the user it is addressed to.
+    static final String NOTIFICATIONS_QUEUE = "/queue/notifications";
+    static final String NOTIFICATION_EVENTS_QUEUE = "/queue/notification-events";
+    static final String LEGACY_NOTIFICATIONS_TOPIC = "/topic/notifications/";
+    // Legacy clients only hold the first feed page, so older rows need no update.
+    static final int LEGACY_READ_ALL_LIMIT = 50;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final NotificationRepository notificationRepository;
+    private final NotificationStreamService streamService;
+    private final UnreadNotificationCounter unreadCounter;
+
+    public NotificationPublisher(SimpMessagingTemplate messagingTemplate,
+            SimpUserRegistry userRegistry,
+            NotificationRepository notificationRepository,
+            NotificationStreamService streamService,
+            UnreadNotificationCounter unreadCounter) {
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.notificationRepository = notificationRepository;
+        this.streamService = streamService;
+        this.unreadCounter = unreadCounter;
+    }
+
+    public void publishNotification(Notification notification) {
+        Long userId = notification.getUser().getId();
+        NotificationResponseModel response = NotificationResponseMapper.toResponseModel(notification);
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), NOTIFICATIONS_QUEUE, response);
+        } catch (Exception e) {
+            logger.error("Failed to push notification via WebSocket: {}", e.getMessage());
+        }
+        publishLegacy(userId, response);
+
+        if (streamService.hasStream(userId)) {
+            streamService.publish(userId, NotificationStreamService.NOTIFICATION_EVENT, response);
+            publishUnreadCount(userId);
+        }
+    }
+
+    public void publishReadAll(Long userId, LocalDateTime readAt) {
+        NotificationEventResponseModel event = NotificationEventResponseModel.readAll(unreadCounter.get(userId),
+                readAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), NOTIFICATION_EVENTS_QUEUE, event);
+        } catch (Exception e) {
+            logger.error("Failed to push read-all event via WebSocket: {}", e.getMessage());
+        }
+        publishLegacyReadAll(userId, readAt);
+
+        if (streamService.hasStream(userId)) {
+            streamService.publish(userId, NotificationStreamService.NOTIFICATION_CHANGE_EVENT, event);
+            publishUnreadCount(userId);
+        }
+    }
+
+    private void publishLegacy(Long userId, NotificationResponseModel response) {
+        String destination = LEGACY_NOTIFICATIONS_TOPIC + userId;
+        if (!isSubscribed(userId, destination)) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(destination, response);
+        } catch (Exception e) {
+            logger.error("Failed to push notification to legacy topic: {}", e.getMessage());
+        }
+    }
+
+    private void publishLegacyReadAll(Long userId, LocalDateTime readAt) {
+        String destination = LEGACY_NOTIFICATIONS_TOPIC + userId;
+        if (!isSubscribed(userId, destination)) {
+            return;
+        }
+        LocalDateTime from = readAt.truncatedTo(ChronoUnit.MILLIS);
+        try {
+            for (Notification notification : notificationRepository.findMarkedReadBetween(userId, from,
+                    from.plus(1, ChronoUnit.MILLIS), PageRequest.of(0, LEGACY_READ_ALL_LIMIT))) {
+                messagingTemplate.convertAndSend(destination, NotificationResponseMapper.toResponseModel(notification));
+            }
+        } catch (Exception e) {
+            logger.error("Failed to push read-all updates to legacy topic: {}", e.getMessage());
+        }
+    }
+
+    private boolean isSubscribed(Long userId, String destination) {
+        SimpUser user = userRegistry.getUser(String.valueOf(userId));
+        return user != null && user.getSessions().stream()
+                .flatMap(session -> session.getSubscriptions().stream())
+                .anyMatch(subscription -> destination.equals(subscription.getDestination()));
+    }
+
+    private void publishUnreadCount(Long userId) {
+        streamService.publish(userId, NotificationStreamService.UNREAD_COUNT_EVENT,
+                Map.of("count", unreadCounter.get(userId)));
+    }
+}
@@ -0,0 +1,107 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationRetentionReport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the notifications table small. Each run deletes read notifications
+ * older than the maximum age, then trims users with more than the per-user cap
+ * down to their newest notifications. Only read notifications are removed, so
+ * nobody loses something they have not seen and unread counts are unaffected.
+ * Deletes run in batches, each in its own short transaction.
+ */
+@Service
+public class NotificationRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionService.class);
+
+    private final NotificationRepository notificationRepository;
+    private final long readMaxAgeDays;
+    private final int maxPerUser;
+    private final int batchSize;
+    private final Counter expiredCounter;
+    private final Counter compactedCounter;
+
+    public NotificationRetentionService(NotificationRepository notificationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${openhand.app.notifications.retention.readMaxAgeDays:90}") long readMaxAgeDays,
+            @Value("${openhand.app.notifications.retention.maxPerUser:200}") int maxPerUser,
+            @Value("${openhand.app.notifications.retention.batchSize:500}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.readMaxAgeDays = readMaxAgeDays;
+        this.maxPerUser = maxPerUser;
+        this.batchSize = Math.max(1, batchSize);
+        this.expiredCounter = Counter.builder("notifications.retention.removed")
+                .tag("reason", "expired")
+                .register(meterRegistry);
+        this.compactedCounter = Counter.builder("notifications.retention.removed")
+                .tag("reason", "compacted")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${openhand.app.notifications.retention.intervalMs:3600000}",
+            initialDelayString = "${openhand.app.notifications.retention.intervalMs:3600000}")
+    public NotificationRetentionReport runRetention() {
+        long started = System.currentTimeMillis();
+        int expired = deleteInBatches(() -> notificationRepository.findReadIdsCreatedBefore(
+                LocalDateTime.now().minusDays(readMaxAgeDays), PageRequest.of(0, batchSize)));
+        expiredCounter.increment(expired);
+
+        int compacted = 0;
+        int usersCompacted = 0;
+        for (Long userId : notificationRepository.findUserIdsWithMoreThan(maxPerUser)) {
+            int removed = compact(userId);
+            if (removed > 0) {
+                compacted += removed;
+                usersCompacted++;
+            }
+        }
+        compactedCounter.increment(compacted);
+
+        NotificationRetentionReport report = new NotificationRetentionReport(expired, compacted, usersCompacted);
+        if (report.totalRemoved() > 0) {
+            logger.info("Notification retention removed {} expired and {} compacted notifications ({} users) in {} ms",
+                    expired, compacted, usersCompacted, System.currentTimeMillis() - started);
+        }
+        return report;
+    }
+
+    private int compact(Long userId) {
+        // The newest notification beyond the cap; it and everything older are candidates.
+        List<Notification> boundary = notificationRepository.findFeed(userId, PageRequest.of(maxPerUser, 1));
+        if (boundary.isEmpty()) {
+            return 0;
+        }
+        Notification firstBeyondCap = boundary.get(0);
+        return deleteInBatches(() -> notificationRepository.findReadIdsAtOrBefore(
+                userId, firstBeyondCap.getCreatedAt(), firstBeyondCap.getId(), PageRequest.of(0, batchSize)));
+    }
+
+    private int deleteInBatches(Supplier<List<Long>> nextBatch) {
+        int removed = 0;
+        while (true) {
+            List<Long> ids = nextBatch.get();
+            if (ids.isEmpty()) {
+                return removed;
+            }
+            int deleted = notificationRepository.deleteByIdIn(ids);
+            removed += deleted;
+            if (deleted == 0 || ids.size() < batchSize) {
+                return removed;
+            }
+        }
+    }
+}
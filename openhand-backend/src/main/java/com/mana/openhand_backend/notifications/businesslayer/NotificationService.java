@@ -1,6 +1,10 @@
 package com.mana.openhand_backend.notifications.businesslayer;
 
 import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPage;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationService {
@@ -29,9 +33,27 @@ public interface NotificationService {
     Notification createNotification(Long userId, Long eventId, String notificationType, String language, String participantName);
 
     /**
-     * Get all notifications for a user, ordered by newest first
+     * Create the same event notification for many users at once, each in the
+     * user's preferred language. Users, preferences and the event are loaded
+     * with one query each, notifications are inserted in JDBC batches, and
+     * WebSocket pushes go out after the surrounding transaction commits.
+     *
+     * @param eventId the event ID
+     * @param type the type of notification
+     * @param userIds the recipients
+     * @return the created notifications (users who disabled the type are skipped)
+     */
+    List<Notification> createNotificationsBulk(Long eventId, NotificationType type, Collection<Long> userIds);
+
+    /**
+     * Get a page of a user's notifications, ordered by newest first
+     *
+     * @param userId the user ID
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the page size (capped at 100)
+     * @return the page and the cursor of the next one
      */
-    List<Notification> getUserNotifications(Long userId);
+    NotificationPage getUserNotifications(Long userId, String cursor, int limit);
     /**
      * Create a donation notification for a user
      * 
@@ -42,7 +64,8 @@ public interface NotificationService {
     Notification createDonationNotification(Long userId, String language);
 
     /**
-     * Get count of unread notifications for a user
+     * Get count of unread notifications for a user, served from a per-user
+     * counter once loaded
      */
     long getUnreadCount(Long userId);
 
@@ -52,7 +75,8 @@ public interface NotificationService {
     Notification markAsRead(Long notificationId);
 
     /**
-     * Mark all notifications as read for a user
+     * Mark all notifications as read for a user with a single update, then push
+     * one READ_ALL event carrying the new unread count
      */
     void markAllAsRead(Long userId);
 
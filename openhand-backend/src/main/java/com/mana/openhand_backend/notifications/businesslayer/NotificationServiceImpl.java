@@ -8,41 +8,58 @@ import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.identity.utils.UserNotFoundException;
 import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationBatchRepository;
 import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository;
 import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPage;
+import com.mana.openhand_backend.notifications.utils.NotificationCursor;
 import com.mana.openhand_backend.notifications.utils.NotificationTextGenerator;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
-    private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
+    static final int MAX_PAGE_SIZE = 100;
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final UnreadNotificationCounter unreadCounter;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final NotificationTextGenerator textGenerator;
     private final NotificationPreferenceService preferenceService;
-    private final org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate;
+    private final NotificationPublisher publisher;
 
     public NotificationServiceImpl(NotificationRepository notificationRepository,
+            NotificationBatchRepository notificationBatchRepository,
+            UnreadNotificationCounter unreadCounter,
             UserRepository userRepository,
             EventRepository eventRepository,
             NotificationTextGenerator textGenerator,
             NotificationPreferenceService preferenceService,
-            org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate) {
+            NotificationPublisher publisher) {
         this.notificationRepository = notificationRepository;
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.unreadCounter = unreadCounter;
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
         this.textGenerator = textGenerator;
         this.preferenceService = preferenceService;
-        this.messagingTemplate = messagingTemplate;
+        this.publisher = publisher;
     }
 
     @Override
@@ -92,18 +109,44 @@ public class NotificationServiceImpl implements NotificationService {
         // Save and return
         Notification savedNotification = notificationRepository.save(notification);
 
-        // Push to WebSocket
-        try {
-            messagingTemplate.convertAndSend("/topic/notifications/" + userId,
-                    com.mana.openhand_backend.notifications.utils.NotificationResponseMapper
-                            .toResponseModel(savedNotification));
-        } catch (Exception e) {
-            logger.error("Failed to push notification via WebSocket: {}", e.getMessage());
-        }
+        // Push to WebSocket and SSE clients once the notification is committed
+        afterCommit(() -> publisher.publishNotification(savedNotification));
 
         return savedNotification;
     }
 
+    @Override
+    @Transactional
+    public List<Notification> createNotificationsBulk(Long eventId, NotificationType type, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        Set<Long> enabledUserIds = preferenceService.filterEnabled(userIds, type);
+        if (enabledUserIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Text only depends on the language, so render it once per language.
+        Map<String, String> textByLanguage = new HashMap<>();
+        List<Notification> notifications = new ArrayList<>();
+        for (User user : userRepository.findAllById(enabledUserIds)) {
+            String language = user.getPreferredLanguage() != null ? user.getPreferredLanguage() : "en";
+            String textContent = textByLanguage.computeIfAbsent(language, lang -> textGenerator.generateText(
+                    type, EventTitleResolver.resolve(event.getTitle(), lang), lang, event.getStartDateTime()));
+            notifications.add(new Notification(user, event, type, language, textContent, event.getTitle()));
+        }
+
+        notificationBatchRepository.insertAll(notifications);
+        // JDBC inserts bypass the Hibernate events the counter listens to.
+        unreadCounter.adjust(notifications.stream().collect(
+                Collectors.groupingBy(notification -> notification.getUser().getId(), Collectors.counting())));
+        afterCommit(() -> notifications.forEach(publisher::publishNotification));
+        return notifications;
+    }
+
     @Override
     @Transactional
     public Notification createDonationNotification(Long userId, String language) {
@@ -128,27 +171,35 @@ public class NotificationServiceImpl implements NotificationService {
 
         Notification savedNotification = notificationRepository.save(notification);
 
-        try {
-            messagingTemplate.convertAndSend("/topic/notifications/" + userId,
-                    com.mana.openhand_backend.notifications.utils.NotificationResponseMapper
-                            .toResponseModel(savedNotification));
-        } catch (Exception e) {
-            logger.error("Failed to push donation notification via WebSocket: {}", e.getMessage());
-        }
+        afterCommit(() -> publisher.publishNotification(savedNotification));
 
         return savedNotification;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Notification> getUserNotifications(Long userId) {
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    public NotificationPage getUserNotifications(Long userId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Fetch one extra row to learn whether another page follows.
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<Notification> notifications;
+        if (cursor == null || cursor.isBlank()) {
+            notifications = notificationRepository.findFeed(userId, page);
+        } else {
+            NotificationCursor position = NotificationCursor.decode(cursor);
+            notifications = notificationRepository.findFeedBefore(userId, position.createdAt(), position.id(), page);
+        }
+
+        if (notifications.size() <= pageSize) {
+            return new NotificationPage(notifications, null);
+        }
+        List<Notification> pageContent = notifications.subList(0, pageSize);
+        return new NotificationPage(pageContent, NotificationCursor.of(pageContent.get(pageSize - 1)).encode());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadCounter.get(userId);
     }
 
     @Override
@@ -162,14 +213,8 @@ public class NotificationServiceImpl implements NotificationService {
 
         Notification savedNotification = notificationRepository.save(notification);
 
-        // Push update to WebSocket
-        try {
-            messagingTemplate.convertAndSend("/topic/notifications/" + savedNotification.getUser().getId(),
-                    com.mana.openhand_backend.notifications.utils.NotificationResponseMapper
-                            .toResponseModel(savedNotification));
-        } catch (Exception e) {
-            logger.error("Failed to push notification update via WebSocket: {}", e.getMessage());
-        }
+        // Push update to WebSocket and SSE clients once committed
+        afterCommit(() -> publisher.publishNotification(savedNotification));
 
         return savedNotification;
     }
@@ -177,28 +222,31 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     @Transactional
     public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndIsReadFalse(userId);
-        LocalDateTime now = LocalDateTime.now();
-
-        for (Notification notification : unreadNotifications) {
-            notification.setRead(true);
-            notification.setReadAt(now);
+        // Millisecond precision survives every database unchanged, so the publisher can find these rows again.
+        LocalDateTime readAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        if (notificationRepository.markAllAsReadByUserId(userId, readAt) == 0) {
+            return;
         }
 
-        List<Notification> savedNotifications = notificationRepository.saveAll(unreadNotifications);
-
-        // Push updates to WebSocket (or send a bulk update/event if client supports it)
-        // For now, sending individual updates to ensure client consistency
-        savedNotifications.forEach(n -> {
-            try {
-                messagingTemplate.convertAndSend("/topic/notifications/" + userId,
-                        com.mana.openhand_backend.notifications.utils.NotificationResponseMapper
-                                .toResponseModel(n));
-            } catch (Exception e) {
-                logger.error("Failed to push notification update via WebSocket: {}", e.getMessage());
-            }
+        // The bulk update bypasses the Hibernate events the unread counter listens
+        // to, so reload it once committed and announce the change with one event.
+        afterCommit(() -> {
+            unreadCounter.invalidate(userId);
+            publisher.publishReadAll(userId, readAt);
         });
+    }
 
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     @Override
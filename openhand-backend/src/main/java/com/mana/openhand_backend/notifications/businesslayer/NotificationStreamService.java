@@ -0,0 +1,425 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mana.openhand_backend.notifications.utils.NotificationStreamLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server-Sent Events streams of notification updates, for clients that cannot
+ * hold a STOMP connection. Every stream has its own bounded send queue, drained
+ * in order by a small shared pool, so publishers never block and a slow client
+ * only backs up its own queue. A stream whose current write exceeds the send
+ * time limit is dropped from delivery and completed once the write returns;
+ * when a stream's queue overflows its queued events are replaced by a
+ * {@code resync} event, so the client knows to reload instead of silently
+ * missing events. The last few events per user are kept so a client
+ * reconnecting with {@code Last-Event-ID} receives what it missed, or a
+ * {@code resync} event when those events are no longer available.
+ */
+@Component
+public class NotificationStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamService.class);
+
+    public static final String NOTIFICATION_EVENT = "notification";
+    public static final String NOTIFICATION_CHANGE_EVENT = "notification-event";
+    public static final String UNREAD_COUNT_EVENT = "unread-count";
+    public static final String RESYNC_EVENT = "resync";
+
+    // Distinguishes replay buffers created at different times, so ids never repeat across restarts.
+    private static final AtomicLong EPOCHS = new AtomicLong(System.currentTimeMillis());
+
+    private final long timeoutMs;
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+    private final int replaySize;
+    private final int queueCapacity;
+    private final long sendTimeLimitNanos;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, List<StreamConnection>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Cache<Long, ReplayBuffer> replayBuffers;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    private final Counter terminatedCounter;
+
+    public NotificationStreamService(MeterRegistry meterRegistry,
+            @Value("${openhand.app.notifications.stream.timeoutMs:1800000}") long timeoutMs,
+            @Value("${openhand.app.notifications.stream.maxConnections:5000}") int maxConnections,
+            @Value("${openhand.app.notifications.stream.maxConnectionsPerUser:3}") int maxConnectionsPerUser,
+            @Value("${openhand.app.notifications.stream.replaySize:20}") int replaySize,
+            @Value("${openhand.app.notifications.stream.replayMaxUsers:10000}") long replayMaxUsers,
+            @Value("${openhand.app.notifications.stream.replayTtlMs:600000}") long replayTtlMs,
+            @Value("${openhand.app.notifications.stream.workers:8}") int workers,
+            @Value("${openhand.app.notifications.stream.queueCapacity:100}") int queueCapacity,
+            @Value("${openhand.app.notifications.stream.sendTimeLimitMs:10000}") long sendTimeLimitMs,
+            @Value("${openhand.app.notifications.stream.retryAfterSeconds:30}") long retryAfterSeconds) {
+        this.timeoutMs = timeoutMs;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        this.replaySize = Math.max(0, replaySize);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMs);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.replayBuffers = Caffeine.newBuilder()
+                .maximumSize(replayMaxUsers)
+                .expireAfterAccess(Duration.ofMillis(replayTtlMs))
+                .build();
+
+        this.rejectedCounter = Counter.builder("notifications.stream.rejected")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notifications.stream.dropped")
+                .register(meterRegistry);
+        this.terminatedCounter = Counter.builder("notifications.stream.terminated")
+                .register(meterRegistry);
+        Gauge.builder("notifications.stream.connections", connections, AtomicInteger::get)
+                .register(meterRegistry);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // At most one drain task per stream is ever queued, so the queue is bounded by the stream count.
+        this.executor = new ThreadPoolExecutor(Math.max(1, workers), Math.max(1, workers), 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-stream-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Opens a stream for the user. When {@code lastEventId} is given, events
+     * published after it are replayed first. The user's oldest stream is
+     * closed once they exceed the per-user limit.
+     */
+    public SseEmitter connect(Long userId, String lastEventId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            throw new NotificationStreamLimitException(retryAfterSeconds);
+        }
+
+        SseEmitter emitter = newEmitter(timeoutMs);
+        StreamConnection stream = new StreamConnection(userId, emitter);
+        emitter.onCompletion(() -> remove(stream));
+        emitter.onTimeout(() -> remove(stream));
+        emitter.onError(ex -> remove(stream));
+
+        ReplayBuffer buffer = replayBuffers.get(userId, id -> new ReplayBuffer(replaySize));
+        List<StreamConnection> evicted = new ArrayList<>();
+        synchronized (buffer) {
+            emitters.compute(userId, (id, userStreams) -> {
+                List<StreamConnection> updated = userStreams != null ? userStreams : new CopyOnWriteArrayList<>();
+                updated.add(stream);
+                while (updated.size() > maxConnectionsPerUser) {
+                    evicted.add(updated.remove(0));
+                }
+                return updated;
+            });
+            // Queued before any later event for this user, so the replay arrives first.
+            buffer.since(lastEventId).forEach(stream::enqueue);
+        }
+        connections.addAndGet(-evicted.size());
+        evicted.forEach(StreamConnection::close);
+        return emitter;
+    }
+
+    /** Whether the user has opened a stream recently, so their events are worth building. */
+    public boolean hasStream(Long userId) {
+        return emitters.containsKey(userId) || replayBuffers.getIfPresent(userId) != null;
+    }
+
+    /**
+     * Sends an event to the user's open streams and keeps it for replay.
+     * Users without a recent stream are skipped.
+     */
+    public void publish(Long userId, String name, Object data) {
+        ReplayBuffer buffer = emitters.containsKey(userId)
+                ? replayBuffers.get(userId, id -> new ReplayBuffer(replaySize))
+                : replayBuffers.getIfPresent(userId);
+        if (buffer == null) {
+            return;
+        }
+        synchronized (buffer) {
+            StreamEvent event = buffer.append(name, data);
+            List<StreamConnection> targets = emitters.get(userId);
+            if (targets != null) {
+                targets.forEach(stream -> stream.enqueue(event));
+            }
+        }
+    }
+
+    /** Keeps idle streams open through proxies and detects clients that went away. */
+    @Scheduled(fixedDelayString = "${openhand.app.notifications.stream.heartbeatMs:15000}",
+            initialDelayString = "${openhand.app.notifications.stream.heartbeatMs:15000}")
+    public void sendHeartbeats() {
+        emitters.values().forEach(userStreams -> userStreams.forEach(StreamConnection::enqueueHeartbeat));
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        emitters.values().forEach(userStreams -> userStreams.forEach(StreamConnection::close));
+    }
+
+    SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void remove(StreamConnection stream) {
+        stream.discard();
+        boolean[] removed = {false};
+        emitters.computeIfPresent(stream.userId, (id, userStreams) -> {
+            removed[0] = userStreams.remove(stream);
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+        if (removed[0]) {
+            connections.decrementAndGet();
+        }
+    }
+
+    /**
+     * One open stream and its send queue. Frames are written by one pool
+     * worker at a time, in the order they were queued.
+     */
+    private final class StreamConnection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        // Set when the stream is closed mid-write; the draining worker completes it afterwards.
+        private boolean completeAfterSend;
+        private long sendStartedAt;
+
+        StreamConnection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues the event. When the queue is full the client has fallen too
+         * far behind: everything queued is replaced by a resync event carrying
+         * this event's id.
+         */
+        void enqueue(StreamEvent event) {
+            offer(event.toSse(), event.id());
+        }
+
+        /** Queues a heartbeat, which is simply skipped when the queue is full. */
+        void enqueueHeartbeat() {
+            offer(SseEmitter.event().comment("heartbeat"), null);
+        }
+
+        private void offer(SseEmitter.SseEventBuilder frame, String resyncId) {
+            boolean startDrain = false;
+            boolean tooSlow = false;
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (draining && sendStartedAt != 0 && System.nanoTime() - sendStartedAt > sendTimeLimitNanos) {
+                    tooSlow = true;
+                } else if (queue.size() >= queueCapacity) {
+                    if (resyncId == null) {
+                        droppedCounter.increment();
+                    } else {
+                        droppedCounter.increment(queue.size() + 1);
+                        queue.clear();
+                        queue.addLast(new StreamEvent(resyncId, RESYNC_EVENT, null).toSse());
+                    }
+                } else {
+                    queue.addLast(frame);
+                }
+                if (!tooSlow && !draining && !queue.isEmpty()) {
+                    draining = true;
+                    startDrain = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (tooSlow) {
+                terminatedCounter.increment();
+                logger.warn("Closing notification stream for user {}: send time limit exceeded", userId);
+                remove(this);
+                close();
+            } else if (startDrain) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /** Writes queued frames until the queue is empty; runs on a pool worker. */
+        void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                boolean complete = false;
+                lock.lock();
+                try {
+                    next = closed ? null : queue.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        complete = completeAfterSend;
+                        completeAfterSend = false;
+                    } else {
+                        sendStartedAt = System.nanoTime();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (next == null) {
+                    if (complete) {
+                        completeQuietly();
+                    }
+                    return;
+                }
+
+                try {
+                    emitter.send(next);
+                } catch (Exception ex) {
+                    // The container completes the emitter; stop writing to it now.
+                    logger.debug("Dropping notification stream for user {}: {}", userId, ex.getMessage());
+                    remove(this);
+                } finally {
+                    lock.lock();
+                    try {
+                        sendStartedAt = 0;
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Stops delivery and completes the emitter, or has the worker complete
+         * it once a write in progress returns.
+         */
+        void close() {
+            boolean idle;
+            lock.lock();
+            try {
+                closed = true;
+                queue.clear();
+                idle = !draining;
+                completeAfterSend = draining;
+            } finally {
+                lock.unlock();
+            }
+            if (idle) {
+                completeQuietly();
+            }
+        }
+
+        /** Stops delivery to an emitter that has already completed or failed. */
+        void discard() {
+            lock.lock();
+            try {
+                closed = true;
+                queue.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void completeQuietly() {
+            try {
+                emitter.complete();
+            } catch (Exception ex) {
+                logger.debug("Failed to complete notification stream for user {}: {}", userId, ex.getMessage());
+            }
+        }
+    }
+
+    private record StreamEvent(String id, String name, Object data) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().id(id).name(name);
+            return data != null ? builder.data(data, MediaType.APPLICATION_JSON) : builder.data("");
+        }
+    }
+
+    /** The last events sent to one user, with ids of the form {@code epoch-sequence}. */
+    private static final class ReplayBuffer {
+        private final String epoch = Long.toString(EPOCHS.incrementAndGet(), 36);
+        private final int capacity;
+        private final Deque<StreamEvent> events = new ArrayDeque<>();
+        private long sequence;
+
+        ReplayBuffer(int capacity) {
+            this.capacity = capacity;
+        }
+
+        StreamEvent append(String name, Object data) {
+            StreamEvent event = new StreamEvent(epoch + "-" + (++sequence), name, data);
+            if (capacity > 0) {
+                if (events.size() == capacity) {
+                    events.removeFirst();
+                }
+                events.addLast(event);
+            }
+            return event;
+        }
+
+        /**
+         * Events after {@code lastEventId}; a single resync event when that id
+         * is from another buffer or older than what is kept.
+         */
+        List<StreamEvent> since(String lastEventId) {
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return List.of();
+            }
+            long lastSeen = parseSequence(lastEventId);
+            long oldestKept = events.isEmpty() ? sequence + 1 : sequence - events.size() + 1;
+            if (lastSeen < 0 || lastSeen > sequence || lastSeen < oldestKept - 1) {
+                return List.of(new StreamEvent(epoch + "-" + sequence, RESYNC_EVENT, null));
+            }
+            return events.stream()
+                    .skip(events.size() - (sequence - lastSeen))
+                    .toList();
+        }
+
+        private long parseSequence(String eventId) {
+            int separator = eventId.lastIndexOf('-');
+            if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+                return -1;
+            }
+            try {
+                return Long.parseLong(eventId.substring(separator + 1));
+            } catch (NumberFormatException ex) {
+                return -1;
+            }
+        }
+    }
+}
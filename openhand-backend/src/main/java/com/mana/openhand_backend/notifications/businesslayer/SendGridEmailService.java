@@ -1,11 +1,16 @@
 package com.mana.openhand_backend.notifications.businesslayer;
 
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.events.utils.EventTitleResolver;
+import com.mana.openhand_backend.notifications.domainclientlayer.EmailRecipient;
 import com.mana.openhand_backend.notifications.domainclientlayer.EmailSendResult;
+import com.mana.openhand_backend.notifications.utils.EmailContent;
+import com.mana.openhand_backend.notifications.utils.EmailTemplateEngine;
+import com.mana.openhand_backend.notifications.utils.EmailTemplateType;
 import com.mana.openhand_backend.notifications.utils.SendGridSenderProperties;
 import com.sendgrid.Method;
 import com.sendgrid.Request;
 import com.sendgrid.Response;
-import com.sendgrid.SendGrid;
 import com.sendgrid.helpers.mail.Mail;
 import com.sendgrid.helpers.mail.objects.Content;
 import com.sendgrid.helpers.mail.objects.Email;
@@ -17,12 +22,21 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Email delivery via SendGrid. This service sits in the business layer to keep
- * controllers thin.
+ * controllers thin. Content comes from the precompiled templates of the
+ * {@link EmailTemplateEngine}. Requests go through the
+ * {@link EmailDeliveryPipeline} for rate limiting and retries; bulk sends share
+ * one API call per language for up to
+ * {@value #MAX_PERSONALIZATIONS_PER_REQUEST} recipients.
  */
 @Service
 public class SendGridEmailService {
@@ -30,55 +44,117 @@ public class SendGridEmailService {
     private static final Logger logger = LoggerFactory.getLogger(SendGridEmailService.class);
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm");
 
-    private final SendGrid sendGrid;
+    // SendGrid's limit on personalizations in a single mail/send request.
+    static final int MAX_PERSONALIZATIONS_PER_REQUEST = 1000;
+
+    private final EmailDeliveryPipeline deliveryPipeline;
+    private final EmailTemplateEngine templateEngine;
     private final SendGridSenderProperties senderProperties;
 
-    public SendGridEmailService(SendGrid sendGrid, SendGridSenderProperties senderProperties) {
-        this.sendGrid = sendGrid;
+    public SendGridEmailService(EmailDeliveryPipeline deliveryPipeline, EmailTemplateEngine templateEngine,
+            SendGridSenderProperties senderProperties) {
+        this.deliveryPipeline = deliveryPipeline;
+        this.templateEngine = templateEngine;
         this.senderProperties = senderProperties;
     }
 
     public EmailSendResult sendRegistrationConfirmation(String toEmail, String recipientName, String eventTitle,
             String language) {
-        LocalizedEmailContent content = registrationContent(eventTitle, language, List.of());
+        EmailContent content = registrationContent(eventTitle, language, List.of());
         return sendEmail(toEmail, recipientName, content.subject(), content.body());
     }
 
     public EmailSendResult sendRegistrationConfirmation(String toEmail, String recipientName, String eventTitle,
             String language, List<String> participantNames) {
-        LocalizedEmailContent content = registrationContent(eventTitle, language, participantNames);
+        EmailContent content = registrationContent(eventTitle, language, participantNames);
         return sendEmail(toEmail, recipientName, content.subject(), content.body());
     }
 
     public EmailSendResult sendReminder(String toEmail, String recipientName, String eventTitle,
             LocalDateTime eventStartDateTime, String language) {
-        LocalizedEmailContent content = reminderContent(eventTitle, eventStartDateTime, language);
+        EmailContent content = reminderContent(eventTitle, eventStartDateTime, language);
         return sendEmail(toEmail, recipientName, content.subject(), content.body());
     }
 
     public EmailSendResult sendCancellationOrUpdate(String toEmail, String recipientName, String eventTitle,
             String updateDetails, String language) {
-        LocalizedEmailContent content = cancellationOrUpdateContent(eventTitle, updateDetails, language);
+        EmailContent content = cancellationOrUpdateContent(eventTitle, updateDetails, language);
         return sendEmail(toEmail, recipientName, content.subject(), content.body());
     }
 
+    /**
+     * Sends the cancellation or update notice to every recipient without
+     * waiting for delivery. Each recipient gets their own personalization, so
+     * addresses are never exposed to other recipients.
+     */
+    public CompletableFuture<EmailSendResult> sendCancellationOrUpdateBulk(List<EmailRecipient> recipients,
+            Event event, String updateDetails) {
+        return sendBulk(recipients, event, EmailTemplateType.CANCELLATION_OR_UPDATE,
+                lang -> cancellationOrUpdateValues(
+                        EventTitleResolver.resolve(event.getTitle(), titleLanguage(lang)), updateDetails));
+    }
+
+    /**
+     * Sends the event reminder to every recipient without waiting for
+     * delivery, in the same way as {@link #sendCancellationOrUpdateBulk}.
+     */
+    public CompletableFuture<EmailSendResult> sendReminderBulk(List<EmailRecipient> recipients, Event event) {
+        return sendBulk(recipients, event, EmailTemplateType.REMINDER,
+                lang -> reminderValues(EventTitleResolver.resolve(event.getTitle(), titleLanguage(lang)),
+                        event.getStartDateTime()));
+    }
+
+    private CompletableFuture<EmailSendResult> sendBulk(List<EmailRecipient> recipients, Event event,
+            EmailTemplateType type, Function<String, Map<String, String>> valuesForLanguage) {
+        if (senderProperties.fromEmail() == null || senderProperties.fromEmail().isBlank()) {
+            String errorMsg = "SendGrid from email is not configured";
+            logger.error("Failed to send SendGrid email: {}", errorMsg);
+            return CompletableFuture.completedFuture(EmailSendResult.failure(errorMsg));
+        }
+
+        Map<String, List<EmailRecipient>> byLanguage = new LinkedHashMap<>();
+        for (EmailRecipient recipient : recipients) {
+            if (recipient.email() == null || recipient.email().isBlank()) {
+                continue;
+            }
+            byLanguage.computeIfAbsent(normalizeLanguage(recipient.language()), lang -> new ArrayList<>())
+                    .add(recipient);
+        }
+
+        List<CompletableFuture<EmailSendResult>> batches = new ArrayList<>();
+        byLanguage.forEach((lang, languageRecipients) -> {
+            EmailContent content = templateEngine.renderForEvent(event.getId(), event.getVersion(), type, lang,
+                    valuesForLanguage.apply(lang));
+            for (int from = 0; from < languageRecipients.size(); from += MAX_PERSONALIZATIONS_PER_REQUEST) {
+                List<EmailRecipient> batch = languageRecipients.subList(from,
+                        Math.min(from + MAX_PERSONALIZATIONS_PER_REQUEST, languageRecipients.size()));
+                batches.add(sendBatch(batch, content));
+            }
+        });
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<String> errors = batches.stream()
+                            .map(CompletableFuture::join)
+                            .filter(result -> !result.success())
+                            .map(EmailSendResult::errorMessage)
+                            .toList();
+                    return errors.isEmpty() ? EmailSendResult.ok() : EmailSendResult.failure(String.join("; ", errors));
+                });
+    }
+
     public EmailSendResult sendAccountRegistrationConfirmation(String toEmail, String recipientName) {
-        LocalizedEmailContent content = accountRegistrationContent(recipientName);
+        EmailContent content = accountRegistrationContent(recipientName);
         return sendEmail(toEmail, recipientName, content.subject(), content.body());
     }
 
     public EmailSendResult sendPasswordResetCode(String toEmail, String code) {
-        LocalizedEmailContent content = passwordResetContent(code);
+        EmailContent content = passwordResetContent(code);
         return sendEmail(toEmail, null, content.subject(), content.body());
     }
 
-    private LocalizedEmailContent passwordResetContent(String code) {
-        String subject = "Your Password Reset Code";
-        String body = "You requested a password reset. Here is your code:\n\n"
-                + code + "\n\n"
-                + "This code will expire in 24 hours.\n"
-                + "If you did not request this, please ignore this email.";
-        return new LocalizedEmailContent(subject, body);
+    private EmailContent passwordResetContent(String code) {
+        return templateEngine.render(EmailTemplateType.PASSWORD_RESET, "en", Map.of("code", String.valueOf(code)));
     }
 
     private EmailSendResult sendEmail(String toEmail, String recipientName, String subject, String body) {
@@ -94,59 +170,75 @@ public class SendGridEmailService {
         }
 
         try {
-            Mail mail = new Mail();
-            Email from = senderProperties.fromName() == null || senderProperties.fromName().isBlank()
-                    ? new Email(senderProperties.fromEmail())
-                    : new Email(senderProperties.fromEmail(), senderProperties.fromName());
-            Email to = recipientName == null || recipientName.isBlank()
-                    ? new Email(toEmail)
-                    : new Email(toEmail, recipientName);
-
-            mail.setFrom(from);
-            mail.setSubject(subject);
-            mail.addContent(new Content("text/plain", body));
+            Request request = buildRequest(subject, body, List.of(new EmailRecipient(toEmail, recipientName, null)));
+            return toResult(deliveryPipeline.send(request), subject, toEmail);
+        } catch (IOException ex) {
+            logger.error("Exception while sending SendGrid email to {}", toEmail, ex);
+            return EmailSendResult.failure(ex.getMessage());
+        }
+    }
+
+    private CompletableFuture<EmailSendResult> sendBatch(List<EmailRecipient> batch, EmailContent content) {
+        String description = batch.size() + " recipients";
+        Request request;
+        try {
+            request = buildRequest(content.subject(), content.body(), batch);
+        } catch (IOException ex) {
+            logger.error("Exception while building SendGrid email for {}", description, ex);
+            return CompletableFuture.completedFuture(EmailSendResult.failure(ex.getMessage()));
+        }
+        return deliveryPipeline.sendAsync(request)
+                .thenApply(response -> toResult(response, content.subject(), description))
+                .exceptionally(ex -> {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    logger.error("Exception while sending SendGrid email to {}", description, cause);
+                    return EmailSendResult.failure(cause.getMessage());
+                });
+    }
+
+    private Request buildRequest(String subject, String body, List<EmailRecipient> recipients) throws IOException {
+        Mail mail = new Mail();
+        Email from = senderProperties.fromName() == null || senderProperties.fromName().isBlank()
+                ? new Email(senderProperties.fromEmail())
+                : new Email(senderProperties.fromEmail(), senderProperties.fromName());
 
+        mail.setFrom(from);
+        mail.setSubject(subject);
+        mail.addContent(new Content("text/plain", body));
+
+        for (EmailRecipient recipient : recipients) {
+            Email to = recipient.name() == null || recipient.name().isBlank()
+                    ? new Email(recipient.email())
+                    : new Email(recipient.email(), recipient.name());
             Personalization personalization = new Personalization();
             personalization.addTo(to);
             mail.addPersonalization(personalization);
+        }
 
-            Request request = new Request();
-            request.setMethod(Method.POST);
-            request.setEndpoint("mail/send");
-            request.setBody(mail.build());
-
-            Response response = sendGrid.api(request);
-
-            if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
-                logger.info("SendGrid email sent: subject='{}', to='{}', status={}", subject, toEmail,
-                        response.getStatusCode());
-                return EmailSendResult.ok();
-            }
+        Request request = new Request();
+        request.setMethod(Method.POST);
+        request.setEndpoint("mail/send");
+        request.setBody(mail.build());
+        return request;
+    }
 
-            String errorMsg = String.format("SendGrid responded with status %d: %s", response.getStatusCode(),
-                    response.getBody());
-            logger.error("Failed to send SendGrid email to {}. {}", toEmail, errorMsg);
-            return EmailSendResult.failure(errorMsg);
-        } catch (IOException ex) {
-            logger.error("Exception while sending SendGrid email to {}", toEmail, ex);
-            return EmailSendResult.failure(ex.getMessage());
+    private EmailSendResult toResult(Response response, String subject, String to) {
+        if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
+            logger.info("SendGrid email sent: subject='{}', to='{}', status={}", subject, to,
+                    response.getStatusCode());
+            return EmailSendResult.ok();
         }
+
+        String errorMsg = String.format("SendGrid responded with status %d: %s", response.getStatusCode(),
+                response.getBody());
+        logger.error("Failed to send SendGrid email to {}. {}", to, errorMsg);
+        return EmailSendResult.failure(errorMsg);
     }
 
-    private LocalizedEmailContent registrationContent(String eventTitle, String language, List<String> participantNames) {
-        String lang = normalizeLanguage(language);
-        String participants = formatParticipantList(participantNames);
-        return switch (lang) {
-            case "fr" -> new LocalizedEmailContent(
-                    "Confirmation d'inscription : " + eventTitle,
-                    "Vous etes inscrit a l'evenement \"" + eventTitle + "\"." + participants + " Merci de votre inscription.");
-            case "spa" -> new LocalizedEmailContent(
-                    "Confirmacion de registro: " + eventTitle,
-                    "Esta registrado en el evento \"" + eventTitle + "\"." + participants + " Gracias por registrarse.");
-            default -> new LocalizedEmailContent(
-                    "Registration confirmed: " + eventTitle,
-                    "You are registered for \"" + eventTitle + "\"." + participants + " Thank you for joining us.");
-        };
+    private EmailContent registrationContent(String eventTitle, String language, List<String> participantNames) {
+        return templateEngine.render(EmailTemplateType.REGISTRATION_CONFIRMATION, normalizeLanguage(language),
+                Map.of("eventTitle", String.valueOf(eventTitle),
+                        "participants", formatParticipantList(participantNames)));
     }
 
     private String formatParticipantList(List<String> participantNames) {
@@ -157,53 +249,38 @@ public class SendGridEmailService {
         return " Participants: " + joined + ".";
     }
 
-    private LocalizedEmailContent reminderContent(String eventTitle, LocalDateTime startDateTime, String language) {
+    private EmailContent reminderContent(String eventTitle, LocalDateTime startDateTime, String language) {
+        return templateEngine.render(EmailTemplateType.REMINDER, normalizeLanguage(language),
+                reminderValues(eventTitle, startDateTime));
+    }
+
+    private Map<String, String> reminderValues(String eventTitle, LocalDateTime startDateTime) {
         String formattedDate = startDateTime == null
                 ? "Date to be announced"
                 : startDateTime.format(DATE_TIME_FORMATTER.withLocale(Locale.ENGLISH));
-        String lang = normalizeLanguage(language);
-
-        return switch (lang) {
-            case "fr" -> new LocalizedEmailContent(
-                    "Rappel : " + eventTitle,
-                    "Rappel pour \"" + eventTitle + "\" le " + formattedDate + ". Nous avons hate de vous voir.");
-            case "spa" -> new LocalizedEmailContent(
-                    "Recordatorio: " + eventTitle,
-                    "Recordatorio para \"" + eventTitle + "\" el " + formattedDate + ". Lo esperamos.");
-            default -> new LocalizedEmailContent(
-                    "Reminder: " + eventTitle,
-                    "Reminder for \"" + eventTitle + "\" on " + formattedDate + ". We look forward to seeing you.");
-        };
+        return Map.of("eventTitle", String.valueOf(eventTitle), "startDateTime", formattedDate);
     }
 
-    private LocalizedEmailContent cancellationOrUpdateContent(String eventTitle, String updateDetails,
-            String language) {
-        String lang = normalizeLanguage(language);
+    private EmailContent cancellationOrUpdateContent(String eventTitle, String updateDetails, String language) {
+        return templateEngine.render(EmailTemplateType.CANCELLATION_OR_UPDATE, normalizeLanguage(language),
+                cancellationOrUpdateValues(eventTitle, updateDetails));
+    }
+
+    private Map<String, String> cancellationOrUpdateValues(String eventTitle, String updateDetails) {
         String details = (updateDetails == null || updateDetails.isBlank())
                 ? ""
                 : " Details: " + updateDetails;
-
-        return switch (lang) {
-            case "fr" -> new LocalizedEmailContent(
-                    "Mise à jour importante : " + eventTitle,
-                    "Votre événement \"" + eventTitle + "\" a change ou est annule." + details);
-            case "spa" -> new LocalizedEmailContent(
-                    "Actualización importante: " + eventTitle,
-                    "Su evento \"" + eventTitle + "\" ha cambiado o ha sido cancelado." + details);
-            default -> new LocalizedEmailContent(
-                    "Important update: " + eventTitle,
-                    "Your event \"" + eventTitle + "\" has changed or has been cancelled." + details);
-        };
+        return Map.of("eventTitle", String.valueOf(eventTitle), "details", details);
     }
 
-    private LocalizedEmailContent accountRegistrationContent(String recipientName) {
+    private EmailContent accountRegistrationContent(String recipientName) {
         String displayName = (recipientName == null || recipientName.isBlank()) ? "there" : recipientName;
-        String subject = "Welcome to MANA";
-        String body = "Hi " + displayName + ",\n\n"
-                + "Your MANA account has been created successfully. You can now log in and register for events.\n\n"
-                + "Thanks,\n"
-                + "The MANA Team";
-        return new LocalizedEmailContent(subject, body);
+        return templateEngine.render(EmailTemplateType.ACCOUNT_REGISTRATION, "en", Map.of("name", displayName));
+    }
+
+    // Event title translations use "es" where email templates use "spa".
+    private String titleLanguage(String lang) {
+        return "spa".equals(lang) ? "es" : lang;
     }
 
     private String normalizeLanguage(String language) {
@@ -217,7 +294,4 @@ public class SendGridEmailService {
             default -> "en";
         };
     }
-
-    private record LocalizedEmailContent(String subject, String body) {
-    }
 }
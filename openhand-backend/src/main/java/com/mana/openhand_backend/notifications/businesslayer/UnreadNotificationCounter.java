@@ -0,0 +1,176 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-user unread notification counts, so badge refreshes do not run a count
+ * query each time. A count is loaded once and then kept current from Hibernate
+ * insert, update and delete events on {@link Notification}; writes that bypass
+ * Hibernate (JDBC batches, bulk JPQL) call {@link #adjust} or
+ * {@link #invalidate} themselves. Changes are applied when the transaction
+ * commits, and a rollback drops the user's entry since it may have been
+ * loaded from uncommitted rows. Entries also expire, which bounds any drift
+ * from writes made by other instances.
+ */
+@Component
+public class UnreadNotificationCounter
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String READ_PROPERTY = "isRead";
+
+    private final NotificationRepository notificationRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Cache<Long, Long> counts;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${openhand.app.notifications.unreadCountCacheMaxSize:10000}") long cacheMaxSize,
+            @Value("${openhand.app.notifications.unreadCountCacheTtlMs:60000}") long cacheTtlMs) {
+        this.notificationRepository = notificationRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                .build();
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    public long get(Long userId) {
+        return counts.get(userId, notificationRepository::countByUserIdAndIsReadFalse);
+    }
+
+    /** Applies a change to the user's count once the current transaction commits. */
+    public void adjust(Long userId, long delta) {
+        if (userId != null && delta != 0) {
+            adjust(Map.of(userId, delta));
+        }
+    }
+
+    /** Applies changes to several users' counts once the current transaction commits. */
+    public void adjust(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deltas.forEach(this::apply);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // Ahead of other after-commit callbacks, so pushes sent on commit read the new count.
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                deltas.forEach(UnreadNotificationCounter.this::apply);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    counts.invalidateAll(deltas.keySet());
+                }
+            }
+        });
+    }
+
+    public void invalidate(Long userId) {
+        counts.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        counts.invalidateAll();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Notification notification && !notification.isRead()) {
+            adjust(userId(notification), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Notification notification)) {
+            return;
+        }
+        if (event.getOldState() == null) {
+            // Detached update: the previous read state is unknown.
+            invalidate(userId(notification));
+            return;
+        }
+        boolean wasRead = readState(event.getPersister(), event.getOldState());
+        if (wasRead != notification.isRead()) {
+            adjust(userId(notification), wasRead ? 1 : -1);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (!(event.getEntity() instanceof Notification notification)) {
+            return;
+        }
+        if (event.getDeletedState() == null) {
+            invalidate(userId(notification));
+        } else if (!readState(event.getPersister(), event.getDeletedState())) {
+            adjust(userId(notification), -1);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void apply(Long userId, long delta) {
+        counts.asMap().computeIfPresent(userId, (id, count) -> Math.max(0L, count + delta));
+    }
+
+    private static Long userId(Notification notification) {
+        return notification.getUser() != null ? notification.getUser().getId() : null;
+    }
+
+    private static boolean readState(EntityPersister persister, Object[] state) {
+        String[] propertyNames = persister.getPropertyNames();
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (READ_PROPERTY.equals(propertyNames[i])) {
+                return Boolean.TRUE.equals(state[i]);
+            }
+        }
+        return false;
+    }
+}
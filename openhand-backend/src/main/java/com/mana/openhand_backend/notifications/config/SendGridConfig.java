@@ -17,11 +17,19 @@ public class SendGridConfig {
     private static final Logger logger = LoggerFactory.getLogger(SendGridConfig.class);
 
     @Bean
-    public SendGrid sendGridClient(@Value("${SENDGRID_API_KEY:}") String apiKey) {
+    public SendGrid sendGridClient(@Value("${SENDGRID_API_KEY:}") String apiKey,
+            @Value("${SENDGRID_HOST:}") String host) {
         if (apiKey.isBlank()) {
             logger.warn("SENDGRID_API_KEY is not configured; SendGrid email delivery will fail until it is set.");
         }
-        return new SendGrid(apiKey);
+        if (host.isBlank()) {
+            return new SendGrid(apiKey);
+        }
+        // Plain HTTP against a local stub server, e.g. host "localhost:8089".
+        logger.warn("SENDGRID_HOST is set; SendGrid requests go to http://{}", host);
+        SendGrid sendGrid = new SendGrid(apiKey, true);
+        sendGrid.setHost(host);
+        return sendGrid;
     }
 
     @Bean
@@ -6,7 +6,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // Unread lookups and counts; the feed is served by the (user, created) index.
+        @Index(name = "idx_notifications_user_read_created", columnList = "user_id, isRead, createdAt"),
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, createdAt, id")
+})
 public class Notification {
 
     @Id
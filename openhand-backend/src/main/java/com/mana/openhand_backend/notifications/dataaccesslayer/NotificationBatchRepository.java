@@ -0,0 +1,81 @@
+package com.mana.openhand_backend.notifications.dataaccesslayer;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts notifications with JDBC batching. Notification ids use an identity
+ * column, which keeps Hibernate from batching inserts, so fan-outs write
+ * through JDBC directly and copy the generated ids back onto the entities.
+ */
+@Repository
+public class NotificationBatchRepository {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications
+                (user_id, event_id, notification_type, language, is_read, created_at,
+                 text_content, event_title, participant_name)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += BATCH_SIZE) {
+            insertBatch(notifications.subList(from, Math.min(from + BATCH_SIZE, notifications.size())));
+        }
+    }
+
+    private void insertBatch(List<Notification> batch) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        Notification notification = batch.get(i);
+                        statement.setLong(1, notification.getUser().getId());
+                        if (notification.getEvent() != null) {
+                            statement.setLong(2, notification.getEvent().getId());
+                        } else {
+                            statement.setNull(2, Types.BIGINT);
+                        }
+                        statement.setString(3, notification.getNotificationType().name());
+                        statement.setString(4, notification.getLanguage());
+                        statement.setBoolean(5, notification.isRead());
+                        statement.setTimestamp(6, Timestamp.valueOf(notification.getCreatedAt()));
+                        statement.setString(7, notification.getTextContent());
+                        statement.setString(8, notification.getEventTitle());
+                        statement.setString(9, notification.getParticipantName());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < keys.size() && i < batch.size(); i++) {
+            // Drivers differ in the case of the key column name; the map holds only the id.
+            Object id = keys.get(i).values().iterator().next();
+            batch.get(i).setId(((Number) id).longValue());
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.mana.openhand_backend.notifications.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreference, Long> {
     Optional<NotificationPreference> findByUserId(Long userId);
+
+    List<NotificationPreference> findByUserIdIn(Collection<Long> userIds);
 }
@@ -1,8 +1,15 @@
 package com.mana.openhand_backend.notifications.dataaccesslayer;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,6 +20,47 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    /**
+     * First page of a user's feed, newest first. Ties on creation time are
+     * broken by id so the order is stable for keyset pagination.
+     */
+    @Query("""
+            SELECT n FROM Notification n LEFT JOIN FETCH n.event
+            WHERE n.user.id = :userId
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findFeed(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Newest notifications marked read in {@code [from, to)}. Used to find what
+     * a bulk mark-all-as-read stamped; a range rather than an exact match, since
+     * the database may store the read time at a lower precision than the JVM.
+     */
+    @Query("""
+            SELECT n FROM Notification n LEFT JOIN FETCH n.event
+            WHERE n.user.id = :userId AND n.readAt >= :from AND n.readAt < :to
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findMarkedReadBetween(@Param("userId") Long userId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             Pageable pageable);
+
+    /**
+     * Page of a user's feed that continues strictly after the given
+     * (createdAt, id) position.
+     */
+    @Query("""
+            SELECT n FROM Notification n LEFT JOIN FETCH n.event
+            WHERE n.user.id = :userId
+              AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findFeedBefore(@Param("userId") Long userId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
     /**
      * Count unread notifications for a user
      */
@@ -31,11 +79,84 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     List<Notification> findByUserIdAndIsReadFalse(Long userId);
 
+    /**
+     * Mark every unread notification of a user as read in one statement
+     *
+     * @return the number of notifications marked as read
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Notification n
+               SET n.isRead = true, n.readAt = :readAt
+             WHERE n.user.id = :userId AND n.isRead = false
+            """)
+    int markAllAsReadByUserId(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
     boolean existsByUserIdAndEventIdAndNotificationType(Long userId, Long eventId, NotificationType notificationType);
 
+    /**
+     * Batched form of {@link #existsByUserIdAndEventIdAndNotificationType}:
+     * which of the given users already received a notification of this type
+     * for the event since the given time
+     */
+    @Query("""
+            SELECT DISTINCT n.user.id FROM Notification n
+            WHERE n.event.id = :eventId
+              AND n.notificationType = :type
+              AND n.user.id IN :userIds
+              AND n.createdAt >= :since
+            """)
+    List<Long> findUserIdsNotifiedSince(@Param("eventId") Long eventId,
+                                        @Param("type") NotificationType type,
+                                        @Param("userIds") Collection<Long> userIds,
+                                        @Param("since") LocalDateTime since);
+
     long countByNotificationType(NotificationType notificationType);
 
     long countByNotificationTypeAndIsReadTrue(NotificationType notificationType);
 
     long countByNotificationTypeAndIsReadFalse(NotificationType notificationType);
+
+    /**
+     * Ids of read notifications created before the cutoff, oldest first
+     */
+    @Query("""
+            SELECT n.id FROM Notification n
+            WHERE n.isRead = true AND n.createdAt < :cutoff
+            ORDER BY n.id
+            """)
+    List<Long> findReadIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Users with more than {@code cap} notifications
+     */
+    @Query("""
+            SELECT n.user.id FROM Notification n
+            GROUP BY n.user.id
+            HAVING COUNT(n) > :cap
+            """)
+    List<Long> findUserIdsWithMoreThan(@Param("cap") long cap);
+
+    /**
+     * Ids of a user's read notifications at or before the given feed position
+     */
+    @Query("""
+            SELECT n.id FROM Notification n
+            WHERE n.user.id = :userId AND n.isRead = true
+              AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id <= :id))
+            ORDER BY n.id
+            """)
+    List<Long> findReadIdsAtOrBefore(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * Delete notifications by id. Runs in its own transaction when called
+     * outside one, so batched deletes only hold locks for one batch.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
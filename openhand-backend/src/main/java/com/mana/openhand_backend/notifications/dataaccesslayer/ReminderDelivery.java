@@ -0,0 +1,48 @@
+package com.mana.openhand_backend.notifications.dataaccesslayer;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records that a user was claimed for the reminder of an event that became due
+ * at {@code dueAt}. The unique key lets only one reminder run claim each
+ * reminder; rows are written by {@link ReminderDeliveryRepository}.
+ */
+@Entity
+@Table(name = "reminder_deliveries", uniqueConstraints = @UniqueConstraint(
+        name = "uk_reminder_deliveries_event_user_due", columnNames = { "event_id", "user_id", "due_at" }))
+public class ReminderDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    protected ReminderDelivery() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+}
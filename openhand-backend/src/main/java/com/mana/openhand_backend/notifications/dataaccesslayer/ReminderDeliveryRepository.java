@@ -0,0 +1,86 @@
+package com.mana.openhand_backend.notifications.dataaccesslayer;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Claims event reminders through the unique key of {@code reminder_deliveries}.
+ * A claim is an insert that skips rows already present, so of two runs
+ * claiming the same reminder only one gets the row; the other waits for the
+ * first transaction and then skips it. Claims should share a transaction with
+ * the notifications they lead to, so a failed run releases its claims.
+ */
+@Repository
+public class ReminderDeliveryRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO reminder_deliveries (event_id, user_id, due_at) VALUES (?, ?, ?)";
+    private static final String INSERT_IGNORING_CONFLICTS_SQL = INSERT_SQL
+            + " ON CONFLICT (event_id, user_id, due_at) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public ReminderDeliveryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claims the reminder due at {@code dueAt} for the given users and returns
+     * the ids of the users claimed by this call, in the given order.
+     */
+    public List<Long> claim(Long eventId, LocalDateTime dueAt, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Timestamp due = Timestamp.valueOf(dueAt);
+        List<Long> claimed = new ArrayList<>();
+        if (isPostgres()) {
+            int[] counts = jdbcTemplate.batchUpdate(INSERT_IGNORING_CONFLICTS_SQL, userIds, userIds.size(),
+                    (statement, userId) -> {
+                        statement.setLong(1, eventId);
+                        statement.setLong(2, userId);
+                        statement.setTimestamp(3, due);
+                    })[0];
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    claimed.add(userIds.get(i));
+                }
+            }
+            return claimed;
+        }
+        // A failed statement aborts a PostgreSQL transaction, but not on the other databases (H2 in tests).
+        for (Long userId : userIds) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, eventId, userId, due);
+                claimed.add(userId);
+            } catch (DuplicateKeyException ignored) {
+                // Claimed by an earlier run.
+            }
+        }
+        return claimed;
+    }
+
+    /** Deletes claims for reminders that became due before the cutoff. */
+    public int deleteDueBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM reminder_deliveries WHERE due_at < ?", Timestamp.valueOf(cutoff));
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            result = product != null && product.toLowerCase().contains("postgresql");
+            postgres = result;
+        }
+        return result;
+    }
+}
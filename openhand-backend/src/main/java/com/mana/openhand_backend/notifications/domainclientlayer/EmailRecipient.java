@@ -0,0 +1,7 @@
+package com.mana.openhand_backend.notifications.domainclientlayer;
+
+/**
+ * One recipient of a bulk email, with the language their copy is written in.
+ */
+public record EmailRecipient(String email, String name, String language) {
+}
@@ -0,0 +1,16 @@
+package com.mana.openhand_backend.notifications.domainclientlayer;
+
+/**
+ * Compact notification event pushed on {@code /user/queue/notification-events}
+ * and as the {@code notification-event} event of the notification stream.
+ * Unlike the per-notification messages, one event describes a change to many
+ * notifications at once.
+ */
+public record NotificationEventResponseModel(String type, long unreadCount, String readAt) {
+
+    public static final String READ_ALL = "READ_ALL";
+
+    public static NotificationEventResponseModel readAll(long unreadCount, String readAt) {
+        return new NotificationEventResponseModel(READ_ALL, unreadCount, readAt);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mana.openhand_backend.notifications.domainclientlayer;
+
+import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+
+import java.util.List;
+
+/**
+ * One page of a user's notification feed. {@code nextCursor} is null on the
+ * last page.
+ */
+public record NotificationPage(List<Notification> notifications, String nextCursor) {
+}
@@ -0,0 +1,15 @@
+package com.mana.openhand_backend.notifications.domainclientlayer;
+
+/**
+ * Rows removed by one run of the notification retention job.
+ *
+ * @param expiredRemoved read notifications removed for being older than the maximum age
+ * @param compactedRemoved read notifications removed from users over the per-user cap
+ * @param usersCompacted users whose history was compacted
+ */
+public record NotificationRetentionReport(int expiredRemoved, int compactedRemoved, int usersCompacted) {
+
+    public int totalRemoved() {
+        return expiredRemoved + compactedRemoved;
+    }
+}
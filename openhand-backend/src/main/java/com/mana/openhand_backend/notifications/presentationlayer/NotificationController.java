@@ -1,16 +1,18 @@
 package com.mana.openhand_backend.notifications.presentationlayer;
 
-import com.mana.openhand_backend.identity.dataaccesslayer.User;
-import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.notifications.businesslayer.NotificationService;
+import com.mana.openhand_backend.notifications.businesslayer.NotificationStreamService;
 import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPage;
 import com.mana.openhand_backend.notifications.domainclientlayer.NotificationResponseModel;
 import com.mana.openhand_backend.notifications.utils.NotificationResponseMapper;
+import com.mana.openhand_backend.security.CurrentUserId;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,25 +21,36 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/notifications")
 public class NotificationController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final NotificationService notificationService;
-    private final UserRepository userRepository;
+    private final NotificationStreamService streamService;
 
-    public NotificationController(NotificationService notificationService, UserRepository userRepository) {
+    public NotificationController(NotificationService notificationService, NotificationStreamService streamService) {
         this.notificationService = notificationService;
-        this.userRepository = userRepository;
+        this.streamService = streamService;
     }
 
     /**
-     * Get all notifications for the current user
+     * Get a page of notifications for the current user, newest first. When more
+     * notifications follow, the cursor for the next page is returned in the
+     * X-Next-Cursor header.
      */
     @GetMapping
     @PreAuthorize("hasRole('ROLE_MEMBER') or hasRole('ROLE_EMPLOYEE')")
-    public List<NotificationResponseModel> getNotifications(Authentication authentication) {
-        Long userId = extractUserIdFromAuth(authentication);
-        List<Notification> notifications = notificationService.getUserNotifications(userId);
-        return notifications.stream()
+    public ResponseEntity<List<NotificationResponseModel>> getNotifications(@CurrentUserId Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        NotificationPage page = notificationService.getUserNotifications(userId, cursor, limit);
+        List<NotificationResponseModel> notifications = page.notifications().stream()
                 .map(NotificationResponseMapper::toResponseModel)
                 .collect(Collectors.toList());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(notifications);
     }
 
     /**
@@ -45,12 +58,24 @@ public class NotificationController {
      */
     @GetMapping("/unread-count")
     @PreAuthorize("hasRole('ROLE_MEMBER') or hasRole('ROLE_EMPLOYEE')")
-    public UnreadCountResponse getUnreadCount(Authentication authentication) {
-        Long userId = extractUserIdFromAuth(authentication);
+    public UnreadCountResponse getUnreadCount(@CurrentUserId Long userId) {
         long count = notificationService.getUnreadCount(userId);
         return new UnreadCountResponse(count);
     }
 
+    /**
+     * Stream notification and unread-count updates for the current user as
+     * Server-Sent Events, for clients without a WebSocket connection. Clients
+     * reconnecting with Last-Event-ID receive the events they missed, or a
+     * resync event when they should reload the feed.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ROLE_MEMBER') or hasRole('ROLE_EMPLOYEE')")
+    public SseEmitter stream(@CurrentUserId Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return streamService.connect(userId, lastEventId);
+    }
+
     /**
      * Mark a specific notification as read
      */
@@ -67,8 +92,7 @@ public class NotificationController {
     @PutMapping("/read-all")
     @PreAuthorize("hasRole('ROLE_MEMBER') or hasRole('ROLE_EMPLOYEE')")
     @ResponseStatus(HttpStatus.OK)
-    public void markAllAsRead(Authentication authentication) {
-        Long userId = extractUserIdFromAuth(authentication);
+    public void markAllAsRead(@CurrentUserId Long userId) {
         notificationService.markAllAsRead(userId);
     }
 
@@ -82,16 +106,6 @@ public class NotificationController {
         notificationService.deleteNotification(notificationId);
     }
 
-    /**
-     * Helper method to extract user ID from authentication
-     */
-    private Long extractUserIdFromAuth(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + userDetails.getUsername()));
-        return user.getId();
-    }
-
     /**
      * Response DTO for unread count endpoint
      */
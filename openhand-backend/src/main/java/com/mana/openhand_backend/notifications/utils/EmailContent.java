@@ -0,0 +1,7 @@
+package com.mana.openhand_backend.notifications.utils;
+
+/**
+ * Rendered subject and plain-text body of an email.
+ */
+public record EmailContent(String subject, String body) {
+}
@@ -0,0 +1,64 @@
+package com.mana.openhand_backend.notifications.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A plain-text template with {@code {name}} placeholders, split into literal
+ * and placeholder segments once so rendering is a single pass over the parts.
+ */
+public final class EmailTemplate {
+
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static EmailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int start = 0;
+        int open = source.indexOf('{');
+        while (open >= 0) {
+            int close = source.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            String name = source.substring(open + 1, close);
+            if (name.isEmpty() || !name.chars().allMatch(Character::isLetterOrDigit)) {
+                // Not a placeholder; keep the brace as text.
+                open = source.indexOf('{', open + 1);
+                continue;
+            }
+            literals.add(source.substring(start, open));
+            placeholders.add(name);
+            start = close + 1;
+            open = source.indexOf('{', start);
+        }
+        literals.add(source.substring(start));
+        return new EmailTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new));
+    }
+
+    /** Renders the template; placeholders without a value render as empty text. */
+    public String render(Map<String, String> values) {
+        StringBuilder rendered = new StringBuilder(literalLength + 16 * placeholders.length);
+        for (int i = 0; i < placeholders.length; i++) {
+            rendered.append(literals[i]);
+            String value = values.get(placeholders[i]);
+            if (value != null) {
+                rendered.append(value);
+            }
+        }
+        return rendered.append(literals[placeholders.length]).toString();
+    }
+}
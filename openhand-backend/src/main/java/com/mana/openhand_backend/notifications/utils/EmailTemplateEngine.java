@@ -0,0 +1,114 @@
+package com.mana.openhand_backend.notifications.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders email subjects and bodies from templates compiled once at startup,
+ * in English, French and Spanish. Event content can be memoized per event
+ * version and values, so a fan-out to every registrant renders each language
+ * once.
+ */
+@Component
+public class EmailTemplateEngine {
+
+    private static final String DEFAULT_LANGUAGE = "en";
+
+    private final Map<EmailTemplateType, Map<String, CompiledEmail>> templates = new EnumMap<>(EmailTemplateType.class);
+    private final Cache<ContentKey, EmailContent> eventContent;
+
+    public EmailTemplateEngine(@Value("${openhand.app.email.contentCacheMaxSize:1000}") long contentCacheMaxSize) {
+        this.eventContent = Caffeine.newBuilder()
+                .maximumSize(contentCacheMaxSize)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+
+        register(EmailTemplateType.REGISTRATION_CONFIRMATION, "en",
+                "Registration confirmed: {eventTitle}",
+                "You are registered for \"{eventTitle}\".{participants} Thank you for joining us.");
+        register(EmailTemplateType.REGISTRATION_CONFIRMATION, "fr",
+                "Confirmation d'inscription : {eventTitle}",
+                "Vous etes inscrit a l'evenement \"{eventTitle}\".{participants} Merci de votre inscription.");
+        register(EmailTemplateType.REGISTRATION_CONFIRMATION, "spa",
+                "Confirmacion de registro: {eventTitle}",
+                "Esta registrado en el evento \"{eventTitle}\".{participants} Gracias por registrarse.");
+
+        register(EmailTemplateType.REMINDER, "en",
+                "Reminder: {eventTitle}",
+                "Reminder for \"{eventTitle}\" on {startDateTime}. We look forward to seeing you.");
+        register(EmailTemplateType.REMINDER, "fr",
+                "Rappel : {eventTitle}",
+                "Rappel pour \"{eventTitle}\" le {startDateTime}. Nous avons hate de vous voir.");
+        register(EmailTemplateType.REMINDER, "spa",
+                "Recordatorio: {eventTitle}",
+                "Recordatorio para \"{eventTitle}\" el {startDateTime}. Lo esperamos.");
+
+        register(EmailTemplateType.CANCELLATION_OR_UPDATE, "en",
+                "Important update: {eventTitle}",
+                "Your event \"{eventTitle}\" has changed or has been cancelled.{details}");
+        register(EmailTemplateType.CANCELLATION_OR_UPDATE, "fr",
+                "Mise à jour importante : {eventTitle}",
+                "Votre événement \"{eventTitle}\" a change ou est annule.{details}");
+        register(EmailTemplateType.CANCELLATION_OR_UPDATE, "spa",
+                "Actualización importante: {eventTitle}",
+                "Su evento \"{eventTitle}\" ha cambiado o ha sido cancelado.{details}");
+
+        register(EmailTemplateType.ACCOUNT_REGISTRATION, "en",
+                "Welcome to MANA",
+                "Hi {name},\n\n"
+                        + "Your MANA account has been created successfully. You can now log in and register for events.\n\n"
+                        + "Thanks,\n"
+                        + "The MANA Team");
+
+        register(EmailTemplateType.PASSWORD_RESET, "en",
+                "Your Password Reset Code",
+                "You requested a password reset. Here is your code:\n\n"
+                        + "{code}\n\n"
+                        + "This code will expire in 24 hours.\n"
+                        + "If you did not request this, please ignore this email.");
+    }
+
+    /**
+     * Renders the template for the language, falling back to English when the
+     * template has no translation for it.
+     */
+    public EmailContent render(EmailTemplateType type, String language, Map<String, String> values) {
+        Map<String, CompiledEmail> byLanguage = templates.get(type);
+        CompiledEmail compiled = byLanguage.getOrDefault(language, byLanguage.get(DEFAULT_LANGUAGE));
+        return new EmailContent(compiled.subject().render(values), compiled.body().render(values));
+    }
+
+    /**
+     * Renders event-scoped content once per (event, language, template, event
+     * version, values). The values are part of the key because one version can
+     * be announced twice with different details, e.g. a schedule change
+     * followed by a cancellation before the version is bumped again.
+     */
+    public EmailContent renderForEvent(Long eventId, Long eventVersion, EmailTemplateType type, String language,
+            Map<String, String> values) {
+        if (eventId == null) {
+            return render(type, language, values);
+        }
+        return eventContent.get(new ContentKey(eventId, language, type, eventVersion, Map.copyOf(values)),
+                key -> render(type, language, values));
+    }
+
+    private void register(EmailTemplateType type, String language, String subject, String body) {
+        templates.computeIfAbsent(type, ignored -> new HashMap<>())
+                .put(language, new CompiledEmail(EmailTemplate.compile(subject), EmailTemplate.compile(body)));
+    }
+
+    private record CompiledEmail(EmailTemplate subject, EmailTemplate body) {
+    }
+
+    private record ContentKey(Long eventId, String language, EmailTemplateType type, Long eventVersion,
+            Map<String, String> values) {
+    }
+}
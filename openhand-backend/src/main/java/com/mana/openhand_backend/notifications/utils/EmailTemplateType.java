@@ -0,0 +1,13 @@
+package com.mana.openhand_backend.notifications.utils;
+
+/**
+ * The emails the application sends, each with its own subject and body
+ * templates per language.
+ */
+public enum EmailTemplateType {
+    REGISTRATION_CONFIRMATION,
+    REMINDER,
+    CANCELLATION_OR_UPDATE,
+    ACCOUNT_REGISTRATION,
+    PASSWORD_RESET
+}
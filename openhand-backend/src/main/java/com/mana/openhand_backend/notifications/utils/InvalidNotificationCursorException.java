@@ -0,0 +1,11 @@
+package com.mana.openhand_backend.notifications.utils;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidNotificationCursorException extends RuntimeException {
+    public InvalidNotificationCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.mana.openhand_backend.notifications.utils;
+
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationPreference;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPreferenceCategory;
+
+/**
+ * Immutable copy of a user's notification preferences, safe to cache and share
+ * across threads. Users without a stored preference row get {@link #DEFAULTS}.
+ */
+public record NotificationPreferenceSnapshot(boolean confirmationEnabled, boolean reminderEnabled,
+        boolean cancellationEnabled) {
+
+    public static final NotificationPreferenceSnapshot DEFAULTS = new NotificationPreferenceSnapshot(true, true, true);
+
+    public static NotificationPreferenceSnapshot of(NotificationPreference preference) {
+        return new NotificationPreferenceSnapshot(preference.isConfirmationEnabled(), preference.isReminderEnabled(),
+                preference.isCancellationEnabled());
+    }
+
+    public boolean isEnabled(NotificationPreferenceCategory category) {
+        return switch (category) {
+            case CONFIRMATION -> confirmationEnabled;
+            case REMINDER -> reminderEnabled;
+            case CANCELLATION -> cancellationEnabled;
+            // Critical categories are always enabled
+            case CAPACITY_ALERT -> true;
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.mana.openhand_backend.registrations.businesslayer;
 
+import com.mana.openhand_backend.attendance.businesslayer.RegistrationStatsService;
 import com.mana.openhand_backend.events.dataaccesslayer.Event;
 import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
 import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
@@ -52,6 +53,7 @@ public class RegistrationServiceImpl implements RegistrationService {
     private final com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository notificationRepository;
     private final SendGridEmailService sendGridEmailService;
     private final EventCompletionService eventCompletionService;
+    private final RegistrationStatsService registrationStatsService;
 
     public RegistrationServiceImpl(RegistrationRepository registrationRepository,
             EventRepository eventRepository,
@@ -59,7 +61,8 @@ public class RegistrationServiceImpl implements RegistrationService {
             NotificationService notificationService,
             com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository notificationRepository,
             SendGridEmailService sendGridEmailService,
-            EventCompletionService eventCompletionService) {
+            EventCompletionService eventCompletionService,
+            RegistrationStatsService registrationStatsService) {
         this.registrationRepository = registrationRepository;
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
@@ -67,6 +70,7 @@ public class RegistrationServiceImpl implements RegistrationService {
         this.notificationRepository = notificationRepository;
         this.sendGridEmailService = sendGridEmailService;
         this.eventCompletionService = eventCompletionService;
+        this.registrationStatsService = registrationStatsService;
     }
 
     /**
@@ -182,6 +186,7 @@ public class RegistrationServiceImpl implements RegistrationService {
         List<Registration> savedFamily = familyRegistrations.isEmpty()
                 ? List.of()
                 : registrationRepository.saveAll(familyRegistrations);
+        registrationStatsService.markDirty(eventId);
 
         if (savedPrimary.getStatus() == RegistrationStatus.CONFIRMED) {
             sendRegistrationConfirmationEmail(user, lockedEvent, buildParticipantNames(savedPrimary, savedFamily));
@@ -361,6 +366,7 @@ public class RegistrationServiceImpl implements RegistrationService {
         if (event != null && event.getMaxCapacity() != null) {
             promoteWaitlistedUsers(event);
         }
+        registrationStatsService.markDirty(eventId);
 
         return cancelledRegistration;
     }
@@ -549,6 +555,7 @@ public class RegistrationServiceImpl implements RegistrationService {
         }
 
         Registration savedRegistration = registrationRepository.save(registration);
+        registrationStatsService.markDirty(eventId);
 
         if (savedRegistration.getStatus() == RegistrationStatus.CONFIRMED) {
             sendRegistrationConfirmationEmail(user, lockedEvent, List.of(resolveParticipantName(savedRegistration)));
@@ -629,16 +636,11 @@ public class RegistrationServiceImpl implements RegistrationService {
                 return;
 
             // Find all employees
-            List<User> employees = userRepository
-                    .findByRolesContaining(com.mana.openhand_backend.identity.utils.RoleUtils.ROLE_EMPLOYEE);
+            List<Long> employeeIds = userRepository
+                    .findIdsByRole(com.mana.openhand_backend.identity.utils.RoleUtils.ROLE_EMPLOYEE);
 
-            for (User employee : employees) {
-                String language = employee.getPreferredLanguage() != null ? employee.getPreferredLanguage() : "en";
-                notificationService.createNotification(
-                        employee.getId(),
-                        event.getId(),
-                        type.name(),
-                        language);
+            if (!employeeIds.isEmpty()) {
+                notificationService.createNotificationsBulk(event.getId(), type, employeeIds);
             }
 
         } catch (Exception e) {
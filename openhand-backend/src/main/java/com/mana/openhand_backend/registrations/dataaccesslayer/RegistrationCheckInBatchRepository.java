@@ -0,0 +1,56 @@
+package com.mana.openhand_backend.registrations.dataaccesslayer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks in many registrations with one JDBC batch of conditional updates.
+ * Each update only applies while the registration is not checked in and not
+ * cancelled, so overlapping replays of the same scans change every row at
+ * most once and the update counts tell which rows this call changed.
+ */
+@Repository
+public class RegistrationCheckInBatchRepository {
+
+    private static final String UPDATE_SQL = """
+            UPDATE registrations
+               SET checked_in_at = ?
+             WHERE id = ? AND checked_in_at IS NULL AND status <> ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RegistrationCheckInBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Checks in each registration at its time and returns the ids of the
+     * registrations that were actually changed.
+     */
+    public List<Long> markCheckedIn(Map<Long, LocalDateTime> checkedInAtByRegistrationId) {
+        if (checkedInAtByRegistrationId.isEmpty()) {
+            return List.of();
+        }
+        List<Map.Entry<Long, LocalDateTime>> entries = new ArrayList<>(checkedInAtByRegistrationId.entrySet());
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, entries, entries.size(), (statement, entry) -> {
+            statement.setTimestamp(1, Timestamp.valueOf(entry.getValue()));
+            statement.setLong(2, entry.getKey());
+            statement.setString(3, RegistrationStatus.CANCELLED.name());
+        })[0];
+
+        List<Long> changed = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                changed.add(entries.get(i).getKey());
+            }
+        }
+        return changed;
+    }
+}
@@ -1,21 +1,53 @@
 package com.mana.openhand_backend.registrations.dataaccesslayer;
 
 import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RegistrationRepository extends JpaRepository<Registration, Long> {
 
-        interface EventCountProjection {
+        interface EventAttendanceCountProjection {
                 Long getEventId();
 
-                Long getTotal();
+                Long getRegisteredCount();
+
+                Long getCheckedInCount();
+        }
+
+        interface CheckInStateProjection {
+                Long getRegistrationId();
+
+                RegistrationStatus getStatus();
+
+                LocalDateTime getCheckedInAt();
+        }
+
+        interface RegistrationStatsProjection {
+                Long getEventId();
+
+                Long getRegisteredCount();
+
+                Long getAttendedCount();
+
+                Long getWaitlistedCount();
+
+                Long getCancelledCount();
+        }
+
+        interface CheckInIndexProjection {
+                Long getRegistrationId();
+
+                Long getUserId();
         }
 
         Optional<Registration> findByUserIdAndEventId(Long userId, Long eventId);
@@ -31,6 +63,8 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
 
         List<Registration> findByEventId(Long eventId);
 
+        List<Registration> findByEventIdAndUserIdIn(Long eventId, Collection<Long> userIds);
+
         void deleteByEventId(Long eventId);
 
         boolean existsByUserIdAndEventId(Long userId, Long eventId);
@@ -42,30 +76,106 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
         long countByEventIdAndCheckedInAtIsNotNull(Long eventId);
 
         @Query("""
-                        SELECT r.event.id AS eventId, COUNT(r.id) AS total
+                        SELECT r.event.id AS eventId,
+                               SUM(CASE WHEN r.status <> :excludedStatus THEN 1 ELSE 0 END) AS registeredCount,
+                               SUM(CASE WHEN r.checkedInAt IS NOT NULL THEN 1 ELSE 0 END) AS checkedInCount
                         FROM Registration r
                         WHERE r.event.id IN :eventIds
-                          AND r.status <> :excludedStatus
-                          AND r.checkedInAt IS NOT NULL
                         GROUP BY r.event.id
                         """)
-        List<EventCountProjection> countAttendanceGroupedByEventIds(
+        List<EventAttendanceCountProjection> countAttendanceSummaryGroupedByEventIds(
                         @Param("eventIds") List<Long> eventIds,
                         @Param("excludedStatus") RegistrationStatus excludedStatus);
 
         @Query("""
-                        SELECT r.event.id AS eventId, COUNT(r.id) AS total
+                        SELECT r.event.id AS eventId,
+                               SUM(CASE WHEN r.status <> :cancelledStatus THEN 1 ELSE 0 END) AS registeredCount,
+                               SUM(CASE WHEN r.status <> :cancelledStatus AND r.checkedInAt IS NOT NULL
+                                        THEN 1 ELSE 0 END) AS attendedCount,
+                               SUM(CASE WHEN r.status = :waitlistedStatus THEN 1 ELSE 0 END) AS waitlistedCount,
+                               SUM(CASE WHEN r.status = :cancelledStatus THEN 1 ELSE 0 END) AS cancelledCount
                         FROM Registration r
                         WHERE r.event.id IN :eventIds
-                          AND r.status <> :excludedStatus
                         GROUP BY r.event.id
                         """)
-        List<EventCountProjection> countRegistrationsGroupedByEventIds(
+        List<RegistrationStatsProjection> countRegistrationStatsGroupedByEventIds(
                         @Param("eventIds") List<Long> eventIds,
+                        @Param("cancelledStatus") RegistrationStatus cancelledStatus,
+                        @Param("waitlistedStatus") RegistrationStatus waitlistedStatus);
+
+        @Query("""
+                        SELECT r.id AS registrationId, r.user.id AS userId
+                        FROM Registration r
+                        WHERE r.event.id = :eventId
+                          AND r.status <> :excludedStatus
+                          AND r.user IS NOT NULL
+                        """)
+        List<CheckInIndexProjection> findCheckInIndexEntries(
+                        @Param("eventId") Long eventId,
                         @Param("excludedStatus") RegistrationStatus excludedStatus);
 
+        /**
+         * Marks a single registration as checked in if it is not already. Returns
+         * the number of rows changed (0 when already checked in or excluded).
+         */
+        @Modifying
+        @Query("""
+                        UPDATE Registration r
+                        SET r.checkedInAt = :checkedInAt
+                        WHERE r.id = :registrationId
+                          AND r.checkedInAt IS NULL
+                          AND r.status <> :excludedStatus
+                        """)
+        int markCheckedIn(
+                        @Param("registrationId") Long registrationId,
+                        @Param("checkedInAt") LocalDateTime checkedInAt,
+                        @Param("excludedStatus") RegistrationStatus excludedStatus);
+
+        /**
+         * Clears the check-in of a single registration if it is checked in.
+         * Returns the number of rows changed (0 when not checked in).
+         */
+        @Modifying
+        @Query("""
+                        UPDATE Registration r
+                        SET r.checkedInAt = NULL
+                        WHERE r.id = :registrationId
+                          AND r.checkedInAt IS NOT NULL
+                        """)
+        int clearCheckedIn(@Param("registrationId") Long registrationId);
+
+        /**
+         * Current status and check-in time of the given registrations, read from
+         * the database rather than from entities loaded before a conditional update.
+         */
+        @Query("""
+                        SELECT r.id AS registrationId, r.status AS status, r.checkedInAt AS checkedInAt
+                        FROM Registration r
+                        WHERE r.id IN :registrationIds
+                        """)
+        List<CheckInStateProjection> findCheckInStates(@Param("registrationIds") Collection<Long> registrationIds);
+
         List<Registration> findByEventIdAndStatusIn(Long eventId, List<RegistrationStatus> statuses);
 
+        /**
+         * Pages through the ids of users registered to an event with the given
+         * status, in id order, starting after {@code afterUserId}. Registrations
+         * without a user account (family members) are skipped.
+         */
+        @Query("""
+                        SELECT r.user.id FROM Registration r
+                        WHERE r.event.id = :eventId
+                          AND r.status = :status
+                          AND r.user IS NOT NULL
+                          AND r.user.id > :afterUserId
+                        ORDER BY r.user.id
+                        """)
+        List<Long> findUserIdsByEventIdAndStatus(
+                        @Param("eventId") Long eventId,
+                        @Param("status") RegistrationStatus status,
+                        @Param("afterUserId") Long afterUserId,
+                        Pageable pageable);
+
         List<Registration> findByEventIdAndStatusNot(Long eventId, RegistrationStatus status);
 
         Optional<Registration> findFirstByEventIdAndStatusOrderByWaitlistedPositionAsc(Long eventId,
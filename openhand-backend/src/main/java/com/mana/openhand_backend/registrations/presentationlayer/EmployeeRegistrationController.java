@@ -9,13 +9,17 @@ import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
 import com.mana.openhand_backend.registrations.domainclientlayer.EmployeeRegistrationRequestModel;
 import com.mana.openhand_backend.registrations.domainclientlayer.RegistrationResponseModel;
 import com.mana.openhand_backend.registrations.utils.RegistrationResponseMapper;
+import com.mana.openhand_backend.security.CurrentUserId;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
 @RequestMapping("/api/employee/registrations")
@@ -37,7 +41,7 @@ public class EmployeeRegistrationController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public RegistrationResponseModel registerParticipant(@RequestBody EmployeeRegistrationRequestModel request,
-            Authentication authentication) {
+            @CurrentUserId(required = false) Long actorId) {
         Registration registration;
         try {
             registration = registrationService.registerForEvent(request.getUserId(), request.getEventId());
@@ -53,13 +57,20 @@ public class EmployeeRegistrationController {
 
         // Notify the acting employee/admin that the participant was registered
         try {
-            UserDetails actorDetails = (UserDetails) authentication.getPrincipal();
-            User actor = userRepository.findByEmail(actorDetails.getUsername())
-                    .orElseThrow(() -> new RuntimeException("Acting user not found: " + actorDetails.getUsername()));
-
-            // Get the participant who was registered
-            User participant = userRepository.findById(request.getUserId())
-                    .orElseThrow(() -> new RuntimeException("Participant not found: " + request.getUserId()));
+            if (actorId == null) {
+                throw new RuntimeException("Acting user not found");
+            }
+            // Actor and participant are loaded together; the actor id comes from the token.
+            Map<Long, User> usersById = userRepository.findAllById(List.of(actorId, request.getUserId())).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity(), (first, second) -> first));
+            User actor = usersById.get(actorId);
+            if (actor == null) {
+                throw new RuntimeException("Acting user not found: " + actorId);
+            }
+            User participant = usersById.get(request.getUserId());
+            if (participant == null) {
+                throw new RuntimeException("Participant not found: " + request.getUserId());
+            }
 
             String language = actor.getPreferredLanguage() != null ? actor.getPreferredLanguage() : "en";
             notificationService.createNotification(
@@ -1,7 +1,5 @@
 package com.mana.openhand_backend.registrations.presentationlayer;
 
-import com.mana.openhand_backend.identity.dataaccesslayer.User;
-import com.mana.openhand_backend.identity.businesslayer.UserMemberService;
 import com.mana.openhand_backend.registrations.businesslayer.RegistrationService;
 import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
 import com.mana.openhand_backend.registrations.domainclientlayer.RegistrationHistoryFilter;
@@ -9,11 +7,10 @@ import com.mana.openhand_backend.registrations.domainclientlayer.RegistrationHis
 import com.mana.openhand_backend.registrations.domainclientlayer.RegistrationRequestModel;
 import com.mana.openhand_backend.registrations.domainclientlayer.RegistrationResponseModel;
 import com.mana.openhand_backend.registrations.utils.RegistrationResponseMapper;
+import com.mana.openhand_backend.security.CurrentUserId;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,11 +21,9 @@ import java.util.stream.Collectors;
 public class RegistrationController {
 
     private final RegistrationService registrationService;
-    private final UserMemberService userMemberService;
 
-    public RegistrationController(RegistrationService registrationService, UserMemberService userMemberService) {
+    public RegistrationController(RegistrationService registrationService) {
         this.registrationService = registrationService;
-        this.userMemberService = userMemberService;
     }
 
     @PostMapping
@@ -36,11 +31,7 @@ public class RegistrationController {
     @ResponseStatus(HttpStatus.CREATED)
     public RegistrationResponseModel registerForEvent(
             @RequestBody RegistrationRequestModel request,
-            Authentication authentication) {
-
-        // Extract user ID from authentication
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        Long userId = extractUserIdFromEmail(userDetails.getUsername());
+            @CurrentUserId Long userId) {
 
         Registration registration = registrationService.registerForEvent(userId, request.getEventId());
         return RegistrationResponseMapper.toResponseModel(registration);
@@ -48,10 +39,7 @@ public class RegistrationController {
 
     @GetMapping("/my-registrations")
     @PreAuthorize("hasRole('ROLE_MEMBER') or hasRole('ROLE_EMPLOYEE')")
-    public List<RegistrationResponseModel> getMyRegistrations(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        Long userId = extractUserIdFromEmail(userDetails.getUsername());
-
+    public List<RegistrationResponseModel> getMyRegistrations(@CurrentUserId Long userId) {
         List<Registration> registrations = registrationService.getUserRegistrations(userId);
         return registrations.stream()
                 .map(RegistrationResponseMapper::toResponseModel)
@@ -61,11 +49,8 @@ public class RegistrationController {
     @GetMapping("/me")
     @PreAuthorize("hasRole('ROLE_MEMBER')")
     public List<RegistrationHistoryResponseModel> getMyRegistrationHistory(
-            Authentication authentication,
+            @CurrentUserId Long userId,
             @RequestParam(value = "filter", defaultValue = "ALL") String filter) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        Long userId = extractUserIdFromEmail(userDetails.getUsername());
-
         RegistrationHistoryFilter parsedFilter = parseHistoryFilter(filter);
         return registrationService.getUserRegistrationHistory(userId, parsedFilter);
     }
@@ -74,21 +59,12 @@ public class RegistrationController {
     @PreAuthorize("hasRole('ROLE_MEMBER') or hasRole('ROLE_EMPLOYEE')")
     public RegistrationResponseModel cancelRegistration(
             @PathVariable Long eventId,
-            Authentication authentication) {
-
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        Long userId = extractUserIdFromEmail(userDetails.getUsername());
+            @CurrentUserId Long userId) {
 
         Registration registration = registrationService.cancelRegistration(userId, eventId);
         return RegistrationResponseMapper.toResponseModel(registration);
     }
 
-    // Helper method to extract user ID from email
-    private Long extractUserIdFromEmail(String email) {
-        User user = userMemberService.getProfileByEmail(email);
-        return user.getId();
-    }
-
     private RegistrationHistoryFilter parseHistoryFilter(String filter) {
         try {
             return RegistrationHistoryFilter.valueOf(filter.trim().toUpperCase());
@@ -0,0 +1,24 @@
+package com.mana.openhand_backend.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a controller parameter to the id of the authenticated user. The id is
+ * read from the principal built by the JWT filter, so no user lookup happens
+ * on the request path.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUserId {
+
+    /**
+     * When false, the parameter is {@code null} instead of failing the request
+     * if the caller is anonymous or does not map to an account.
+     */
+    boolean required() default true;
+}
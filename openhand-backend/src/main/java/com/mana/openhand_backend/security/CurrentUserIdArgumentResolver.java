@@ -0,0 +1,84 @@
+package com.mana.openhand_backend.security;
+
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.identity.utils.UserNotFoundException;
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+/**
+ * Resolves {@link CurrentUserId} parameters. Principals built by the JWT
+ * filter already carry the user id; other principals, such as those of
+ * {@code @WithMockUser} tests, fall back to a lookup by email.
+ */
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final ObjectProvider<UserRepository> userRepository;
+
+    public CurrentUserIdArgumentResolver(ObjectProvider<UserRepository> userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        CurrentUserId annotation = parameter.getParameterAnnotation(CurrentUserId.class);
+        boolean required = annotation == null || annotation.required();
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || authentication.getPrincipal() == null) {
+            if (required) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
+            }
+            return null;
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserDetailsImpl details && details.getId() != null) {
+            return details.getId();
+        }
+        if (principal instanceof User user && user.getId() != null) {
+            return user.getId();
+        }
+
+        String email = principal instanceof UserDetails userDetails
+                ? userDetails.getUsername()
+                : authentication.getName();
+        Optional<Long> userId = findUserIdByEmail(email);
+        if (userId.isPresent()) {
+            return userId.get();
+        }
+        if (required) {
+            throw new UserNotFoundException(email);
+        }
+        return null;
+    }
+
+    private Optional<Long> findUserIdByEmail(String email) {
+        UserRepository repository = userRepository.getIfAvailable();
+        if (repository == null || email == null) {
+            return Optional.empty();
+        }
+        return repository.findByEmail(email).map(User::getId);
+    }
+}
@@ -2,7 +2,10 @@ package com.mana.openhand_backend.security;
 
 import com.mana.openhand_backend.security.jwt.AuthEntryPointJwt;
 import com.mana.openhand_backend.security.jwt.AuthTokenFilter;
+import com.mana.openhand_backend.security.services.BoundedPasswordEncoder;
 import com.mana.openhand_backend.security.services.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +22,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.core.context.SecurityContextHolder;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -39,6 +43,23 @@ public class WebSecurityConfig {
     @Autowired
     private AuthEntryPointJwt unauthorizedHandler;
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // Raising the strength re-hashes each stored password on its next successful login.
+    @Value("${openhand.app.auth.bcryptStrength:10}")
+    private int bcryptStrength = 10;
+
+    // 0 means one hashing thread per available processor.
+    @Value("${openhand.app.auth.passwordHashThreads:0}")
+    private int passwordHashThreads;
+
+    @Value("${openhand.app.auth.passwordHashQueueCapacity:64}")
+    private int passwordHashQueueCapacity = 64;
+
+    @Value("${openhand.app.auth.passwordHashRetryAfterSeconds:2}")
+    private long passwordHashRetryAfterSeconds = 2;
+
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
@@ -49,6 +70,7 @@ public class WebSecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -60,7 +82,15 @@ public class WebSecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = passwordHashThreads > 0
+                ? passwordHashThreads
+                : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(bcryptStrength),
+                threads,
+                passwordHashQueueCapacity,
+                passwordHashRetryAfterSeconds,
+                meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
     }
 
     @Value("${openhand.app.cors.allowedOrigins:http://localhost:3000,http://localhost:8080,http://localhost:8081}")
@@ -78,7 +108,7 @@ public class WebSecurityConfig {
                 Arrays.stream(allowedOrigins.split(",")).map(String::trim).collect(Collectors.toList()));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(List.of("Authorization", "Content-Type", "X-Next-Cursor"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -105,6 +135,8 @@ public class WebSecurityConfig {
                         }))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches of an already-authorized request (SSE streams) carry no token.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/login", "/api/auth/register", "/api/auth/refreshtoken",
                                 "/api/auth/forgot-password", "/api/auth/reset-password")
                         .permitAll()
@@ -117,6 +149,8 @@ public class WebSecurityConfig {
                         .requestMatchers("/api/registrations/**").authenticated()
                         .requestMatchers("/error").permitAll()
                         .requestMatchers("/api/health").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/uploads/**").permitAll()
                         .requestMatchers("/ws/**").permitAll() // Allow WebSocket handshake
                         .anyRequest().authenticated());
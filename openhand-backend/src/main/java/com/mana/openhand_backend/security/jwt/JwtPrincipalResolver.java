@@ -0,0 +1,70 @@
+package com.mana.openhand_backend.security.jwt;
+
+import com.mana.openhand_backend.security.services.AccountRevocationService;
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import com.mana.openhand_backend.security.services.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Turns an access token into the principal it authenticates. Shared by
+ * {@link AuthTokenFilter} for HTTP requests and
+ * {@link StompAuthChannelInterceptor} for WebSocket connections, so both apply
+ * the same revocation check and user lookup.
+ */
+@Component
+public class JwtPrincipalResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtPrincipalResolver.class);
+
+    private final JwtUtils jwtUtils;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final AccountRevocationService accountRevocationService;
+    // When enabled, tokens carrying a user id are trusted for id, email and roles
+    // instead of loading the user on every request.
+    private final boolean claimsPrincipal;
+
+    public JwtPrincipalResolver(JwtUtils jwtUtils,
+            UserDetailsServiceImpl userDetailsService,
+            AccountRevocationService accountRevocationService,
+            @Value("${openhand.app.auth.claimsPrincipal:true}") boolean claimsPrincipal) {
+        this.jwtUtils = jwtUtils;
+        this.userDetailsService = userDetailsService;
+        this.accountRevocationService = accountRevocationService;
+        this.claimsPrincipal = claimsPrincipal;
+    }
+
+    /**
+     * Returns the principal for a valid token, or empty when the token is
+     * invalid, expired or issued before its account was revoked.
+     */
+    public Optional<UserDetails> resolve(String jwt) {
+        return jwtUtils.parseValidClaims(jwt).map(this::resolvePrincipal);
+    }
+
+    private UserDetails resolvePrincipal(Claims claims) {
+        Number userId = claims.get(JwtUtils.USER_ID_CLAIM, Number.class);
+        if (!claimsPrincipal || userId == null) {
+            // Tokens issued before the id claim existed still go through the database.
+            return userDetailsService.loadUserByUsernameCached(claims.getSubject());
+        }
+
+        if (accountRevocationService.isRevoked(userId.longValue(), claims.getIssuedAt())) {
+            logger.warn("Rejected revoked access token for user {}", userId);
+            return null;
+        }
+
+        List<?> roles = claims.get(JwtUtils.ROLES_CLAIM, List.class);
+        return UserDetailsImpl.fromClaims(
+                userId.longValue(),
+                claims.getSubject(),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList());
+    }
+}
@@ -1,8 +1,10 @@
 package com.mana.openhand_backend.security.jwt;
 
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
 import io.jsonwebtoken.*;
 
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,47 +15,75 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtUtils {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
+    public static final String ROLES_CLAIM = "roles";
+    public static final String USER_ID_CLAIM = "uid";
+
     @Value("${openhand.app.jwtSecret}")
     private String jwtSecret;
 
     @Value("${openhand.app.jwtExpirationMs:86400000}")
     private int jwtExpirationMs;
 
+    // Key and parser are immutable and thread-safe, so they are built once per secret.
+    private volatile SigningState signingState;
+
+    public JwtUtils() {
+    }
+
+    JwtUtils(String jwtSecret, int jwtExpirationMs) {
+        this.jwtSecret = jwtSecret;
+        this.jwtExpirationMs = jwtExpirationMs;
+    }
+
+    @PostConstruct
+    void init() {
+        signingState();
+    }
+
+    /**
+     * Switches to a new signing secret. Tokens signed with the previous secret
+     * stop validating immediately.
+     */
+    public synchronized void rotateSigningKey(String newSecret) {
+        this.jwtSecret = newSecret;
+        this.signingState = SigningState.of(newSecret);
+    }
+
     public String generateJwtToken(Authentication authentication) {
 
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal(); // Casting directly assuming standard
         // usage
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject((userPrincipal.getUsername()))
-                .claim("roles", userPrincipal.getAuthorities().stream()
+                .claim(ROLES_CLAIM, userPrincipal.getAuthorities().stream()
                         .map(GrantedAuthority::getAuthority)
-                        .collect(Collectors.toList()))
+                        .collect(Collectors.toList()));
+        if (userPrincipal instanceof UserDetailsImpl details && details.getId() != null) {
+            builder.claim(USER_ID_CLAIM, details.getId());
+        }
+
+        return builder
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(signingState().key(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
-    }
-
-    public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build()
-                .parseClaimsJws(token).getBody().getSubject();
-    }
-
-    public boolean validateJwtToken(String authToken) {
+    /**
+     * Validates the token and returns its claims in a single parse, or an empty
+     * result when the token is invalid, expired or not signed with our key.
+     */
+    public Optional<Claims> parseValidClaims(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key()).build().parse(authToken);
-            return true;
+            return Optional.of(signingState().parser().parseClaimsJws(authToken).getBody());
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -62,8 +92,39 @@ public class JwtUtils {
             logger.error("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.error("JWT token signature is invalid: {}", e.getMessage());
         }
 
-        return false;
+        return Optional.empty();
+    }
+
+    public String getUserNameFromJwtToken(String token) {
+        return signingState().parser().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    public boolean validateJwtToken(String authToken) {
+        return parseValidClaims(authToken).isPresent();
+    }
+
+    private SigningState signingState() {
+        SigningState state = signingState;
+        if (state == null || !state.secret().equals(jwtSecret)) {
+            synchronized (this) {
+                state = signingState;
+                if (state == null || !state.secret().equals(jwtSecret)) {
+                    state = SigningState.of(jwtSecret);
+                    signingState = state;
+                }
+            }
+        }
+        return state;
+    }
+
+    private record SigningState(String secret, Key key, JwtParser parser) {
+        static SigningState of(String secret) {
+            Key key = Keys.hmacShaKeyFor(secret.getBytes());
+            return new SigningState(secret, key, Jwts.parserBuilder().setSigningKey(key).build());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.mana.openhand_backend.security.jwt;
+
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+
+/**
+ * Authenticates STOMP connections from the {@code Authorization: Bearer}
+ * header of the CONNECT frame through the same {@link JwtPrincipalResolver}
+ * that {@link AuthTokenFilter} uses for HTTP requests. The connection's principal is named after the user id, so
+ * {@code convertAndSendToUser(userId, ...)} reaches that user's sessions.
+ * Subscriptions to the legacy per-user notification topic are limited to the
+ * user it belongs to.
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String LEGACY_NOTIFICATIONS_TOPIC = "/topic/notifications/";
+
+    private final JwtPrincipalResolver jwtPrincipalResolver;
+
+    public StompAuthChannelInterceptor(JwtPrincipalResolver jwtPrincipalResolver) {
+        this.jwtPrincipalResolver = jwtPrincipalResolver;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) == SimpMessageType.SUBSCRIBE) {
+            checkSubscription(SimpMessageHeaderAccessor.getDestination(headers),
+                    SimpMessageHeaderAccessor.getUser(headers));
+            return message;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String jwt = parseJwt(accessor.getFirstNativeHeader("Authorization"));
+        UserDetails userDetails = jwt != null ? jwtPrincipalResolver.resolve(jwt).orElse(null) : null;
+        if (!(userDetails instanceof UserDetailsImpl user) || user.getId() == null) {
+            throw new BadCredentialsException("A valid access token is required to connect");
+        }
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                String.valueOf(user.getId()), null, user.getAuthorities());
+        authentication.setDetails(user);
+        accessor.setUser(authentication);
+        return message;
+    }
+
+    private static void checkSubscription(String destination, Principal user) {
+        if (destination == null || !destination.startsWith(LEGACY_NOTIFICATIONS_TOPIC)) {
+            return;
+        }
+        if (user == null || !destination.equals(LEGACY_NOTIFICATIONS_TOPIC + user.getName())) {
+            throw new AccessDeniedException("Cannot subscribe to another user's notifications");
+        }
+    }
+
+    private static String parseJwt(String headerAuth) {
+        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
+            return headerAuth.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.mana.openhand_backend.security.services;
+
+import com.mana.openhand_backend.identity.dataaccesslayer.MemberStatus;
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory view of which accounts may no longer use their access tokens, so
+ * claims-based authentication can reject deactivated or locked users without a
+ * database lookup per request. The set and the users' persisted
+ * {@code tokensValidAfter} cutoffs are reloaded from the database after the
+ * refresh interval, so restarts and other instances see them too, and local
+ * status, role and email changes apply immediately once they commit. Each change
+ * also invalidates the user's cached principal through the
+ * {@link PrincipalInvalidationBroadcaster}.
+ */
+@Service
+public class AccountRevocationService {
+
+    private final UserRepository userRepository;
+    private final PrincipalInvalidationBroadcaster invalidationBroadcaster;
+    private final long refreshIntervalMs;
+    private final long jwtExpirationMs;
+
+    private volatile Set<Long> revokedUserIds = ConcurrentHashMap.newKeySet();
+    private volatile long loadedAt;
+    // Mirror of User.tokensValidAfter for the cutoffs that can still matter.
+    private final ConcurrentMap<Long, Instant> tokensNotBefore = new ConcurrentHashMap<>();
+    // A lock rather than synchronized: the reload queries the database, which
+    // would pin the carrier thread when requests run on virtual threads.
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public AccountRevocationService(
+            UserRepository userRepository,
+            PrincipalInvalidationBroadcaster invalidationBroadcaster,
+            @Value("${openhand.app.auth.revocationRefreshMs:30000}") long refreshIntervalMs,
+            @Value("${openhand.app.jwtExpirationMs:86400000}") long jwtExpirationMs) {
+        this.userRepository = userRepository;
+        this.invalidationBroadcaster = invalidationBroadcaster;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.jwtExpirationMs = jwtExpirationMs;
+    }
+
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        refreshIfStale();
+        if (revokedUserIds.contains(userId)) {
+            return true;
+        }
+        Instant notBefore = tokensNotBefore.get(userId);
+        return notBefore != null && (issuedAt == null || !issuedAt.toInstant().isAfter(notBefore));
+    }
+
+    /** Rejects every access token of a deactivated or locked account. */
+    public void revoke(Long userId) {
+        afterCommit(userId, () -> revokedUserIds.add(userId));
+    }
+
+    /** Accepts the account's tokens again after reactivation. */
+    public void restore(Long userId) {
+        afterCommit(userId, () -> revokedUserIds.remove(userId));
+    }
+
+    /**
+     * Rejects tokens issued so far so the next refresh picks up new roles or a
+     * new email. The cutoff is stored on the user, so the caller must save it in
+     * the same transaction. JWT timestamps have second precision, so a token
+     * counts as issued before the cutoff when its {@code iat} is not after it;
+     * that also rejects tokens issued later in the same second, which the
+     * client replaces by refreshing again.
+     */
+    public void invalidateIssuedTokens(User user) {
+        Long userId = user.getId();
+        Instant notBefore = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        user.setTokensValidAfter(notBefore);
+        afterCommit(userId, () -> tokensNotBefore.merge(userId, notBefore, AccountRevocationService::later));
+    }
+
+    private void refreshIfStale() {
+        if (System.currentTimeMillis() - loadedAt < refreshIntervalMs) {
+            return;
+        }
+        reloadLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (now - loadedAt < refreshIntervalMs) {
+                return;
+            }
+            Set<Long> reloaded = ConcurrentHashMap.newKeySet();
+            reloaded.addAll(userRepository.findRevokedUserIds(MemberStatus.INACTIVE));
+            revokedUserIds = reloaded;
+
+            // Every token issued before the cutoff has expired on its own by now.
+            // Merging keeps a local change that committed while the query ran.
+            Instant cutoff = Instant.ofEpochMilli(now - jwtExpirationMs);
+            for (UserRepository.TokensValidAfterProjection row : userRepository.findTokensValidAfter(cutoff)) {
+                tokensNotBefore.merge(row.getId(), row.getTokensValidAfter(), AccountRevocationService::later);
+            }
+            tokensNotBefore.values().removeIf(notBefore -> notBefore.isBefore(cutoff));
+            loadedAt = now;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private static Instant later(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private void afterCommit(Long userId, Runnable action) {
+        Runnable apply = () -> {
+            action.run();
+            invalidationBroadcaster.invalidate(userId);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
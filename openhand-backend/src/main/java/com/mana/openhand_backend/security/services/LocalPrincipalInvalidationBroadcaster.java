@@ -0,0 +1,25 @@
+package com.mana.openhand_backend.security.services;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-instance broadcaster: publishes the invalidation as an application
+ * event on this JVM only.
+ */
+@Component
+@ConditionalOnProperty(name = "openhand.app.auth.principalInvalidation", havingValue = "local", matchIfMissing = true)
+public class LocalPrincipalInvalidationBroadcaster implements PrincipalInvalidationBroadcaster {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LocalPrincipalInvalidationBroadcaster(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void invalidate(Long userId) {
+        eventPublisher.publishEvent(new PrincipalInvalidatedEvent(userId));
+    }
+}
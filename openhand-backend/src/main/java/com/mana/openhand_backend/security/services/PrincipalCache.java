@@ -0,0 +1,67 @@
+package com.mana.openhand_backend.security.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Size- and TTL-bounded cache of principals loaded for authenticated requests,
+ * keyed by email. Entries are dropped when a {@link PrincipalInvalidatedEvent}
+ * arrives for their user. Hit, miss and eviction counts are published as the
+ * {@code cache.*} meters tagged {@code cache=principalCache}.
+ */
+@Component
+public class PrincipalCache {
+
+    static final String CACHE_NAME = "principalCache";
+
+    private final Cache<String, UserDetails> cache;
+    private final boolean enabled;
+
+    public PrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${openhand.app.auth.principalCacheMaxSize:10000}") long maxSize,
+            @Value("${openhand.app.auth.principalCacheTtlMs:60000}") long ttlMs) {
+        this.enabled = maxSize > 0 && ttlMs > 0;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfterWrite(Duration.ofMillis(Math.max(ttlMs, 0)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        return cache.get(email, loader);
+    }
+
+    @EventListener
+    public void onPrincipalInvalidated(PrincipalInvalidatedEvent event) {
+        // Keyed by email, which may itself have changed, so match on the id.
+        cache.asMap().values().removeIf(details -> details instanceof UserDetailsImpl impl
+                && event.userId().equals(impl.getId()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    long missCount() {
+        return cache.stats().missCount();
+    }
+}
@@ -0,0 +1,7 @@
+package com.mana.openhand_backend.security.services;
+
+/**
+ * Signals that cached principals for a user must be dropped on this instance.
+ */
+public record PrincipalInvalidatedEvent(Long userId) {
+}
@@ -0,0 +1,12 @@
+package com.mana.openhand_backend.security.services;
+
+/**
+ * Announces that a user's cached principal is stale. Implementations deliver
+ * a {@link PrincipalInvalidatedEvent} to every backend instance; a message-bus
+ * implementation can replace the in-process default by setting
+ * {@code openhand.app.auth.principalInvalidation} to another value.
+ */
+public interface PrincipalInvalidationBroadcaster {
+
+    void invalidate(Long userId);
+}
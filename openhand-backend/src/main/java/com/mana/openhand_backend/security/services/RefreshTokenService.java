@@ -1,31 +1,87 @@
 package com.mana.openhand_backend.security.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mana.openhand_backend.identity.dataaccesslayer.RefreshToken;
 import com.mana.openhand_backend.identity.dataaccesslayer.RefreshTokenRepository;
 import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.mana.openhand_backend.identity.utils.UserNotFoundException;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Issues and rotates refresh tokens. Only a SHA-256 hash of each token is
+ * stored. Rotation replaces the hash in place with one conditional update, and
+ * recently rotated tokens are remembered for a short grace period so parallel
+ * refreshes sent with the same token (e.g. when the app resumes) all receive
+ * the rotated token instead of failing.
+ */
 @Service
 public class RefreshTokenService {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
     @Value("${openhand.app.jwtRefreshExpirationMs}")
     private Long refreshTokenDurationMs;
 
+    @Value("${openhand.app.auth.refreshRotationGraceMs:30000}")
+    private long rotationGraceMs = 30_000;
+
+    @Value("${openhand.app.auth.refreshRotationCacheMaxSize:10000}")
+    private long rotationCacheMaxSize = 10_000;
+
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    // Hash of a rotated token -> the token it was rotated into.
+    private Cache<String, RefreshToken> recentlyRotated;
+
+    @PostConstruct
+    void init() {
+        recentlyRotated = Caffeine.newBuilder()
+                .maximumSize(rotationCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(rotationGraceMs))
+                .build();
+    }
+
     public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+        return refreshTokenRepository.findByTokenHash(hash(token))
+                .map(refreshToken -> {
+                    refreshToken.setToken(token);
+                    return refreshToken;
+                });
+    }
+
+    /**
+     * Returns the token that {@code token} was rotated into within the grace
+     * period, provided it is presented from the same user agent.
+     */
+    public Optional<RefreshToken> findRecentlyRotated(String token, String userAgent) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(recentlyRotated.getIfPresent(hash(token)))
+                .filter(rotated -> rotated.getExpiryDate().isAfter(Instant.now()))
+                .filter(rotated -> rotated.getUserAgent() == null
+                        || rotated.getUserAgent().equals(userAgent));
     }
 
     public RefreshToken createRefreshToken(Long userId, String userAgent) {
@@ -34,7 +90,9 @@ public class RefreshTokenService {
         refreshToken.setUser(userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId)));
         refreshToken.setExpiryDate(Instant.now().plusMillis(refreshTokenDurationMs));
-        refreshToken.setToken(UUID.randomUUID().toString());
+        String token = UUID.randomUUID().toString();
+        refreshToken.setToken(token);
+        refreshToken.setTokenHash(hash(token));
         refreshToken.setUserAgent(userAgent);
 
         return refreshTokenRepository.save(refreshToken);
@@ -61,16 +119,56 @@ public class RefreshTokenService {
 
     @Transactional
     public int deleteByUserId(Long userId) {
+        recentlyRotated.asMap().values()
+                .removeIf(rotated -> Objects.equals(rotated.getUser().getId(), userId));
         return refreshTokenRepository.deleteByUser(userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId)));
     }
 
     @Transactional
     public RefreshToken rotateRefreshToken(RefreshToken token) {
-        // Delete the old token
-        refreshTokenRepository.delete(token);
+        String currentHash = token.getTokenHash();
+        String newToken = UUID.randomUUID().toString();
+        String newHash = hash(newToken);
+        Instant expiryDate = Instant.now().plusMillis(refreshTokenDurationMs);
 
-        // Create a new one for the same user and user agent
-        return createRefreshToken(token.getUser().getId(), token.getUserAgent());
+        if (refreshTokenRepository.rotate(token.getId(), currentHash, newHash, expiryDate) == 0) {
+            // A concurrent request rotated this token first; hand out its result.
+            RefreshToken rotated = recentlyRotated.getIfPresent(currentHash);
+            if (rotated == null) {
+                throw new InvalidRefreshTokenException("Refresh token was already used");
+            }
+            return rotated;
+        }
+
+        RefreshToken rotated = new RefreshToken();
+        rotated.setId(token.getId());
+        rotated.setUser(token.getUser());
+        rotated.setUserAgent(token.getUserAgent());
+        rotated.setExpiryDate(expiryDate);
+        rotated.setTokenHash(newHash);
+        rotated.setToken(newToken);
+        recentlyRotated.put(currentHash, rotated);
+        return rotated;
+    }
+
+    @Scheduled(fixedDelayString = "${openhand.app.auth.refreshTokenPurgeIntervalMs:3600000}",
+            initialDelayString = "${openhand.app.auth.refreshTokenPurgeIntervalMs:3600000}")
+    @Transactional
+    public int purgeExpiredTokens() {
+        int purged = refreshTokenRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            logger.info("Purged {} expired refresh tokens", purged);
+        }
+        return purged;
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
@@ -64,6 +64,18 @@ public class UserDetailsImpl implements UserDetails {
                 user.getProfilePictureUrl());
     }
 
+    /**
+     * Builds a principal from verified JWT claims. Only the id, email and roles
+     * are known; profile fields stay null and there is no password.
+     */
+    public static UserDetailsImpl fromClaims(Long id, String email, Collection<String> roles) {
+        List<GrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role))
+                .collect(Collectors.toList());
+
+        return new UserDetailsImpl(id, email, null, true, authorities, null, null, null, null, null);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
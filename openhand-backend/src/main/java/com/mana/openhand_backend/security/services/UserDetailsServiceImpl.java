@@ -4,16 +4,23 @@ import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    AccountRevocationService accountRevocationService;
+
+    @Autowired
+    PrincipalCache principalCache;
+
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -23,12 +30,37 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return UserDetailsImpl.build(user);
     }
 
+    /**
+     * Called by the authentication provider after a successful login when the
+     * stored hash was produced with a lower BCrypt cost than the configured one.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPasswordHash) {
+        return userRepository.findByEmail(userDetails.getUsername())
+                .<UserDetails>map(user -> {
+                    user.setPasswordHash(newPasswordHash);
+                    return UserDetailsImpl.build(userRepository.save(user));
+                })
+                .orElse(userDetails);
+    }
+
+    /**
+     * Per-request principal lookup used by the JWT filter. Login keeps calling
+     * {@link #loadUserByUsername} so credentials are always checked against the
+     * database.
+     */
+    public UserDetails loadUserByUsernameCached(String email) {
+        return principalCache.get(email, this::loadUserByUsername);
+    }
+
     @Transactional
     public void increaseFailedAttempts(User user) {
         int newFailAttempts = user.getFailedAttempt() + 1;
         user.setFailedAttempt(newFailAttempts);
         if (newFailAttempts >= 20) {
             user.setAccountNonLocked(false);
+            accountRevocationService.revoke(user.getId());
         }
         userRepository.save(user);
     }
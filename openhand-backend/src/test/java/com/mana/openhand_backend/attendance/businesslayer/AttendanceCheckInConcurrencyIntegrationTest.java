@@ -0,0 +1,156 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInItemRequestModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInStatus;
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
+import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs check-ins on separate transactions, so two scans of one attendee race
+ * the way two door devices would.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class AttendanceCheckInConcurrencyIntegrationTest {
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceCounterService attendanceCounterService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Event event;
+    private User attendee;
+    private Registration registration;
+
+    @BeforeEach
+    void setUp() {
+        event = eventRepository.save(new Event(
+                "Concurrent Check-in Event",
+                "Two devices at the door",
+                LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(3),
+                "MANA Center",
+                "1910 Test Blvd",
+                EventStatus.OPEN,
+                50,
+                0,
+                "General"
+        ));
+
+        User user = new User();
+        user.setEmail("concurrent-" + System.nanoTime() + "@example.com");
+        user.setPasswordHash("hashedPassword");
+        user.setRoles(new HashSet<>());
+        attendee = userRepository.save(user);
+
+        Registration pending = new Registration(attendee, event);
+        pending.setStatus(RegistrationStatus.CONFIRMED);
+        pending.setConfirmedAt(LocalDateTime.now());
+        registration = registrationRepository.save(pending);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteById(registration.getId());
+        userRepository.deleteById(attendee.getId());
+        eventRepository.deleteById(event.getId());
+        attendanceCounterService.evict(event.getId());
+    }
+
+    @Test
+    void checkInAttendee_concurrentScansOfSameAttendee_countOnce() throws Exception {
+        int before = attendanceCounterService.counterFor(event.getId()).snapshot().checkedInCount();
+
+        runTwice(() -> attendanceService.checkInAttendee(event.getId(), attendee.getId()));
+
+        assertEquals(before + 1, attendanceCounterService.counterFor(event.getId()).snapshot().checkedInCount());
+        assertEquals(1, registrationRepository.countByEventIdAndCheckedInAtIsNotNull(event.getId()));
+    }
+
+    @Test
+    void undoCheckInAttendee_concurrentUndosOfSameAttendee_countOnce() throws Exception {
+        attendanceService.checkInAttendee(event.getId(), attendee.getId());
+        int before = attendanceCounterService.counterFor(event.getId()).snapshot().checkedInCount();
+
+        runTwice(() -> attendanceService.undoCheckInAttendee(event.getId(), attendee.getId()));
+
+        assertEquals(before - 1, attendanceCounterService.counterFor(event.getId()).snapshot().checkedInCount());
+        assertEquals(0, registrationRepository.countByEventIdAndCheckedInAtIsNotNull(event.getId()));
+    }
+
+    @Test
+    void bulkCheckIn_overlappingReplaysOfSameAttendee_countOnce() throws Exception {
+        int before = attendanceCounterService.counterFor(event.getId()).snapshot().checkedInCount();
+        List<AttendanceBulkCheckInItemRequestModel> replay = List.of(
+                new AttendanceBulkCheckInItemRequestModel(attendee.getId(), LocalDateTime.now().minusMinutes(5)));
+
+        List<AttendanceBulkCheckInResponseModel> responses = runTwice(() -> attendanceService.bulkCheckIn(event.getId(), replay));
+
+        assertEquals(before + 1, attendanceCounterService.counterFor(event.getId()).snapshot().checkedInCount());
+        assertEquals(1, registrationRepository.countByEventIdAndCheckedInAtIsNotNull(event.getId()));
+        List<AttendanceBulkCheckInStatus> statuses = responses.stream()
+                .map(response -> response.getResults().get(0).getStatus())
+                .sorted()
+                .toList();
+        assertEquals(List.of(AttendanceBulkCheckInStatus.CHECKED_IN, AttendanceBulkCheckInStatus.ALREADY_CHECKED_IN),
+                statuses);
+    }
+
+    private <T> List<T> runTwice(Callable<T> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return action.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
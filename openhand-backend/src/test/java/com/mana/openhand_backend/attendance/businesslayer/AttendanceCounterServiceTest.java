@@ -0,0 +1,129 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceCounterServiceTest {
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    private AttendanceCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new AttendanceCounterService(registrationRepository, 60_000L);
+    }
+
+    @Test
+    void counterFor_seedsOnceFromDatabase() {
+        when(registrationRepository.countByEventIdAndStatusNot(1L, RegistrationStatus.CANCELLED)).thenReturn(12L);
+        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(1L)).thenReturn(4L);
+
+        AttendanceCounterService.EventCounter first = counterService.counterFor(1L);
+        AttendanceCounterService.EventCounter second = counterService.counterFor(1L);
+
+        assertSame(first, second);
+        assertEquals(new AttendanceCounterService.AttendanceCounts(12, 4), first.snapshot());
+        verify(registrationRepository, times(1)).countByEventIdAndStatusNot(1L, RegistrationStatus.CANCELLED);
+        verify(registrationRepository, times(1)).countByEventIdAndCheckedInAtIsNotNull(1L);
+    }
+
+    @Test
+    void adjustCheckedIn_updatesInMemoryWithoutQueries() {
+        when(registrationRepository.countByEventIdAndStatusNot(2L, RegistrationStatus.CANCELLED)).thenReturn(5L);
+        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(2L)).thenReturn(0L);
+        AttendanceCounterService.EventCounter counter = counterService.counterFor(2L);
+
+        counterService.adjustCheckedIn(counter, 1);
+        counterService.adjustCheckedIn(counter, 1);
+        AttendanceCounterService.AttendanceCounts counts = counterService.adjustCheckedIn(counter, -1);
+
+        assertEquals(5, counts.registeredCount());
+        assertEquals(1, counts.checkedInCount());
+        verifyNoMoreInteractions(registrationRepository);
+    }
+
+    @Test
+    void adjustCheckedIn_neverGoesNegative() {
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(3, 0, 0L);
+
+        AttendanceCounterService.AttendanceCounts counts = counterService.adjustCheckedIn(counter, -1);
+
+        assertEquals(0, counts.checkedInCount());
+    }
+
+    @Test
+    void counterFor_reseedsWhenStale() {
+        AttendanceCounterService shortLived = new AttendanceCounterService(registrationRepository, 0L);
+        when(registrationRepository.countByEventIdAndStatusNot(3L, RegistrationStatus.CANCELLED)).thenReturn(1L, 2L);
+        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(3L)).thenReturn(0L, 1L);
+
+        shortLived.counterFor(3L);
+        AttendanceCounterService.EventCounter reseeded = shortLived.counterFor(3L);
+
+        assertEquals(new AttendanceCounterService.AttendanceCounts(2, 1), reseeded.snapshot());
+    }
+
+    @Test
+    void evict_forcesReseedOnNextUse() {
+        when(registrationRepository.countByEventIdAndStatusNot(4L, RegistrationStatus.CANCELLED)).thenReturn(1L, 3L);
+        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(4L)).thenReturn(0L);
+
+        AttendanceCounterService.EventCounter first = counterService.counterFor(4L);
+        counterService.evict(4L);
+        AttendanceCounterService.EventCounter second = counterService.counterFor(4L);
+
+        assertNotSame(first, second);
+        assertEquals(3, second.snapshot().registeredCount());
+    }
+
+    @Test
+    void counterFor_concurrentFirstUse_seedsOnceAndKeepsEveryIncrement() throws Exception {
+        when(registrationRepository.countByEventIdAndStatusNot(5L, RegistrationStatus.CANCELLED)).thenReturn(50L);
+        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(5L)).thenAnswer(invocation -> {
+            Thread.sleep(50); // Widen the window in which a second seed could be installed.
+            return 0L;
+        });
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    counterService.adjustCheckedIn(counterService.counterFor(5L), 1);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads, counterService.counterFor(5L).snapshot().checkedInCount());
+        verify(registrationRepository, times(1)).countByEventIdAndCheckedInAtIsNotNull(5L);
+    }
+}
@@ -1,10 +1,16 @@
 package com.mana.openhand_backend.attendance.businesslayer;
 
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInItemRequestModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInStatus;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceCheckInChangeResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventAttendeesResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventSummaryResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceUpdateResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.CheckInTokenResponseModel;
 import com.mana.openhand_backend.attendance.utils.AttendanceCheckInNotAllowedException;
 import com.mana.openhand_backend.attendance.utils.AttendanceRegistrationNotFoundException;
+import com.mana.openhand_backend.attendance.utils.InvalidCheckInTokenException;
 import com.mana.openhand_backend.events.businesslayer.EventCompletionService;
 import com.mana.openhand_backend.events.dataaccesslayer.Event;
 import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
@@ -12,6 +18,7 @@ import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
 import com.mana.openhand_backend.events.utils.EventNotFoundException;
 import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationCheckInBatchRepository;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
 import org.junit.jupiter.api.Test;
@@ -20,12 +27,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -46,7 +55,22 @@ class AttendanceServiceImplTest {
     private RegistrationRepository registrationRepository;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private RegistrationCheckInBatchRepository registrationCheckInBatchRepository;
+
+    @Mock
+    private AttendanceCounterService attendanceCounterService;
+
+    @Mock
+    private AttendanceUpdatePublisher attendanceUpdatePublisher;
+
+    @Mock
+    private CheckInTokenService checkInTokenService;
+
+    @Mock
+    private CheckInTokenIndex checkInTokenIndex;
+
+    @Mock
+    private RegistrationStatsService registrationStatsService;
 
     @InjectMocks
     private AttendanceServiceImpl attendanceService;
@@ -61,11 +85,12 @@ class AttendanceServiceImplTest {
         event.setAddress("123 Street");
         event.setStatus(EventStatus.OPEN);
 
-        when(eventRepository.findAll(Sort.by(Sort.Direction.ASC, "startDateTime"))).thenReturn(List.of(event));
-        when(registrationRepository.countByEventIdAndStatusNot(1L, RegistrationStatus.CANCELLED)).thenReturn(5L);
-        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(1L)).thenReturn(2L);
+        when(eventRepository.findInWindow(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(event));
+        when(registrationRepository.countAttendanceSummaryGroupedByEventIds(List.of(1L), RegistrationStatus.CANCELLED))
+                .thenReturn(List.of(counts(1L, 5L, 2L)));
 
-        List<AttendanceEventSummaryResponseModel> result = attendanceService.getAttendanceEvents();
+        List<AttendanceEventSummaryResponseModel> result = attendanceService.getAttendanceEvents(null, null, 0, 100);
 
         assertEquals(1, result.size());
         AttendanceEventSummaryResponseModel summary = result.get(0);
@@ -77,6 +102,8 @@ class AttendanceServiceImplTest {
         assertEquals(20.0, summary.getOccupancyPercent());
 
         verify(eventCompletionService).refreshCompletedEvents(any(LocalDateTime.class));
+        verify(registrationRepository, never()).countByEventIdAndStatusNot(anyLong(), any());
+        verify(registrationRepository, never()).countByEventIdAndCheckedInAtIsNotNull(anyLong());
     }
 
     @Test
@@ -85,13 +112,43 @@ class AttendanceServiceImplTest {
         event.setTitle("No Cap");
         event.setStartDateTime(LocalDateTime.of(2025, 1, 2, 9, 0));
 
-        when(eventRepository.findAll(Sort.by(Sort.Direction.ASC, "startDateTime"))).thenReturn(List.of(event));
-        when(registrationRepository.countByEventIdAndStatusNot(2L, RegistrationStatus.CANCELLED)).thenReturn(0L);
-        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(2L)).thenReturn(0L);
+        when(eventRepository.findInWindow(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(event));
+        when(registrationRepository.countAttendanceSummaryGroupedByEventIds(List.of(2L), RegistrationStatus.CANCELLED))
+                .thenReturn(List.of());
 
-        AttendanceEventSummaryResponseModel summary = attendanceService.getAttendanceEvents().get(0);
+        AttendanceEventSummaryResponseModel summary = attendanceService.getAttendanceEvents(null, null, 0, 100).get(0);
 
         assertNull(summary.getOccupancyPercent());
+        assertEquals(0, summary.getRegisteredCount());
+        assertEquals(0, summary.getCheckedInCount());
+    }
+
+    @Test
+    void getAttendanceEvents_appliesWindowAndClampsPageSize() {
+        when(eventRepository.findInWindow(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        List<AttendanceEventSummaryResponseModel> result = attendanceService.getAttendanceEvents(
+                LocalDate.of(2025, 3, 1),
+                LocalDate.of(2025, 3, 31),
+                2,
+                10_000
+        );
+
+        assertTrue(result.isEmpty());
+
+        ArgumentCaptor<LocalDateTime> startCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> endCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(eventRepository).findInWindow(startCaptor.capture(), endCaptor.capture(), pageableCaptor.capture());
+
+        assertEquals(LocalDateTime.of(2025, 3, 1, 0, 0), startCaptor.getValue());
+        assertEquals(LocalDate.of(2025, 3, 31), endCaptor.getValue().toLocalDate());
+        assertEquals(2, pageableCaptor.getValue().getPageNumber());
+        assertEquals(AttendanceServiceImpl.MAX_PAGE_SIZE, pageableCaptor.getValue().getPageSize());
+        assertEquals(Sort.by(Sort.Direction.ASC, "startDateTime"), pageableCaptor.getValue().getSort());
+        verifyNoInteractions(registrationRepository);
     }
 
     @Test
@@ -141,28 +198,41 @@ class AttendanceServiceImplTest {
     void checkInAttendee_setsCheckedInAndPublishes() {
         Event event = buildEvent(8L, 10);
         Registration registration = buildRegistration(31L, event, RegistrationStatus.CONFIRMED, false);
+        ReflectionTestUtils.setField(registration, "id", 310L);
         when(registrationRepository.findByUserIdAndEventId(31L, 8L)).thenReturn(Optional.of(registration));
-        when(registrationRepository.save(registration)).thenReturn(registration);
-        when(registrationRepository.countByEventIdAndStatusNot(8L, RegistrationStatus.CANCELLED)).thenReturn(3L);
-        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(8L)).thenReturn(1L);
+        when(registrationRepository.markCheckedIn(eq(310L), any(LocalDateTime.class), eq(RegistrationStatus.CANCELLED)))
+                .thenReturn(1);
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(3, 0, 0L);
+        when(attendanceCounterService.counterFor(8L)).thenReturn(counter);
+        when(attendanceCounterService.adjustCheckedIn(counter, 1))
+                .thenReturn(new AttendanceCounterService.AttendanceCounts(3, 1));
 
         AttendanceUpdateResponseModel update = attendanceService.checkInAttendee(8L, 31L);
 
         assertTrue(update.isCheckedIn());
         assertNotNull(update.getCheckedInAt());
+        assertEquals(3, update.getRegisteredCount());
+        assertEquals(1, update.getCheckedInCount());
         assertEquals(10.0, update.getOccupancyPercent());
 
-        verify(messagingTemplate, times(2)).convertAndSend(anyString(), any(AttendanceUpdateResponseModel.class));
+        verify(attendanceUpdatePublisher).publish(update);
+        verify(registrationStatsService).markDirty(8L);
+        verify(registrationRepository, never()).save(any());
+        verify(registrationRepository, never()).countByEventIdAndStatusNot(anyLong(), any());
+        verify(registrationRepository, never()).countByEventIdAndCheckedInAtIsNotNull(anyLong());
     }
 
     @Test
     void undoCheckInAttendee_clearsCheckedInAndPublishes() {
         Event event = buildEvent(9L, 10);
         Registration registration = buildRegistration(41L, event, RegistrationStatus.CONFIRMED, true);
+        ReflectionTestUtils.setField(registration, "id", 410L);
         when(registrationRepository.findByUserIdAndEventId(41L, 9L)).thenReturn(Optional.of(registration));
-        when(registrationRepository.save(registration)).thenReturn(registration);
-        when(registrationRepository.countByEventIdAndStatusNot(9L, RegistrationStatus.CANCELLED)).thenReturn(2L);
-        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(9L)).thenReturn(0L);
+        when(registrationRepository.clearCheckedIn(410L)).thenReturn(1);
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(2, 1, 0L);
+        when(attendanceCounterService.counterFor(9L)).thenReturn(counter);
+        when(attendanceCounterService.adjustCheckedIn(counter, -1))
+                .thenReturn(new AttendanceCounterService.AttendanceCounts(2, 0));
 
         AttendanceUpdateResponseModel update = attendanceService.undoCheckInAttendee(9L, 41L);
 
@@ -170,22 +240,298 @@ class AttendanceServiceImplTest {
         assertNull(update.getCheckedInAt());
         assertEquals(0.0, update.getOccupancyPercent());
 
-        verify(messagingTemplate, times(2)).convertAndSend(anyString(), any(AttendanceUpdateResponseModel.class));
+        verify(attendanceUpdatePublisher).publish(update);
     }
 
     @Test
-    void checkInAttendee_doesNotOverwriteExistingTimestamp() {
+    void undoCheckInAttendee_whenNotCheckedIn_leavesCountUnchanged() {
+        Event event = buildEvent(9L, 10);
+        Registration registration = buildRegistration(42L, event, RegistrationStatus.CONFIRMED, true);
+        ReflectionTestUtils.setField(registration, "id", 420L);
+        when(registrationRepository.findByUserIdAndEventId(42L, 9L)).thenReturn(Optional.of(registration));
+        // Another device undid the check-in after this registration was read.
+        when(registrationRepository.clearCheckedIn(420L)).thenReturn(0);
+        when(registrationRepository.findCheckInStates(List.of(420L)))
+                .thenReturn(List.of(checkInState(420L, RegistrationStatus.CONFIRMED, null)));
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(2, 0, 0L);
+        when(attendanceCounterService.counterFor(9L)).thenReturn(counter);
+        when(attendanceCounterService.adjustCheckedIn(counter, 0))
+                .thenReturn(new AttendanceCounterService.AttendanceCounts(2, 0));
+
+        AttendanceUpdateResponseModel update = attendanceService.undoCheckInAttendee(9L, 42L);
+
+        assertFalse(update.isCheckedIn());
+        verifyNoInteractions(registrationStatsService);
+    }
+
+    @Test
+    void checkInAttendee_whenAlreadyCheckedIn_keepsStoredTimestampAndCount() {
         Event event = buildEvent(10L, 10);
-        Registration registration = buildRegistration(51L, event, RegistrationStatus.CONFIRMED, true);
-        LocalDateTime existing = registration.getCheckedInAt();
+        Registration registration = buildRegistration(51L, event, RegistrationStatus.CONFIRMED, false);
+        ReflectionTestUtils.setField(registration, "id", 510L);
+        LocalDateTime existing = LocalDateTime.now().minusMinutes(3);
         when(registrationRepository.findByUserIdAndEventId(51L, 10L)).thenReturn(Optional.of(registration));
-        when(registrationRepository.save(registration)).thenReturn(registration);
-        when(registrationRepository.countByEventIdAndStatusNot(10L, RegistrationStatus.CANCELLED)).thenReturn(1L);
-        when(registrationRepository.countByEventIdAndCheckedInAtIsNotNull(10L)).thenReturn(1L);
+        // A concurrent scan checked the attendee in after this registration was read.
+        when(registrationRepository.markCheckedIn(eq(510L), any(LocalDateTime.class), eq(RegistrationStatus.CANCELLED)))
+                .thenReturn(0);
+        when(registrationRepository.findCheckInStates(List.of(510L)))
+                .thenReturn(List.of(checkInState(510L, RegistrationStatus.CONFIRMED, existing)));
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(1, 1, 0L);
+        when(attendanceCounterService.counterFor(10L)).thenReturn(counter);
+        when(attendanceCounterService.adjustCheckedIn(counter, 0))
+                .thenReturn(new AttendanceCounterService.AttendanceCounts(1, 1));
+
+        AttendanceUpdateResponseModel update = attendanceService.checkInAttendee(10L, 51L);
+
+        assertTrue(update.isCheckedIn());
+        assertEquals(existing.toString(), update.getCheckedInAt());
+        verify(attendanceCounterService).adjustCheckedIn(counter, 0);
+        verifyNoInteractions(registrationStatsService);
+    }
+
+    @Test
+    void bulkCheckIn_appliesChangesInOneBatchAndPublishesOnce() {
+        Event event = buildEvent(12L, 20);
+        when(eventRepository.findById(12L)).thenReturn(Optional.of(event));
+
+        Registration fresh = buildRegistration(61L, event, RegistrationStatus.CONFIRMED, false);
+        Registration already = buildRegistration(62L, event, RegistrationStatus.CONFIRMED, true);
+        Registration cancelled = buildRegistration(63L, event, RegistrationStatus.CANCELLED, false);
+        ReflectionTestUtils.setField(fresh, "id", 610L);
+        ReflectionTestUtils.setField(already, "id", 620L);
+        ReflectionTestUtils.setField(cancelled, "id", 630L);
+        when(registrationRepository.findByEventIdAndUserIdIn(eq(12L), anyCollection()))
+                .thenReturn(List.of(fresh, already, cancelled));
+
+        LocalDateTime scannedAt = LocalDateTime.now().minusMinutes(10);
+        when(registrationCheckInBatchRepository.markCheckedIn(Map.of(610L, scannedAt))).thenReturn(List.of(610L));
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(3, 1, 0L);
+        when(attendanceCounterService.counterFor(12L)).thenReturn(counter);
+        when(attendanceCounterService.adjustCheckedIn(counter, 1))
+                .thenReturn(new AttendanceCounterService.AttendanceCounts(3, 2));
+
+        AttendanceBulkCheckInResponseModel response = attendanceService.bulkCheckIn(12L, List.of(
+                new AttendanceBulkCheckInItemRequestModel(61L, scannedAt),
+                new AttendanceBulkCheckInItemRequestModel(61L, scannedAt.plusMinutes(1)),
+                new AttendanceBulkCheckInItemRequestModel(62L, null),
+                new AttendanceBulkCheckInItemRequestModel(63L, null),
+                new AttendanceBulkCheckInItemRequestModel(64L, null)
+        ));
+
+        assertEquals(4, response.getResults().size());
+        assertEquals(AttendanceBulkCheckInStatus.CHECKED_IN, response.getResults().get(0).getStatus());
+        assertEquals(scannedAt.toString(), response.getResults().get(0).getCheckedInAt());
+        assertEquals(AttendanceBulkCheckInStatus.ALREADY_CHECKED_IN, response.getResults().get(1).getStatus());
+        assertEquals(AttendanceBulkCheckInStatus.NOT_ALLOWED, response.getResults().get(2).getStatus());
+        assertEquals(AttendanceBulkCheckInStatus.NOT_REGISTERED, response.getResults().get(3).getStatus());
+        assertEquals(2, response.getCheckedInCount());
+        assertEquals(10.0, response.getOccupancyPercent());
+
+        verify(registrationRepository, never()).saveAll(any());
+        verify(registrationRepository, never()).findCheckInStates(any());
+        ArgumentCaptor<AttendanceUpdateResponseModel> updateCaptor =
+                ArgumentCaptor.forClass(AttendanceUpdateResponseModel.class);
+        verify(attendanceUpdatePublisher, times(1)).publish(updateCaptor.capture());
+        assertEquals(1, updateCaptor.getValue().getChanges().size());
+        assertEquals(61L, updateCaptor.getValue().getChanges().get(0).getUserId());
+    }
+
+    @Test
+    void bulkCheckIn_whenOverlappingReplayCheckedInFirst_reportsAlreadyAndCountsOnlyOwnChanges() {
+        Event event = buildEvent(12L, 20);
+        when(eventRepository.findById(12L)).thenReturn(Optional.of(event));
+
+        Registration mine = buildRegistration(71L, event, RegistrationStatus.CONFIRMED, false);
+        Registration raced = buildRegistration(72L, event, RegistrationStatus.CONFIRMED, false);
+        Registration cancelledMeanwhile = buildRegistration(73L, event, RegistrationStatus.CONFIRMED, false);
+        ReflectionTestUtils.setField(mine, "id", 710L);
+        ReflectionTestUtils.setField(raced, "id", 720L);
+        ReflectionTestUtils.setField(cancelledMeanwhile, "id", 730L);
+        when(registrationRepository.findByEventIdAndUserIdIn(eq(12L), anyCollection()))
+                .thenReturn(List.of(mine, raced, cancelledMeanwhile));
+
+        LocalDateTime scannedAt = LocalDateTime.now().minusMinutes(10);
+        LocalDateTime otherDeviceAt = scannedAt.minusMinutes(1);
+        // Another device's replay changed 72 first; 73 was cancelled after it was read.
+        when(registrationCheckInBatchRepository.markCheckedIn(Map.of(710L, scannedAt, 720L, scannedAt, 730L, scannedAt)))
+                .thenReturn(List.of(710L));
+        when(registrationRepository.findCheckInStates(anyCollection())).thenReturn(List.of(
+                checkInState(720L, RegistrationStatus.CONFIRMED, otherDeviceAt),
+                checkInState(730L, RegistrationStatus.CANCELLED, null)));
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(3, 1, 0L);
+        when(attendanceCounterService.counterFor(12L)).thenReturn(counter);
+        when(attendanceCounterService.adjustCheckedIn(counter, 1))
+                .thenReturn(new AttendanceCounterService.AttendanceCounts(3, 2));
+
+        AttendanceBulkCheckInResponseModel response = attendanceService.bulkCheckIn(12L, List.of(
+                new AttendanceBulkCheckInItemRequestModel(71L, scannedAt),
+                new AttendanceBulkCheckInItemRequestModel(72L, scannedAt),
+                new AttendanceBulkCheckInItemRequestModel(73L, scannedAt)
+        ));
+
+        assertEquals(AttendanceBulkCheckInStatus.CHECKED_IN, response.getResults().get(0).getStatus());
+        assertEquals(AttendanceBulkCheckInStatus.ALREADY_CHECKED_IN, response.getResults().get(1).getStatus());
+        assertEquals(otherDeviceAt.toString(), response.getResults().get(1).getCheckedInAt());
+        assertEquals(AttendanceBulkCheckInStatus.NOT_ALLOWED, response.getResults().get(2).getStatus());
+        verify(attendanceCounterService).adjustCheckedIn(counter, 1);
+        ArgumentCaptor<AttendanceUpdateResponseModel> updateCaptor =
+                ArgumentCaptor.forClass(AttendanceUpdateResponseModel.class);
+        verify(attendanceUpdatePublisher).publish(updateCaptor.capture());
+        assertEquals(List.of(71L), updateCaptor.getValue().getChanges().stream()
+                .map(AttendanceCheckInChangeResponseModel::getUserId).toList());
+    }
+
+    @Test
+    void bulkCheckIn_whenNothingChanges_doesNotPublish() {
+        Event event = buildEvent(13L, 20);
+        when(eventRepository.findById(13L)).thenReturn(Optional.of(event));
+        when(registrationRepository.findByEventIdAndUserIdIn(eq(13L), anyCollection())).thenReturn(List.of());
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(0, 0, 0L);
+        when(attendanceCounterService.counterFor(13L)).thenReturn(counter);
+        when(attendanceCounterService.adjustCheckedIn(counter, 0))
+                .thenReturn(new AttendanceCounterService.AttendanceCounts(0, 0));
+
+        AttendanceBulkCheckInResponseModel response = attendanceService.bulkCheckIn(13L, List.of(
+                new AttendanceBulkCheckInItemRequestModel(70L, null)
+        ));
+
+        assertEquals(AttendanceBulkCheckInStatus.NOT_REGISTERED, response.getResults().get(0).getStatus());
+        verifyNoInteractions(attendanceUpdatePublisher);
+    }
 
-        attendanceService.checkInAttendee(10L, 51L);
+    @Test
+    void bulkCheckIn_whenEventMissing_throwsNotFound() {
+        when(eventRepository.findById(404L)).thenReturn(Optional.empty());
+
+        assertThrows(EventNotFoundException.class, () -> attendanceService.bulkCheckIn(404L, List.of()));
+    }
+
+    @Test
+    void checkInByToken_withIndexedToken_updatesWithoutLoadingRegistration() {
+        when(checkInTokenService.verify("tok"))
+                .thenReturn(Optional.of(new CheckInTokenService.CheckInTokenClaims(81L, 14L)));
+        when(checkInTokenIndex.lookup(14L, "tok"))
+                .thenReturn(Optional.of(new CheckInTokenIndex.IndexedRegistration(81L, 810L)));
+        when(checkInTokenIndex.maxCapacity(14L)).thenReturn(Optional.of(10));
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(5, 1, 0L);
+        when(attendanceCounterService.counterFor(14L)).thenReturn(counter);
+        when(registrationRepository.markCheckedIn(eq(81L), any(LocalDateTime.class), eq(RegistrationStatus.CANCELLED)))
+                .thenReturn(1);
+        when(attendanceCounterService.adjustCheckedIn(counter, 1))
+                .thenReturn(new AttendanceCounterService.AttendanceCounts(5, 2));
+
+        AttendanceUpdateResponseModel update = attendanceService.checkInByToken(14L, "tok");
+
+        assertEquals(810L, update.getUserId());
+        assertTrue(update.isCheckedIn());
+        assertEquals(2, update.getCheckedInCount());
+        assertEquals(20.0, update.getOccupancyPercent());
+        verify(attendanceUpdatePublisher).publish(update);
+        verify(registrationRepository, never()).findByUserIdAndEventId(anyLong(), anyLong());
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void checkInByToken_whenTokenForOtherEvent_throwsInvalidToken() {
+        when(checkInTokenService.verify("tok"))
+                .thenReturn(Optional.of(new CheckInTokenService.CheckInTokenClaims(81L, 99L)));
+
+        assertThrows(InvalidCheckInTokenException.class, () -> attendanceService.checkInByToken(14L, "tok"));
+        verifyNoInteractions(registrationRepository);
+    }
+
+    @Test
+    void checkInByToken_whenSignatureInvalid_throwsInvalidToken() {
+        when(checkInTokenService.verify("bad")).thenReturn(Optional.empty());
+
+        assertThrows(InvalidCheckInTokenException.class, () -> attendanceService.checkInByToken(14L, "bad"));
+    }
+
+    @Test
+    void checkInByToken_outsideWindow_fallsBackToRegistrationLookup() {
+        Event event = buildEvent(15L, 10);
+        Registration registration = buildRegistration(91L, event, RegistrationStatus.CONFIRMED, false);
+        ReflectionTestUtils.setField(registration, "id", 901L);
+        when(checkInTokenService.verify("tok"))
+                .thenReturn(Optional.of(new CheckInTokenService.CheckInTokenClaims(901L, 15L)));
+        when(checkInTokenIndex.lookup(15L, "tok")).thenReturn(Optional.empty());
+        when(eventRepository.findById(15L)).thenReturn(Optional.of(event));
+        when(checkInTokenIndex.ensureLoaded(eq(event), any(LocalDateTime.class))).thenReturn(false);
+        when(registrationRepository.findById(901L)).thenReturn(Optional.of(registration));
+        when(registrationRepository.findByUserIdAndEventId(91L, 15L)).thenReturn(Optional.of(registration));
+        when(registrationRepository.markCheckedIn(eq(901L), any(LocalDateTime.class), eq(RegistrationStatus.CANCELLED)))
+                .thenReturn(1);
+        AttendanceCounterService.EventCounter counter = new AttendanceCounterService.EventCounter(1, 0, 0L);
+        when(attendanceCounterService.counterFor(15L)).thenReturn(counter);
+        when(attendanceCounterService.adjustCheckedIn(counter, 1))
+                .thenReturn(new AttendanceCounterService.AttendanceCounts(1, 1));
+
+        AttendanceUpdateResponseModel update = attendanceService.checkInByToken(15L, "tok");
+
+        assertTrue(update.isCheckedIn());
+        assertEquals(1, update.getCheckedInCount());
+    }
+
+    @Test
+    void issueCheckInToken_returnsSignedToken() {
+        Event event = buildEvent(16L, 10);
+        Registration registration = buildRegistration(95L, event, RegistrationStatus.CONFIRMED, false);
+        ReflectionTestUtils.setField(registration, "id", 950L);
+        when(registrationRepository.findByUserIdAndEventId(95L, 16L)).thenReturn(Optional.of(registration));
+        when(checkInTokenService.issueToken(950L, 16L)).thenReturn("signed");
+
+        CheckInTokenResponseModel response = attendanceService.issueCheckInToken(95L, 16L);
+
+        assertEquals("signed", response.getToken());
+        assertEquals(950L, response.getRegistrationId());
+    }
+
+    @Test
+    void issueCheckInToken_whenCancelled_throwsNotAllowed() {
+        Event event = buildEvent(17L, 10);
+        Registration registration = buildRegistration(96L, event, RegistrationStatus.CANCELLED, false);
+        when(registrationRepository.findByUserIdAndEventId(96L, 17L)).thenReturn(Optional.of(registration));
+
+        assertThrows(AttendanceCheckInNotAllowedException.class, () -> attendanceService.issueCheckInToken(96L, 17L));
+    }
+
+    private RegistrationRepository.EventAttendanceCountProjection counts(Long eventId, Long registered, Long checkedIn) {
+        return new RegistrationRepository.EventAttendanceCountProjection() {
+            @Override
+            public Long getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public Long getRegisteredCount() {
+                return registered;
+            }
+
+            @Override
+            public Long getCheckedInCount() {
+                return checkedIn;
+            }
+        };
+    }
 
-        assertEquals(existing, registration.getCheckedInAt());
+    private RegistrationRepository.CheckInStateProjection checkInState(
+            Long registrationId, RegistrationStatus status, LocalDateTime checkedInAt) {
+        return new RegistrationRepository.CheckInStateProjection() {
+            @Override
+            public Long getRegistrationId() {
+                return registrationId;
+            }
+
+            @Override
+            public RegistrationStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getCheckedInAt() {
+                return checkedInAt;
+            }
+        };
     }
 
     private Event buildEvent(Long id, Integer maxCapacity) {
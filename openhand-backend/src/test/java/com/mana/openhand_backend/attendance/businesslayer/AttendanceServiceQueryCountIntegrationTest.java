@@ -0,0 +1,137 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventSummaryResponseModel;
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
+import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class AttendanceServiceQueryCountIntegrationTest {
+
+    private static final LocalDate WINDOW_START = LocalDate.of(2031, 6, 1);
+    private static final LocalDate WINDOW_END = LocalDate.of(2031, 6, 30);
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Warm up so any pending event completions are flushed before counting.
+        attendanceService.getAttendanceEvents(WINDOW_START, WINDOW_END, 0, 100);
+        entityManager.flush();
+    }
+
+    @Test
+    void getAttendanceEvents_queryCountDoesNotGrowWithEventCount() {
+        createEventWithRegistrations(LocalDateTime.of(2031, 6, 2, 10, 0), 3, 1);
+        long queriesForOneEvent = countQueries();
+
+        for (int day = 3; day <= 10; day++) {
+            createEventWithRegistrations(LocalDateTime.of(2031, 6, day, 10, 0), 2, 2);
+        }
+        long queriesForNineEvents = countQueries();
+
+        assertEquals(queriesForOneEvent, queriesForNineEvents);
+        // completion refresh + windowed event page + grouped counts
+        assertTrue(queriesForNineEvents <= 3, "expected at most 3 statements but was " + queriesForNineEvents);
+    }
+
+    @Test
+    void getAttendanceEvents_returnsGroupedCountsAndExcludesEventsOutsideWindow() {
+        Event inWindow = createEventWithRegistrations(LocalDateTime.of(2031, 6, 15, 9, 0), 4, 3);
+        createEventWithRegistrations(LocalDateTime.of(2031, 8, 1, 9, 0), 2, 1);
+
+        List<AttendanceEventSummaryResponseModel> result =
+                attendanceService.getAttendanceEvents(WINDOW_START, WINDOW_END, 0, 100);
+
+        assertEquals(1, result.size());
+        assertEquals(inWindow.getId(), result.get(0).getEventId());
+        assertEquals(4, result.get(0).getRegisteredCount());
+        assertEquals(3, result.get(0).getCheckedInCount());
+    }
+
+    private long countQueries() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        attendanceService.getAttendanceEvents(WINDOW_START, WINDOW_END, 0, 100);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Event createEventWithRegistrations(LocalDateTime start, int registered, int checkedIn) {
+        Event event = eventRepository.save(new Event(
+                "Query Count Event",
+                "Attendance landing screen",
+                start,
+                start.plusHours(3),
+                "MANA Center",
+                "1910 Test Blvd",
+                EventStatus.OPEN,
+                50,
+                0,
+                "General"
+        ));
+
+        for (int i = 0; i < registered; i++) {
+            User user = new User();
+            user.setEmail("attendee-" + System.nanoTime() + "@example.com");
+            user.setPasswordHash("hashedPassword");
+            user.setRoles(new HashSet<>());
+            user = userRepository.save(user);
+
+            Registration registration = new Registration(user, event);
+            registration.setStatus(RegistrationStatus.CONFIRMED);
+            registration.setConfirmedAt(LocalDateTime.now());
+            if (i < checkedIn) {
+                registration.setCheckedInAt(LocalDateTime.now());
+            }
+            registrationRepository.save(registration);
+        }
+        return event;
+    }
+}
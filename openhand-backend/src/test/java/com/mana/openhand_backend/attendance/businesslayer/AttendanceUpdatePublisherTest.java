@@ -0,0 +1,82 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceUpdateResponseModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceUpdatePublisherTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Test
+    void publish_withZeroInterval_sendsImmediately() {
+        AttendanceUpdatePublisher publisher = new AttendanceUpdatePublisher(messagingTemplate, 0L);
+        AttendanceUpdateResponseModel update = new AttendanceUpdateResponseModel(1L, 2L, true, "t", 5, 1, null);
+
+        publisher.publish(update);
+
+        verify(messagingTemplate).convertAndSend("/topic/attendance/events", update);
+        verify(messagingTemplate).convertAndSend("/topic/attendance/events/1", update);
+    }
+
+    @Test
+    void publish_insideTransaction_waitsForCommit() {
+        AttendanceUpdatePublisher publisher = new AttendanceUpdatePublisher(messagingTemplate, 0L);
+        AttendanceUpdateResponseModel update = new AttendanceUpdateResponseModel(1L, 2L, true, "t", 5, 1, null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.publish(update);
+            verifyNoInteractions(messagingTemplate);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(messagingTemplate).convertAndSend("/topic/attendance/events/1", update);
+    }
+
+    @Test
+    void publish_coalescesBurstIntoSingleMessageWithLatestTotals() {
+        AttendanceUpdatePublisher publisher = new AttendanceUpdatePublisher(messagingTemplate, 60_000L);
+
+        publisher.publish(new AttendanceUpdateResponseModel(7L, 10L, true, "a", 20, 1, 5.0));
+        publisher.publish(new AttendanceUpdateResponseModel(7L, 11L, true, "b", 20, 2, 10.0));
+        publisher.publish(new AttendanceUpdateResponseModel(7L, 10L, false, null, 20, 1, 5.0));
+
+        verifyNoInteractions(messagingTemplate);
+
+        publisher.flush(7L);
+
+        ArgumentCaptor<AttendanceUpdateResponseModel> captor =
+                ArgumentCaptor.forClass(AttendanceUpdateResponseModel.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/attendance/events/7"), captor.capture());
+        verify(messagingTemplate, times(2)).convertAndSend(anyString(), any(AttendanceUpdateResponseModel.class));
+
+        AttendanceUpdateResponseModel message = captor.getValue();
+        assertEquals(1, message.getCheckedInCount());
+        assertEquals(2, message.getChanges().size());
+        assertEquals(11L, message.getChanges().get(0).getUserId());
+        assertEquals(10L, message.getChanges().get(1).getUserId());
+        assertFalse(message.getChanges().get(1).isCheckedIn());
+
+        publisher.flush(7L);
+        verifyNoMoreInteractions(messagingTemplate);
+        publisher.shutdown();
+    }
+}
@@ -0,0 +1,96 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInTokenIndexTest {
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    private final CheckInTokenService tokenService =
+            new CheckInTokenService("testSecretKeyForUnitTestsOnlyThisShouldBeLongEnough");
+
+    private CheckInTokenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CheckInTokenIndex(registrationRepository, tokenService, 60);
+    }
+
+    @Test
+    void ensureLoaded_insideWindow_buildsIndexOnce() {
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 9, 30);
+        Event event = buildEvent(5L, now.plusMinutes(30), now.plusHours(3));
+        when(registrationRepository.findCheckInIndexEntries(5L, RegistrationStatus.CANCELLED))
+                .thenReturn(List.of(entry(50L, 500L)));
+
+        assertTrue(index.ensureLoaded(event, now));
+        assertTrue(index.ensureLoaded(event, now));
+
+        Optional<CheckInTokenIndex.IndexedRegistration> found = index.lookup(5L, tokenService.issueToken(50L, 5L));
+        assertTrue(found.isPresent());
+        assertEquals(500L, found.get().userId());
+        assertEquals(Optional.of(25), index.maxCapacity(5L));
+        verify(registrationRepository, times(1)).findCheckInIndexEntries(5L, RegistrationStatus.CANCELLED);
+    }
+
+    @Test
+    void ensureLoaded_beforeWindow_doesNotLoad() {
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 6, 0);
+        Event event = buildEvent(6L, now.plusHours(3), now.plusHours(5));
+
+        assertFalse(index.ensureLoaded(event, now));
+        assertTrue(index.lookup(6L, "anything").isEmpty());
+        verifyNoInteractions(registrationRepository);
+    }
+
+    @Test
+    void ensureLoaded_afterWindowCloses_dropsIndex() {
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 10, 0);
+        Event event = buildEvent(7L, start, start.plusHours(2));
+        when(registrationRepository.findCheckInIndexEntries(7L, RegistrationStatus.CANCELLED))
+                .thenReturn(List.of(entry(70L, 700L)));
+        index.ensureLoaded(event, start);
+
+        assertFalse(index.ensureLoaded(event, start.plusHours(3)));
+        assertTrue(index.lookup(7L, tokenService.issueToken(70L, 7L)).isEmpty());
+    }
+
+    private RegistrationRepository.CheckInIndexProjection entry(Long registrationId, Long userId) {
+        return new RegistrationRepository.CheckInIndexProjection() {
+            @Override
+            public Long getRegistrationId() {
+                return registrationId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+
+    private Event buildEvent(Long id, LocalDateTime start, LocalDateTime end) {
+        Event event = new Event("Event", "Desc", start, end, "Location", "Address",
+                EventStatus.OPEN, 25, 0, "CATEGORY");
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
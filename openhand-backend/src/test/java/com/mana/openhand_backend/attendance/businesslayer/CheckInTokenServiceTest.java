@@ -0,0 +1,56 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckInTokenServiceTest {
+
+    private final CheckInTokenService tokenService =
+            new CheckInTokenService("testSecretKeyForUnitTestsOnlyThisShouldBeLongEnough");
+
+    @Test
+    void issueToken_roundTripsClaims() {
+        String token = tokenService.issueToken(123L, 45L);
+
+        Optional<CheckInTokenService.CheckInTokenClaims> claims = tokenService.verify(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals(123L, claims.get().registrationId());
+        assertEquals(45L, claims.get().eventId());
+    }
+
+    @Test
+    void issueToken_isCompactAndUrlSafe() {
+        String token = tokenService.issueToken(Long.MAX_VALUE, Long.MAX_VALUE);
+
+        assertTrue(token.length() <= 40, "token should fit a small QR code: " + token);
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void verify_rejectsTamperedToken() {
+        String token = tokenService.issueToken(1L, 2L);
+        char[] chars = token.toCharArray();
+        chars[3] = chars[3] == 'A' ? 'B' : 'A';
+
+        assertTrue(tokenService.verify(new String(chars)).isEmpty());
+    }
+
+    @Test
+    void verify_rejectsTokenSignedWithDifferentSecret() {
+        CheckInTokenService other = new CheckInTokenService("anotherSecretKeyThatIsAlsoLongEnoughForHmac");
+
+        assertTrue(tokenService.verify(other.issueToken(1L, 2L)).isEmpty());
+    }
+
+    @Test
+    void verify_rejectsMalformedInput() {
+        assertTrue(tokenService.verify(null).isEmpty());
+        assertTrue(tokenService.verify(" ").isEmpty());
+        assertTrue(tokenService.verify("not*base64").isEmpty());
+        assertTrue(tokenService.verify("AAAA").isEmpty());
+    }
+}
@@ -0,0 +1,184 @@
+package com.mana.openhand_backend.attendance.businesslayer;
+
+import com.mana.openhand_backend.attendance.dataaccesslayer.RegistrationStats;
+import com.mana.openhand_backend.attendance.dataaccesslayer.RegistrationStatsRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegistrationStatsServiceTest {
+
+    @Mock
+    private RegistrationStatsRepository registrationStatsRepository;
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RegistrationStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new RegistrationStatsService(registrationStatsRepository, registrationRepository,
+                transactionManager, 60_000L);
+    }
+
+    @Test
+    void getStats_computesMissingRowsWithOneGroupedQuery() {
+        when(registrationStatsRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of());
+        when(registrationRepository.countRegistrationStatsGroupedByEventIds(
+                List.of(1L, 2L), RegistrationStatus.CANCELLED, RegistrationStatus.WAITLISTED))
+                .thenReturn(List.of(counts(1L, 5L, 3L, 2L, 1L)));
+
+        Map<Long, RegistrationStats> stats = statsService.getStats(List.of(1L, 2L));
+
+        assertEquals(5, stats.get(1L).getRegisteredCount());
+        assertEquals(3, stats.get(1L).getAttendedCount());
+        assertEquals(2, stats.get(1L).getWaitlistedCount());
+        assertEquals(1, stats.get(1L).getCancelledCount());
+        assertNotNull(stats.get(1L).getRefreshedAt());
+        assertEquals(0, stats.get(2L).getRegisteredCount());
+        assertNotNull(stats.get(2L).getRefreshedAt());
+        verify(registrationStatsRepository).saveAllAndFlush(anyCollection());
+    }
+
+    @Test
+    void getStats_freshRowsAreServedWithoutRecounting() {
+        RegistrationStats fresh = stats(1L, LocalDateTime.now().minusSeconds(5));
+        when(registrationStatsRepository.findAllById(List.of(1L))).thenReturn(List.of(fresh));
+
+        Map<Long, RegistrationStats> stats = statsService.getStats(List.of(1L));
+
+        assertSame(fresh, stats.get(1L));
+        verifyNoInteractions(registrationRepository);
+        verify(registrationStatsRepository, never()).saveAllAndFlush(anyCollection());
+    }
+
+    @Test
+    void getStats_expiredRowsAreRefreshed() {
+        RegistrationStats expired = stats(1L, LocalDateTime.now().minusMinutes(5));
+        when(registrationStatsRepository.findAllById(List.of(1L))).thenReturn(List.of(expired));
+        when(registrationRepository.countRegistrationStatsGroupedByEventIds(
+                List.of(1L), RegistrationStatus.CANCELLED, RegistrationStatus.WAITLISTED))
+                .thenReturn(List.of(counts(1L, 8L, 4L, 0L, 0L)));
+
+        Map<Long, RegistrationStats> stats = statsService.getStats(List.of(1L));
+
+        assertEquals(8, stats.get(1L).getRegisteredCount());
+        assertEquals(4, stats.get(1L).getAttendedCount());
+        assertTrue(stats.get(1L).getRefreshedAt().isAfter(LocalDateTime.now().minusMinutes(1)));
+    }
+
+    @Test
+    void markDirty_forcesRefreshOnNextReadOnly() {
+        RegistrationStats fresh = stats(1L, LocalDateTime.now());
+        when(registrationStatsRepository.findAllById(List.of(1L))).thenReturn(List.of(fresh));
+        when(registrationRepository.countRegistrationStatsGroupedByEventIds(
+                List.of(1L), RegistrationStatus.CANCELLED, RegistrationStatus.WAITLISTED))
+                .thenReturn(List.of(counts(1L, 2L, 2L, 0L, 0L)));
+
+        statsService.markDirty(1L);
+        statsService.getStats(List.of(1L));
+        statsService.getStats(List.of(1L));
+
+        assertEquals(2, fresh.getAttendedCount());
+        verify(registrationRepository, times(1)).countRegistrationStatsGroupedByEventIds(
+                any(), any(), any());
+    }
+
+    @Test
+    void getStats_concurrentRefreshWins_servesCountsAndStaysDirty() {
+        RegistrationStats fresh = stats(1L, LocalDateTime.now());
+        when(registrationStatsRepository.findAllById(List.of(1L))).thenReturn(List.of(fresh));
+        when(registrationRepository.countRegistrationStatsGroupedByEventIds(
+                List.of(1L), RegistrationStatus.CANCELLED, RegistrationStatus.WAITLISTED))
+                .thenReturn(List.of(counts(1L, 6L, 1L, 0L, 0L)));
+        when(registrationStatsRepository.saveAllAndFlush(anyCollection()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(List.of());
+
+        statsService.markDirty(1L);
+        Map<Long, RegistrationStats> stats = statsService.getStats(List.of(1L));
+        statsService.getStats(List.of(1L));
+
+        assertEquals(6, stats.get(1L).getRegisteredCount());
+        verify(transactionManager).rollback(any());
+        // The failed write left the event dirty, so the next read recounted it.
+        verify(registrationRepository, times(2)).countRegistrationStatsGroupedByEventIds(any(), any(), any());
+    }
+
+    @Test
+    void getStats_changeMarkedDuringRefresh_staysDirty() {
+        RegistrationStats fresh = stats(1L, LocalDateTime.now());
+        when(registrationStatsRepository.findAllById(List.of(1L))).thenReturn(List.of(fresh));
+        when(registrationRepository.countRegistrationStatsGroupedByEventIds(
+                List.of(1L), RegistrationStatus.CANCELLED, RegistrationStatus.WAITLISTED))
+                .thenAnswer(invocation -> {
+                    statsService.markDirty(1L);
+                    return List.of(counts(1L, 2L, 1L, 0L, 0L));
+                })
+                .thenReturn(List.of(counts(1L, 3L, 1L, 0L, 0L)));
+
+        statsService.markDirty(1L);
+        statsService.getStats(List.of(1L));
+        Map<Long, RegistrationStats> stats = statsService.getStats(List.of(1L));
+
+        assertEquals(3, stats.get(1L).getRegisteredCount());
+    }
+
+    private RegistrationStats stats(Long eventId, LocalDateTime refreshedAt) {
+        RegistrationStats stats = new RegistrationStats(eventId);
+        stats.setRegisteredCount(1);
+        stats.setAttendedCount(1);
+        stats.setRefreshedAt(refreshedAt);
+        return stats;
+    }
+
+    private RegistrationRepository.RegistrationStatsProjection counts(
+            Long eventId, Long registered, Long attended, Long waitlisted, Long cancelled) {
+        return new RegistrationRepository.RegistrationStatsProjection() {
+            @Override
+            public Long getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public Long getRegisteredCount() {
+                return registered;
+            }
+
+            @Override
+            public Long getAttendedCount() {
+                return attended;
+            }
+
+            @Override
+            public Long getWaitlistedCount() {
+                return waitlisted;
+            }
+
+            @Override
+            public Long getCancelledCount() {
+                return cancelled;
+            }
+        };
+    }
+}
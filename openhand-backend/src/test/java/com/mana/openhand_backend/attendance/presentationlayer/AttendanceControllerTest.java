@@ -2,6 +2,9 @@ package com.mana.openhand_backend.attendance.presentationlayer;
 
 import com.mana.openhand_backend.attendance.businesslayer.AttendanceService;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceAttendeeResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInResultResponseModel;
+import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceBulkCheckInStatus;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventAttendeesResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceEventSummaryResponseModel;
 import com.mana.openhand_backend.attendance.domainclientlayer.AttendanceUpdateResponseModel;
@@ -13,14 +16,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -53,7 +61,7 @@ class AttendanceControllerTest {
                 )
         );
 
-        when(attendanceService.getAttendanceEvents()).thenReturn(events);
+        when(attendanceService.getAttendanceEvents(null, null, 0, 100)).thenReturn(events);
 
         mockMvc.perform(get("/api/employee/attendance/events"))
                 .andExpect(status().isOk())
@@ -62,6 +70,28 @@ class AttendanceControllerTest {
                 .andExpect(jsonPath("$[0].checkedInCount").value(2));
     }
 
+    @Test
+    void getAttendanceEvents_passesWindowAndPaging() throws Exception {
+        when(attendanceService.getAttendanceEvents(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), 1, 20))
+                .thenReturn(List.of());
+
+        mockMvc.perform(get("/api/employee/attendance/events")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31")
+                        .param("page", "1")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void getAttendanceEvents_whenFromAfterTo_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/employee/attendance/events")
+                        .param("from", "2025-02-01")
+                        .param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getEventAttendees_returnsPayload() throws Exception {
         AttendanceEventAttendeesResponseModel response = new AttendanceEventAttendeesResponseModel(
@@ -132,4 +162,35 @@ class AttendanceControllerTest {
         mockMvc.perform(delete("/api/employee/attendance/events/1/attendees/2/check-in"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void bulkCheckIn_returnsPerItemResults() throws Exception {
+        AttendanceBulkCheckInResponseModel response = new AttendanceBulkCheckInResponseModel(
+                3L,
+                10,
+                4,
+                40.0,
+                List.of(
+                        new AttendanceBulkCheckInResultResponseModel(5L, AttendanceBulkCheckInStatus.CHECKED_IN, "2025-01-01T09:00"),
+                        new AttendanceBulkCheckInResultResponseModel(6L, AttendanceBulkCheckInStatus.NOT_REGISTERED, null)
+                )
+        );
+        when(attendanceService.bulkCheckIn(eq(3L), anyList())).thenReturn(response);
+
+        mockMvc.perform(post("/api/employee/attendance/events/3/check-ins")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"userId\":5,\"checkedInAt\":\"2025-01-01T09:00:00\"},{\"userId\":6}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checkedInCount").value(4))
+                .andExpect(jsonPath("$.results[0].status").value("CHECKED_IN"))
+                .andExpect(jsonPath("$.results[1].status").value("NOT_REGISTERED"));
+    }
+
+    @Test
+    void bulkCheckIn_withEmptyItems_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/employee/attendance/events/3/check-ins")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
 }
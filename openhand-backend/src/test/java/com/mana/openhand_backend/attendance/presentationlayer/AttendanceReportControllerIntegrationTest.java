@@ -79,6 +79,7 @@ class AttendanceReportControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].eventId").value(eventOne.getId()))
                 .andExpect(jsonPath("$[0].totalAttended").value(1))
                 .andExpect(jsonPath("$[0].totalRegistered").value(2))
+                .andExpect(jsonPath("$[0].statsRefreshedAt").exists())
                 .andExpect(jsonPath("$[1].eventId").value(eventTwo.getId()))
                 .andExpect(jsonPath("$[1].totalAttended").value(1))
                 .andExpect(jsonPath("$[1].totalRegistered").value(1));
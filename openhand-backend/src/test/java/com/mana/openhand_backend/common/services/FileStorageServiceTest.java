@@ -6,17 +6,21 @@ import org.mockito.Mockito;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
 class FileStorageServiceTest {
 
-    private final FileStorageService service = new FileStorageService();
+    private final FileStorageService service = new FileStorageService(new ImageVariantGenerator(0.8f, 40_000_000));
 
     @Test
     void validateImageFile_rejectsNullOrEmpty() {
@@ -95,6 +99,59 @@ class FileStorageServiceTest {
         assertEquals("Unable to store file. Please try again.", ex.getMessage());
     }
 
+    @Test
+    void storeImage_writesOriginalAndVariants(@TempDir Path tempDir) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", png(1600, 800));
+
+        String name = service.storeImage(file, tempDir, "event-1");
+
+        Path stored = tempDir.resolve(name);
+        assertTrue(Files.exists(stored));
+        for (ImageVariant variant : ImageVariant.values()) {
+            assertTrue(Files.exists(ImageVariantGenerator.variantPath(stored, variant)), variant.getKey());
+        }
+    }
+
+    @Test
+    void storeImage_unreadableImage_leavesNothingBehind(@TempDir Path tempDir) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", "not an image".getBytes());
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.storeImage(file, tempDir, "event-1"));
+
+        assertEquals("Unable to read image.", ex.getMessage());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void deleteImage_removesVariants(@TempDir Path tempDir) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", png(400, 400));
+        Path stored = tempDir.resolve(service.storeImage(file, tempDir, "user-1"));
+
+        service.deleteImage(stored);
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void toPublicVariantUrls_fallsBackToOriginalWhenVariantsAreMissing(@TempDir Path tempDir) throws Exception {
+        Path legacy = tempDir.resolve("legacy.jpg");
+        Files.write(legacy, new byte[] { 1 });
+        Files.write(ImageVariantGenerator.variantPath(legacy, ImageVariant.THUMBNAIL), new byte[] { 1 });
+
+        Map<String, String> urls = service.toPublicVariantUrls("https://example.com",
+                "/uploads/event-images/legacy.jpg", legacy);
+
+        assertEquals("https://example.com/uploads/event-images/legacy-thumbnail.jpg", urls.get("thumbnail"));
+        assertEquals("https://example.com/uploads/event-images/legacy.jpg", urls.get("list"));
+        assertEquals("https://example.com/uploads/event-images/legacy.jpg", urls.get("detail"));
+        assertTrue(service.toPublicVariantUrls("https://example.com", null, null).isEmpty());
+    }
+
     @Test
     void cleanupFile_deletesExistingFile(@TempDir Path tempDir) throws Exception {
         Path file = tempDir.resolve("temp.txt");
@@ -124,4 +181,10 @@ class FileStorageServiceTest {
                 service.toPublicUrl("https://example.com/", "uploads/a.png"));
         assertEquals("/uploads/a.png", service.toPublicUrl(null, "/uploads/a.png"));
     }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
 }
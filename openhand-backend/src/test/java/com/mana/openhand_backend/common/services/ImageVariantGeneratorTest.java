@@ -0,0 +1,115 @@
+package com.mana.openhand_backend.common.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageVariantGeneratorTest {
+
+    private final ImageVariantGenerator generator = new ImageVariantGenerator(0.8f, 40_000_000);
+
+    @Test
+    void generate_writesFixedWidthJpegsKeepingAspectRatio(@TempDir Path tempDir) throws Exception {
+        Path original = tempDir.resolve("event-1-abc.png");
+        Files.write(original, encode(pattern(4000, 2000), "png"));
+
+        generator.generate(original);
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            Path path = ImageVariantGenerator.variantPath(original, variant);
+            assertEquals("event-1-abc-" + variant.getKey() + ".jpg", path.getFileName().toString());
+            BufferedImage image = ImageIO.read(path.toFile());
+            assertEquals(variant.getWidth(), image.getWidth());
+            assertEquals(variant.getWidth() / 2, image.getHeight());
+        }
+        assertTrue(Files.size(ImageVariantGenerator.variantPath(original, ImageVariant.THUMBNAIL)) < 10_000);
+    }
+
+    @Test
+    void generate_neverUpscalesSmallImages(@TempDir Path tempDir) throws Exception {
+        Path original = tempDir.resolve("small.png");
+        Files.write(original, encode(pattern(300, 200), "png"));
+
+        generator.generate(original);
+
+        assertEquals(300, ImageIO.read(ImageVariantGenerator.variantPath(original, ImageVariant.DETAIL).toFile())
+                .getWidth());
+        assertEquals(160, ImageIO.read(ImageVariantGenerator.variantPath(original, ImageVariant.THUMBNAIL).toFile())
+                .getWidth());
+    }
+
+    @Test
+    void generate_appliesExifOrientation(@TempDir Path tempDir) throws Exception {
+        Path original = tempDir.resolve("portrait.jpg");
+        Files.write(original, withOrientation(encode(pattern(600, 200), "jpg"), 6));
+
+        generator.generate(original);
+
+        BufferedImage detail = ImageIO.read(ImageVariantGenerator.variantPath(original, ImageVariant.DETAIL).toFile());
+        assertEquals(200, detail.getWidth());
+        assertEquals(600, detail.getHeight());
+    }
+
+    @Test
+    void generate_rejectsImagesAbovePixelLimit(@TempDir Path tempDir) throws Exception {
+        Path original = tempDir.resolve("huge.png");
+        Files.write(original, encode(pattern(400, 300), "png"));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> new ImageVariantGenerator(0.8f, 100_000).generate(original));
+
+        assertEquals("Image dimensions are too large.", ex.getMessage());
+    }
+
+    @Test
+    void readExifOrientation_defaultsToUpright() throws Exception {
+        assertEquals(1, ImageVariantGenerator.readExifOrientation(encode(pattern(10, 10), "jpg")));
+        assertEquals(1, ImageVariantGenerator.readExifOrientation(encode(pattern(10, 10), "png")));
+        assertEquals(8, ImageVariantGenerator.readExifOrientation(withOrientation(encode(pattern(10, 10), "jpg"), 8)));
+    }
+
+    private static BufferedImage pattern(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        for (int x = 0; x < width; x += 40) {
+            graphics.setColor(new Color((x * 7) % 256, (x * 3) % 256, 120));
+            graphics.fillRect(x, 0, 40, height);
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    /** Inserts a big-endian EXIF segment holding only the orientation tag after the JPEG's SOI marker. */
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = {
+                (byte) 0xFF, (byte) 0xE1, 0, 34,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0 };
+        byte[] result = new byte[jpeg.length + exif.length];
+        System.arraycopy(jpeg, 0, result, 0, 2);
+        System.arraycopy(exif, 0, result, 2, exif.length);
+        System.arraycopy(jpeg, 2, result, 2 + exif.length, jpeg.length - 2);
+        return result;
+    }
+}
@@ -0,0 +1,139 @@
+package com.mana.openhand_backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenHashMigrationTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private Statement statement;
+
+    @Test
+    void migrate_skipsWhenNotPostgres() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+
+        new RefreshTokenHashMigration(dataSource).migrate();
+
+        verify(connection, never()).prepareStatement(anyString());
+        verify(connection, never()).createStatement();
+    }
+
+    @Test
+    void migrate_noopWhenPlainColumnAlreadyDropped() throws Exception {
+        givenPostgres();
+        when(resultSet.next()).thenReturn(false);
+
+        new RefreshTokenHashMigration(dataSource).migrate();
+
+        verify(connection, never()).createStatement();
+        verify(connection, never()).setAutoCommit(false);
+    }
+
+    @Test
+    void migrate_hashesAndDropsPlainColumnInOneTransaction() throws Exception {
+        givenPostgres();
+        when(resultSet.next()).thenReturn(true, true);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+
+        new RefreshTokenHashMigration(dataSource).migrate();
+
+        InOrder inOrder = inOrder(connection, statement);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).execute("LOCK TABLE refreshtoken IN ACCESS EXCLUSIVE MODE");
+        inOrder.verify(statement).execute(startsWith("UPDATE refreshtoken SET token_hash"));
+        inOrder.verify(statement).execute("DELETE FROM refreshtoken WHERE token_hash IS NULL");
+        inOrder.verify(statement).execute("ALTER TABLE refreshtoken DROP COLUMN token");
+        inOrder.verify(statement).execute("ALTER TABLE refreshtoken ALTER COLUMN token_hash SET NOT NULL");
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setAutoCommit(true);
+        verify(connection, never()).rollback();
+    }
+
+    @Test
+    void migrate_skipsWhenAnotherInstanceMigratedWhileWaitingForLock() throws Exception {
+        givenPostgres();
+        when(resultSet.next()).thenReturn(true, false);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+
+        new RefreshTokenHashMigration(dataSource).migrate();
+
+        verify(statement).execute("LOCK TABLE refreshtoken IN ACCESS EXCLUSIVE MODE");
+        verify(statement, never()).execute("ALTER TABLE refreshtoken DROP COLUMN token");
+        verify(connection).commit();
+    }
+
+    @Test
+    void migrate_rollsBackAndFailsStartupOnError() throws Exception {
+        givenPostgres();
+        when(resultSet.next()).thenReturn(true, true);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+        SQLException failure = new SQLException("column is referenced");
+        when(statement.execute(anyString())).thenAnswer(invocation -> {
+            if ("ALTER TABLE refreshtoken DROP COLUMN token".equals(invocation.getArgument(0))) {
+                throw failure;
+            }
+            return false;
+        });
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> new RefreshTokenHashMigration(dataSource).migrate());
+
+        assertSame(failure, ex.getCause());
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void migrate_failsStartupWhenDatabaseUnavailable() throws Exception {
+        when(dataSource.getConnection()).thenThrow(new SQLException("fail"));
+
+        assertThrows(IllegalStateException.class, () -> new RefreshTokenHashMigration(dataSource).migrate());
+    }
+
+    private void givenPostgres() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    }
+}
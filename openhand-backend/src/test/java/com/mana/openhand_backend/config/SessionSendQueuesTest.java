@@ -0,0 +1,175 @@
+package com.mana.openhand_backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionSendQueuesTest {
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession session;
+
+    private final Deque<Runnable> drains = new ArrayDeque<>();
+    private SimpleMeterRegistry meterRegistry;
+    private SessionSendQueues queues;
+    private WebSocketSession queued;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        queues = new SessionSendQueues(meterRegistry, 3, 10_000L,
+                List.of("/topic/counts/**"), drains::add);
+        when(session.getId()).thenReturn("s1");
+        lenient().when(session.isOpen()).thenReturn(true);
+
+        ArgumentCaptor<WebSocketSession> established = ArgumentCaptor.forClass(WebSocketSession.class);
+        queues.decorate(handler).afterConnectionEstablished(session);
+        verify(handler).afterConnectionEstablished(established.capture());
+        queued = established.getValue();
+    }
+
+    @Test
+    void sendMessage_returnsBeforeWritingAndDrainsInOrder() throws Exception {
+        queued.sendMessage(frame("/topic/notifications/1", "a"));
+        queued.sendMessage(frame("/topic/notifications/1", "b"));
+
+        assertEquals(2, queues.queueDepth());
+        assertEquals(1, drains.size());
+
+        runDrains();
+
+        ArgumentCaptor<WebSocketMessage<?>> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, times(2)).sendMessage(sent.capture());
+        assertTrue(((TextMessage) sent.getAllValues().get(0)).getPayload().endsWith("a\0"));
+        assertTrue(((TextMessage) sent.getAllValues().get(1)).getPayload().endsWith("b\0"));
+        assertEquals(0, queues.queueDepth());
+    }
+
+    @Test
+    void sendMessage_coalescesQueuedFramesForIdempotentDestination() throws Exception {
+        queued.sendMessage(frame("/topic/counts/7", "1"));
+        queued.sendMessage(frame("/topic/counts/7", "2"));
+        queued.sendMessage(frame("/topic/counts/7", "3"));
+
+        assertEquals(1, queues.queueDepth());
+        runDrains();
+
+        ArgumentCaptor<WebSocketMessage<?>> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session).sendMessage(sent.capture());
+        assertTrue(((TextMessage) sent.getValue()).getPayload().endsWith("3\0"));
+        assertEquals(2.0, meterRegistry.get("websocket.send.queue.dropped").tag("reason", "coalesced")
+                .counter().count());
+    }
+
+    @Test
+    void sendMessage_whenFull_dropsOldestIdempotentFrame() throws Exception {
+        queued.sendMessage(frame("/topic/counts/1", "first"));
+        queued.sendMessage(frame("/topic/notifications/1", "n1"));
+        queued.sendMessage(frame("/topic/counts/2", "second"));
+        queued.sendMessage(frame("/topic/notifications/1", "n2"));
+
+        assertEquals(3, queues.queueDepth());
+        runDrains();
+
+        ArgumentCaptor<WebSocketMessage<?>> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, times(3)).sendMessage(sent.capture());
+        assertTrue(((TextMessage) sent.getAllValues().get(0)).getPayload().endsWith("n1\0"));
+        assertEquals(1.0, meterRegistry.get("websocket.send.queue.dropped").tag("reason", "overflow")
+                .counter().count());
+    }
+
+    @Test
+    void sendMessage_whenFullOfFramesThatCannotBeDropped_terminatesSession() throws Exception {
+        queued.sendMessage(frame("/topic/notifications/1", "n1"));
+        queued.sendMessage(frame("/topic/notifications/1", "n2"));
+        queued.sendMessage(frame("/topic/notifications/1", "n3"));
+
+        SessionLimitExceededException ex = assertThrows(SessionLimitExceededException.class,
+                () -> queued.sendMessage(frame("/topic/notifications/1", "n4")));
+
+        assertEquals(CloseStatus.SESSION_NOT_RELIABLE, ex.getStatus());
+        assertEquals(1.0, meterRegistry.get("websocket.send.queue.terminated").counter().count());
+    }
+
+    @Test
+    void afterConnectionClosed_discardsQueuedFrames() throws Exception {
+        queued.sendMessage(frame("/topic/notifications/1", "n1"));
+        queued.sendMessage(frame("/topic/counts/1", "a"));
+
+        queues.decorate(handler).afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        assertEquals(0, queues.queueDepth());
+        assertEquals(0.0, meterRegistry.get("websocket.send.queue.sessions").gauge().value());
+    }
+
+    @Test
+    void afterConnectionEstablished_boundsBlockingSendsBySendTimeLimit() throws Exception {
+        WebSocketSession tomcatSession = mock(WebSocketSession.class);
+        Session nativeSession = mock(Session.class);
+        Map<String, Object> userProperties = new HashMap<>();
+        when(tomcatSession.getId()).thenReturn("s2");
+        when(tomcatSession.getNativeSession()).thenReturn(nativeSession);
+        when(nativeSession.getUserProperties()).thenReturn(userProperties);
+
+        queues.decorate(handler).afterConnectionEstablished(tomcatSession);
+
+        assertEquals(10_000L, userProperties.get(SessionSendQueues.BLOCKING_SEND_TIMEOUT_PROPERTY));
+    }
+
+    @Test
+    void drain_whenSendFails_closesSessionAndDropsQueuedFrames() throws Exception {
+        doThrow(new IOException("write timed out")).when(session).sendMessage(any());
+        queued.sendMessage(frame("/topic/notifications/1", "n1"));
+        queued.sendMessage(frame("/topic/notifications/1", "n2"));
+
+        runDrains();
+
+        verify(session, times(1)).sendMessage(any());
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(0, queues.queueDepth());
+    }
+
+    private void runDrains() {
+        while (!drains.isEmpty()) {
+            drains.poll().run();
+        }
+    }
+
+    private static TextMessage frame(String destination, String body) {
+        return new TextMessage("MESSAGE\ndestination:" + destination
+                + "\ncontent-type:application/json\nsubscription:sub-0\nmessage-id:m\n\n" + body + "\0");
+    }
+}
@@ -0,0 +1,184 @@
+package com.mana.openhand_backend.config;
+
+import com.mana.openhand_backend.OpenhandBackendApplication;
+import com.mana.openhand_backend.security.jwt.JwtUtils;
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs two application instances against one embedded STOMP broker and checks
+ * that messages published on one instance, to a topic or to a user, reach a
+ * client connected to the other.
+ */
+class WebSocketBrokerRelayIntegrationTest {
+
+    @TempDir
+    static Path brokerDir;
+
+    private static EmbeddedActiveMQ broker;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startBrokerAndNodes() throws Exception {
+        int stompPort = freePort();
+        ConfigurationImpl brokerConfig = new ConfigurationImpl();
+        brokerConfig.setPersistenceEnabled(false);
+        brokerConfig.setSecurityEnabled(false);
+        brokerConfig.setBrokerInstance(brokerDir.toFile());
+        brokerConfig.addAcceptorConfiguration("stomp", "tcp://localhost:" + stompPort + "?protocols=STOMP");
+        broker = new EmbeddedActiveMQ().setConfiguration(brokerConfig);
+        broker.start();
+
+        nodeA = startNode("a", stompPort);
+        nodeB = startNode("b", stompPort);
+        awaitBrokerAvailable(nodeA);
+        awaitBrokerAvailable(nodeB);
+    }
+
+    @AfterAll
+    static void stopNodesAndBroker() throws Exception {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @Test
+    void publishOnNodeA_reachesClientConnectedToNodeB() throws Exception {
+        assertDeliveredAcrossNodes("/topic/attendance/events", template -> template
+                .convertAndSend("/topic/attendance/events", Map.of("title", "From node A")));
+    }
+
+    @Test
+    void sendToUserOnNodeA_reachesUserSessionOnNodeB() throws Exception {
+        assertDeliveredAcrossNodes("/user/queue/notifications", template -> template
+                .convertAndSendToUser("42", "/queue/notifications", Map.of("title", "From node A")));
+    }
+
+    private void assertDeliveredAcrossNodes(String subscription, Consumer<SimpMessagingTemplate> publishOnNodeA)
+            throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        // Receipt tracking needs a scheduler on the client.
+        ThreadPoolTaskScheduler clientScheduler = new ThreadPoolTaskScheduler();
+        clientScheduler.initialize();
+        stompClient.setTaskScheduler(clientScheduler);
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + accessToken(nodeB, 42L));
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port(nodeB) + "/ws", new WebSocketHttpHeaders(), connectHeaders,
+                        new StompSessionHandlerAdapter() {
+                        })
+                .get(10, TimeUnit.SECONDS);
+
+        try {
+            BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+            CountDownLatch subscribed = new CountDownLatch(1);
+            StompHeaders subscribeHeaders = new StompHeaders();
+            subscribeHeaders.setDestination(subscription);
+            subscribeHeaders.setReceipt("subscribe-" + subscription);
+            session.subscribe(subscribeHeaders, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Map.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    received.add((Map<?, ?>) payload);
+                }
+            }).addReceiptTask(subscribed::countDown);
+            assertTrue(subscribed.await(10, TimeUnit.SECONDS), "broker did not confirm the subscription");
+
+            publishOnNodeA.accept(nodeA.getBean(SimpMessagingTemplate.class));
+
+            Map<?, ?> message = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(message, "client on node B did not receive the message published on node A");
+            assertEquals("From node A", message.get("title"));
+        } finally {
+            session.disconnect();
+            stompClient.stop();
+            clientScheduler.shutdown();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(String name, int stompPort) {
+        return new SpringApplicationBuilder(OpenhandBackendApplication.class)
+                .properties(
+                        "spring.config.additional-location=classpath:application-test.properties",
+                        "spring.datasource.url=jdbc:h2:mem:ws-relay-node-" + name,
+                        "server.port=0",
+                        "openhand.app.websocket.broker=relay",
+                        "openhand.app.websocket.relay.host=localhost",
+                        "openhand.app.websocket.relay.port=" + stompPort)
+                .run();
+    }
+
+    private static void awaitBrokerAvailable(ConfigurableApplicationContext node) throws InterruptedException {
+        AbstractBrokerMessageHandler relay = node.getBean("stompBrokerRelayMessageHandler",
+                AbstractBrokerMessageHandler.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!relay.isBrokerAvailable()) {
+            assertTrue(System.nanoTime() < deadline, "relay did not connect to the broker");
+            Thread.sleep(50);
+        }
+    }
+
+    private static String accessToken(ConfigurableApplicationContext node, Long userId) {
+        UserDetailsImpl user = UserDetailsImpl.fromClaims(userId, "relay-" + userId + "@example.com",
+                List.of("ROLE_MEMBER"));
+        return node.getBean(JwtUtils.class).generateJwtToken(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static int port(ConfigurableApplicationContext node) {
+        return node.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -7,6 +7,9 @@ import com.mana.openhand_backend.events.presentationlayer.payload.CreateEventReq
 import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.notifications.businesslayer.NotificationService;
 import com.mana.openhand_backend.notifications.businesslayer.SendGridEmailService;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.domainclientlayer.EmailRecipient;
+import com.mana.openhand_backend.notifications.domainclientlayer.EmailSendResult;
 import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
@@ -22,6 +25,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -215,15 +219,15 @@ class EventAdminServiceImplTest {
         cancelled.setStatus(RegistrationStatus.CANCELLED);
 
         when(registrationRepository.findByEventId(1L)).thenReturn(List.of(active, cancelled));
+        when(sendGridEmailService.sendCancellationOrUpdateBulk(any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(EmailSendResult.ok()));
 
         eventAdminService.updateEvent(1L, request);
 
-        verify(sendGridEmailService).sendCancellationOrUpdate(
-                eq("member@example.com"),
-                eq("Member"),
-                eq("Updated"),
-                contains("Event schedule updated"),
-                eq("en"));
+        verify(sendGridEmailService).sendCancellationOrUpdateBulk(
+                eq(List.of(new EmailRecipient("member@example.com", "Member", "en"))),
+                same(existing),
+                contains("Event schedule updated"));
     }
 
     @Test
@@ -232,11 +236,14 @@ class EventAdminServiceImplTest {
         ReflectionTestUtils.setField(event, "id", 5L);
 
         User firstUser = new User();
+        firstUser.setId(1L);
         firstUser.setEmail("first@example.com");
         firstUser.setName("First");
         User secondUser = new User();
+        secondUser.setId(2L);
         secondUser.setEmail("second@example.com");
         secondUser.setName("Second");
+        secondUser.setPreferredLanguage("fr");
 
         Registration first = new Registration(firstUser, event);
         first.setStatus(RegistrationStatus.CONFIRMED);
@@ -246,22 +253,17 @@ class EventAdminServiceImplTest {
         when(registrationRepository.findByEventId(5L)).thenReturn(List.of(first, second));
         doThrow(new RuntimeException("send failed"))
                 .when(sendGridEmailService)
-                .sendCancellationOrUpdate(eq("first@example.com"), any(), any(), any(), any());
+                .sendCancellationOrUpdateBulk(any(), any(), any());
 
         ReflectionTestUtils.invokeMethod(eventAdminService, "notifyScheduleChange", event);
 
-        verify(sendGridEmailService).sendCancellationOrUpdate(
-                eq("first@example.com"),
-                eq("First"),
-                eq(event.getTitle()),
-                contains("Event schedule updated"),
-                eq("en"));
-        verify(sendGridEmailService).sendCancellationOrUpdate(
-                eq("second@example.com"),
-                eq("Second"),
-                eq(event.getTitle()),
-                contains("Event schedule updated"),
-                eq("en"));
+        verify(sendGridEmailService).sendCancellationOrUpdateBulk(
+                eq(List.of(
+                        new EmailRecipient("first@example.com", "First", "en"),
+                        new EmailRecipient("second@example.com", "Second", "fr"))),
+                same(event),
+                contains("Event schedule updated"));
+        verify(notificationService).createNotificationsBulk(5L, NotificationType.EVENT_UPDATE, List.of(1L, 2L));
     }
 
     @Test
@@ -320,6 +322,8 @@ class EventAdminServiceImplTest {
         // Mock registrations
         when(registrationRepository.findByEventId(1L)).thenReturn(List.of(active));
         when(registrationRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(sendGridEmailService.sendCancellationOrUpdateBulk(any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(EmailSendResult.ok()));
 
         Event cancelledEvents = eventAdminService.cancelEvent(1L);
 
@@ -330,16 +334,10 @@ class EventAdminServiceImplTest {
         verify(registrationRepository).saveAll(any());
 
         // Verify notifications
-        verify(sendGridEmailService).sendCancellationOrUpdate(
-                eq("user@example.com"),
-                eq("User"),
-                eq("Existing"),
-                eq("Event Cancelled"),
-                eq("en"));
-        verify(notificationService).createNotification(
-                eq(10L),
-                eq(1L),
-                eq("CANCELLATION"),
-                eq("en"));
+        verify(sendGridEmailService).sendCancellationOrUpdateBulk(
+                List.of(new EmailRecipient("user@example.com", "User", "en")),
+                event,
+                "Event Cancelled");
+        verify(notificationService).createNotificationsBulk(1L, NotificationType.CANCELLATION, List.of(10L));
     }
 }
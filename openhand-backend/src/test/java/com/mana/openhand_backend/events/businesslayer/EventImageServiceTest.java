@@ -13,6 +13,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -53,10 +54,15 @@ class EventImageServiceTest {
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
         when(fileStorageService.toPublicUrl(baseUrl, imageUrl))
                 .thenReturn("http://localhost:8080/uploads/event-images/test.jpg");
+        when(fileStorageService.toPublicVariantUrls(eq(baseUrl), eq(imageUrl),
+                argThat(path -> path.endsWith(Path.of("event-images", "test.jpg")))))
+                .thenReturn(Map.of("thumbnail", "http://localhost:8080/uploads/event-images/test-thumbnail.jpg"));
 
         ImageUrlResponse response = eventImageService.getEventImage(eventId, baseUrl);
 
         assertEquals("http://localhost:8080/uploads/event-images/test.jpg", response.getUrl());
+        assertEquals("http://localhost:8080/uploads/event-images/test-thumbnail.jpg",
+                response.getVariants().get("thumbnail"));
     }
 
     @Test
@@ -76,14 +82,14 @@ class EventImageServiceTest {
         event.setImageUrl("/uploads/event-images/old.jpg");
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(fileStorageService.storeFile(eq(file), any(Path.class), anyString())).thenReturn("new.jpg");
+        when(fileStorageService.storeImage(eq(file), any(Path.class), anyString())).thenReturn("new.jpg");
         when(fileStorageService.toPublicUrl(anyString(), anyString())).thenReturn("full_url");
 
         eventImageService.storeEventImage(eventId, file, baseUrl);
 
         verify(fileStorageService).validateImageFile(file, maxSizeBytes);
         verify(eventRepository).save(event);
-        verify(fileStorageService).deleteFile(any(Path.class)); // Verifies previous file deletion
+        verify(fileStorageService).deleteImage(any(Path.class)); // Verifies previous file deletion
         assertEquals("/uploads/event-images/new.jpg", event.getImageUrl());
     }
 
@@ -94,11 +100,11 @@ class EventImageServiceTest {
         Event event = createEvent();
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(fileStorageService.storeFile(eq(file), any(Path.class), anyString())).thenReturn("new.jpg");
+        when(fileStorageService.storeImage(eq(file), any(Path.class), anyString())).thenReturn("new.jpg");
         doThrow(new RuntimeException("DB Error")).when(eventRepository).save(event);
 
         assertThrows(RuntimeException.class, () -> eventImageService.storeEventImage(eventId, file, "url"));
 
-        verify(fileStorageService).deleteFile(argThat(path -> path.toString().endsWith("new.jpg")));
+        verify(fileStorageService).deleteImage(argThat(path -> path.toString().endsWith("new.jpg")));
     }
 }
@@ -46,7 +46,7 @@ class ProfilePictureServiceTest {
         user.setProfilePictureUrl("/uploads/profile-pictures/old.png");
         when(userRepository.findById(5L)).thenReturn(Optional.of(user));
         when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(fileStorageService.storeFile(any(MultipartFile.class), any(Path.class), anyString()))
+        when(fileStorageService.storeImage(any(MultipartFile.class), any(Path.class), anyString()))
                 .thenReturn("new.png");
         when(fileStorageService.toPublicUrl(anyString(), anyString()))
                 .thenReturn("http://base/uploads/profile-pictures/new.png");
@@ -58,7 +58,7 @@ class ProfilePictureServiceTest {
 
         assertEquals("http://base/uploads/profile-pictures/new.png", response.getUrl());
         ArgumentCaptor<Path> deleteCaptor = ArgumentCaptor.forClass(Path.class);
-        verify(fileStorageService).deleteFile(deleteCaptor.capture());
+        verify(fileStorageService).deleteImage(deleteCaptor.capture());
         assertTrue(deleteCaptor.getValue().toString().endsWith("old.png"));
     }
 
@@ -78,7 +78,7 @@ class ProfilePictureServiceTest {
         User user = new User();
         user.setId(5L);
         when(userRepository.findById(5L)).thenReturn(Optional.of(user));
-        when(fileStorageService.storeFile(any(MultipartFile.class), any(Path.class), anyString()))
+        when(fileStorageService.storeImage(any(MultipartFile.class), any(Path.class), anyString()))
                 .thenReturn("new.png");
         when(userRepository.save(any(User.class))).thenThrow(new RuntimeException("fail"));
 
@@ -88,6 +88,6 @@ class ProfilePictureServiceTest {
         RuntimeException ex = assertThrows(RuntimeException.class,
                 () -> service.storeProfilePicture(5L, mock(MultipartFile.class), "http://base"));
         assertEquals("fail", ex.getMessage());
-        verify(fileStorageService).deleteFile(any(Path.class));
+        verify(fileStorageService).deleteImage(any(Path.class));
     }
 }
@@ -7,6 +7,7 @@ import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.identity.presentationlayer.payload.UpdateUserProfileRequest;
 import com.mana.openhand_backend.identity.utils.InvalidRoleException;
 import com.mana.openhand_backend.identity.utils.UserNotFoundException;
+import com.mana.openhand_backend.security.services.AccountRevocationService;
 import com.mana.openhand_backend.security.services.RefreshTokenService;
 import com.mana.openhand_backend.registrations.businesslayer.RegistrationService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -50,6 +51,9 @@ class UserAdminServiceImplTest {
     @Mock
     private RegistrationService registrationService;
 
+    @Mock
+    private AccountRevocationService accountRevocationService;
+
     @InjectMocks
     private UserAdminServiceImpl service;
 
@@ -90,6 +94,7 @@ class UserAdminServiceImplTest {
         verify(auditLogService).logRoleChange(eq(5L), eq("user@example.com"),
                 eq("ROLE_MEMBER"), eq("ROLE_ADMIN"), eq("admin@example.com"),
                 eq("127.0.0.1"), eq("JUnit"), eq("ADMIN_CONSOLE"));
+        verify(accountRevocationService).invalidateIssuedTokens(user);
     }
 
     @Test
@@ -254,6 +259,7 @@ class UserAdminServiceImplTest {
 
         assertEquals(MemberStatus.INACTIVE, updated.getMemberStatus());
         assertNotNull(updated.getStatusChangedAt());
+        verify(accountRevocationService).revoke(1L);
         verify(refreshTokenService).deleteByUserId(1L);
         verify(registrationService).cancelRegistrationsForUser(eq(1L), any(String.class));
         verify(userRepository).save(any(User.class));
@@ -273,6 +279,7 @@ class UserAdminServiceImplTest {
         assertNotNull(updated.getStatusChangedAt());
         verify(refreshTokenService, never()).deleteByUserId(any(Long.class));
         verify(registrationService, never()).cancelRegistrationsForUser(any(Long.class), any(String.class));
+        verify(accountRevocationService).restore(1L);
         verify(userRepository).save(any(User.class));
     }
 }
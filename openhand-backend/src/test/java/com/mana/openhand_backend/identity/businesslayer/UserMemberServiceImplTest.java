@@ -19,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.mana.openhand_backend.identity.dataaccesslayer.MemberStatus;
 import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.security.services.AccountRevocationService;
 import com.mana.openhand_backend.security.services.RefreshTokenService;
 import com.mana.openhand_backend.identity.utils.UserNotFoundException;
 import com.mana.openhand_backend.identity.presentationlayer.payload.ProfileRequest;
@@ -37,6 +38,9 @@ class UserMemberServiceImplTest {
     @Mock
     private RegistrationService registrationService;
 
+    @Mock
+    private AccountRevocationService accountRevocationService;
+
     @InjectMocks
     private UserMemberServiceImpl service;
 
@@ -58,6 +62,7 @@ class UserMemberServiceImplTest {
         // assert
         assertThat(result.getMemberStatus()).isEqualTo(MemberStatus.INACTIVE);
         assertThat(result.getStatusChangedAt()).isNotNull();
+        verify(accountRevocationService).revoke(42L);
         verify(refreshTokenService).deleteByUserId(42L);
         verify(registrationService).cancelRegistrationsForUser(42L,
                 "Registration cancelled due to account deactivation.");
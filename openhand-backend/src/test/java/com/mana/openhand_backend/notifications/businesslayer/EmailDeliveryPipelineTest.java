@@ -0,0 +1,129 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.sendgrid.Method;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailDeliveryPipelineTest {
+
+    private StubSendGridServer server;
+    private EmailDeliveryPipeline pipeline;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubSendGridServer();
+        pipeline = new EmailDeliveryPipeline(server.client(), 2, 10, 0, 3, 0, 0);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        pipeline.shutdown();
+        server.close();
+    }
+
+    @Test
+    void send_retriesThrottledAndServerErrorsUntilAccepted() throws Exception {
+        server.respondWith(429, 503);
+
+        Response response = pipeline.send(mailRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(202);
+        assertThat(server.requestBodies()).hasSize(3);
+    }
+
+    @Test
+    void send_whenAttemptsExhausted_returnsLastResponse() throws Exception {
+        server.respondWith(500, 500, 500);
+
+        Response response = pipeline.send(mailRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(500);
+        assertThat(server.requestBodies()).hasSize(3);
+    }
+
+    @Test
+    void send_doesNotRetryClientErrors() throws Exception {
+        server.respondWith(400);
+
+        Response response = pipeline.send(mailRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(400);
+        assertThat(server.requestBodies()).hasSize(1);
+    }
+
+    @Test
+    void send_honoursRetryAfter() throws Exception {
+        EmailDeliveryPipeline patient = new EmailDeliveryPipeline(server.client(), 1, 10, 0, 3, 0, 2000);
+        server.respondWith(429);
+        server.retryAfterSeconds("1");
+
+        try {
+            long startedAt = System.nanoTime();
+            Response response = patient.send(mailRequest());
+
+            assertThat(response.getStatusCode()).isEqualTo(202);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(1000);
+        } finally {
+            patient.shutdown();
+        }
+    }
+
+    @Test
+    void send_whenRetryAfterExceedsMaxBackoff_givesUpWithoutWaiting() throws Exception {
+        EmailDeliveryPipeline patient = new EmailDeliveryPipeline(server.client(), 1, 10, 0, 3, 0, 2000);
+        server.respondWith(429);
+        server.retryAfterSeconds("3600");
+
+        try {
+            long startedAt = System.nanoTime();
+            Response response = patient.send(mailRequest());
+
+            assertThat(response.getStatusCode()).isEqualTo(429);
+            assertThat(server.requestBodies()).hasSize(1);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+        } finally {
+            patient.shutdown();
+        }
+    }
+
+    @Test
+    void send_spacesRequestsByRateLimit() throws Exception {
+        EmailDeliveryPipeline limited = new EmailDeliveryPipeline(server.client(), 1, 10, 20, 1, 0, 0);
+        try {
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < 5; i++) {
+                limited.send(mailRequest());
+            }
+
+            // 20 requests per second: the fifth request waits for its 200 ms slot.
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(180);
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    @Test
+    void sendAsync_deliversOnPool() throws Exception {
+        server.respondWith(503);
+
+        Response response = pipeline.sendAsync(mailRequest()).get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode()).isEqualTo(202);
+        assertThat(server.requestBodies()).hasSize(2);
+    }
+
+    private Request mailRequest() {
+        Request request = new Request();
+        request.setMethod(Method.POST);
+        request.setEndpoint("mail/send");
+        request.setBody("{}");
+        return request;
+    }
+}
@@ -0,0 +1,175 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
+import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.dataaccesslayer.ReminderDeliveryRepository;
+import com.mana.openhand_backend.notifications.domainclientlayer.EmailRecipient;
+import com.mana.openhand_backend.notifications.domainclientlayer.EmailSendResult;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
+import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventReminderServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    @Mock
+    private ReminderDeliveryRepository reminderDeliveryRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private SendGridEmailService emailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventReminderService reminderService;
+
+    @BeforeEach
+    void setUp() {
+        reminderService = new EventReminderService(eventRepository, registrationRepository, reminderDeliveryRepository,
+                notificationService, emailService, transactionManager, new long[] { 1440, 120 }, 2);
+    }
+
+    @Test
+    void sendDueReminders_remindsOnlyClaimedUsersAndPagesThroughRegistrations() {
+        LocalDateTime start = LocalDateTime.now().plusHours(20);
+        Event event = event(10L, start, EventStatus.OPEN);
+        when(eventRepository.findByStartDateTimeBetweenOrderByStartDateTimeAsc(any(), any()))
+                .thenReturn(List.of(event));
+        when(registrationRepository.findUserIdsByEventIdAndStatus(10L, RegistrationStatus.CONFIRMED, 0L,
+                PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(registrationRepository.findUserIdsByEventIdAndStatus(10L, RegistrationStatus.CONFIRMED, 2L,
+                PageRequest.of(0, 2))).thenReturn(List.of(3L));
+        // User 2 was claimed by an earlier or concurrent run.
+        when(reminderDeliveryRepository.claim(10L, start.minusMinutes(1440), List.of(1L, 2L)))
+                .thenReturn(List.of(1L));
+        when(reminderDeliveryRepository.claim(10L, start.minusMinutes(1440), List.of(3L)))
+                .thenReturn(List.of(3L));
+        when(notificationService.createNotificationsBulk(10L, NotificationType.REMINDER, List.of(1L)))
+                .thenReturn(List.of(reminder(1L, event)));
+        when(notificationService.createNotificationsBulk(10L, NotificationType.REMINDER, List.of(3L)))
+                .thenReturn(List.of(reminder(3L, event)));
+        when(emailService.sendReminderBulk(anyList(), same(event)))
+                .thenReturn(CompletableFuture.completedFuture(EmailSendResult.ok()));
+
+        int sent = reminderService.sendDueReminders();
+
+        assertEquals(2, sent);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailRecipient>> recipients = ArgumentCaptor.forClass(List.class);
+        verify(emailService, times(2)).sendReminderBulk(recipients.capture(), same(event));
+        assertEquals(List.of("user1@example.com", "user3@example.com"), recipients.getAllValues().stream()
+                .flatMap(List::stream).map(EmailRecipient::email).toList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void sendDueReminders_claimsMostRecentDueLeadTime() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(90);
+        Event event = event(10L, start, EventStatus.OPEN);
+        when(eventRepository.findByStartDateTimeBetweenOrderByStartDateTimeAsc(any(), any()))
+                .thenReturn(List.of(event));
+        when(registrationRepository.findUserIdsByEventIdAndStatus(eq(10L), eq(RegistrationStatus.CONFIRMED),
+                eq(0L), any())).thenReturn(List.of(1L));
+        when(reminderDeliveryRepository.claim(eq(10L), any(), eq(List.of(1L)))).thenReturn(List.of());
+
+        assertEquals(0, reminderService.sendDueReminders());
+
+        // Within two hours of the start, the reminder claimed is the one due at the 2h mark.
+        ArgumentCaptor<LocalDateTime> dueAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reminderDeliveryRepository).claim(eq(10L), dueAt.capture(), eq(List.of(1L)));
+        assertEquals(start.minusMinutes(120), dueAt.getValue());
+        verify(notificationService, never()).createNotificationsBulk(any(), any(), any());
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void sendDueReminders_whenNotificationsFail_rollsBackClaimsAndSendsNothing() {
+        LocalDateTime start = LocalDateTime.now().plusHours(20);
+        Event event = event(10L, start, EventStatus.OPEN);
+        when(eventRepository.findByStartDateTimeBetweenOrderByStartDateTimeAsc(any(), any()))
+                .thenReturn(List.of(event));
+        when(registrationRepository.findUserIdsByEventIdAndStatus(eq(10L), eq(RegistrationStatus.CONFIRMED),
+                eq(0L), any())).thenReturn(List.of(1L));
+        when(reminderDeliveryRepository.claim(10L, start.minusMinutes(1440), List.of(1L))).thenReturn(List.of(1L));
+        when(notificationService.createNotificationsBulk(10L, NotificationType.REMINDER, List.of(1L)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertEquals(0, reminderService.sendDueReminders());
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void sendDueReminders_deletesClaimsOfStartedEvents() {
+        when(eventRepository.findByStartDateTimeBetweenOrderByStartDateTimeAsc(any(), any())).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        reminderService.sendDueReminders();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reminderDeliveryRepository).deleteDueBefore(cutoff.capture());
+        assertFalse(cutoff.getValue().isBefore(before.minusMinutes(1440)));
+        assertFalse(cutoff.getValue().isAfter(LocalDateTime.now().minusMinutes(1440)));
+    }
+
+    @Test
+    void sendDueReminders_skipsCancelledEvents() {
+        when(eventRepository.findByStartDateTimeBetweenOrderByStartDateTimeAsc(any(), any()))
+                .thenReturn(List.of(event(10L, LocalDateTime.now().plusHours(1), EventStatus.CANCELLED)));
+
+        assertEquals(0, reminderService.sendDueReminders());
+
+        verifyNoInteractions(registrationRepository, notificationService, emailService);
+    }
+
+    private Event event(Long id, LocalDateTime start, EventStatus status) {
+        Event event = new Event("gala", "Desc", start, null, "Location", "Address", status, 25, 0, "GENERAL");
+        event.setId(id);
+        return event;
+    }
+
+    private Notification reminder(Long userId, Event event) {
+        User user = new User("user" + userId + "@example.com", "password", Set.of("ROLE_MEMBER"));
+        user.setId(userId);
+        return new Notification(user, event, NotificationType.REMINDER, "en", "Reminder", event.getTitle());
+    }
+}
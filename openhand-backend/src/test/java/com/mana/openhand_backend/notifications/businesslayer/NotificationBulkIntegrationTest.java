@@ -0,0 +1,114 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
+import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationPreferenceRepository;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPreferenceItemRequestModel;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPreferenceUpdateRequestModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class NotificationBulkIntegrationTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationPreferenceService preferenceService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationPreferenceRepository preferenceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private User english;
+    private User french;
+    private Event event;
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        notificationRepository.deleteAll();
+        english = user("bulk_notify_en@example.com", "en");
+        french = user("bulk_notify_fr@example.com", "fr");
+        preferenceRepository.findByUserIdIn(List.of(english.getId(), french.getId()))
+                .forEach(preferenceRepository::delete);
+        event = eventRepository.save(new Event(
+                "gala",
+                "Bulk notification event",
+                LocalDateTime.now().plusDays(2),
+                LocalDateTime.now().plusDays(3),
+                "Hall",
+                "1 Main St",
+                EventStatus.OPEN,
+                10,
+                0,
+                "GENERAL"));
+    }
+
+    @Test
+    @Transactional
+    void createNotificationsBulk_insertsOneNotificationPerUserWithIds() {
+        List<Notification> created = notificationService.createNotificationsBulk(
+                event.getId(), NotificationType.EVENT_FULL_ALERT, List.of(english.getId(), french.getId()));
+
+        assertEquals(2, created.size());
+        assertTrue(created.stream().allMatch(notification -> notification.getId() != null));
+
+        Notification stored = notificationRepository.findByUserIdOrderByCreatedAtDesc(french.getId()).get(0);
+        assertEquals("fr", stored.getLanguage());
+        assertEquals("gala", stored.getEventTitle());
+        assertEquals(NotificationType.EVENT_FULL_ALERT, stored.getNotificationType());
+        assertFalse(stored.isRead());
+        assertEquals(1, notificationRepository.findByUserIdOrderByCreatedAtDesc(english.getId()).size());
+    }
+
+    @Test
+    @Transactional
+    void createNotificationsBulk_skipsUsersWhoDisabledTheCategory() {
+        preferenceService.updatePreferences(french.getId(), new NotificationPreferenceUpdateRequestModel(
+                List.of(new NotificationPreferenceItemRequestModel("REMINDER", false))));
+        long preferenceRows = preferenceRepository.count();
+
+        List<Notification> created = notificationService.createNotificationsBulk(
+                event.getId(), NotificationType.REMINDER, List.of(english.getId(), french.getId()));
+
+        assertEquals(1, created.size());
+        assertEquals(english.getId(), created.get(0).getUser().getId());
+        assertTrue(notificationRepository.findByUserIdOrderByCreatedAtDesc(french.getId()).isEmpty());
+        assertEquals(preferenceRows, preferenceRepository.count());
+    }
+
+    private User user(String email, String language) {
+        return userRepository.findByEmail(email).orElseGet(() -> {
+            User user = new User(email, "password123", Set.of("ROLE_EMPLOYEE"));
+            user.setPreferredLanguage(language);
+            return userRepository.save(user);
+        });
+    }
+}
@@ -4,6 +4,7 @@ import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationPreference;
 import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationPreferenceRepository;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
 import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPreferenceItemRequestModel;
 import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPreferenceUpdateRequestModel;
 import com.mana.openhand_backend.notifications.utils.InvalidNotificationPreferenceException;
@@ -15,8 +16,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +37,7 @@ class NotificationPreferenceServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        preferenceService = new NotificationPreferenceServiceImpl(preferenceRepository, userRepository);
+        preferenceService = new NotificationPreferenceServiceImpl(preferenceRepository, userRepository, 100, 60_000);
     }
 
     @Test
@@ -66,4 +71,76 @@ class NotificationPreferenceServiceImplTest {
         assertThrows(InvalidNotificationPreferenceException.class,
                 () -> preferenceService.updatePreferences(userId, request));
     }
+
+    @Test
+    void filterEnabled_dropsUsersWhoDisabledTheCategoryWithoutWriting() {
+        User optedOut = new User();
+        optedOut.setId(2L);
+        NotificationPreference disabled = new NotificationPreference(optedOut);
+        disabled.setReminderEnabled(false);
+        when(preferenceRepository.findByUserIdIn(Set.of(1L, 2L, 3L))).thenReturn(List.of(disabled));
+
+        Set<Long> enabled = preferenceService.filterEnabled(List.of(1L, 2L, 3L), NotificationType.REMINDER);
+
+        assertEquals(Set.of(1L, 3L), enabled);
+        verify(preferenceRepository, never()).save(any());
+    }
+
+    @Test
+    void filterEnabled_criticalType_skipsPreferenceLookup() {
+        Set<Long> enabled = preferenceService.filterEnabled(List.of(1L, 2L), NotificationType.EVENT_FULL_ALERT);
+
+        assertEquals(Set.of(1L, 2L), enabled);
+        verifyNoInteractions(preferenceRepository);
+    }
+
+    @Test
+    void isNotificationEnabled_withoutStoredPreferences_usesDefaultsWithoutWriting() {
+        when(preferenceRepository.findByUserId(5L)).thenReturn(Optional.empty());
+
+        assertTrue(preferenceService.isNotificationEnabled(5L, NotificationType.REMINDER));
+        verify(preferenceRepository, never()).save(any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void isNotificationEnabled_cachesResolvedPreferences() {
+        User user = new User();
+        user.setId(5L);
+        NotificationPreference preference = new NotificationPreference(user);
+        preference.setReminderEnabled(false);
+        when(preferenceRepository.findByUserId(5L)).thenReturn(Optional.of(preference));
+
+        assertFalse(preferenceService.isNotificationEnabled(5L, NotificationType.REMINDER));
+        assertTrue(preferenceService.isNotificationEnabled(5L, NotificationType.REGISTRATION_CONFIRMATION));
+
+        verify(preferenceRepository, times(1)).findByUserId(5L);
+    }
+
+    @Test
+    void updatePreferences_invalidatesCachedPreferences() {
+        User user = new User();
+        user.setId(5L);
+        NotificationPreference preference = new NotificationPreference(user);
+        when(preferenceRepository.findByUserId(5L)).thenReturn(Optional.of(preference));
+        when(preferenceRepository.save(preference)).thenReturn(preference);
+
+        assertTrue(preferenceService.isNotificationEnabled(5L, NotificationType.REMINDER));
+        preferenceService.updatePreferences(5L, new NotificationPreferenceUpdateRequestModel(
+                List.of(new NotificationPreferenceItemRequestModel("REMINDER", false))));
+
+        assertFalse(preferenceService.isNotificationEnabled(5L, NotificationType.REMINDER));
+    }
+
+    @Test
+    void filterEnabled_onlyLoadsUsersMissingFromCache() {
+        when(preferenceRepository.findByUserId(1L)).thenReturn(Optional.empty());
+        when(preferenceRepository.findByUserIdIn(Set.of(2L, 3L))).thenReturn(List.of());
+
+        preferenceService.isNotificationEnabled(1L, NotificationType.REMINDER);
+        Set<Long> enabled = preferenceService.filterEnabled(List.of(1L, 2L, 3L), NotificationType.REMINDER);
+
+        assertEquals(Set.of(1L, 2L, 3L), enabled);
+        verify(preferenceRepository).findByUserIdIn(Set.of(2L, 3L));
+    }
 }
@@ -0,0 +1,170 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationEventResponseModel;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationResponseModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPublisherTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private SimpUserRegistry userRegistry;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationStreamService streamService;
+
+    @Mock
+    private UnreadNotificationCounter unreadCounter;
+
+    private NotificationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new NotificationPublisher(messagingTemplate, userRegistry, notificationRepository, streamService,
+                unreadCounter);
+    }
+
+    @Test
+    void publishNotification_withStream_sendsOverBothTransportsWithUnreadCount() {
+        when(streamService.hasStream(1L)).thenReturn(true);
+        when(unreadCounter.get(1L)).thenReturn(4L);
+
+        publisher.publishNotification(notification(1L));
+
+        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq("/queue/notifications"),
+                any(NotificationResponseModel.class));
+        verify(streamService).publish(eq(1L), eq(NotificationStreamService.NOTIFICATION_EVENT),
+                any(NotificationResponseModel.class));
+        verify(streamService).publish(1L, NotificationStreamService.UNREAD_COUNT_EVENT, Map.of("count", 4L));
+    }
+
+    @Test
+    void publishNotification_withoutStream_skipsStreamAndCount() {
+        doThrow(new IllegalStateException("broker down")).when(messagingTemplate)
+                .convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+        publisher.publishNotification(notification(1L));
+
+        verify(streamService, never()).publish(any(), anyString(), any());
+        verifyNoInteractions(unreadCounter);
+    }
+
+    @Test
+    void publishNotification_withLegacySubscriber_alsoSendsToLegacyTopic() {
+        subscribe(1L, "/topic/notifications/1");
+
+        publisher.publishNotification(notification(1L));
+
+        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq("/queue/notifications"),
+                any(NotificationResponseModel.class));
+        verify(messagingTemplate).convertAndSend(eq("/topic/notifications/1"), any(NotificationResponseModel.class));
+    }
+
+    @Test
+    void publishNotification_withoutLegacySubscriber_skipsLegacyTopic() {
+        subscribe(1L, "/user/queue/notifications");
+
+        publisher.publishNotification(notification(1L));
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void publishReadAll_sendsSingleEventWithCurrentCount() {
+        when(unreadCounter.get(1L)).thenReturn(0L);
+
+        publisher.publishReadAll(1L, LocalDateTime.of(2025, 3, 1, 12, 0));
+
+        ArgumentCaptor<NotificationEventResponseModel> event =
+                ArgumentCaptor.forClass(NotificationEventResponseModel.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq("/queue/notification-events"), event.capture());
+        assertEquals(NotificationEventResponseModel.READ_ALL, event.getValue().type());
+        assertEquals(0L, event.getValue().unreadCount());
+        assertEquals("2025-03-01T12:00:00", event.getValue().readAt());
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void publishReadAll_withLegacySubscriber_pushesMarkedNotificationsToLegacyTopic() {
+        LocalDateTime readAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        subscribe(1L, "/topic/notifications/1");
+        Notification first = notification(1L);
+        Notification second = notification(1L);
+        when(notificationRepository.findMarkedReadBetween(eq(1L), eq(readAt), eq(readAt.plusNanos(1_000_000)),
+                any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+
+        publisher.publishReadAll(1L, readAt);
+
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/notifications/1"),
+                any(NotificationResponseModel.class));
+    }
+
+    @Test
+    void publishReadAll_withoutLegacySubscriber_skipsLegacyTopic() {
+        subscribe(1L, "/user/queue/notification-events");
+
+        publisher.publishReadAll(1L, LocalDateTime.of(2025, 3, 1, 12, 0));
+
+        verifyNoInteractions(notificationRepository);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private void subscribe(Long userId, String destination) {
+        SimpSubscription subscription = mock(SimpSubscription.class);
+        when(subscription.getDestination()).thenReturn(destination);
+        SimpSession session = mock(SimpSession.class);
+        when(session.getSubscriptions()).thenReturn(Set.of(subscription));
+        SimpUser user = mock(SimpUser.class);
+        when(user.getSessions()).thenReturn(Set.of(session));
+        when(userRegistry.getUser(String.valueOf(userId))).thenReturn(user);
+    }
+
+    private static Notification notification(Long userId) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(userId);
+        Notification notification = mock(Notification.class);
+        when(notification.getUser()).thenReturn(user);
+        when(notification.getNotificationType()).thenReturn(NotificationType.REMINDER);
+        when(notification.getCreatedAt()).thenReturn(LocalDateTime.of(2025, 3, 1, 9, 0));
+        return notification;
+    }
+}
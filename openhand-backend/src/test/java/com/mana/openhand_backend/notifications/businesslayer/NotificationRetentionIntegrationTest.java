@@ -0,0 +1,86 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationRetentionReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class NotificationRetentionIntegrationTest {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private NotificationRetentionService retentionService;
+    private User occasional;
+    private User heavy;
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        notificationRepository.deleteAll();
+        occasional = user("retention_occasional@example.com");
+        heavy = user("retention_heavy@example.com");
+        // Cap of 3 per user and single-row batches so every loop runs more than once.
+        retentionService = new NotificationRetentionService(notificationRepository, new SimpleMeterRegistry(), 90, 3, 1);
+    }
+
+    @Test
+    @Transactional
+    void runRetention_removesOnlyExpiredOrOverCapReadNotifications() {
+        LocalDateTime now = LocalDateTime.now();
+        Notification expiredRead = save(occasional, now.minusDays(120), true);
+        Notification expiredUnread = save(occasional, now.minusDays(120), false);
+        Notification recentRead = save(occasional, now.minusDays(1), true);
+
+        Notification oldestRead = save(heavy, now.minusHours(5), true);
+        Notification olderUnread = save(heavy, now.minusHours(4), false);
+        Notification kept1 = save(heavy, now.minusHours(3), true);
+        Notification kept2 = save(heavy, now.minusHours(2), true);
+        Notification kept3 = save(heavy, now.minusHours(1), true);
+
+        NotificationRetentionReport report = retentionService.runRetention();
+
+        assertEquals(new NotificationRetentionReport(1, 1, 1), report);
+        assertFalse(notificationRepository.existsById(expiredRead.getId()));
+        assertFalse(notificationRepository.existsById(oldestRead.getId()));
+        for (Notification kept : List.of(expiredUnread, recentRead, olderUnread, kept1, kept2, kept3)) {
+            assertTrue(notificationRepository.existsById(kept.getId()));
+        }
+    }
+
+    private Notification save(User user, LocalDateTime createdAt, boolean read) {
+        Notification notification = new Notification(
+                user, null, NotificationType.DONATION_CONFIRMATION, "en", "Thank you", "Donation");
+        notification.setCreatedAt(createdAt);
+        notification.setRead(read);
+        return notificationRepository.save(notification);
+    }
+
+    private User user(String email) {
+        return userRepository.findByEmail(email).orElseGet(() -> {
+            User user = new User(email, "password123", Set.of("ROLE_MEMBER"));
+            user.setPreferredLanguage("en");
+            return userRepository.save(user);
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationRetentionReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retentionService = new NotificationRetentionService(notificationRepository, meterRegistry, 90, 200, 2);
+    }
+
+    @Test
+    void runRetention_deletesExpiredNotificationsInBatches() {
+        when(notificationRepository.findReadIdsCreatedBefore(any(LocalDateTime.class), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(notificationRepository.deleteByIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(notificationRepository.deleteByIdIn(List.of(3L))).thenReturn(1);
+        when(notificationRepository.findUserIdsWithMoreThan(200)).thenReturn(List.of());
+
+        NotificationRetentionReport report = retentionService.runRetention();
+
+        assertEquals(new NotificationRetentionReport(3, 0, 0), report);
+        assertEquals(3.0, meterRegistry.get("notifications.retention.removed").tag("reason", "expired")
+                .counter().count());
+    }
+
+    @Test
+    void runRetention_nothingToRemove_stopsAfterFirstLookup() {
+        when(notificationRepository.findReadIdsCreatedBefore(any(LocalDateTime.class), any()))
+                .thenReturn(List.of());
+        when(notificationRepository.findUserIdsWithMoreThan(anyLong())).thenReturn(List.of());
+
+        NotificationRetentionReport report = retentionService.runRetention();
+
+        assertEquals(0, report.totalRemoved());
+        verify(notificationRepository, never()).deleteByIdIn(any());
+    }
+}
@@ -7,20 +7,26 @@ import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.identity.utils.UserNotFoundException;
 import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationBatchRepository;
 import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository;
 import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPage;
+import com.mana.openhand_backend.notifications.utils.InvalidNotificationCursorException;
+import com.mana.openhand_backend.notifications.utils.NotificationCursor;
 import com.mana.openhand_backend.notifications.utils.NotificationTextGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +39,12 @@ class NotificationServiceImplTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationBatchRepository notificationBatchRepository;
+
+    @Mock
+    private UnreadNotificationCounter unreadCounter;
+
     @Mock
     private UserRepository userRepository;
 
@@ -46,7 +58,7 @@ class NotificationServiceImplTest {
     private NotificationPreferenceService preferenceService;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private NotificationPublisher publisher;
 
     private NotificationServiceImpl notificationService;
 
@@ -54,11 +66,13 @@ class NotificationServiceImplTest {
     public void setup() {
         notificationService = new NotificationServiceImpl(
                 notificationRepository,
+                notificationBatchRepository,
+                unreadCounter,
                 userRepository,
                 eventRepository,
                 textGenerator,
                 preferenceService,
-                messagingTemplate);
+                publisher);
     }
 
     @Test
@@ -175,63 +189,81 @@ class NotificationServiceImplTest {
     }
 
     @Test
-    void getUserNotifications_validUserId_returnsNotificationsSortedByCreatedAtDesc() {
+    void getUserNotifications_firstPageWithMore_returnsCursorOfLastItem() {
         // Arrange
         Long userId = 1L;
-        List<Notification> mockNotifications = List.of(mock(Notification.class), mock(Notification.class));
-        when(notificationRepository.findByUserIdOrderByCreatedAtDesc(userId)).thenReturn(mockNotifications);
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+        List<Notification> rows = List.of(
+                notification(30L, now), notification(20L, now), notification(10L, now.minusMinutes(1)));
+        when(notificationRepository.findFeed(userId, PageRequest.of(0, 3))).thenReturn(rows);
 
         // Act
-        List<Notification> result = notificationService.getUserNotifications(userId);
+        NotificationPage result = notificationService.getUserNotifications(userId, null, 2);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertSame(mockNotifications, result);
-        verify(notificationRepository).findByUserIdOrderByCreatedAtDesc(userId);
+        assertEquals(List.of(30L, 20L), result.notifications().stream().map(Notification::getId).toList());
+        assertEquals(new NotificationCursor(now, 20L), NotificationCursor.decode(result.nextCursor()));
     }
 
     @Test
-    void getUserNotifications_noNotifications_returnsEmptyList() {
+    void getUserNotifications_withCursor_continuesAfterPosition() {
         // Arrange
         Long userId = 1L;
-        when(notificationRepository.findByUserIdOrderByCreatedAtDesc(userId)).thenReturn(List.of());
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 12, 0);
+        String cursor = new NotificationCursor(createdAt, 20L).encode();
+        List<Notification> rows = List.of(notification(10L, createdAt.minusMinutes(1)));
+        when(notificationRepository.findFeedBefore(userId, createdAt, 20L, PageRequest.of(0, 3))).thenReturn(rows);
 
         // Act
-        List<Notification> result = notificationService.getUserNotifications(userId);
+        NotificationPage result = notificationService.getUserNotifications(userId, cursor, 2);
 
         // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(notificationRepository).findByUserIdOrderByCreatedAtDesc(userId);
+        assertEquals(rows, result.notifications());
+        assertNull(result.nextCursor());
     }
 
     @Test
-    void getUnreadCount_validUserId_returnsCorrectCount() {
+    void getUserNotifications_limitAboveMaximum_isCapped() {
         // Arrange
         Long userId = 1L;
-        when(notificationRepository.countByUserIdAndIsReadFalse(userId)).thenReturn(5L);
+        when(notificationRepository.findFeed(userId, PageRequest.of(0, NotificationServiceImpl.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
 
         // Act
-        long result = notificationService.getUnreadCount(userId);
+        NotificationPage result = notificationService.getUserNotifications(userId, null, 10_000);
 
         // Assert
-        assertEquals(5L, result);
-        verify(notificationRepository).countByUserIdAndIsReadFalse(userId);
+        assertTrue(result.notifications().isEmpty());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getUserNotifications_malformedCursor_throwsInvalidCursor() {
+        assertThrows(InvalidNotificationCursorException.class,
+                () -> notificationService.getUserNotifications(1L, "not-a-cursor", 20));
+        verifyNoInteractions(notificationRepository);
     }
 
     @Test
-    void getUnreadCount_noUnreadNotifications_returnsZero() {
+    void getUnreadCount_validUserId_returnsCounterValue() {
         // Arrange
         Long userId = 1L;
-        when(notificationRepository.countByUserIdAndIsReadFalse(userId)).thenReturn(0L);
+        when(unreadCounter.get(userId)).thenReturn(5L);
 
         // Act
         long result = notificationService.getUnreadCount(userId);
 
         // Assert
-        assertEquals(0L, result);
-        verify(notificationRepository).countByUserIdAndIsReadFalse(userId);
+        assertEquals(5L, result);
+        verify(notificationRepository, never()).countByUserIdAndIsReadFalse(any());
+    }
+
+    private Notification notification(Long id, LocalDateTime createdAt) {
+        Notification notification = new Notification(
+                user(1L, "en"), null, NotificationType.REMINDER, "en", "text", "title");
+        notification.setId(id);
+        notification.setCreatedAt(createdAt);
+        return notification;
     }
 
     @Test
@@ -268,40 +300,96 @@ class NotificationServiceImplTest {
     }
 
     @Test
-    void markAllAsRead_multipleUnreadNotifications_marksAllAsReadWithSameTimestamp() {
+    void markAllAsRead_multipleUnreadNotifications_updatesOnceAndPushesSingleEvent() {
         // Arrange
         Long userId = 1L;
-        Notification notification1 = mock(Notification.class);
-        Notification notification2 = mock(Notification.class);
-        List<Notification> unreadNotifications = List.of(notification1, notification2);
-        when(notificationRepository.findByUserIdAndIsReadFalse(userId)).thenReturn(unreadNotifications);
+        when(notificationRepository.markAllAsReadByUserId(eq(userId), any(LocalDateTime.class))).thenReturn(300);
 
         // Act
         notificationService.markAllAsRead(userId);
 
         // Assert
-        verify(notificationRepository).findByUserIdAndIsReadFalse(userId);
-        verify(notification1).setRead(true);
-        verify(notification1).setReadAt(any(LocalDateTime.class));
-        verify(notification2).setRead(true);
-        verify(notification2).setReadAt(any(LocalDateTime.class));
-        verify(notificationRepository).saveAll(unreadNotifications);
+        verify(notificationRepository, never()).findByUserIdAndIsReadFalse(any());
+        verify(notificationRepository, never()).saveAll(any());
+        // No transaction is active here, so the event goes out right away, after the counter reloads.
+        InOrder inOrder = inOrder(unreadCounter, publisher);
+        inOrder.verify(unreadCounter).invalidate(userId);
+        inOrder.verify(publisher).publishReadAll(eq(userId), any(LocalDateTime.class));
+        verifyNoMoreInteractions(publisher);
     }
 
     @Test
-    void markAllAsRead_noUnreadNotifications_doesNotSaveAnything() {
+    void markAllAsRead_noUnreadNotifications_pushesNothing() {
         // Arrange
         Long userId = 1L;
-        when(notificationRepository.findByUserIdAndIsReadFalse(userId)).thenReturn(List.of());
+        when(notificationRepository.markAllAsReadByUserId(eq(userId), any(LocalDateTime.class))).thenReturn(0);
 
         // Act
         notificationService.markAllAsRead(userId);
 
         // Assert
-        verify(notificationRepository).findByUserIdAndIsReadFalse(userId);
-        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
-        verify(notificationRepository).saveAll(captor.capture());
-        assertTrue(captor.getValue().isEmpty());
+        verifyNoInteractions(publisher, unreadCounter);
+    }
+
+    @Test
+    void createNotificationsBulk_loadsOnceRendersPerLanguageAndBatchInserts() {
+        Event event = mock(Event.class);
+        when(event.getTitle()).thenReturn("gala");
+        when(eventRepository.findById(5L)).thenReturn(Optional.of(event));
+        when(preferenceService.filterEnabled(List.of(1L, 2L, 3L), NotificationType.EVENT_FULL_ALERT))
+                .thenReturn(Set.of(1L, 2L, 3L));
+        when(userRepository.findAllById(Set.of(1L, 2L, 3L)))
+                .thenReturn(List.of(user(1L, "en"), user(2L, "fr"), user(3L, null)));
+        when(textGenerator.generateText(eq(NotificationType.EVENT_FULL_ALERT), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> "text-" + invocation.getArgument(2));
+        doAnswer(invocation -> {
+            List<Notification> inserted = invocation.getArgument(0);
+            for (int i = 0; i < inserted.size(); i++) {
+                inserted.get(i).setId(100L + i);
+            }
+            return null;
+        }).when(notificationBatchRepository).insertAll(anyList());
+
+        List<Notification> result = notificationService.createNotificationsBulk(
+                5L, NotificationType.EVENT_FULL_ALERT, List.of(1L, 2L, 3L));
+
+        assertEquals(3, result.size());
+        assertEquals(List.of("text-en", "text-fr", "text-en"),
+                result.stream().map(Notification::getTextContent).toList());
+        assertEquals(List.of("en", "fr", "en"), result.stream().map(Notification::getLanguage).toList());
+        verify(textGenerator, times(2)).generateText(any(), anyString(), anyString(), any());
+        verify(notificationRepository, never()).save(any());
+        verify(unreadCounter).adjust(Map.of(1L, 1L, 2L, 1L, 3L, 1L));
+        // No transaction is active here, so pushes go out right away.
+        result.forEach(notification -> verify(publisher).publishNotification(notification));
+    }
+
+    @Test
+    void createNotificationsBulk_allRecipientsOptedOut_insertsNothing() {
+        Event event = mock(Event.class);
+        when(eventRepository.findById(5L)).thenReturn(Optional.of(event));
+        when(preferenceService.filterEnabled(List.of(1L), NotificationType.EVENT_UPDATE)).thenReturn(Set.of());
+
+        List<Notification> result = notificationService.createNotificationsBulk(
+                5L, NotificationType.EVENT_UPDATE, List.of(1L));
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(notificationBatchRepository, publisher);
+        verify(userRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void createNotificationsBulk_withoutRecipients_doesNothing() {
+        assertTrue(notificationService.createNotificationsBulk(5L, NotificationType.EVENT_UPDATE, List.of()).isEmpty());
+
+        verifyNoInteractions(eventRepository, preferenceService, notificationBatchRepository);
+    }
+
+    private User user(Long id, String language) {
+        User user = new User();
+        user.setId(id);
+        user.setPreferredLanguage(language);
+        return user;
     }
 
     @Test
@@ -0,0 +1,249 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.mana.openhand_backend.notifications.utils.NotificationStreamLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationStreamServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationStreamService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void connect_withLastEventId_replaysOnlyMissedEvents() throws Exception {
+        service = newService(10, 3, 20);
+        RecordingEmitter first = (RecordingEmitter) service.connect(1L, null);
+        service.publish(1L, "notification", Map.of("id", 1));
+        service.publish(1L, "notification", Map.of("id", 2));
+        service.publish(1L, "unread-count", Map.of("count", 2));
+        String lastSeen = first.next().id();
+        first.next();
+        first.next();
+
+        RecordingEmitter reconnected = (RecordingEmitter) service.connect(1L, lastSeen);
+
+        Received second = reconnected.next();
+        Received third = reconnected.next();
+        assertEquals("notification", second.name());
+        assertEquals("unread-count", third.name());
+        assertTrue(third.data().contains("count=2"));
+        assertNull(reconnected.poll());
+    }
+
+    @Test
+    void connect_withIdFromAnotherBuffer_sendsResync() throws Exception {
+        service = newService(10, 3, 20);
+        service.connect(1L, null);
+        service.publish(1L, "notification", Map.of("id", 1));
+
+        RecordingEmitter reconnected = (RecordingEmitter) service.connect(1L, "unknown-5");
+
+        assertEquals(NotificationStreamService.RESYNC_EVENT, reconnected.next().name());
+        assertNull(reconnected.poll());
+    }
+
+    @Test
+    void connect_withIdOlderThanReplayWindow_sendsResync() throws Exception {
+        service = newService(10, 3, 2);
+        RecordingEmitter first = (RecordingEmitter) service.connect(1L, null);
+        for (int i = 0; i < 4; i++) {
+            service.publish(1L, "notification", Map.of("id", i));
+        }
+        String oldest = first.next().id();
+
+        RecordingEmitter reconnected = (RecordingEmitter) service.connect(1L, oldest);
+
+        assertEquals(NotificationStreamService.RESYNC_EVENT, reconnected.next().name());
+        assertNull(reconnected.poll());
+    }
+
+    @Test
+    void connect_beyondGlobalLimit_isRejected() {
+        service = newService(2, 3, 20);
+        service.connect(1L, null);
+        service.connect(2L, null);
+
+        NotificationStreamLimitException ex = assertThrows(NotificationStreamLimitException.class,
+                () -> service.connect(3L, null));
+
+        assertEquals(30, ex.getRetryAfterSeconds());
+        assertEquals(2, service.connectionCount());
+        assertEquals(1.0, meterRegistry.counter("notifications.stream.rejected").count());
+    }
+
+    @Test
+    void connect_beyondPerUserLimit_closesOldestStream() throws Exception {
+        service = newService(10, 1, 20);
+        RecordingEmitter oldest = (RecordingEmitter) service.connect(1L, null);
+        RecordingEmitter newest = (RecordingEmitter) service.connect(1L, null);
+
+        service.publish(1L, "notification", Map.of("id", 1));
+
+        assertNotNull(newest.next());
+        assertNull(oldest.poll());
+        assertEquals(1, service.connectionCount());
+    }
+
+    @Test
+    void publish_withoutStream_keepsNothing() {
+        service = newService(10, 3, 20);
+
+        service.publish(1L, "notification", Map.of("id", 1));
+
+        assertFalse(service.hasStream(1L));
+    }
+
+    @Test
+    void publish_whenQueueOverflows_replacesQueuedEventsWithResync() throws Exception {
+        BlockingEmitter emitter = new BlockingEmitter();
+        service = newService(2, 10_000, emitter);
+        service.connect(1L, null);
+        service.publish(1L, "notification", Map.of("id", 1));
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+
+        service.publish(1L, "notification", Map.of("id", 2));
+        service.publish(1L, "notification", Map.of("id", 3));
+        service.publish(1L, "notification", Map.of("id", 4));
+        emitter.release.countDown();
+
+        assertEquals("notification", emitter.next().name());
+        Received resync = emitter.next();
+        assertEquals(NotificationStreamService.RESYNC_EVENT, resync.name());
+        assertTrue(resync.id().endsWith("-4"));
+        assertNull(emitter.poll());
+        assertEquals(3.0, meterRegistry.counter("notifications.stream.dropped").count());
+    }
+
+    @Test
+    void publish_whenSendExceedsTimeLimit_closesStream() throws Exception {
+        BlockingEmitter emitter = new BlockingEmitter();
+        service = newService(10, 50, emitter);
+        service.connect(1L, null);
+        service.publish(1L, "notification", Map.of("id", 1));
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        service.publish(1L, "notification", Map.of("id", 2));
+
+        assertEquals(0, service.connectionCount());
+        assertEquals(1.0, meterRegistry.counter("notifications.stream.terminated").count());
+        emitter.release.countDown();
+        assertTrue(emitter.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, emitter.sent.get());
+    }
+
+    private NotificationStreamService newService(int maxConnections, int maxPerUser, int replaySize) {
+        return new NotificationStreamService(meterRegistry, 60000, maxConnections, maxPerUser, replaySize,
+                100, 60000, 1, 100, 10_000, 30) {
+            @Override
+            SseEmitter newEmitter(long timeoutMs) {
+                return new RecordingEmitter(timeoutMs);
+            }
+        };
+    }
+
+    private NotificationStreamService newService(int queueCapacity, long sendTimeLimitMs, SseEmitter emitter) {
+        return new NotificationStreamService(meterRegistry, 60000, 10, 3, 20,
+                100, 60000, 1, queueCapacity, sendTimeLimitMs, 30) {
+            @Override
+            SseEmitter newEmitter(long timeoutMs) {
+                return emitter;
+            }
+        };
+    }
+
+    private record Received(String id, String name, String data) {
+    }
+
+    /** Captures events instead of writing them to a response. */
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<Received> received = new LinkedBlockingQueue<>();
+
+        RecordingEmitter(long timeoutMs) {
+            super(timeoutMs);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            List<String> parts = new ArrayList<>();
+            builder.build().forEach(part -> parts.add(String.valueOf(part.getData())));
+            String text = String.join("", parts);
+            received.add(new Received(field(text, "id:"), field(text, "event:"), text));
+        }
+
+        Received next() throws InterruptedException {
+            Received event = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "expected an event");
+            return event;
+        }
+
+        Received poll() throws InterruptedException {
+            return received.poll(200, TimeUnit.MILLISECONDS);
+        }
+
+        private static String field(String text, String prefix) {
+            for (String line : text.split("\n")) {
+                if (line.startsWith(prefix)) {
+                    return line.substring(prefix.length());
+                }
+            }
+            return null;
+        }
+    }
+
+    /** A client that stops reading: its first write blocks until released. */
+    private static final class BlockingEmitter extends RecordingEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final AtomicInteger sent = new AtomicInteger();
+
+        BlockingEmitter() {
+            super(60000);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            sent.incrementAndGet();
+            super.send(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+    }
+}
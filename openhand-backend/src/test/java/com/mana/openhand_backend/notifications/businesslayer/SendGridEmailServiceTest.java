@@ -1,6 +1,12 @@
 package com.mana.openhand_backend.notifications.businesslayer;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mana.openhand_backend.events.dataaccesslayer.Event;
+import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
+import com.mana.openhand_backend.notifications.domainclientlayer.EmailRecipient;
 import com.mana.openhand_backend.notifications.domainclientlayer.EmailSendResult;
+import com.mana.openhand_backend.notifications.utils.EmailTemplateEngine;
 import com.mana.openhand_backend.notifications.utils.SendGridSenderProperties;
 import com.sendgrid.Request;
 import com.sendgrid.Response;
@@ -15,7 +21,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,7 +41,7 @@ class SendGridEmailServiceTest {
     @BeforeEach
     void setUp() {
         SendGridSenderProperties props = new SendGridSenderProperties("from@example.com", "MANA");
-        service = new SendGridEmailService(sendGrid, props);
+        service = new SendGridEmailService(pipeline(sendGrid), new EmailTemplateEngine(100), props);
     }
 
     @Test
@@ -71,7 +80,7 @@ class SendGridEmailServiceTest {
     }
 
     @Test
-    void sendEmail_failureWhenNon2xxResponse() throws Exception {
+    void sendEmail_failureWhenNon2xxResponseAfterRetries() throws Exception {
         Response error = buildResponse(500, "SendGrid error");
         when(sendGrid.api(any(Request.class))).thenReturn(error);
 
@@ -79,6 +88,18 @@ class SendGridEmailServiceTest {
 
         assertThat(result.success()).isFalse();
         assertThat(result.errorMessage()).contains("500");
+        verify(sendGrid, times(3)).api(any(Request.class));
+    }
+
+    @Test
+    void sendEmail_failureWithoutRetryOnClientError() throws Exception {
+        Response error = buildResponse(400, "Bad request");
+        when(sendGrid.api(any(Request.class))).thenReturn(error);
+
+        EmailSendResult result = service.sendRegistrationConfirmation("to@example.com", "User", "Event", "en");
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.errorMessage()).contains("400");
         verify(sendGrid, times(1)).api(any(Request.class));
     }
 
@@ -96,7 +117,8 @@ class SendGridEmailServiceTest {
     @Test
     void sendEmail_failureWhenFromEmailMissing() {
         SendGridEmailService localService = new SendGridEmailService(
-                sendGrid,
+                pipeline(sendGrid),
+                new EmailTemplateEngine(100),
                 new SendGridSenderProperties("", "MANA"));
 
         EmailSendResult result = localService.sendRegistrationConfirmation("to@example.com", "User", "Event", "en");
@@ -129,6 +151,115 @@ class SendGridEmailServiceTest {
         assertThat(request.getBody()).contains("Welcome to MANA");
     }
 
+    @Test
+    void sendCancellationOrUpdateBulk_batchesRecipientsPerLanguage() throws Exception {
+        List<EmailRecipient> recipients = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            recipients.add(new EmailRecipient("member" + i + "@example.com", "Member " + i, "en"));
+        }
+        recipients.add(new EmailRecipient("a@example.com", "A", "fr"));
+        recipients.add(new EmailRecipient("b@example.com", null, "fr"));
+        recipients.add(new EmailRecipient(" ", "Blank", "en"));
+
+        try (StubSendGridServer server = new StubSendGridServer()) {
+            EmailDeliveryPipeline pipeline = pipeline(server.client());
+            SendGridEmailService stubbed = new SendGridEmailService(pipeline, new EmailTemplateEngine(100),
+                    new SendGridSenderProperties("from@example.com", "MANA"));
+
+            EmailSendResult result = stubbed.sendCancellationOrUpdateBulk(recipients, event("gala"), "Event Cancelled")
+                    .get(10, TimeUnit.SECONDS);
+            pipeline.shutdown();
+
+            assertThat(result.success()).isTrue();
+            ObjectMapper mapper = new ObjectMapper();
+            List<JsonNode> mails = new ArrayList<>();
+            for (String body : server.requestBodies()) {
+                mails.add(mapper.readTree(body));
+            }
+            assertThat(mails).hasSize(3);
+            assertThat(mails).extracting(mail -> mail.get("personalizations").size())
+                    .containsExactlyInAnyOrder(1000, 500, 2);
+            assertThat(mails).extracting(mail -> mail.get("subject").asText())
+                    .containsExactlyInAnyOrder("Important update: MANA Recognition Gala",
+                            "Important update: MANA Recognition Gala",
+                            "Mise à jour importante : Gala de reconnaissance MANA");
+        }
+    }
+
+    @Test
+    void sendCancellationOrUpdateBulk_reportsFailedBatches() throws Exception {
+        when(sendGrid.api(any(Request.class))).thenReturn(buildResponse(400, "Bad request"));
+
+        EmailSendResult result = service.sendCancellationOrUpdateBulk(
+                List.of(new EmailRecipient("to@example.com", "User", "en")), event("Event"), "Details")
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.errorMessage()).contains("400");
+    }
+
+    @Test
+    void sendCancellationOrUpdateBulk_updateThenCancelOnSameVersion_sendsEachDetail() throws Exception {
+        List<EmailRecipient> recipients = List.of(new EmailRecipient("a@example.com", "A", "en"));
+        Event event = event("Gala");
+        event.setId(9L);
+        event.setVersion(2L);
+
+        try (StubSendGridServer server = new StubSendGridServer()) {
+            EmailDeliveryPipeline pipeline = pipeline(server.client());
+            SendGridEmailService stubbed = new SendGridEmailService(pipeline, new EmailTemplateEngine(100),
+                    new SendGridSenderProperties("from@example.com", "MANA"));
+
+            stubbed.sendCancellationOrUpdateBulk(recipients, event, "Event schedule updated to Jan 02, 2026 18:00")
+                    .get(10, TimeUnit.SECONDS);
+            stubbed.sendCancellationOrUpdateBulk(recipients, event, "Event Cancelled")
+                    .get(10, TimeUnit.SECONDS);
+            pipeline.shutdown();
+
+            ObjectMapper mapper = new ObjectMapper();
+            List<String> bodies = new ArrayList<>();
+            for (String body : server.requestBodies()) {
+                bodies.add(mapper.readTree(body).get("content").get(0).get("value").asText());
+            }
+            assertThat(bodies).hasSize(2);
+            assertThat(bodies.get(0)).endsWith("Details: Event schedule updated to Jan 02, 2026 18:00");
+            assertThat(bodies.get(1)).endsWith("Details: Event Cancelled");
+        }
+    }
+
+    @Test
+    void sendReminderBulk_rendersReminderPerLanguage() throws Exception {
+        try (StubSendGridServer server = new StubSendGridServer()) {
+            EmailDeliveryPipeline pipeline = pipeline(server.client());
+            SendGridEmailService stubbed = new SendGridEmailService(pipeline, new EmailTemplateEngine(100),
+                    new SendGridSenderProperties("from@example.com", "MANA"));
+
+            EmailSendResult result = stubbed.sendReminderBulk(List.of(
+                            new EmailRecipient("a@example.com", "A", "en"),
+                            new EmailRecipient("b@example.com", "B", "fr")), event("gala"))
+                    .get(10, TimeUnit.SECONDS);
+            pipeline.shutdown();
+
+            assertThat(result.success()).isTrue();
+            ObjectMapper mapper = new ObjectMapper();
+            List<String> subjects = new ArrayList<>();
+            for (String body : server.requestBodies()) {
+                subjects.add(mapper.readTree(body).get("subject").asText());
+            }
+            assertThat(subjects).containsExactlyInAnyOrder("Reminder: MANA Recognition Gala",
+                    "Rappel : Gala de reconnaissance MANA");
+        }
+    }
+
+    private Event event(String title) {
+        return new Event(title, "Desc", LocalDateTime.now(), null, "Location", "Address",
+                EventStatus.CANCELLED, 25, 0, "GENERAL");
+    }
+
+    private EmailDeliveryPipeline pipeline(SendGrid client) {
+        return new EmailDeliveryPipeline(client, 2, 10, 0, 3, 0, 0);
+    }
+
     private Response buildResponse(int status, String body) {
         Response response = new Response();
         response.setStatusCode(status);
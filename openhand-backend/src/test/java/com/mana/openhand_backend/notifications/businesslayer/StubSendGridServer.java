@@ -0,0 +1,70 @@
+package com.mana.openhand_backend.notifications.businesslayer;
+
+import com.sendgrid.SendGrid;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Local stand-in for the SendGrid API. Records every request body and answers
+ * with scripted status codes, falling back to 202 Accepted.
+ */
+class StubSendGridServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Queue<Integer> scriptedStatuses = new ConcurrentLinkedQueue<>();
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+    private volatile String retryAfter;
+
+    StubSendGridServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /** A client that talks plain HTTP to this server. */
+    SendGrid client() {
+        SendGrid sendGrid = new SendGrid("SG.stub", true);
+        sendGrid.setHost("localhost:" + server.getAddress().getPort());
+        return sendGrid;
+    }
+
+    void respondWith(Integer... statuses) {
+        scriptedStatuses.addAll(List.of(statuses));
+    }
+
+    void retryAfterSeconds(String seconds) {
+        this.retryAfter = seconds;
+    }
+
+    List<String> requestBodies() {
+        return requestBodies;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        Integer scripted = scriptedStatuses.poll();
+        int status = scripted != null ? scripted : 202;
+        if (status == 429 && retryAfter != null) {
+            exchange.getResponseHeaders().add("Retry-After", retryAfter);
+        }
+        byte[] body = status < 300 ? new byte[0] : "{\"errors\":[]}".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -9,9 +9,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Set;
 
@@ -93,6 +95,55 @@ class NotificationRepositoryIntegrationTest {
         assertEquals(NotificationType.REGISTRATION_CONFIRMATION, result.get(2).getNotificationType());
     }
 
+    @Test
+    void findFeedBefore_sameCreatedAt_breaksTiesById() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+        Notification older = new Notification(
+                testUser1, testEvent, NotificationType.REMINDER, "en", "Older", "Test Event");
+        older.setCreatedAt(createdAt.minusMinutes(5));
+        older = notificationRepository.save(older);
+        Notification first = new Notification(
+                testUser1, testEvent, NotificationType.REMINDER, "en", "First", "Test Event");
+        first.setCreatedAt(createdAt);
+        first = notificationRepository.save(first);
+        Notification second = new Notification(
+                testUser1, testEvent, NotificationType.REMINDER, "en", "Second", "Test Event");
+        second.setCreatedAt(createdAt);
+        second = notificationRepository.save(second);
+
+        // Act
+        List<Notification> firstPage = notificationRepository.findFeed(testUser1.getId(), PageRequest.of(0, 2));
+        Notification last = firstPage.get(1);
+        List<Notification> nextPage = notificationRepository.findFeedBefore(
+                testUser1.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(List.of(second.getId(), first.getId()), firstPage.stream().map(Notification::getId).toList());
+        assertEquals(List.of(older.getId()), nextPage.stream().map(Notification::getId).toList());
+    }
+
+    @Test
+    void findUserIdsNotifiedSince_onlyCountsMatchingRecentNotifications() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusHours(2);
+        Notification oldReminder = new Notification(
+                testUser1, testEvent, NotificationType.REMINDER, "en", "Old reminder", "Test Event");
+        oldReminder.setCreatedAt(since.minusHours(20));
+        notificationRepository.save(oldReminder);
+        notificationRepository.save(new Notification(
+                testUser2, testEvent, NotificationType.REMINDER, "fr", "Recent reminder", "Test Event"));
+        notificationRepository.save(new Notification(
+                testUser1, testEvent, NotificationType.REGISTRATION_CONFIRMATION, "en", "Confirmed", "Test Event"));
+
+        // Act
+        List<Long> reminded = notificationRepository.findUserIdsNotifiedSince(testEvent.getId(),
+                NotificationType.REMINDER, List.of(testUser1.getId(), testUser2.getId()), since);
+
+        // Assert
+        assertEquals(List.of(testUser2.getId()), reminded);
+    }
+
     @Test
     void findByUserIdOrderByCreatedAtDesc_noNotifications_returnsEmptyList() {
         // Arrange
@@ -329,4 +380,24 @@ class NotificationRepositoryIntegrationTest {
         assertTrue(updated.isRead());
         assertNotNull(updated.getReadAt());
     }
+
+    @Test
+    void findMarkedReadBetween_findsRowsStampedWithNanosecondReadTime() {
+        // Arrange
+        notificationRepository.save(new Notification(
+                testUser1, testEvent, NotificationType.REMINDER, "en", "Unread", "Test Event"));
+        LocalDateTime readAt = LocalDateTime.of(2030, 1, 1, 10, 0, 0, 123_456_789);
+
+        // Act: the column keeps fewer digits than the JVM value, so an exact match would miss the row
+        assertEquals(1, notificationRepository.markAllAsReadByUserId(testUser1.getId(), readAt));
+        LocalDateTime from = readAt.truncatedTo(ChronoUnit.MILLIS);
+        List<Notification> marked = notificationRepository.findMarkedReadBetween(
+                testUser1.getId(), from, from.plus(1, ChronoUnit.MILLIS), PageRequest.of(0, 50));
+
+        // Assert
+        assertEquals(1, marked.size());
+        assertNotEquals(readAt, marked.get(0).getReadAt());
+        assertTrue(notificationRepository.findMarkedReadBetween(testUser2.getId(), from,
+                from.plus(1, ChronoUnit.MILLIS), PageRequest.of(0, 50)).isEmpty());
+    }
 }
@@ -0,0 +1,50 @@
+package com.mana.openhand_backend.notifications.dataaccesslayer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ReminderDeliveryRepository.class)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ReminderDeliveryRepositoryIntegrationTest {
+
+    @Autowired
+    private ReminderDeliveryRepository reminderDeliveryRepository;
+
+    @Test
+    void claim_onlyReturnsUsersNotClaimedBefore() {
+        LocalDateTime dueAt = LocalDateTime.of(2030, 5, 1, 10, 0);
+
+        assertEquals(List.of(1L, 2L), reminderDeliveryRepository.claim(10L, dueAt, List.of(1L, 2L)));
+        assertEquals(List.of(3L), reminderDeliveryRepository.claim(10L, dueAt, List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void claim_keysByEventAndDueTime() {
+        LocalDateTime dayBefore = LocalDateTime.of(2030, 5, 1, 10, 0);
+        reminderDeliveryRepository.claim(10L, dayBefore, List.of(1L));
+
+        assertEquals(List.of(1L), reminderDeliveryRepository.claim(10L, dayBefore.plusHours(22), List.of(1L)));
+        assertEquals(List.of(1L), reminderDeliveryRepository.claim(11L, dayBefore, List.of(1L)));
+    }
+
+    @Test
+    void deleteDueBefore_releasesOnlyOlderClaims() {
+        LocalDateTime dueAt = LocalDateTime.of(2030, 5, 1, 10, 0);
+        reminderDeliveryRepository.claim(10L, dueAt.minusDays(1), List.of(1L));
+        reminderDeliveryRepository.claim(10L, dueAt, List.of(1L));
+
+        assertEquals(1, reminderDeliveryRepository.deleteDueBefore(dueAt));
+
+        assertEquals(List.of(1L), reminderDeliveryRepository.claim(10L, dueAt.minusDays(1), List.of(1L)));
+        assertEquals(List.of(), reminderDeliveryRepository.claim(10L, dueAt, List.of(1L)));
+    }
+}
@@ -176,6 +176,68 @@ class NotificationControllerIntegrationTest {
                 .andExpect(jsonPath("$.count", is(0)));
     }
 
+    @Test
+    @WithMockUser(username = TEST_USER_EMAIL, roles = {"MEMBER"})
+    void getUnreadCount_afterReadAndDelete_reflectsChanges() throws Exception {
+        // Arrange
+        Notification first = notificationRepository.save(new Notification(
+                testUser, testEvent, NotificationType.REGISTRATION_CONFIRMATION,
+                "en", "Unread 1", "Integration Test Event"
+        ));
+        Notification second = notificationRepository.save(new Notification(
+                testUser, testEvent, NotificationType.REMINDER,
+                "en", "Unread 2", "Integration Test Event"
+        ));
+        mockMvc.perform(get("/api/notifications/unread-count"))
+                .andExpect(jsonPath("$.count", is(2)));
+
+        // Act
+        mockMvc.perform(put("/api/notifications/{id}/read", first.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/notifications/{id}", second.getId()))
+                .andExpect(status().isNoContent());
+        notificationRepository.save(new Notification(
+                testUser, testEvent, NotificationType.CANCELLATION,
+                "en", "Unread 3", "Integration Test Event"
+        ));
+
+        // Assert
+        mockMvc.perform(get("/api/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count", is(1)));
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER_EMAIL, roles = {"MEMBER"})
+    void getNotifications_withLimit_returnsNextCursorUntilLastPage() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            notificationRepository.save(new Notification(
+                    testUser, testEvent, NotificationType.REMINDER,
+                    "en", "Reminder " + i, "Integration Test Event"
+            ));
+        }
+
+        // Act & Assert
+        String cursor = mockMvc.perform(get("/api/notifications").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/notifications").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER_EMAIL, roles = {"MEMBER"})
+    void getNotifications_malformedCursor_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/notifications").param("cursor", "bm90LWEtY3Vyc29y"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getUnreadCount_unauthenticatedUser_returnsUnauthorized() throws Exception {
         // Arrange
@@ -269,6 +331,32 @@ class NotificationControllerIntegrationTest {
         assertEquals(0, unreadCount);
     }
 
+    @Test
+    @WithMockUser(username = TEST_USER_EMAIL, roles = {"MEMBER"})
+    void markAllAsRead_afterCommit_resetsUnreadCount() throws Exception {
+        // Arrange
+        notificationRepository.save(new Notification(
+                testUser, testEvent, NotificationType.REGISTRATION_CONFIRMATION,
+                "en", "Unread 1", "Integration Test Event"
+        ));
+        notificationRepository.save(new Notification(
+                testUser, testEvent, NotificationType.REMINDER,
+                "en", "Unread 2", "Integration Test Event"
+        ));
+        mockMvc.perform(get("/api/notifications/unread-count"))
+                .andExpect(jsonPath("$.count", is(2)));
+
+        // Act
+        mockMvc.perform(put("/api/notifications/read-all"))
+                .andExpect(status().isOk());
+
+        // Assert
+        mockMvc.perform(get("/api/notifications/unread-count"))
+                .andExpect(jsonPath("$.count", is(0)));
+        assertTrue(notificationRepository.findByUserIdOrderByCreatedAtDesc(testUser.getId()).stream()
+                .allMatch(notification -> notification.isRead() && notification.getReadAt() != null));
+    }
+
     @Test
     @WithMockUser(username = TEST_USER_EMAIL, roles = {"MEMBER"})
     void markAllAsRead_noUnreadNotifications_returnsOk() throws Exception {
@@ -0,0 +1,117 @@
+package com.mana.openhand_backend.notifications.presentationlayer;
+
+import com.mana.openhand_backend.notifications.businesslayer.NotificationService;
+import com.mana.openhand_backend.notifications.businesslayer.NotificationStreamService;
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs every notification endpoint through the real security filter chain and
+ * method security, which the WebMvc slice test disables.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+class NotificationControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private NotificationStreamService streamService;
+
+    @AfterEach
+    void verifyServicesUntouched() {
+        verifyNoInteractions(notificationService, streamService);
+    }
+
+    @Test
+    void getNotifications_unauthenticated_returns401() throws Exception {
+        expectUnauthorized(get("/api/notifications"));
+    }
+
+    @Test
+    void getUnreadCount_unauthenticated_returns401() throws Exception {
+        expectUnauthorized(get("/api/notifications/unread-count"));
+    }
+
+    @Test
+    void stream_unauthenticated_returns401() throws Exception {
+        expectUnauthorized(get("/api/notifications/stream"));
+    }
+
+    @Test
+    void markAsRead_unauthenticated_returns401() throws Exception {
+        expectUnauthorized(put("/api/notifications/{id}/read", 1L));
+    }
+
+    @Test
+    void markAllAsRead_unauthenticated_returns401() throws Exception {
+        expectUnauthorized(put("/api/notifications/read-all"));
+    }
+
+    @Test
+    void deleteNotification_unauthenticated_returns401() throws Exception {
+        expectUnauthorized(delete("/api/notifications/{id}", 1L));
+    }
+
+    @Test
+    void getNotifications_withoutMemberOrEmployeeRole_returns403() throws Exception {
+        expectForbidden(get("/api/notifications"));
+    }
+
+    @Test
+    void getUnreadCount_withoutMemberOrEmployeeRole_returns403() throws Exception {
+        expectForbidden(get("/api/notifications/unread-count"));
+    }
+
+    @Test
+    void stream_withoutMemberOrEmployeeRole_returns403() throws Exception {
+        expectForbidden(get("/api/notifications/stream"));
+    }
+
+    @Test
+    void markAsRead_withoutMemberOrEmployeeRole_returns403() throws Exception {
+        expectForbidden(put("/api/notifications/{id}/read", 1L));
+    }
+
+    @Test
+    void markAllAsRead_withoutMemberOrEmployeeRole_returns403() throws Exception {
+        expectForbidden(put("/api/notifications/read-all"));
+    }
+
+    @Test
+    void deleteNotification_withoutMemberOrEmployeeRole_returns403() throws Exception {
+        expectForbidden(delete("/api/notifications/{id}", 1L));
+    }
+
+    private void expectUnauthorized(MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request).andExpect(status().isUnauthorized());
+    }
+
+    /** Authenticates as a token principal that carries neither ROLE_MEMBER nor ROLE_EMPLOYEE. */
+    private void expectForbidden(MockHttpServletRequestBuilder request) throws Exception {
+        UserDetailsImpl admin = UserDetailsImpl.fromClaims(7L, "admin@example.com", List.of("ROLE_ADMIN"));
+        mockMvc.perform(request.with(user(admin))).andExpect(status().isForbidden());
+    }
+}
@@ -1,25 +1,23 @@
 package com.mana.openhand_backend.notifications.presentationlayer;
 
-import com.mana.openhand_backend.identity.dataaccesslayer.User;
-import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.notifications.businesslayer.NotificationService;
+import com.mana.openhand_backend.notifications.businesslayer.NotificationStreamService;
 import com.mana.openhand_backend.notifications.dataaccesslayer.Notification;
 import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
+import com.mana.openhand_backend.notifications.domainclientlayer.NotificationPage;
 import com.mana.openhand_backend.notifications.domainclientlayer.NotificationResponseModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,81 +27,46 @@ class NotificationControllerTest {
     private NotificationService notificationService;
 
     @Mock
-    private UserRepository userRepository;
-
-    @Mock
-    private Authentication authentication;
-
-    @Mock
-    private UserDetails userDetails;
+    private NotificationStreamService streamService;
 
     private NotificationController notificationController;
 
     @BeforeEach
     void setUp() {
-        notificationController = new NotificationController(notificationService, userRepository);
+        notificationController = new NotificationController(notificationService, streamService);
     }
 
     @Test
     void getNotifications_authenticatedUser_returnsNotificationsList() {
         // Arrange
-        String userEmail = "test@example.com";
         Long userId = 1L;
-        User mockUser = mock(User.class);
-        when(mockUser.getId()).thenReturn(userId);
-
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn(userEmail);
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(mockUser));
 
         Notification notification1 = createMockNotification(1L, "Event 1", NotificationType.REGISTRATION_CONFIRMATION, false);
         Notification notification2 = createMockNotification(2L, "Event 2", NotificationType.REMINDER, true);
         List<Notification> notifications = List.of(notification1, notification2);
 
-        when(notificationService.getUserNotifications(userId)).thenReturn(notifications);
+        when(notificationService.getUserNotifications(userId, null, 50))
+                .thenReturn(new NotificationPage(notifications, "next"));
 
         // Act
-        List<NotificationResponseModel> result = notificationController.getNotifications(authentication);
+        ResponseEntity<List<NotificationResponseModel>> result =
+                notificationController.getNotifications(userId, null, 50);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(notificationService).getUserNotifications(userId);
-        verify(userRepository).findByEmail(userEmail);
-    }
-
-    @Test
-    void getNotifications_userNotFoundInDb_throwsRuntimeException() {
-        // Arrange
-        String userEmail = "test@example.com";
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn(userEmail);
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.empty());
-
-        // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () ->
-                notificationController.getNotifications(authentication)
-        );
-        assertTrue(exception.getMessage().contains("User not found"));
-        verify(userRepository).findByEmail(userEmail);
-        verify(notificationService, never()).getUserNotifications(any());
+        assertNotNull(result.getBody());
+        assertEquals(2, result.getBody().size());
+        assertEquals("next", result.getHeaders().getFirst(NotificationController.NEXT_CURSOR_HEADER));
+        verify(notificationService).getUserNotifications(userId, null, 50);
     }
 
     @Test
     void getUnreadCount_authenticatedUser_returnsCorrectCount() {
         // Arrange
-        String userEmail = "test@example.com";
         Long userId = 1L;
-        User mockUser = mock(User.class);
-        when(mockUser.getId()).thenReturn(userId);
-
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn(userEmail);
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(mockUser));
         when(notificationService.getUnreadCount(userId)).thenReturn(5L);
 
         // Act
-        NotificationController.UnreadCountResponse result = notificationController.getUnreadCount(authentication);
+        NotificationController.UnreadCountResponse result = notificationController.getUnreadCount(userId);
 
         // Assert
         assertNotNull(result);
@@ -114,18 +77,11 @@ class NotificationControllerTest {
     @Test
     void getUnreadCount_noUnreadNotifications_returnsZero() {
         // Arrange
-        String userEmail = "test@example.com";
         Long userId = 1L;
-        User mockUser = mock(User.class);
-        when(mockUser.getId()).thenReturn(userId);
-
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn(userEmail);
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(mockUser));
         when(notificationService.getUnreadCount(userId)).thenReturn(0L);
 
         // Act
-        NotificationController.UnreadCountResponse result = notificationController.getUnreadCount(authentication);
+        NotificationController.UnreadCountResponse result = notificationController.getUnreadCount(userId);
 
         // Assert
         assertNotNull(result);
@@ -166,21 +122,13 @@ class NotificationControllerTest {
     @Test
     void markAllAsRead_authenticatedUser_marksAllNotificationsAsRead() {
         // Arrange
-        String userEmail = "test@example.com";
         Long userId = 1L;
-        User mockUser = mock(User.class);
-        when(mockUser.getId()).thenReturn(userId);
-
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn(userEmail);
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(mockUser));
 
         // Act
-        notificationController.markAllAsRead(authentication);
+        notificationController.markAllAsRead(userId);
 
         // Assert
         verify(notificationService).markAllAsRead(userId);
-        verify(userRepository).findByEmail(userEmail);
     }
 
     @Test
@@ -210,6 +158,14 @@ class NotificationControllerTest {
         verify(notificationService).deleteNotification(notificationId);
     }
 
+    @Test
+    void stream_passesLastEventIdToStreamService() {
+        SseEmitter emitter = new SseEmitter();
+        when(streamService.connect(1L, "abc-4")).thenReturn(emitter);
+
+        assertSame(emitter, notificationController.stream(1L, "abc-4"));
+    }
+
     private Notification createMockNotification(Long id, String eventTitle, NotificationType type, boolean isRead) {
         Notification notification = mock(Notification.class);
         when(notification.getId()).thenReturn(id);
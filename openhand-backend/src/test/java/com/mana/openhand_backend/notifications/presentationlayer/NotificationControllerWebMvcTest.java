@@ -0,0 +1,88 @@
+package com.mana.openhand_backend.notifications.presentationlayer;
+
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.notifications.businesslayer.NotificationService;
+import com.mana.openhand_backend.notifications.businesslayer.NotificationStreamService;
+import com.mana.openhand_backend.notifications.utils.NotificationStreamLimitException;
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = NotificationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class NotificationControllerWebMvcTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private NotificationStreamService streamService;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getUnreadCount_withTokenPrincipal_usesIdWithoutUserLookup() throws Exception {
+        authenticateFromToken(42L, "member@example.com");
+        when(notificationService.getUnreadCount(42L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void markAllAsRead_withTokenPrincipal_usesIdWithoutUserLookup() throws Exception {
+        authenticateFromToken(42L, "member@example.com");
+
+        mockMvc.perform(put("/api/notifications/read-all"))
+                .andExpect(status().isOk());
+
+        verify(notificationService).markAllAsRead(42L);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void stream_whenConnectionLimitReached_returns503WithRetryAfter() throws Exception {
+        authenticateFromToken(42L, "member@example.com");
+        when(streamService.connect(42L, null)).thenThrow(new NotificationStreamLimitException(30));
+
+        mockMvc.perform(get("/api/notifications/stream"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+    }
+
+    private void authenticateFromToken(Long userId, String email) {
+        UserDetailsImpl principal = UserDetailsImpl.fromClaims(userId, email, List.of("ROLE_MEMBER"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.mana.openhand_backend.notifications.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateEngineTest {
+
+    private final EmailTemplateEngine engine = new EmailTemplateEngine(100);
+
+    @Test
+    void render_fillsPlaceholdersForLanguage() {
+        EmailContent content = engine.render(EmailTemplateType.REMINDER, "fr",
+                Map.of("eventTitle", "Gala", "startDateTime", "Jan 01, 2026 18:00"));
+
+        assertEquals("Rappel : Gala", content.subject());
+        assertEquals("Rappel pour \"Gala\" le Jan 01, 2026 18:00. Nous avons hate de vous voir.", content.body());
+    }
+
+    @Test
+    void render_fallsBackToEnglishAndBlanksMissingValues() {
+        EmailContent content = engine.render(EmailTemplateType.CANCELLATION_OR_UPDATE, "de",
+                Map.of("eventTitle", "Gala"));
+
+        assertEquals("Important update: Gala", content.subject());
+        assertEquals("Your event \"Gala\" has changed or has been cancelled.", content.body());
+    }
+
+    @Test
+    void renderForEvent_rendersEachVariantOncePerEventVersion() {
+        Map<String, String> cancelled = Map.of("eventTitle", "Gala", "details", " Details: Event Cancelled");
+
+        EmailContent first = engine.renderForEvent(7L, 3L, EmailTemplateType.CANCELLATION_OR_UPDATE, "en", cancelled);
+        for (int i = 0; i < 800; i++) {
+            assertSame(first, engine.renderForEvent(7L, 3L, EmailTemplateType.CANCELLATION_OR_UPDATE, "en",
+                    Map.of("eventTitle", "Gala", "details", " Details: Event Cancelled")));
+        }
+        EmailContent french = engine.renderForEvent(7L, 3L, EmailTemplateType.CANCELLATION_OR_UPDATE, "fr",
+                Map.of("eventTitle", "Gala"));
+        EmailContent nextVersion = engine.renderForEvent(7L, 4L, EmailTemplateType.CANCELLATION_OR_UPDATE, "en",
+                cancelled);
+
+        assertNotSame(first, nextVersion);
+        assertEquals("Mise à jour importante : Gala", french.subject());
+    }
+
+    @Test
+    void renderForEvent_sameVersionWithNewDetails_rendersAgain() {
+        EmailContent updated = engine.renderForEvent(7L, 3L, EmailTemplateType.CANCELLATION_OR_UPDATE, "en",
+                Map.of("eventTitle", "Gala", "details", " Details: Event schedule updated to Jan 02, 2026 18:00"));
+        EmailContent cancelled = engine.renderForEvent(7L, 3L, EmailTemplateType.CANCELLATION_OR_UPDATE, "en",
+                Map.of("eventTitle", "Gala", "details", " Details: Event Cancelled"));
+
+        assertTrue(updated.body().endsWith("Event schedule updated to Jan 02, 2026 18:00"));
+        assertTrue(cancelled.body().endsWith("Details: Event Cancelled"));
+    }
+
+    @Test
+    void renderForEvent_withoutEventId_doesNotCache() {
+        Map<String, String> values = Map.of("eventTitle", "Gala");
+
+        EmailContent first = engine.renderForEvent(null, null, EmailTemplateType.REMINDER, "en", values);
+        EmailContent second = engine.renderForEvent(null, null, EmailTemplateType.REMINDER, "en", values);
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void compile_keepsBracesThatAreNotPlaceholders() {
+        EmailTemplate template = EmailTemplate.compile("{a} { b } {} {c");
+
+        assertEquals("x { b } {} {c", template.render(Map.of("a", "x")));
+    }
+}
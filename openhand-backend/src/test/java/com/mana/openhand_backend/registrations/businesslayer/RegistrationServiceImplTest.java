@@ -1,6 +1,7 @@
 package com.mana.openhand_backend.registrations.businesslayer;
 
 import com.mana.openhand_backend.events.businesslayer.EventCompletionService;
+import com.mana.openhand_backend.attendance.businesslayer.RegistrationStatsService;
 import com.mana.openhand_backend.events.dataaccesslayer.Event;
 import com.mana.openhand_backend.events.dataaccesslayer.EventRepository;
 import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
@@ -9,6 +10,7 @@ import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
 import com.mana.openhand_backend.notifications.businesslayer.NotificationService;
 import com.mana.openhand_backend.notifications.businesslayer.SendGridEmailService;
+import com.mana.openhand_backend.notifications.dataaccesslayer.NotificationType;
 import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationRepository;
 import com.mana.openhand_backend.registrations.dataaccesslayer.RegistrationStatus;
@@ -62,6 +64,9 @@ class RegistrationServiceImplTest {
         @Mock
         private com.mana.openhand_backend.notifications.dataaccesslayer.NotificationRepository notificationRepository;
 
+        @Mock
+        private RegistrationStatsService registrationStatsService;
+
         @InjectMocks
         private RegistrationServiceImpl registrationService;
 
@@ -1173,8 +1178,8 @@ class RegistrationServiceImplTest {
                                 .thenAnswer(invocation -> invocation.getArgument(0));
 
                 // Mock finding employees
-                when(userRepository.findByRolesContaining("ROLE_EMPLOYEE"))
-                                .thenReturn(List.of(employee));
+                when(userRepository.findIdsByRole("ROLE_EMPLOYEE"))
+                                .thenReturn(List.of(employee.getId()));
 
                 // Act
                 Registration result = registrationService.registerForEvent(1L, 1L);
@@ -1182,11 +1187,10 @@ class RegistrationServiceImplTest {
                 // Assert
                 assertEquals(EventStatus.FULL, localEvent.getStatus());
                 // Verify notification sent to employee
-                verify(notificationService).createNotification(
-                                eq(100L),
-                                eq(localEvent.getId()),
-                                eq("EVENT_FULL_ALERT"),
-                                anyString());
+                verify(notificationService).createNotificationsBulk(
+                                localEvent.getId(),
+                                NotificationType.EVENT_FULL_ALERT,
+                                List.of(100L));
         }
 
         @Test
@@ -1217,8 +1221,8 @@ class RegistrationServiceImplTest {
                                 .thenAnswer(invocation -> invocation.getArgument(0));
 
                 // Mock finding employees
-                when(userRepository.findByRolesContaining("ROLE_EMPLOYEE"))
-                                .thenReturn(List.of(employee));
+                when(userRepository.findIdsByRole("ROLE_EMPLOYEE"))
+                                .thenReturn(List.of(employee.getId()));
 
                 // Act
                 Registration result = registrationService.registerForEvent(1L, 1L);
@@ -1226,11 +1230,10 @@ class RegistrationServiceImplTest {
                 // Assert
                 assertEquals(EventStatus.NEARLY_FULL, localEvent.getStatus());
                 // Verify notification sent to employee
-                verify(notificationService).createNotification(
-                                eq(100L),
-                                eq(localEvent.getId()),
-                                eq("EVENT_CAPACITY_WARNING"),
-                                anyString());
+                verify(notificationService).createNotificationsBulk(
+                                localEvent.getId(),
+                                NotificationType.EVENT_CAPACITY_WARNING,
+                                List.of(100L));
         }
 
         @Test
@@ -1262,8 +1265,8 @@ class RegistrationServiceImplTest {
 
                 // Assert
                 assertEquals(EventStatus.NEARLY_FULL, localEvent.getStatus());
-                verify(notificationService, never()).createNotification(anyLong(), anyLong(),
-                                eq("EVENT_CAPACITY_WARNING"), anyString());
+                verify(notificationService, never()).createNotificationsBulk(anyLong(),
+                                eq(NotificationType.EVENT_CAPACITY_WARNING), any());
         }
 
         @Test
@@ -1289,15 +1292,15 @@ class RegistrationServiceImplTest {
                                 .thenAnswer(invocation -> invocation.getArgument(0));
 
                 // Mock empty employee list
-                when(userRepository.findByRolesContaining("ROLE_EMPLOYEE")).thenReturn(List.of());
+                when(userRepository.findIdsByRole("ROLE_EMPLOYEE")).thenReturn(List.of());
 
                 // Act
                 assertDoesNotThrow(() -> registrationService.registerForEvent(1L, 1L));
 
                 // Assert
                 assertEquals(EventStatus.NEARLY_FULL, localEvent.getStatus());
-                verify(notificationService, never()).createNotification(anyLong(), anyLong(),
-                                eq("EVENT_CAPACITY_WARNING"), anyString());
+                verify(notificationService, never()).createNotificationsBulk(anyLong(),
+                                eq(NotificationType.EVENT_CAPACITY_WARNING), any());
         }
 
         @Test
@@ -1331,7 +1334,7 @@ class RegistrationServiceImplTest {
                 User employee = new User();
                 employee.setId(100L);
                 employee.setRoles(java.util.Set.of("ROLE_EMPLOYEE"));
-                when(userRepository.findByRolesContaining("ROLE_EMPLOYEE")).thenReturn(List.of(employee));
+                when(userRepository.findIdsByRole("ROLE_EMPLOYEE")).thenReturn(List.of(employee.getId()));
 
                 // Act
                 registrationService.registerForEvent(1L, 1L); // 7->8. Open -> Nearly Full.
@@ -1339,7 +1342,7 @@ class RegistrationServiceImplTest {
                 // Assert
                 assertEquals(EventStatus.NEARLY_FULL, localEvent.getStatus());
                 // Should trigger because status changed Open -> Nearly Full
-                verify(notificationService, times(1)).createNotification(
-                                eq(100L), eq(1L), eq("EVENT_CAPACITY_WARNING"), anyString());
+                verify(notificationService, times(1)).createNotificationsBulk(
+                                1L, NotificationType.EVENT_CAPACITY_WARNING, List.of(100L));
         }
 }
@@ -16,11 +16,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,12 +35,6 @@ class EmployeeRegistrationControllerTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private Authentication authentication;
-
-    @Mock
-    private UserDetails userDetails;
-
     @InjectMocks
     private EmployeeRegistrationController employeeRegistrationController;
 
@@ -83,36 +75,33 @@ class EmployeeRegistrationControllerTest {
         testRegistration.setConfirmedAt(now);
     }
 
-    private void setupAuthentication(String email) {
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn(email);
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(actorUser));
+    private void setupUsers() {
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(actorUser, participantUser));
     }
 
     @Test
     void registerParticipant_withValidRequest_shouldRegisterAndNotifyActor() {
         // Arrange
-        setupAuthentication("employee@example.com");
+        setupUsers();
         EmployeeRegistrationRequestModel request = new EmployeeRegistrationRequestModel(2L, 1L);
 
         when(registrationService.registerForEvent(2L, 1L)).thenReturn(testRegistration);
-        when(userRepository.findById(2L)).thenReturn(Optional.of(participantUser));
 
         // Act
-        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, authentication);
+        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, 1L);
 
         // Assert
         assertNotNull(response);
         assertEquals("CONFIRMED", response.getStatus());
         verify(registrationService).registerForEvent(2L, 1L);
-        verify(userRepository).findByEmail("employee@example.com");
+        verify(userRepository, never()).findByEmail(anyString());
         verify(notificationService).createNotification(1L, 1L, "EMPLOYEE_REGISTERED_PARTICIPANT", "en", "John Doe");
     }
 
     @Test
     void registerParticipant_withWaitlistedStatus_shouldRegisterAndNotifyActor() {
         // Arrange
-        setupAuthentication("employee@example.com");
+        setupUsers();
         EmployeeRegistrationRequestModel request = new EmployeeRegistrationRequestModel(2L, 1L);
 
         Registration waitlistedReg = new Registration(participantUser, testEvent);
@@ -120,10 +109,9 @@ class EmployeeRegistrationControllerTest {
         waitlistedReg.setWaitlistedPosition(1);
 
         when(registrationService.registerForEvent(2L, 1L)).thenReturn(waitlistedReg);
-        when(userRepository.findById(2L)).thenReturn(Optional.of(participantUser));
 
         // Act
-        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, authentication);
+        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, 1L);
 
         // Assert
         assertNotNull(response);
@@ -135,16 +123,15 @@ class EmployeeRegistrationControllerTest {
     @Test
     void registerParticipant_whenNotificationFails_shouldNotBreakRegistration() {
         // Arrange
-        setupAuthentication("employee@example.com");
+        setupUsers();
         EmployeeRegistrationRequestModel request = new EmployeeRegistrationRequestModel(2L, 1L);
 
         when(registrationService.registerForEvent(2L, 1L)).thenReturn(testRegistration);
-        when(userRepository.findById(2L)).thenReturn(Optional.of(participantUser));
         doThrow(new RuntimeException("Notification service error"))
                 .when(notificationService).createNotification(anyLong(), anyLong(), anyString(), anyString(), anyString());
 
         // Act
-        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, authentication);
+        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, 1L);
 
         // Assert
         assertNotNull(response);
@@ -156,14 +143,13 @@ class EmployeeRegistrationControllerTest {
     void registerParticipant_withActorDefaultLanguage_shouldUseEnglish() {
         // Arrange
         actorUser.setPreferredLanguage(null);
-        setupAuthentication("employee@example.com");
+        setupUsers();
         EmployeeRegistrationRequestModel request = new EmployeeRegistrationRequestModel(2L, 1L);
 
         when(registrationService.registerForEvent(2L, 1L)).thenReturn(testRegistration);
-        when(userRepository.findById(2L)).thenReturn(Optional.of(participantUser));
 
         // Act
-        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, authentication);
+        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, 1L);
 
         // Assert
         assertNotNull(response);
@@ -174,14 +160,13 @@ class EmployeeRegistrationControllerTest {
     void registerParticipant_withActorPreferredLanguage_shouldUsePreferredLanguage() {
         // Arrange
         actorUser.setPreferredLanguage("fr");
-        setupAuthentication("employee@example.com");
+        setupUsers();
         EmployeeRegistrationRequestModel request = new EmployeeRegistrationRequestModel(2L, 1L);
 
         when(registrationService.registerForEvent(2L, 1L)).thenReturn(testRegistration);
-        when(userRepository.findById(2L)).thenReturn(Optional.of(participantUser));
 
         // Act
-        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, authentication);
+        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, 1L);
 
         // Assert
         assertNotNull(response);
@@ -189,20 +174,18 @@ class EmployeeRegistrationControllerTest {
     }
 
     @Test
-    void registerParticipant_withInvalidActor_shouldThrowException() {
+    void registerParticipant_withoutResolvedActor_shouldRegisterWithoutNotification() {
         // Arrange
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn("nonexistent@example.com");
-        when(userRepository.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
-
         when(registrationService.registerForEvent(2L, 1L)).thenReturn(testRegistration);
 
         EmployeeRegistrationRequestModel request = new EmployeeRegistrationRequestModel(2L, 1L);
 
-        // Act & Assert
-        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, authentication);
-        
+        // Act
+        RegistrationResponseModel response = employeeRegistrationController.registerParticipant(request, null);
+
+        // Assert
         assertNotNull(response);
         verify(registrationService).registerForEvent(2L, 1L);
+        verifyNoInteractions(userRepository, notificationService);
     }
 }
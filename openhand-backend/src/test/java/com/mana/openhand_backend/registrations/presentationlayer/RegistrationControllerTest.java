@@ -2,7 +2,6 @@ package com.mana.openhand_backend.registrations.presentationlayer;
 
 import com.mana.openhand_backend.events.dataaccesslayer.Event;
 import com.mana.openhand_backend.events.dataaccesslayer.EventStatus;
-import com.mana.openhand_backend.identity.businesslayer.UserMemberService;
 import com.mana.openhand_backend.identity.dataaccesslayer.User;
 import com.mana.openhand_backend.registrations.businesslayer.RegistrationService;
 import com.mana.openhand_backend.registrations.dataaccesslayer.Registration;
@@ -15,13 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,18 +28,11 @@ class RegistrationControllerTest {
     @Mock
     private RegistrationService registrationService;
 
-    @Mock
-    private UserMemberService userMemberService;
-
-    @Mock
-    private Authentication authentication;
-
-    @Mock
-    private UserDetails userDetails;
-
     @InjectMocks
     private RegistrationController registrationController;
 
+    private static final Long USER_ID = 1L;
+
     private User testUser;
     private Event testEvent;
     private Registration testRegistration;
@@ -80,36 +69,27 @@ class RegistrationControllerTest {
         testRegistration.setConfirmedAt(now);
     }
 
-    private void setupAuthentication(String email) {
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn(email);
-        when(userMemberService.getProfileByEmail(email)).thenReturn(testUser);
-    }
-
     // ========== registerForEvent Tests ==========
 
     @Test
     void registerForEvent_withValidRequest_shouldCallService() {
         // Arrange
-        setupAuthentication("test@example.com");
         RegistrationRequestModel request = new RegistrationRequestModel(1L);
 
         when(registrationService.registerForEvent(1L, 1L)).thenReturn(testRegistration);
 
         // Act
-        RegistrationResponseModel response = registrationController.registerForEvent(request, authentication);
+        RegistrationResponseModel response = registrationController.registerForEvent(request, USER_ID);
 
         // Assert
         assertNotNull(response);
         assertEquals("CONFIRMED", response.getStatus());
         verify(registrationService).registerForEvent(1L, 1L);
-        verify(userMemberService).getProfileByEmail("test@example.com");
     }
 
     @Test
     void registerForEvent_withWaitlistedRegistration_shouldReturnWaitlistedStatus() {
         // Arrange
-        setupAuthentication("test@example.com");
         RegistrationRequestModel request = new RegistrationRequestModel(1L);
 
         Registration waitlistedReg = new Registration(testUser, testEvent);
@@ -119,7 +99,7 @@ class RegistrationControllerTest {
         when(registrationService.registerForEvent(1L, 1L)).thenReturn(waitlistedReg);
 
         // Act
-        RegistrationResponseModel response = registrationController.registerForEvent(request, authentication);
+        RegistrationResponseModel response = registrationController.registerForEvent(request, USER_ID);
 
         // Assert
         assertNotNull(response);
@@ -127,27 +107,11 @@ class RegistrationControllerTest {
         assertEquals(1, response.getWaitlistedPosition());
     }
 
-    @Test
-    void registerForEvent_withInvalidUser_shouldThrowException() {
-        // Arrange
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn("nonexistent@example.com");
-        when(userMemberService.getProfileByEmail("nonexistent@example.com"))
-                .thenThrow(new RuntimeException("User not found"));
-
-        RegistrationRequestModel request = new RegistrationRequestModel(1L);
-
-        // Act & Assert
-        assertThrows(RuntimeException.class, () -> registrationController.registerForEvent(request, authentication));
-    }
-
     // ========== getMyRegistrations Tests ==========
 
     @Test
     void getMyRegistrations_withValidUser_shouldCallService() {
         // Arrange
-        setupAuthentication("test@example.com");
-
         Registration reg1 = new Registration(testUser, testEvent);
         reg1.setStatus(RegistrationStatus.CONFIRMED);
 
@@ -159,7 +123,7 @@ class RegistrationControllerTest {
         when(registrationService.getUserRegistrations(1L)).thenReturn(userRegistrations);
 
         // Act
-        List<RegistrationResponseModel> response = registrationController.getMyRegistrations(authentication);
+        List<RegistrationResponseModel> response = registrationController.getMyRegistrations(USER_ID);
 
         // Assert
         assertNotNull(response);
@@ -170,37 +134,21 @@ class RegistrationControllerTest {
     @Test
     void getMyRegistrations_withNoRegistrations_shouldReturnEmptyList() {
         // Arrange
-        setupAuthentication("test@example.com");
         when(registrationService.getUserRegistrations(1L)).thenReturn(Arrays.asList());
 
         // Act
-        List<RegistrationResponseModel> response = registrationController.getMyRegistrations(authentication);
+        List<RegistrationResponseModel> response = registrationController.getMyRegistrations(USER_ID);
 
         // Assert
         assertNotNull(response);
         assertTrue(response.isEmpty());
     }
 
-    @Test
-    void getMyRegistrations_withInvalidUser_shouldThrowException() {
-        // Arrange
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn("nonexistent@example.com");
-        when(userMemberService.getProfileByEmail("nonexistent@example.com"))
-                .thenThrow(
-                        new com.mana.openhand_backend.identity.utils.UserNotFoundException("nonexistent@example.com"));
-
-        // Act & Assert
-        assertThrows(RuntimeException.class, () -> registrationController.getMyRegistrations(authentication));
-    }
-
     // ========== cancelRegistration Tests ==========
 
     @Test
     void cancelRegistration_withValidEventId_shouldCallService() {
         // Arrange
-        setupAuthentication("test@example.com");
-
         Registration cancelledReg = new Registration(testUser, testEvent);
         cancelledReg.setStatus(RegistrationStatus.CANCELLED);
         cancelledReg.setCancelledAt(now);
@@ -208,7 +156,7 @@ class RegistrationControllerTest {
         when(registrationService.cancelRegistration(1L, 1L)).thenReturn(cancelledReg);
 
         // Act
-        RegistrationResponseModel response = registrationController.cancelRegistration(1L, authentication);
+        RegistrationResponseModel response = registrationController.cancelRegistration(1L, USER_ID);
 
         // Assert
         assertNotNull(response);
@@ -219,25 +167,11 @@ class RegistrationControllerTest {
     @Test
     void cancelRegistration_withInvalidEventId_shouldThrowException() {
         // Arrange
-        setupAuthentication("test@example.com");
         when(registrationService.cancelRegistration(1L, 999L))
                 .thenThrow(new RuntimeException("Registration not found"));
 
         // Act & Assert
-        assertThrows(RuntimeException.class, () -> registrationController.cancelRegistration(999L, authentication));
-    }
-
-    @Test
-    void cancelRegistration_withInvalidUser_shouldThrowException() {
-        // Arrange
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn("nonexistent@example.com");
-        when(userMemberService.getProfileByEmail("nonexistent@example.com"))
-                .thenThrow(
-                        new com.mana.openhand_backend.identity.utils.UserNotFoundException("nonexistent@example.com"));
-
-        // Act & Assert
-        assertThrows(RuntimeException.class, () -> registrationController.cancelRegistration(1L, authentication));
+        assertThrows(RuntimeException.class, () -> registrationController.cancelRegistration(999L, USER_ID));
     }
 
     // ========== Response Mapping Tests ==========
@@ -245,7 +179,6 @@ class RegistrationControllerTest {
     @Test
     void registerForEvent_withWaitlistedRegistration_shouldMapToResponseModel() {
         // Arrange
-        setupAuthentication("test@example.com");
         RegistrationRequestModel request = new RegistrationRequestModel(1L);
 
         Registration waitlistedReg = new Registration(testUser, testEvent);
@@ -255,7 +188,7 @@ class RegistrationControllerTest {
         when(registrationService.registerForEvent(1L, 1L)).thenReturn(waitlistedReg);
 
         // Act
-        RegistrationResponseModel response = registrationController.registerForEvent(request, authentication);
+        RegistrationResponseModel response = registrationController.registerForEvent(request, USER_ID);
 
         // Assert
         assertNotNull(response);
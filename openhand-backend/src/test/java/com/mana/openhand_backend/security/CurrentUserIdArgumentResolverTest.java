@@ -0,0 +1,136 @@
+package com.mana.openhand_backend.security;
+
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import com.mana.openhand_backend.identity.utils.UserNotFoundException;
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserIdArgumentResolverTest {
+
+    @Mock
+    private ObjectProvider<UserRepository> userRepositoryProvider;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CurrentUserIdArgumentResolver resolver;
+    private MethodParameter requiredParameter;
+    private MethodParameter optionalParameter;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        resolver = new CurrentUserIdArgumentResolver(userRepositoryProvider);
+        requiredParameter = new MethodParameter(
+                Handlers.class.getDeclaredMethod("required", Long.class), 0);
+        optionalParameter = new MethodParameter(
+                Handlers.class.getDeclaredMethod("optional", Long.class), 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void supportsParameter_onlyForAnnotatedLongParameters() throws NoSuchMethodException {
+        MethodParameter plain = new MethodParameter(Handlers.class.getDeclaredMethod("plain", Long.class), 0);
+
+        assertTrue(resolver.supportsParameter(requiredParameter));
+        assertFalse(resolver.supportsParameter(plain));
+    }
+
+    @Test
+    void resolveArgument_withTokenPrincipal_returnsIdWithoutLookup() {
+        authenticate(UserDetailsImpl.fromClaims(7L, "member@example.com", List.of("ROLE_MEMBER")));
+
+        Object userId = resolver.resolveArgument(requiredParameter, null, null, null);
+
+        assertEquals(7L, userId);
+        verifyNoInteractions(userRepositoryProvider, userRepository);
+    }
+
+    @Test
+    void resolveArgument_withOtherUserDetails_fallsBackToEmailLookup() {
+        authenticate(new org.springframework.security.core.userdetails.User(
+                "member@example.com", "password", AuthorityUtils.createAuthorityList("ROLE_MEMBER")));
+        User user = new User();
+        user.setId(9L);
+        when(userRepositoryProvider.getIfAvailable()).thenReturn(userRepository);
+        when(userRepository.findByEmail("member@example.com")).thenReturn(Optional.of(user));
+
+        Object userId = resolver.resolveArgument(requiredParameter, null, null, null);
+
+        assertEquals(9L, userId);
+    }
+
+    @Test
+    void resolveArgument_whenAccountMissingAndRequired_throwsUserNotFound() {
+        authenticate(new org.springframework.security.core.userdetails.User(
+                "missing@example.com", "password", AuthorityUtils.createAuthorityList("ROLE_MEMBER")));
+        when(userRepositoryProvider.getIfAvailable()).thenReturn(userRepository);
+        when(userRepository.findByEmail("missing@example.com")).thenReturn(Optional.empty());
+
+        UserNotFoundException ex = assertThrows(UserNotFoundException.class,
+                () -> resolver.resolveArgument(requiredParameter, null, null, null));
+        assertTrue(ex.getMessage().contains("missing@example.com"));
+    }
+
+    @Test
+    void resolveArgument_whenAccountMissingAndOptional_returnsNull() {
+        authenticate(new org.springframework.security.core.userdetails.User(
+                "missing@example.com", "password", AuthorityUtils.createAuthorityList("ROLE_EMPLOYEE")));
+        when(userRepositoryProvider.getIfAvailable()).thenReturn(userRepository);
+        when(userRepository.findByEmail("missing@example.com")).thenReturn(Optional.empty());
+
+        assertNull(resolver.resolveArgument(optionalParameter, null, null, null));
+    }
+
+    @Test
+    void resolveArgument_withAnonymousCaller_throwsUnauthorized() {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> resolver.resolveArgument(requiredParameter, null, null, null));
+        assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+        verifyNoInteractions(userRepositoryProvider);
+    }
+
+    private void authenticate(Object principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handlers {
+        void required(@CurrentUserId Long userId) {
+        }
+
+        void optional(@CurrentUserId(required = false) Long userId) {
+        }
+
+        void plain(Long userId) {
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.mana.openhand_backend.security;
 
 import com.mana.openhand_backend.security.jwt.AuthEntryPointJwt;
 import com.mana.openhand_backend.security.jwt.AuthTokenFilter;
+import com.mana.openhand_backend.security.services.BoundedPasswordEncoder;
 import com.mana.openhand_backend.security.services.UserDetailsServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,7 +14,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -63,11 +63,11 @@ class WebSecurityConfigTest {
     }
 
     @Test
-    void passwordEncoder_returnsBCryptPasswordEncoderAndEncodes() {
+    void passwordEncoder_returnsBoundedBCryptEncoderAndEncodes() {
         PasswordEncoder encoder = webSecurityConfig.passwordEncoder();
 
         assertNotNull(encoder);
-        assertTrue(encoder instanceof BCryptPasswordEncoder);
+        assertTrue(encoder instanceof BoundedPasswordEncoder);
 
         String raw = "password";
         String encoded = encoder.encode(raw);
@@ -114,7 +114,7 @@ class WebSecurityConfigTest {
                 Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"),
                 config.getAllowedMethods());
         assertEquals(List.of("*"), config.getAllowedHeaders());
-        assertEquals(List.of("Authorization", "Content-Type"), config.getExposedHeaders());
+        assertEquals(List.of("Authorization", "Content-Type", "X-Next-Cursor"), config.getExposedHeaders());
         assertTrue(Boolean.TRUE.equals(config.getAllowCredentials()));
     }
 
@@ -1,7 +1,6 @@
 package com.mana.openhand_backend.security.jwt;
 
 import com.mana.openhand_backend.security.services.UserDetailsImpl;
-import com.mana.openhand_backend.security.services.UserDetailsServiceImpl;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +17,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,10 +27,7 @@ import static org.mockito.Mockito.*;
 class AuthTokenFilterTest {
 
     @Mock
-    private JwtUtils jwtUtils;
-
-    @Mock
-    private UserDetailsServiceImpl userDetailsService;
+    private JwtPrincipalResolver jwtPrincipalResolver;
 
     @InjectMocks
     private AuthTokenFilter authTokenFilter;
@@ -41,7 +38,7 @@ class AuthTokenFilterTest {
     }
 
     @Test
-    void doFilterInternal_withoutAuthorizationHeader_doesNotUseJwtUtilsOrUserDetailsService()
+    void doFilterInternal_withoutAuthorizationHeader_doesNotResolvePrincipal()
             throws ServletException, IOException {
 
         MockHttpServletRequest request = new MockHttpServletRequest();
@@ -51,7 +48,7 @@ class AuthTokenFilterTest {
         authTokenFilter.doFilterInternal(request, response, filterChain);
 
         // we only care that nothing JWT-related was called
-        verifyNoInteractions(jwtUtils, userDetailsService);
+        verifyNoInteractions(jwtPrincipalResolver);
         verify(filterChain, times(1))
                 .doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
     }
@@ -65,14 +62,10 @@ class AuthTokenFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         FilterChain filterChain = mock(FilterChain.class);
 
-        when(jwtUtils.validateJwtToken("validToken")).thenReturn(true);
-        when(jwtUtils.getUserNameFromJwtToken("validToken")).thenReturn("user@example.com");
-
         UserDetailsImpl userDetails = mock(UserDetailsImpl.class);
         when(userDetails.getUsername()).thenReturn("user@example.com");
         when(userDetails.getAuthorities()).thenReturn(Collections.emptyList());
-
-        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(userDetails);
+        when(jwtPrincipalResolver.resolve("validToken")).thenReturn(Optional.of(userDetails));
 
         authTokenFilter.doFilterInternal(request, response, filterChain);
 
@@ -81,9 +74,7 @@ class AuthTokenFilterTest {
                 SecurityContextHolder.getContext().getAuthentication().getName());
         assertTrue(SecurityContextHolder.getContext().getAuthentication().isAuthenticated());
 
-        verify(jwtUtils, times(1)).validateJwtToken("validToken");
-        verify(jwtUtils, times(1)).getUserNameFromJwtToken("validToken");
-        verify(userDetailsService, times(1)).loadUserByUsername("user@example.com");
+        verify(jwtPrincipalResolver, times(1)).resolve("validToken");
         verify(filterChain, times(1))
                 .doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
     }
@@ -97,14 +88,12 @@ class AuthTokenFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         FilterChain filterChain = mock(FilterChain.class);
 
-        when(jwtUtils.validateJwtToken("invalidToken")).thenReturn(false);
+        when(jwtPrincipalResolver.resolve("invalidToken")).thenReturn(Optional.empty());
 
         authTokenFilter.doFilterInternal(request, response, filterChain);
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(jwtUtils, times(1)).validateJwtToken("invalidToken");
-        verify(jwtUtils, never()).getUserNameFromJwtToken(anyString());
-        verifyNoInteractions(userDetailsService);
+        verify(jwtPrincipalResolver, times(1)).resolve("invalidToken");
         verify(filterChain, times(1))
                 .doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
     }
@@ -118,26 +107,25 @@ class AuthTokenFilterTest {
 
         authTokenFilter.doFilterInternal(request, response, filterChain);
 
-        verifyNoInteractions(jwtUtils, userDetailsService);
+        verifyNoInteractions(jwtPrincipalResolver);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain, times(1))
                 .doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
     }
 
     @Test
-    void doFilterInternal_whenJwtUtilsThrows_logsAndContinues() throws ServletException, IOException {
+    void doFilterInternal_whenResolverThrows_logsAndContinues() throws ServletException, IOException {
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("Authorization", "Bearer boom");
         MockHttpServletResponse response = new MockHttpServletResponse();
         FilterChain filterChain = mock(FilterChain.class);
 
-        when(jwtUtils.validateJwtToken("boom")).thenThrow(new RuntimeException("failure"));
+        when(jwtPrincipalResolver.resolve("boom")).thenThrow(new RuntimeException("failure"));
 
         authTokenFilter.doFilterInternal(request, response, filterChain);
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(jwtUtils, times(1)).validateJwtToken("boom");
-        verifyNoInteractions(userDetailsService);
+        verify(jwtPrincipalResolver, times(1)).resolve("boom");
         verify(filterChain, times(1))
                 .doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
     }
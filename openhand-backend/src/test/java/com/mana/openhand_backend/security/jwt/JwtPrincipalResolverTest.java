@@ -0,0 +1,107 @@
+package com.mana.openhand_backend.security.jwt;
+
+import com.mana.openhand_backend.security.services.AccountRevocationService;
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import com.mana.openhand_backend.security.services.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtPrincipalResolverTest {
+
+    @Mock
+    private JwtUtils jwtUtils;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private AccountRevocationService accountRevocationService;
+
+    private JwtPrincipalResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new JwtPrincipalResolver(jwtUtils, userDetailsService, accountRevocationService, true);
+    }
+
+    @Test
+    void resolve_withUserIdClaim_buildsPrincipalWithoutLoadingUser() {
+        Claims claims = mock(Claims.class);
+        Date issuedAt = new Date();
+        when(claims.getSubject()).thenReturn("member@example.com");
+        when(claims.getIssuedAt()).thenReturn(issuedAt);
+        when(claims.get(JwtUtils.USER_ID_CLAIM, Number.class)).thenReturn(7);
+        when(claims.get(JwtUtils.ROLES_CLAIM, List.class)).thenReturn(List.of("ROLE_MEMBER"));
+        when(jwtUtils.parseValidClaims("claimsToken")).thenReturn(Optional.of(claims));
+        when(accountRevocationService.isRevoked(7L, issuedAt)).thenReturn(false);
+
+        UserDetailsImpl principal = (UserDetailsImpl) resolver.resolve("claimsToken").orElseThrow();
+
+        assertEquals(7L, principal.getId());
+        assertEquals("member@example.com", principal.getUsername());
+        assertEquals("ROLE_MEMBER", principal.getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void resolve_withRevokedAccount_returnsEmpty() {
+        Claims claims = mock(Claims.class);
+        when(claims.get(JwtUtils.USER_ID_CLAIM, Number.class)).thenReturn(7L);
+        when(jwtUtils.parseValidClaims("revokedToken")).thenReturn(Optional.of(claims));
+        when(accountRevocationService.isRevoked(7L, null)).thenReturn(true);
+
+        assertTrue(resolver.resolve("revokedToken").isEmpty());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void resolve_withInvalidToken_returnsEmpty() {
+        when(jwtUtils.parseValidClaims("invalidToken")).thenReturn(Optional.empty());
+
+        assertTrue(resolver.resolve("invalidToken").isEmpty());
+        verifyNoInteractions(userDetailsService, accountRevocationService);
+    }
+
+    @Test
+    void resolve_withLegacyToken_loadsUserBySubject() {
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn("legacy@example.com");
+        when(jwtUtils.parseValidClaims("legacyToken")).thenReturn(Optional.of(claims));
+        UserDetails user = UserDetailsImpl.fromClaims(9L, "legacy@example.com", List.of("ROLE_MEMBER"));
+        when(userDetailsService.loadUserByUsernameCached("legacy@example.com")).thenReturn(user);
+
+        assertSame(user, resolver.resolve("legacyToken").orElseThrow());
+        verifyNoInteractions(accountRevocationService);
+    }
+
+    @Test
+    void resolve_whenClaimsPrincipalDisabled_loadsUserEvenWithUserIdClaim() {
+        resolver = new JwtPrincipalResolver(jwtUtils, userDetailsService, accountRevocationService, false);
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn("member@example.com");
+        when(claims.get(JwtUtils.USER_ID_CLAIM, Number.class)).thenReturn(7L);
+        when(jwtUtils.parseValidClaims("claimsToken")).thenReturn(Optional.of(claims));
+        UserDetails user = UserDetailsImpl.fromClaims(7L, "member@example.com", List.of("ROLE_MEMBER"));
+        when(userDetailsService.loadUserByUsernameCached("member@example.com")).thenReturn(user);
+
+        assertSame(user, resolver.resolve("claimsToken").orElseThrow());
+        verifyNoInteractions(accountRevocationService);
+    }
+}
@@ -1,5 +1,7 @@
 package com.mana.openhand_backend.security.jwt;
 
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -14,6 +16,7 @@ import java.security.Key;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -98,4 +101,51 @@ class JwtUtilsTest {
     void validateJwtToken_emptyToken_returnsFalse() {
         assertFalse(jwtUtils.validateJwtToken(""));
     }
+
+    @Test
+    void parseValidClaims_validToken_returnsSubjectAndRoles() {
+        Authentication auth = mockAuth("samuel", List.of("ROLE_ADMIN"));
+        String token = jwtUtils.generateJwtToken(auth);
+
+        Optional<Claims> claims = jwtUtils.parseValidClaims(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("samuel", claims.get().getSubject());
+        assertEquals(List.of("ROLE_ADMIN"), claims.get().get("roles"));
+    }
+
+    @Test
+    void parseValidClaims_tokenSignedWithOtherKey_returnsEmpty() {
+        Key otherKey = Keys.hmacShaKeyFor("BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB".getBytes());
+        String foreignToken = Jwts.builder()
+                .setSubject("samuel")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(otherKey, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertTrue(jwtUtils.parseValidClaims(foreignToken).isEmpty());
+    }
+
+    @Test
+    void rotateSigningKey_invalidatesTokensSignedWithPreviousSecret() {
+        Authentication auth = mockAuth("samuel", List.of("ROLE_ADMIN"));
+        String oldToken = jwtUtils.generateJwtToken(auth);
+
+        jwtUtils.rotateSigningKey("CCCCCCCCCCCCCCCCCCCCCCCCCCCCCCCC");
+        String newToken = jwtUtils.generateJwtToken(auth);
+
+        assertFalse(jwtUtils.validateJwtToken(oldToken));
+        assertTrue(jwtUtils.validateJwtToken(newToken));
+    }
+
+    @Test
+    void generateJwtToken_withUserDetailsImpl_embedsUserId() {
+        UserDetailsImpl principal = UserDetailsImpl.fromClaims(42L, "samuel", List.of("ROLE_MEMBER"));
+        Authentication auth = mock(Authentication.class);
+        when(auth.getPrincipal()).thenReturn(principal);
+
+        Claims claims = jwtUtils.parseValidClaims(jwtUtils.generateJwtToken(auth)).orElseThrow();
+
+        assertEquals(42L, claims.get(JwtUtils.USER_ID_CLAIM, Number.class).longValue());
+    }
 }
@@ -0,0 +1,118 @@
+package com.mana.openhand_backend.security.jwt;
+
+import com.mana.openhand_backend.security.services.UserDetailsImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.User;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    @Mock
+    private JwtPrincipalResolver jwtPrincipalResolver;
+
+    @Mock
+    private MessageChannel channel;
+
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompAuthChannelInterceptor(jwtPrincipalResolver);
+    }
+
+    @Test
+    void preSend_connectWithValidToken_setsPrincipalNamedByUserId() {
+        when(jwtPrincipalResolver.resolve("validToken"))
+                .thenReturn(Optional.of(UserDetailsImpl.fromClaims(7L, "member@example.com", List.of("ROLE_MEMBER"))));
+
+        Message<?> result = interceptor.preSend(connect("Bearer validToken"), channel);
+
+        Principal user = StompHeaderAccessor.wrap(result).getUser();
+        assertEquals("7", user.getName());
+    }
+
+    @Test
+    void preSend_connectWithoutToken_isRejected() {
+        assertThrows(BadCredentialsException.class, () -> interceptor.preSend(connect(null), channel));
+
+        verifyNoInteractions(jwtPrincipalResolver);
+    }
+
+    @Test
+    void preSend_connectWithInvalidOrRevokedToken_isRejected() {
+        when(jwtPrincipalResolver.resolve("revokedToken")).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class,
+                () -> interceptor.preSend(connect("Bearer revokedToken"), channel));
+    }
+
+    @Test
+    void preSend_connectWithPrincipalWithoutId_isRejected() {
+        when(jwtPrincipalResolver.resolve("noIdToken"))
+                .thenReturn(Optional.of(User.withUsername("anonymous@example.com").password("").build()));
+
+        assertThrows(BadCredentialsException.class,
+                () -> interceptor.preSend(connect("Bearer noIdToken"), channel));
+    }
+
+    @Test
+    void preSend_otherFrames_passThroughUnchecked() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/user/queue/notifications");
+        Message<byte[]> subscribe = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertSame(subscribe, interceptor.preSend(subscribe, channel));
+        verifyNoInteractions(jwtPrincipalResolver);
+    }
+
+    @Test
+    void preSend_subscribeToOwnLegacyTopic_isAllowed() {
+        Message<byte[]> subscribe = subscribe("/topic/notifications/7", () -> "7");
+
+        assertSame(subscribe, interceptor.preSend(subscribe, channel));
+    }
+
+    @Test
+    void preSend_subscribeToAnotherUsersLegacyTopic_isRejected() {
+        Message<byte[]> subscribe = subscribe("/topic/notifications/8", () -> "7");
+
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(subscribe, channel));
+    }
+
+    private static Message<byte[]> subscribe(String destination, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,111 @@
+package com.mana.openhand_backend.security.services;
+
+import com.mana.openhand_backend.identity.dataaccesslayer.MemberStatus;
+import com.mana.openhand_backend.identity.dataaccesslayer.User;
+import com.mana.openhand_backend.identity.dataaccesslayer.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountRevocationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PrincipalInvalidationBroadcaster invalidationBroadcaster;
+
+    private AccountRevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        revocationService = new AccountRevocationService(userRepository, invalidationBroadcaster, 60_000L, 86_400_000L);
+    }
+
+    @Test
+    void isRevoked_loadsInactiveAndLockedUsersOncePerInterval() {
+        when(userRepository.findRevokedUserIds(MemberStatus.INACTIVE)).thenReturn(List.of(3L));
+
+        assertTrue(revocationService.isRevoked(3L, new Date()));
+        assertFalse(revocationService.isRevoked(4L, new Date()));
+
+        verify(userRepository, times(1)).findRevokedUserIds(MemberStatus.INACTIVE);
+    }
+
+    @Test
+    void revokeAndRestore_applyImmediatelyOutsideTransactions() {
+        when(userRepository.findRevokedUserIds(MemberStatus.INACTIVE)).thenReturn(List.of());
+        assertFalse(revocationService.isRevoked(5L, new Date()));
+
+        revocationService.revoke(5L);
+        assertTrue(revocationService.isRevoked(5L, new Date()));
+
+        revocationService.restore(5L);
+        assertFalse(revocationService.isRevoked(5L, new Date()));
+        verify(invalidationBroadcaster, times(2)).invalidate(5L);
+    }
+
+    @Test
+    void invalidateIssuedTokens_rejectsOnlyOlderTokens() {
+        when(userRepository.findRevokedUserIds(MemberStatus.INACTIVE)).thenReturn(List.of());
+        Date issuedBefore = new Date(System.currentTimeMillis() - 10_000);
+
+        User user = new User();
+        user.setId(6L);
+
+        revocationService.invalidateIssuedTokens(user);
+
+        assertNotNull(user.getTokensValidAfter());
+        assertTrue(revocationService.isRevoked(6L, issuedBefore));
+        assertFalse(revocationService.isRevoked(6L, new Date(System.currentTimeMillis() + 1_000)));
+    }
+
+    @Test
+    void invalidateIssuedTokens_rejectsTokenIssuedEarlierInSameSecond() {
+        when(userRepository.findRevokedUserIds(MemberStatus.INACTIVE)).thenReturn(List.of());
+        User user = new User();
+        user.setId(9L);
+        // JWT iat drops the milliseconds, so a token issued just before the
+        // revocation carries the start of the revocation's second.
+        Date issuedAt = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        revocationService.invalidateIssuedTokens(user);
+
+        assertTrue(revocationService.isRevoked(9L, issuedAt));
+        assertTrue(revocationService.isRevoked(9L, Date.from(user.getTokensValidAfter())));
+        assertFalse(revocationService.isRevoked(9L,
+                Date.from(user.getTokensValidAfter().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1))));
+    }
+
+    @Test
+    void invalidateIssuedTokens_survivesRestartThroughPersistedCutoff() {
+        when(userRepository.findRevokedUserIds(MemberStatus.INACTIVE)).thenReturn(List.of());
+        User user = new User();
+        user.setId(7L);
+        Date issuedBefore = new Date(System.currentTimeMillis() - 10_000);
+        revocationService.invalidateIssuedTokens(user);
+
+        // A fresh instance, as after a restart or on another node, only has the database.
+        UserRepository.TokensValidAfterProjection row = mock(UserRepository.TokensValidAfterProjection.class);
+        when(row.getId()).thenReturn(7L);
+        when(row.getTokensValidAfter()).thenReturn(user.getTokensValidAfter());
+        when(userRepository.findTokensValidAfter(any(Instant.class))).thenReturn(List.of(row));
+        AccountRevocationService restarted =
+                new AccountRevocationService(userRepository, invalidationBroadcaster, 60_000L, 86_400_000L);
+
+        assertTrue(restarted.isRevoked(7L, issuedBefore));
+        assertFalse(restarted.isRevoked(7L, new Date(System.currentTimeMillis() + 1_000)));
+        assertFalse(restarted.isRevoked(8L, issuedBefore));
+    }
+}
@@ -0,0 +1,90 @@
+package com.mana.openhand_backend.security.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(meterRegistry, 100, 60_000);
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return UserDetailsImpl.fromClaims(1L, email, List.of("ROLE_MEMBER"));
+        };
+    }
+
+    @Test
+    void get_loadsOnceAndRecordsHitsAndMisses() {
+        UserDetails first = principalCache.get("user@example.com", loader);
+        UserDetails second = principalCache.get("user@example.com", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, principalCache.hitCount());
+        assertEquals(1, principalCache.missCount());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", PrincipalCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count());
+    }
+
+    @Test
+    void onPrincipalInvalidated_dropsEntriesForThatUser() {
+        principalCache.get("user@example.com", loader);
+
+        principalCache.onPrincipalInvalidated(new PrincipalInvalidatedEvent(1L));
+        principalCache.get("user@example.com", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onPrincipalInvalidated_keepsOtherUsers() {
+        principalCache.get("user@example.com", loader);
+
+        principalCache.onPrincipalInvalidated(new PrincipalInvalidatedEvent(99L));
+        principalCache.get("user@example.com", loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_doesNotCacheMissingUsers() {
+        Function<String, UserDetails> missing = email -> {
+            loads.incrementAndGet();
+            throw new UsernameNotFoundException(email);
+        };
+
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("ghost@example.com", missing));
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("ghost@example.com", missing));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_withZeroTtl_bypassesCache() {
+        PrincipalCache disabled = new PrincipalCache(meterRegistry, 100, 0);
+
+        disabled.get("user@example.com", loader);
+        disabled.get("user@example.com", loader);
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -19,6 +19,8 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +38,7 @@ class RefreshTokenServiceTest {
     @BeforeEach
     void setup() {
         ReflectionTestUtils.setField(refreshTokenService, "refreshTokenDurationMs", 1000L);
+        refreshTokenService.init();
     }
 
     @Test
@@ -48,6 +51,8 @@ class RefreshTokenServiceTest {
         RefreshToken token = refreshTokenService.createRefreshToken(42L, "agent");
 
         assertNotNull(token.getToken());
+        assertEquals(RefreshTokenService.hash(token.getToken()), token.getTokenHash());
+        assertNotEquals(token.getToken(), token.getTokenHash());
         assertEquals(user, token.getUser());
         assertEquals("agent", token.getUserAgent());
         assertTrue(token.getExpiryDate().isAfter(Instant.now()));
@@ -114,21 +119,97 @@ class RefreshTokenServiceTest {
     }
 
     @Test
-    void rotateRefreshToken_replacesTokenAndKeepsUserAgent() {
-        User user = new User("user@example.com", "pwd", Set.of("ROLE_MEMBER"));
-        user.setId(7L);
-        RefreshToken old = new RefreshToken();
-        old.setUser(user);
-        old.setUserAgent("agent-1");
+    void findByToken_looksUpByHashAndKeepsRawToken() {
+        RefreshToken stored = new RefreshToken();
+        stored.setTokenHash(RefreshTokenService.hash("raw"));
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw"))).thenReturn(Optional.of(stored));
 
-        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
-        when(refreshTokenRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        RefreshToken found = refreshTokenService.findByToken("raw").orElseThrow();
+
+        assertEquals("raw", found.getToken());
+    }
+
+    @Test
+    void rotateRefreshToken_updatesHashInPlaceAndKeepsUserAgent() {
+        RefreshToken old = storedToken(7L, "old-raw", "agent-1");
+        when(refreshTokenRepository.rotate(eq(3L), eq(old.getTokenHash()), anyString(), any(Instant.class)))
+                .thenReturn(1);
 
         RefreshToken rotated = refreshTokenService.rotateRefreshToken(old);
 
-        verify(refreshTokenRepository).delete(old);
-        assertEquals(user, rotated.getUser());
+        assertEquals(3L, rotated.getId());
+        assertEquals(old.getUser(), rotated.getUser());
         assertEquals("agent-1", rotated.getUserAgent());
-        assertNotEquals(old.getToken(), rotated.getToken());
+        assertNotEquals("old-raw", rotated.getToken());
+        assertEquals(RefreshTokenService.hash(rotated.getToken()), rotated.getTokenHash());
+        verify(refreshTokenRepository, never()).delete(any());
+        verify(refreshTokenRepository, never()).save(any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void rotateRefreshToken_whenAlreadyRotatedConcurrently_returnsSameRotatedToken() {
+        RefreshToken old = storedToken(7L, "old-raw", "agent-1");
+        when(refreshTokenRepository.rotate(eq(3L), eq(old.getTokenHash()), anyString(), any(Instant.class)))
+                .thenReturn(1, 0);
+
+        RefreshToken first = refreshTokenService.rotateRefreshToken(old);
+        RefreshToken second = refreshTokenService.rotateRefreshToken(old);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void rotateRefreshToken_whenRowNoLongerMatches_throws() {
+        RefreshToken old = storedToken(7L, "old-raw", "agent-1");
+        when(refreshTokenRepository.rotate(eq(3L), eq(old.getTokenHash()), anyString(), any(Instant.class)))
+                .thenReturn(0);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotateRefreshToken(old));
+    }
+
+    @Test
+    void findRecentlyRotated_withinGraceAndSameAgent_returnsRotatedToken() {
+        RefreshToken old = storedToken(7L, "old-raw", "agent-1");
+        when(refreshTokenRepository.rotate(eq(3L), eq(old.getTokenHash()), anyString(), any(Instant.class)))
+                .thenReturn(1);
+        RefreshToken rotated = refreshTokenService.rotateRefreshToken(old);
+
+        assertEquals(Optional.of(rotated), refreshTokenService.findRecentlyRotated("old-raw", "agent-1"));
+        assertTrue(refreshTokenService.findRecentlyRotated("old-raw", "agent-2").isEmpty());
+        assertTrue(refreshTokenService.findRecentlyRotated(rotated.getToken(), "agent-1").isEmpty());
+    }
+
+    @Test
+    void deleteByUserId_forgetsRecentlyRotatedTokens() {
+        RefreshToken old = storedToken(7L, "old-raw", "agent-1");
+        when(refreshTokenRepository.rotate(eq(3L), eq(old.getTokenHash()), anyString(), any(Instant.class)))
+                .thenReturn(1);
+        refreshTokenService.rotateRefreshToken(old);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(old.getUser()));
+
+        refreshTokenService.deleteByUserId(7L);
+
+        assertTrue(refreshTokenService.findRecentlyRotated("old-raw", "agent-1").isEmpty());
+    }
+
+    @Test
+    void purgeExpiredTokens_deletesRowsPastExpiry() {
+        when(refreshTokenRepository.deleteExpired(any(Instant.class))).thenReturn(4);
+
+        assertEquals(4, refreshTokenService.purgeExpiredTokens());
+    }
+
+    private RefreshToken storedToken(Long userId, String raw, String userAgent) {
+        User user = new User("user@example.com", "pwd", Set.of("ROLE_MEMBER"));
+        user.setId(userId);
+        RefreshToken token = new RefreshToken();
+        token.setId(3L);
+        token.setUser(user);
+        token.setUserAgent(userAgent);
+        token.setToken(raw);
+        token.setTokenHash(RefreshTokenService.hash(raw));
+        token.setExpiryDate(Instant.now().plusSeconds(60));
+        return token;
     }
 }
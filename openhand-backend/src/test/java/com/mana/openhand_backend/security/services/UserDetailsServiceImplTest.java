@@ -22,6 +22,9 @@ class UserDetailsServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AccountRevocationService accountRevocationService;
+
     @InjectMocks
     private UserDetailsServiceImpl userDetailsService;
 
@@ -70,6 +73,7 @@ class UserDetailsServiceImplTest {
         // assert
         assertEquals(6, user.getFailedAttempt());
         assertTrue(user.isAccountNonLocked());
+        verifyNoInteractions(accountRevocationService);
         verify(userRepository, times(1)).save(user);
         verifyNoMoreInteractions(userRepository);
     }
@@ -87,6 +91,7 @@ class UserDetailsServiceImplTest {
         // assert
         assertEquals(20, user.getFailedAttempt());
         assertFalse(user.isAccountNonLocked());
+        verify(accountRevocationService).revoke(user.getId());
         verify(userRepository, times(1)).save(user);
         verifyNoMoreInteractions(userRepository);
     }
@@ -141,4 +146,22 @@ class UserDetailsServiceImplTest {
         verify(userRepository, never()).save(any(User.class));
         verifyNoMoreInteractions(userRepository);
     }
+
+    @Test
+    void updatePassword_storesUpgradedHash() {
+        // arrange
+        String email = "user@example.com";
+        User user = new User(email, "$2a$04$old", Set.of("ROLE_MEMBER"));
+        UserDetails current = UserDetailsImpl.build(user);
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        // act
+        UserDetails result = userDetailsService.updatePassword(current, "$2a$12$new");
+
+        // assert
+        assertEquals("$2a$12$new", user.getPasswordHash());
+        assertEquals("$2a$12$new", result.getPassword());
+        verify(userRepository).save(user);
+    }
 }